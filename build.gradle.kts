@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.4"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -47,6 +48,9 @@ dependencies {
 
     // WebSocket
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    // WebSocket 이진 페이로드 (세션별 협상, 버전은 Spring Boot BOM 관리)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
     // OpenAPI(Swagger UI)
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$springdocVersion")
@@ -87,3 +91,10 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 }
+
+// 마이크로벤치마크 (src/jmh/java, 실행: ./gradlew jmh)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
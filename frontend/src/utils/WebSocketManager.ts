@@ -192,72 +192,31 @@ export class WebSocketManager {
         
         console.log('🔧 WebSocket 구독 설정 중...');
 
-        // 개인 알림 구독
-        const personalSub = this.client.subscribe('/user/queue/notifications', (message: IMessage) => {
+        // 사용자 이벤트 채널 구독 - 서버가 개인 알림/매칭 결과/추천 알림을 channel 필드로 다중화해 한 번만 전송
+        const eventsSub = this.client.subscribe('/user/queue/events', (message: IMessage) => {
             try {
-                const data = JSON.parse(message.body);
+                const event = JSON.parse(message.body);
+                if (event.channel === 'matching-result') {
+                    this.handleMatchingResult(event.payload);
+                    return;
+                }
+                const data = { ...event.payload, unreadCount: event.unreadCount };
                 this.handleMessage({
                     type: data.type,
                     data: data,
                     timestamp: new Date().toISOString()
                 });
             } catch (error) {
-                console.error('개인 알림 파싱 오류:', error);
+                console.error('사용자 이벤트 파싱 오류:', error);
             }
         });
-        this.subscriptions.set('personal', personalSub);
-        console.log('✅ 개인 알림 구독 완료: /user/queue/notifications');
+        this.subscriptions.set('events', eventsSub);
+        console.log('✅ 사용자 이벤트 구독 완료: /user/queue/events');
 
-        // 매칭 결과 구독 - 강화된 로깅 및 오류 처리
+        // 매칭 요청 응답(@SendToUser) 구독
         const matchingSub = this.client.subscribe('/user/queue/matching-result', (message: IMessage) => {
             try {
-                console.log('🔥 WebSocket 매칭 결과 RAW 메시지 수신:', message);
-                console.log('🔥 메시지 헤더:', message.headers);
-                console.log('🔥 메시지 바디:', message.body);
-                
-                const data = JSON.parse(message.body);
-                console.log('🔥 WebSocket 매칭 결과 전체 데이터 (userId:', this.currentUserId + '):', data);
-                console.log('📊 데이터 구조 상세 분석:');
-                console.log('  - data.status:', data.status);
-                console.log('  - data.success:', data.success); 
-                console.log('  - data.type:', data.type);
-                console.log('  - data.matchingResult:', data.matchingResult);
-                console.log('  - data.roomId:', data.roomId);
-                console.log('  - data.matchedUser:', data.matchedUser);
-                console.log('  - data.matchedWith:', data.matchedWith);
-                
-                // status가 "WAITING"이면 대기 상태로 처리하고 즉시 return
-                if (data.status === 'WAITING') {
-                    console.log('⏳ 매칭 대기 상태 - 매칭 성공 처리하지 않음 (userId:', this.currentUserId + ')');
-                    return; // WAITING 상태일 때는 매칭 성공 처리 중단
-                }
-                
-                // 매칭 성공 조건 확장 - 백엔드 이벤트 데이터 구조에 맞춤
-                const isMatchingSuccess = (
-                    data.type === 'MATCHING_SUCCESS' || 
-                    (data.success && (data.status === 'MATCHED' || data.status === 'ALREADY_MATCHED')) || 
-                    (data.matchingResult && data.matchingResult.status === 'MATCHED') ||
-                    (data.roomId && data.matchedWith) || // 백엔드 이벤트 기본 구조
-                    (data.roomId && data.matchedUser) // 대체 구조
-                );
-                
-                if (isMatchingSuccess) {
-                    console.log('🎉 매칭 성공 조건 만족! 이벤트 발생 (userId:', this.currentUserId + '):', data);
-                    this.handleMessage({
-                        type: 'MATCHING_SUCCESS',
-                        data: data,
-                        timestamp: new Date().toISOString()
-                    });
-                } else if (!data.success && data.status !== 'ALREADY_MATCHED') {
-                    console.log('❌ 매칭 실패 처리 (userId:', this.currentUserId + '):', data);
-                    this.handleMessage({
-                        type: 'MATCHING_FAILED',
-                        data: data,
-                        timestamp: new Date().toISOString()
-                    });
-                } else {
-                    console.log('❓ 알 수 없는 매칭 결과 데이터 (userId:', this.currentUserId + '):', data);
-                }
+                this.handleMatchingResult(JSON.parse(message.body));
             } catch (error) {
                 console.error('매칭 결과 파싱 오류 (userId:', this.currentUserId + '):', error);
                 console.error('원본 메시지:', message);
@@ -282,6 +241,57 @@ export class WebSocketManager {
         this.subscriptions.set('system', systemSub);
     }
 
+    // 매칭 결과 처리 (사용자 이벤트 채널/매칭 요청 응답 공통)
+    private handleMatchingResult(data: any): void {
+        try {
+            console.log('🔥 WebSocket 매칭 결과 전체 데이터 (userId:', this.currentUserId + '):', data);
+            console.log('📊 데이터 구조 상세 분석:');
+            console.log('  - data.status:', data.status);
+            console.log('  - data.success:', data.success); 
+            console.log('  - data.type:', data.type);
+            console.log('  - data.matchingResult:', data.matchingResult);
+            console.log('  - data.roomId:', data.roomId);
+            console.log('  - data.matchedUser:', data.matchedUser);
+            console.log('  - data.matchedWith:', data.matchedWith);
+            
+            // status가 "WAITING"이면 대기 상태로 처리하고 즉시 return
+            if (data.status === 'WAITING') {
+                console.log('⏳ 매칭 대기 상태 - 매칭 성공 처리하지 않음 (userId:', this.currentUserId + ')');
+                return; // WAITING 상태일 때는 매칭 성공 처리 중단
+            }
+            
+            // 매칭 성공 조건 확장 - 백엔드 이벤트 데이터 구조에 맞춤
+            const isMatchingSuccess = (
+                data.type === 'MATCHING_SUCCESS' || 
+                (data.success && (data.status === 'MATCHED' || data.status === 'ALREADY_MATCHED')) || 
+                (data.matchingResult && data.matchingResult.status === 'MATCHED') ||
+                (data.roomId && data.matchedWith) || // 백엔드 이벤트 기본 구조
+                (data.roomId && data.matchedUser) // 대체 구조
+            );
+            
+            if (isMatchingSuccess) {
+                console.log('🎉 매칭 성공 조건 만족! 이벤트 발생 (userId:', this.currentUserId + '):', data);
+                this.handleMessage({
+                    type: 'MATCHING_SUCCESS',
+                    data: data,
+                    timestamp: new Date().toISOString()
+                });
+            } else if (!data.success && data.status !== 'ALREADY_MATCHED') {
+                console.log('❌ 매칭 실패 처리 (userId:', this.currentUserId + '):', data);
+                this.handleMessage({
+                    type: 'MATCHING_FAILED',
+                    data: data,
+                    timestamp: new Date().toISOString()
+                });
+            } else {
+                console.log('❓ 알 수 없는 매칭 결과 데이터 (userId:', this.currentUserId + '):', data);
+            }
+        } catch (error) {
+            console.error('매칭 결과 파싱 오류 (userId:', this.currentUserId + '):', error);
+            console.error('원본 데이터:', data);
+        }
+    }
+
     // 채팅방 구독 - 재시도 메커니즘 추가
     public subscribeToChatRoom(roomId: string): void {
         const attemptSubscribe = (attempt: number = 1): void => {
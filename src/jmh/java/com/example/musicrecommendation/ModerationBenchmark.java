@@ -0,0 +1,74 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.AhoCorasickMatcher;
+import com.example.musicrecommendation.util.HangulNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 금칙어 검사 비교 - 기존 정규식(.*(a|b|...).* matches) vs 정규화 + Aho–Corasick
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModerationBenchmark {
+
+    private static final List<String> SPAM = List.of(
+            "광고", "홍보", "돈", "벌기", "사기", "클릭", "링크", "www.", "http", "쿠폰", "할인", "무료", "당첨");
+    private static final List<String> PROFANITY = List.of("바보", "멍청", "짜증", "욕설", "비속어");
+
+    private static final Pattern SPAM_PATTERN = Pattern.compile(
+            ".*(광고|홍보|돈|벌기|사기|클릭|링크|www\\.|http|쿠폰|할인|무료|당첨).*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PROFANITY_PATTERN = Pattern.compile(
+            ".*(바보|멍청|짜증|욕설|비속어).*", Pattern.CASE_INSENSITIVE);
+
+    /** 본문 길이 (글자 수) */
+    @Param({"40", "300", "2000"})
+    public int length;
+
+    private String text;
+    private AhoCorasickMatcher<String> matcher;
+
+    @Setup
+    public void setUp() {
+        AhoCorasickMatcher.Builder<String> builder = AhoCorasickMatcher.builder();
+        SPAM.forEach(keyword -> builder.add(HangulNormalizer.normalize(keyword), "SPAM"));
+        PROFANITY.forEach(keyword -> builder.add(HangulNormalizer.normalize(keyword), "PROFANITY"));
+        matcher = builder.build();
+
+        // 금칙어 없는 평범한 리뷰 (최악의 경우 - 끝까지 훑어야 함)
+        String sentence = "이 앨범은 처음부터 끝까지 분위기가 좋아서 밤에 듣기 딱 좋아요. ";
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(sentence);
+        }
+        text = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return SPAM_PATTERN.matcher(text).matches() || PROFANITY_PATTERN.matcher(text).matches();
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        return !matcher.matchedCategories(HangulNormalizer.normalize(text)).isEmpty();
+    }
+
+    @Benchmark
+    public boolean ahoCorasickWithoutNormalization() {
+        return matcher.containsAny(text);
+    }
+}
@@ -1,68 +1,210 @@
 package com.example.musicrecommendation.config;
 
+import com.example.musicrecommendation.service.SpotifyPriority;
+import com.example.musicrecommendation.util.DiskCacheStore;
+import com.example.musicrecommendation.web.dto.spotify.ArtistDto;
+import com.example.musicrecommendation.web.dto.spotify.TrackDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
- * 개선된 캐시 설정 - 캐시별 차별화된 TTL 및 크기 제한
+ * 개선된 캐시 설정 - 캐시별 크기/TTL은 {@link CacheSpecProperties} (app.cache.specs.*)
+ *
+ * 설정에 없는 캐시 이름은 만들지 않음 - @Cacheable 등에서 쓰면 시작 시 {@link CacheNameValidator}가 실패시킴
+ * 모든 캐시는 recordStats - Micrometer cache.* 지표로 /actuator/metrics 에 노출
+ *
+ * Spotify 검색 캐시(artistSearch/trackSearch/artistTrackSearch)는 디스크 계층을 더한 {@link TieredCache}
+ * - 재시작 후에도 디스크에서 바로 응답, 신선 기간이 지난 항목은 즉시 반환 후 백그라운드 갱신
+ *
+ * 사용자별 키를 쓰는 캐시는 {@link UserKeyTrackingCache} - 사용자 단위 무효화를 전체 삭제 없이 처리
  */
+@Slf4j
 @Configuration
 @EnableCaching
 @RequiredArgsConstructor
 public class CacheConfig {
 
+    /** 디스크 계층을 쓰는 캐시 → 저장 값 타입 */
+    private static final Map<String, Class<?>> DISK_BACKED_CACHES = Map.of(
+            "artistSearch", ArtistDto.class,
+            "trackSearch", TrackDto.class,
+            "artistTrackSearch", TrackDto.class
+    );
+
+    /** 사용자 단위로 무효화하는 캐시 → 키에서 사용자 ID 추출 */
+    private static final Map<String, Function<Object, Long>> USER_KEYED_CACHES = Map.of(
+            "musicRecommendations", UserCacheKeyRegistry.leadingUserId(),
+            "mlRecommendations", UserCacheKeyRegistry.leadingUserId(),
+            "collaborativeRecommendations", UserCacheKeyRegistry.leadingUserId(),
+            "user-names", UserCacheKeyRegistry.trailingUserId()
+    );
+
+    /** expire-after-write를 지정하지 않은 캐시의 TTL (디스크 계층은 신선 기간) */
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+
     private final RecommendationProperties recommendationProperties;
 
+    private final ExecutorService cacheRefreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        cacheRefreshExecutor.shutdownNow();
+    }
+
+    @Bean
+    public UserCacheKeyRegistry userCacheKeyRegistry() {
+        return new UserCacheKeyRegistry(USER_KEYED_CACHES);
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cm = new CaffeineCacheManager();
-        
-        // 추천 캐시 (사용자별 개인화 추천)
-        cm.registerCustomCache("musicRecommendations", 
-                Caffeine.newBuilder()
-                        .maximumSize(2000)
-                        .expireAfterWrite(Duration.ofMinutes(recommendationProperties.getCacheTtlMinutes()))
-                        .recordStats()
-                        .build());
-        
-        // 새로고침 제한 상태 캐시 (짧은 TTL)
-        cm.registerCustomCache("userRefreshStatus",
-                Caffeine.newBuilder()
-                        .maximumSize(10000)
-                        .expireAfterWrite(Duration.ofMinutes(5))
-                        .recordStats()
-                        .build());
-        
-        // Spotify API 응답 캐시 (긴 TTL)
-        cm.registerCustomCache("spotifyApiCache",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofHours(1))
-                        .recordStats()
-                        .build());
-        
-        // 기존 캐시들 (기본 설정)
-        String[] existingCaches = {
-                "artistSearch", "trackSearch", "artistTrackSearch", 
-                "reviews", "user-badges", "music-items", "review-stats", "user-names"
+    public CacheManager cacheManager(@Value("${app.cache.disk.enabled:true}") boolean diskEnabled,
+                                     @Value("${app.cache.disk.dir:data/spotify-cache}") String diskDir,
+                                     @Value("${app.cache.disk.max-stale-ms:604800000}") long maxStaleMs,
+                                     UserCacheKeyRegistry keyRegistry,
+                                     CacheSpecProperties cacheSpecProperties) {
+        // 디스크 항목은 메모리 TTL이 지나면 stale - 이후 maxStale 동안 즉시 응답 + 백그라운드 갱신
+        ObjectMapper diskMapper = diskObjectMapper();
+        Map<String, CacheSpecProperties.Spec> specs = cacheSpecProperties.resolveSpecs();
+
+        CaffeineCacheManager cm = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (keyRegistry.tracks(name)) {
+                    return new UserKeyTrackingCache(name, cache, isAllowNullValues(), keyRegistry);
+                }
+                Class<?> valueType = DISK_BACKED_CACHES.get(name);
+                if (valueType == null) {
+                    return super.adaptCaffeineCache(name, cache);
+                }
+                // 비활성화 시에도 TieredCache(메모리 전용) - 빈 결과 미저장 규칙 유지 (@Cacheable sync 모드는 unless 불가)
+                DiskCacheStore disk = null;
+                if (diskEnabled) {
+                    disk = new DiskCacheStore(Path.of(diskDir, name));
+                    log.info("디스크 캐시 계층 사용: {} → {}", name, Path.of(diskDir, name).toAbsolutePath());
+                }
+                JavaType listType = diskMapper.getTypeFactory().constructCollectionType(List.class, valueType);
+                // 백그라운드 갱신은 이미 오래된 값을 응답한 뒤이므로 Spotify 요청 우선순위를 가장 낮게
+                Executor refreshExecutor = task -> cacheRefreshExecutor.execute(() -> SpotifyPriority.SYNC.run(task));
+                return new TieredCache(name, cache, disk, diskMapper, listType,
+                        expireAfterWrite(name, specs.get(name)), Duration.ofMillis(maxStaleMs), refreshExecutor, System::currentTimeMillis);
+            }
         };
-        
-        for (String cacheName : existingCaches) {
-            cm.registerCustomCache(cacheName,
-                    Caffeine.newBuilder()
-                            .maximumSize(3000)
-                            .expireAfterWrite(Duration.ofMinutes(15))
-                            .recordStats()
-                            .build());
-        }
-        
+
+        // 설정에 있는 캐시만 생성 (동적 생성 끔) - 없는 이름은 getCache가 null, 어노테이션은 시작 시 CacheNameValidator가 차단
+        cm.setCacheNames(List.of());
+        specs.forEach((name, spec) -> {
+            validateSpec(name, spec);
+            cm.registerCustomCache(name, buildCache(name, spec, keyRegistry));
+        });
+        log.info("캐시 {}개 등록: {}", specs.size(), specs.keySet());
+
         return cm;
     }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(
+            String name, CacheSpecProperties.Spec spec, UserCacheKeyRegistry keyRegistry) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterWrite(name, spec))
+                // 크기/만료로 제거된 항목을 사용자 키 목록에서 해제 (추적 캐시가 아니면 아무 일도 없음)
+                .evictionListener((key, value, cause) -> keyRegistry.unregister(name, key))
+                .recordStats();
+        if (spec.getWeigher() == CacheSpecProperties.Weigher.COLLECTION_SIZE) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(CacheConfig::collectionWeight);
+        } else {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        return builder.build();
+    }
+
+    private Duration expireAfterWrite(String name, CacheSpecProperties.Spec spec) {
+        if (spec.getExpireAfterWrite() != null) {
+            return spec.getExpireAfterWrite();
+        }
+        if (CacheSpecProperties.MUSIC_RECOMMENDATIONS.equals(name)) {
+            return Duration.ofMinutes(recommendationProperties.getCacheTtlMinutes());
+        }
+        return DEFAULT_TTL;
+    }
+
+    /**
+     * 잘못된 설정은 시작 시 실패 - 조용히 무제한 캐시가 되지 않도록
+     */
+    private void validateSpec(String name, CacheSpecProperties.Spec spec) {
+        boolean weighed = spec.getWeigher() == CacheSpecProperties.Weigher.COLLECTION_SIZE;
+        if (weighed && spec.getMaximumWeight() <= 0) {
+            throw new IllegalStateException("캐시 " + name + ": weigher 사용 시 maximum-weight 필요");
+        }
+        if (!weighed && spec.getMaximumWeight() > 0) {
+            throw new IllegalStateException("캐시 " + name + ": maximum-weight는 weigher=collection-size와 함께 사용");
+        }
+        if (!weighed && spec.getMaximumSize() <= 0) {
+            throw new IllegalStateException("캐시 " + name + ": maximum-size는 1 이상이어야 함");
+        }
+    }
+
+    private static int collectionWeight(Object key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
+
+    /**
+     * TieredCache도 Caffeine 캐시와 같은 지표(cache.gets/puts/evictions/size)로 노출 - 메모리 계층 통계
+     * (CaffeineCache 계열은 Spring Boot가 자동으로 등록)
+     */
+    @Bean
+    public CacheMeterBinderProvider<TieredCache> tieredCacheMeterBinderProvider() {
+        return new CacheMeterBinderProvider<TieredCache>() {
+            @Override
+            public MeterBinder getMeterBinder(TieredCache cache, Iterable<Tag> tags) {
+                return new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+            }
+        };
+    }
+
+    /**
+     * 디스크 계층 직렬화 - DTO의 응답용 Jackson 어노테이션(@JsonIgnore 등)을 무시하고 모든 필드를 그대로 저장
+     */
+    private static ObjectMapper diskObjectMapper() {
+        return JsonMapper.builder()
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.musicrecommendation.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperation;
+import org.springframework.cache.interceptor.CacheOperationSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 시작 시 캐시 이름 검사 - 애플리케이션 빈의 @Cacheable/@CachePut/@CacheEvict(@Caching 포함)가 쓰는 이름이
+ * 모두 캐시 매니저에 있는지 확인하고, 없으면 시작을 중단
+ *
+ * - 설정(app.cache.specs)에 있지만 어노테이션에서 쓰지 않는 캐시는 경고 (이름 오타일 수 있음, 코드에서 직접 쓰는 캐시는 무시해도 됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheNameValidator implements SmartInitializingSingleton {
+
+    private static final String BASE_PACKAGE = "com.example.musicrecommendation";
+
+    private final ListableBeanFactory beanFactory;
+    private final CacheOperationSource cacheOperationSource;
+    private final CacheManager cacheManager;
+    private final CacheSpecProperties cacheSpecProperties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<String, Set<String>> usages = new TreeMap<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type == null) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            if (userClass.getName().startsWith(BASE_PACKAGE)) {
+                collect(userClass, usages);
+            }
+        }
+
+        Map<String, Set<String>> unknown = new TreeMap<>(usages);
+        unknown.keySet().removeIf(name -> cacheManager.getCache(name) != null);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("설정되지 않은 캐시 이름 " + unknown
+                    + " - app.cache.specs.<이름>.* 에 추가하거나 이름을 확인하세요");
+        }
+
+        for (String name : cacheSpecProperties.resolveSpecs().keySet()) {
+            if (!usages.containsKey(name)) {
+                log.warn("캐시 설정 {} 을(를) 쓰는 캐시 어노테이션 없음 - 이름 오타인지 확인", name);
+            }
+        }
+        log.info("캐시 이름 검사 완료 - 어노테이션 사용 캐시 {}개", usages.size());
+    }
+
+    private void collect(Class<?> type, Map<String, Set<String>> usages) {
+        ReflectionUtils.doWithMethods(type, method -> {
+            Collection<CacheOperation> operations = cacheOperationSource.getCacheOperations(method, type);
+            if (operations == null) {
+                return;
+            }
+            for (CacheOperation operation : operations) {
+                for (String name : operation.getCacheNames()) {
+                    usages.computeIfAbsent(name, n -> new TreeSet<>())
+                            .add(type.getSimpleName() + "." + method.getName());
+                }
+            }
+        }, ReflectionUtils.USER_DECLARED_METHODS);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.musicrecommendation.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 설정 (app.cache.specs.{캐시명}.*)
+ * - 기본 캐시 목록과 캐시별 기본값은 {@link #DEFAULTS}, 설정은 지정한 값만 그 위에 덮어씀 ({@link #resolveSpecs()})
+ * - 여기 있는 이름만 캐시로 만들어짐 - 없는 이름을 쓰는 @Cacheable/@CacheEvict는 시작 시 실패 ({@link CacheNameValidator})
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    public static final String MUSIC_RECOMMENDATIONS = "musicRecommendations";
+
+    /** 캐시별 기본값에도 없는 값 (최대 3000개, 가중치 미사용) - 만료는 CacheConfig 기본 TTL */
+    private static final Spec GENERIC = new Spec(3000L, 0L, Weigher.NONE, null);
+
+    private static final Map<String, Spec> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        // 사용자별 추천 결과 - musicRecommendations TTL은 app.recommendation.cache-ttl-minutes
+        DEFAULTS.put(MUSIC_RECOMMENDATIONS, new Spec(2000, null));
+        DEFAULTS.put("mlRecommendations", new Spec(2000, Duration.ofMinutes(30)));
+        DEFAULTS.put("collaborativeRecommendations", new Spec(2000, Duration.ofMinutes(30)));
+        // 취향 프로필 - 수정 시 이벤트로 삭제되므로 TTL을 길게
+        DEFAULTS.put("userMusicPreferences", new Spec(10_000, Duration.ofHours(1)));
+        DEFAULTS.put("userRefreshStatus", new Spec(10_000, Duration.ofMinutes(5)));
+        DEFAULTS.put("user-names", new Spec(3000, null));
+        DEFAULTS.put("user-badges", new Spec(3000, null));
+        DEFAULTS.put("topSongs", new Spec(10, null));
+        // Spotify 검색 (디스크 계층 - TTL이 신선 기간)
+        DEFAULTS.put("artistSearch", new Spec(3000, null));
+        DEFAULTS.put("trackSearch", new Spec(3000, null));
+        DEFAULTS.put("artistTrackSearch", new Spec(3000, null));
+    }
+
+    /** 설정으로 지정한 값 (항목마다 지정한 키만 채워짐) */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * 기본 캐시 + 설정에만 있는 캐시의 최종 설정
+     * - 설정에서 지정하지 않은 키는 해당 캐시의 기본값 유지 (예: maximum-size만 바꿔도 TTL은 그대로)
+     */
+    public Map<String, Spec> resolveSpecs() {
+        Map<String, Spec> resolved = new LinkedHashMap<>();
+        DEFAULTS.forEach((name, spec) -> resolved.put(name, spec.withDefaults(GENERIC)));
+        specs.forEach((name, override) -> resolved.put(name, override.withDefaults(resolved.getOrDefault(name, GENERIC))));
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /** 항목 가중치 계산 방식 */
+    public enum Weigher {
+        /** 항목마다 1 (maximumSize 사용) */
+        NONE,
+        /** 컬렉션/맵은 원소 수, 그 외 1 - 추천 목록처럼 값 크기가 제각각인 캐시용 */
+        COLLECTION_SIZE
+    }
+
+    /**
+     * 캐시 하나의 설정 - null은 "지정하지 않음" (기본값에서 가져옴)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        /** 최대 항목 수 (weigher 사용 시 무시) */
+        private Long maximumSize;
+
+        /** 가중치 합 상한 (weigher와 함께 사용, 0 = 미사용) */
+        private Long maximumWeight;
+
+        private Weigher weigher;
+
+        /** 쓰기 후 만료 (null = 기본 15분) */
+        private Duration expireAfterWrite;
+
+        public Spec(long maximumSize, Duration expireAfterWrite) {
+            this.maximumSize = maximumSize;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        /**
+         * 지정하지 않은 값을 base에서 채운 새 설정
+         */
+        Spec withDefaults(Spec base) {
+            return new Spec(
+                    maximumSize != null ? maximumSize : base.maximumSize,
+                    maximumWeight != null ? maximumWeight : base.maximumWeight,
+                    weigher != null ? weigher : base.weigher,
+                    expireAfterWrite != null ? expireAfterWrite : base.expireAfterWrite);
+        }
+    }
+}
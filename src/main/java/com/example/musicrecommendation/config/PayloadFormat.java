@@ -0,0 +1,50 @@
+package com.example.musicrecommendation.config;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * WebSocket 사용자 이벤트 페이로드 인코딩
+ * - 이진 포맷은 STOMP 바이너리 프레임으로 나가도록 application/octet-stream으로 전송하고
+ *   실제 포맷은 payload-format 헤더로 알린다.
+ */
+public enum PayloadFormat {
+    JSON("json", MimeTypeUtils.APPLICATION_JSON),
+    CBOR("cbor", MimeTypeUtils.APPLICATION_OCTET_STREAM),
+    SMILE("smile", MimeTypeUtils.APPLICATION_OCTET_STREAM);
+
+    private final String headerValue;
+    private final MimeType contentType;
+
+    PayloadFormat(String headerValue, MimeType contentType) {
+        this.headerValue = headerValue;
+        this.contentType = contentType;
+    }
+
+    public String getHeaderValue() {
+        return headerValue;
+    }
+
+    public MimeType getContentType() {
+        return contentType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * CONNECT 헤더 값 → 포맷 (알 수 없는 값은 JSON)
+     */
+    public static PayloadFormat fromHeader(String value) {
+        if (value == null) {
+            return JSON;
+        }
+        for (PayloadFormat format : values()) {
+            if (format.headerValue.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
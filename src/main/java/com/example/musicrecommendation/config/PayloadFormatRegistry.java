@@ -0,0 +1,70 @@
+package com.example.musicrecommendation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 페이로드 인코딩 협상
+ * - 클라이언트가 STOMP CONNECT 헤더 "payload-format: cbor|smile" 로 요청
+ * - 이진 프레임을 전달할 수 있는 네이티브 WebSocket 세션에서만 허용 (SockJS는 항상 JSON)
+ * - JSON 세션은 저장하지 않으므로 맵 크기는 이진 포맷 세션 수에 비례
+ */
+@Slf4j
+@Component
+public class PayloadFormatRegistry implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "payload-format";
+    public static final String NATIVE_TRANSPORT_ATTR = "nativeTransport";
+
+    private final Map<String, PayloadFormat> sessionFormats = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        PayloadFormat requested = PayloadFormat.fromHeader(accessor.getFirstNativeHeader(FORMAT_HEADER));
+        if (!requested.isBinary()) {
+            return message;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean nativeTransport = attributes != null && Boolean.TRUE.equals(attributes.get(NATIVE_TRANSPORT_ATTR));
+        if (nativeTransport && accessor.getSessionId() != null) {
+            sessionFormats.put(accessor.getSessionId(), requested);
+            log.debug("[WS-FORMAT] sessionId={} → {}", accessor.getSessionId(), requested);
+        } else {
+            log.debug("[WS-FORMAT] SockJS 세션은 이진 포맷 미지원 - JSON 사용: sessionId={}", accessor.getSessionId());
+        }
+        return message;
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        sessionFormats.remove(event.getSessionId());
+    }
+
+    public PayloadFormat formatOf(String sessionId) {
+        return sessionFormats.getOrDefault(sessionId, PayloadFormat.JSON);
+    }
+
+    /**
+     * 이진 포맷을 협상한 세션이 하나라도 있는지 (없으면 사용자 단위 단일 JSON 전송 가능)
+     */
+    public boolean hasBinarySessions() {
+        return !sessionFormats.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.musicrecommendation.config;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공용 Rate Limit 정책 설정 (app.rate-limit.policies.{정책명}.*)
+ * - 정책마다 분당/시간당 단계와 추적 키 수 상한을 지정 (0이면 해당 단계 미사용)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    public static final String CHAT_MESSAGE = "chat-message";
+    public static final String WS_CONNECT = "ws-connect";
+    public static final String REVIEW_CREATE = "review-create";
+    public static final String RECOMMENDATION_REFRESH = "recommendation-refresh";
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public RateLimitProperties() {
+        policies.put(CHAT_MESSAGE, new Policy(15, 300, 100_000));
+        policies.put(WS_CONNECT, new Policy(10, 0, 100_000));
+        policies.put(REVIEW_CREATE, new Policy(5, 100, 50_000));
+        policies.put(RECOMMENDATION_REFRESH, new Policy(5, 0, 50_000));
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Policy {
+        /** 분당 허용 수 (0 = 미사용) */
+        private int perMinute;
+
+        /** 시간당 허용 수 (0 = 미사용) */
+        private int perHour;
+
+        /** 추적할 최대 키 수 (사용자/IP) */
+        private long maxKeys = 100_000;
+
+        public Policy(int perMinute, int perHour, long maxKeys) {
+            this.perMinute = perMinute;
+            this.perHour = perHour;
+            this.maxKeys = maxKeys;
+        }
+    }
+}
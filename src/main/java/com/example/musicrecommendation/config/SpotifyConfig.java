@@ -8,9 +8,15 @@ public class SpotifyConfig {
 
     private final Client client = new Client();
     private final Api api = new Api();
+    private final Http http = new Http();
+    private final Scheduler scheduler = new Scheduler();
+    private final Transport transport = new Transport();
 
     public Client getClient() { return client; }
     public Api getApi() { return api; }
+    public Http getHttp() { return http; }
+    public Scheduler getScheduler() { return scheduler; }
+    public Transport getTransport() { return transport; }
 
     public static class Client {
         private String id;
@@ -30,4 +36,72 @@ public class SpotifyConfig {
         public String getAuthUrl() { return authUrl; }
         public void setAuthUrl(String authUrl) { this.authUrl = authUrl; }
     }
+
+    /** HTTP 클라이언트 설정 (SpotifyApiClient) */
+    public static class Http {
+        private long connectTimeoutMs = 3000;
+        private long requestTimeoutMs = 8000;
+        // 만료 이 시간 전부터 백그라운드로 토큰 갱신
+        private long tokenRefreshAheadMs = 60000;
+        public long getConnectTimeoutMs() { return connectTimeoutMs; }
+        public void setConnectTimeoutMs(long connectTimeoutMs) { this.connectTimeoutMs = connectTimeoutMs; }
+        public long getRequestTimeoutMs() { return requestTimeoutMs; }
+        public void setRequestTimeoutMs(long requestTimeoutMs) { this.requestTimeoutMs = requestTimeoutMs; }
+        public long getTokenRefreshAheadMs() { return tokenRefreshAheadMs; }
+        public void setTokenRefreshAheadMs(long tokenRefreshAheadMs) { this.tokenRefreshAheadMs = tokenRefreshAheadMs; }
+    }
+
+    /** 요청 스케줄러 설정 (SpotifyRequestScheduler) - 애플리케이션 전체 공용 한도 */
+    public static class Scheduler {
+        // 초당 전송 허용 수 (버스트 포함)
+        private int permitsPerSecond = 10;
+        private int maxConcurrency = 8;
+        // 우선순위 대기열별 최대 대기 요청 수 (초과 시 즉시 실패)
+        private int maxQueueSize = 500;
+        // 429 응답 시 Retry-After 만큼 전체 전송을 멈춘 뒤 재전송할 최대 횟수
+        private int maxThrottleRetries = 2;
+        // Retry-After가 이보다 길면 기다리지 않고 실패 (전송 중지는 유지)
+        private long maxRetryAfterMs = 10000;
+        public int getPermitsPerSecond() { return permitsPerSecond; }
+        public void setPermitsPerSecond(int permitsPerSecond) { this.permitsPerSecond = permitsPerSecond; }
+        public int getMaxConcurrency() { return maxConcurrency; }
+        public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+        public int getMaxQueueSize() { return maxQueueSize; }
+        public void setMaxQueueSize(int maxQueueSize) { this.maxQueueSize = maxQueueSize; }
+        public int getMaxThrottleRetries() { return maxThrottleRetries; }
+        public void setMaxThrottleRetries(int maxThrottleRetries) { this.maxThrottleRetries = maxThrottleRetries; }
+        public long getMaxRetryAfterMs() { return maxRetryAfterMs; }
+        public void setMaxRetryAfterMs(long maxRetryAfterMs) { this.maxRetryAfterMs = maxRetryAfterMs; }
+    }
+
+    /** 전송 방식 설정 (SpotifyApiClient) - 녹화/재생으로 네트워크 없이 부하 테스트 */
+    public static class Transport {
+        public enum Mode { LIVE, RECORD, REPLAY }
+
+        // LIVE: 실제 API, RECORD: 실제 API 응답을 코퍼스에 저장, REPLAY: 코퍼스에서만 응답 (네트워크 사용 안 함)
+        private Mode mode = Mode.LIVE;
+        private String corpusDir = "data/spotify-corpus";
+        // 재생 응답 지연 (기본 + 0~jitter 무작위)
+        private long replayLatencyMs = 0;
+        private long replayLatencyJitterMs = 0;
+        // 재생 시 주입할 503 / 429 비율 (0.0 ~ 1.0)
+        private double replayErrorRate = 0.0;
+        private double replayThrottleRate = 0.0;
+        // 지연/오류 주입 난수 시드 - 같은 시드면 같은 순서로 주입
+        private long replaySeed = 42;
+        public Mode getMode() { return mode; }
+        public void setMode(Mode mode) { this.mode = mode; }
+        public String getCorpusDir() { return corpusDir; }
+        public void setCorpusDir(String corpusDir) { this.corpusDir = corpusDir; }
+        public long getReplayLatencyMs() { return replayLatencyMs; }
+        public void setReplayLatencyMs(long replayLatencyMs) { this.replayLatencyMs = replayLatencyMs; }
+        public long getReplayLatencyJitterMs() { return replayLatencyJitterMs; }
+        public void setReplayLatencyJitterMs(long replayLatencyJitterMs) { this.replayLatencyJitterMs = replayLatencyJitterMs; }
+        public double getReplayErrorRate() { return replayErrorRate; }
+        public void setReplayErrorRate(double replayErrorRate) { this.replayErrorRate = replayErrorRate; }
+        public double getReplayThrottleRate() { return replayThrottleRate; }
+        public void setReplayThrottleRate(double replayThrottleRate) { this.replayThrottleRate = replayThrottleRate; }
+        public long getReplaySeed() { return replaySeed; }
+        public void setReplaySeed(long replaySeed) { this.replaySeed = replaySeed; }
+    }
 }
@@ -0,0 +1,282 @@
+package com.example.musicrecommendation.config;
+
+import com.example.musicrecommendation.util.DiskCacheStore;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리(L1, Caffeine) + 디스크(L2) 2단계 캐시
+ *
+ * - L1 미스 시 디스크 항목을 읽어 L1에 올림 - 재시작/배포 직후에도 외부 API를 다시 부르지 않음
+ * - 디스크 항목이 신선 기간(freshTtl)을 지났어도 최대 보관 기간(maxStale) 안이면 즉시 반환하고
+ *   백그라운드에서 다시 조회해 두 단계를 갱신 (stale-while-revalidate, 키당 동시에 1건)
+ * - 키는 정규화한 문자열 (NFKC, 소문자, 연속 공백 1개) - "IU " / "iu" 가 같은 항목
+ * - L1 미스 시 디스크 조회/로더 호출은 키당 1건 - 동시에 들어온 같은 키 요청은 그 결과를 기다림
+ * - null/빈 컬렉션은 저장하지 않음 (폴백 결과가 캐시되지 않도록)
+ * - 디스크 저장소가 없으면(null) 메모리 계층만 사용
+ *
+ * 백그라운드 갱신에 호출자의 로더를 쓰므로 {@code @Cacheable(sync = true)}와 함께 사용한다.
+ */
+@Slf4j
+public class TieredCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> memory;
+    private final DiskCacheStore disk;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final long freshTtlMs;
+    private final long maxStaleMs;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    /** 백그라운드 갱신 중인 키 */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TieredCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> memory,
+                       DiskCacheStore disk, ObjectMapper objectMapper, JavaType valueType,
+                       Duration freshTtl, Duration maxStale, Executor refreshExecutor, LongSupplier clock) {
+        this.name = name;
+        this.memory = memory;
+        this.disk = disk;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.freshTtlMs = freshTtl.toMillis();
+        this.maxStaleMs = Math.max(maxStale.toMillis(), freshTtlMs);
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return memory;
+    }
+
+    /**
+     * 신선한 값만 반환 (로더가 없어 오래된 값을 갱신할 수 없음)
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        String normalized = normalizeKey(key);
+        Object value = memory.getIfPresent(normalized);
+        if (value == null) {
+            Stored stored = readDisk(normalized);
+            if (stored == null || !stored.fresh()) {
+                return null;
+            }
+            memory.put(normalized, stored.value());
+            value = stored.value();
+        }
+        return new SimpleValueWrapper(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String normalized = normalizeKey(key);
+        Object value = memory.getIfPresent(normalized);
+        if (value != null) {
+            return (T) value;
+        }
+
+        // 콜드 로드는 Caffeine 키 단위 잠금 안에서 실행 - 같은 키의 동시 미스는 외부 API를 한 번만 호출
+        ColdLoad load = new ColdLoad();
+        try {
+            value = memory.get(normalized, k -> load.run(normalized, valueLoader));
+        } catch (LoaderFailure e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+        if (load.staleOnDisk) {
+            refreshInBackground(normalized, valueLoader);
+        }
+        if (value != null) {
+            return (T) value;
+        }
+        if (load.ran) {
+            return (T) load.result; // 저장하지 않는 결과 (null/빈 컬렉션)
+        }
+
+        // 다른 요청이 받은 결과가 저장 대상이 아니었음 - 캐시되지 않는 결과이므로 직접 호출
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(normalizeKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String normalized = normalizeKey(key);
+        memory.invalidate(normalized);
+        if (disk != null) {
+            disk.remove(normalized);
+        }
+    }
+
+    @Override
+    public void clear() {
+        memory.invalidateAll();
+        if (disk != null) {
+            disk.clear();
+        }
+    }
+
+    /**
+     * 디스크 정리 - 최대 보관 기간이 지난 항목 삭제, 남은 항목이 maxEntries를 넘으면 오래된 순 삭제
+     */
+    public int prune(int maxEntries) {
+        return disk != null ? disk.prune(clock.getAsLong() - maxStaleMs, maxEntries) : 0;
+    }
+
+    // === 내부 ===
+
+    private void refreshInBackground(String key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store(key, valueLoader.call());
+                    log.debug("캐시 백그라운드 갱신 완료: {} / {}", name, key);
+                } catch (Exception e) {
+                    log.warn("캐시 백그라운드 갱신 실패 (기존 값 유지): {} / {} - {}", name, key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void store(String key, Object value) {
+        if (!isStorable(value)) {
+            return;
+        }
+        memory.put(key, value);
+        writeDisk(key, value);
+    }
+
+    private void writeDisk(String key, Object value) {
+        if (disk == null) {
+            return;
+        }
+        try {
+            disk.write(key, objectMapper.writeValueAsBytes(value), clock.getAsLong());
+        } catch (IOException e) {
+            // 디스크 계층 실패는 요청에 영향 없음 - 메모리 계층만 사용
+            log.warn("디스크 캐시 저장 실패: {} / {} - {}", name, key, e.getMessage());
+        }
+    }
+
+    private Stored readDisk(String key) {
+        if (disk == null) {
+            return null;
+        }
+        DiskCacheStore.Entry entry = disk.read(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = clock.getAsLong() - entry.storedAt();
+        if (age > maxStaleMs) {
+            disk.remove(key);
+            return null;
+        }
+        try {
+            Object value = objectMapper.readValue(entry.value(), valueType);
+            return isStorable(value) ? new Stored(value, age <= freshTtlMs) : null;
+        } catch (IOException e) {
+            // DTO 구조 변경 등으로 읽을 수 없는 항목은 버림
+            log.debug("디스크 캐시 항목 해석 실패, 삭제: {} / {} - {}", name, key, e.getMessage());
+            disk.remove(key);
+            return null;
+        }
+    }
+
+    private static boolean isStorable(Object value) {
+        return value != null && !(value instanceof Collection<?> collection && collection.isEmpty());
+    }
+
+    private static String normalizeKey(Object key) {
+        String text = Normalizer.normalize(String.valueOf(key), Normalizer.Form.NFKC);
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Stored(Object value, boolean fresh) {
+    }
+
+    /**
+     * L1 미스 한 건의 적재 (메모리 계층의 키 잠금 안에서 실행되므로 메모리 계층에 직접 쓰지 않음)
+     * - 디스크 항목이 있으면 그 값, 없으면 로더 호출 후 디스크에 기록
+     * - 반환값이 L1에 올라가고, 저장 대상이 아니면 null을 반환해 L1에 남지 않게 함
+     */
+    private final class ColdLoad {
+        private boolean ran;
+        private boolean staleOnDisk;
+        private Object result;
+
+        private Object run(String key, Callable<?> valueLoader) {
+            ran = true;
+            Stored stored = readDisk(key);
+            if (stored != null) {
+                staleOnDisk = !stored.fresh();
+                result = stored.value();
+                return result;
+            }
+            try {
+                result = valueLoader.call();
+            } catch (Exception e) {
+                throw new LoaderFailure(e);
+            }
+            if (!isStorable(result)) {
+                return null;
+            }
+            writeDisk(key, result);
+            return result;
+        }
+    }
+
+    /** 키 잠금 밖으로 로더 예외를 전달하기 위한 래퍼 */
+    private static final class LoaderFailure extends RuntimeException {
+        private LoaderFailure(Exception cause) {
+            super(cause);
+        }
+    }
+}
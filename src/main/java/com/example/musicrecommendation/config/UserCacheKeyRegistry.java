@@ -0,0 +1,108 @@
+package com.example.musicrecommendation.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 사용자별 캐시 키 목록 - "사용자 X의 항목만 삭제"를 전체 삭제(allEntries) 없이 처리하기 위한 색인
+ *
+ * - 키 문자열에 사용자 ID가 섞여 있는 캐시("42_10", "리뷰ID_42")만 대상 - 캐시마다 키 → 사용자 ID 추출 규칙 등록
+ * - 저장 시 {@link UserKeyTrackingCache}가 등록, 삭제/크기·만료 제거 시 해제
+ * - 추출할 수 없는 키는 등록하지 않음 (해당 항목은 TTL로만 만료)
+ *
+ * 등록은 실제 저장보다 늦게 일어나므로 목록에는 이미 없는 키가 남을 수 있다 (삭제 대상이 많아질 뿐 누락은 없음).
+ */
+public final class UserCacheKeyRegistry {
+
+    /** 캐시 이름 → 키에서 사용자 ID 추출 (실패 시 null) */
+    private final Map<String, Function<Object, Long>> userIdExtractors;
+
+    /** 캐시 이름 → 사용자 ID → 키 */
+    private final Map<String, Map<Long, Set<Object>>> keys = new ConcurrentHashMap<>();
+
+    public UserCacheKeyRegistry(Map<String, Function<Object, Long>> userIdExtractors) {
+        this.userIdExtractors = Map.copyOf(userIdExtractors);
+    }
+
+    /** "42_10" 형식 - 첫 '_' 앞이 사용자 ID */
+    public static Function<Object, Long> leadingUserId() {
+        return key -> {
+            String text = String.valueOf(key);
+            int separator = text.indexOf('_');
+            return parse(separator < 0 ? text : text.substring(0, separator));
+        };
+    }
+
+    /** "7_42" 형식 - 마지막 '_' 뒤가 사용자 ID */
+    public static Function<Object, Long> trailingUserId() {
+        return key -> {
+            String text = String.valueOf(key);
+            return parse(text.substring(text.lastIndexOf('_') + 1));
+        };
+    }
+
+    public boolean tracks(String cacheName) {
+        return userIdExtractors.containsKey(cacheName);
+    }
+
+    public void register(String cacheName, Object key) {
+        Long userId = userIdOf(cacheName, key);
+        if (userId == null) {
+            return;
+        }
+        // drain과 같은 사용자 항목에 대해 원자적으로 - 꺼내진 목록에 추가되어 유실되는 일이 없도록
+        keys.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+            .compute(userId, (id, userKeys) -> {
+                Set<Object> result = userKeys != null ? userKeys : ConcurrentHashMap.newKeySet();
+                result.add(key);
+                return result;
+            });
+    }
+
+    public void unregister(String cacheName, Object key) {
+        Long userId = userIdOf(cacheName, key);
+        Map<Long, Set<Object>> byUser = keys.get(cacheName);
+        if (userId == null || byUser == null) {
+            return;
+        }
+        byUser.computeIfPresent(userId, (id, userKeys) -> {
+            userKeys.remove(key);
+            return userKeys.isEmpty() ? null : userKeys;
+        });
+    }
+
+    /**
+     * 사용자의 키를 목록에서 꺼냄 (꺼낸 키는 목록에서 제거 - 호출자가 캐시에서 삭제)
+     */
+    public Set<Object> drain(String cacheName, Long userId) {
+        Map<Long, Set<Object>> byUser = keys.get(cacheName);
+        Set<Object> userKeys = byUser != null ? byUser.remove(userId) : null;
+        return userKeys != null ? userKeys : Collections.emptySet();
+    }
+
+    public void clear(String cacheName) {
+        keys.remove(cacheName);
+    }
+
+    /** 등록된 키 수 (모니터링/테스트용) */
+    public int size(String cacheName) {
+        Map<Long, Set<Object>> byUser = keys.get(cacheName);
+        return byUser == null ? 0 : byUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private Long userIdOf(String cacheName, Object key) {
+        Function<Object, Long> extractor = userIdExtractors.get(cacheName);
+        return extractor != null && key != null ? extractor.apply(key) : null;
+    }
+
+    private static Long parse(String text) {
+        try {
+            return Long.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.musicrecommendation.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 저장한 키를 {@link UserCacheKeyRegistry}에 기록하는 Caffeine 캐시
+ *
+ * 크기/만료로 제거된 키는 Caffeine evictionListener가 목록에서 해제한다 (CacheConfig에서 연결).
+ */
+public class UserKeyTrackingCache extends CaffeineCache {
+
+    private final UserCacheKeyRegistry registry;
+
+    public UserKeyTrackingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues, UserCacheKeyRegistry registry) {
+        super(name, cache, allowNullValues);
+        this.registry = registry;
+    }
+
+    // 저장 후 등록 - 등록이 먼저면 직전 항목의 제거 알림이 새 항목의 등록을 지울 수 있음
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        registry.register(getName(), key);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        registry.register(getName(), key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        registry.register(getName(), key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        registry.unregister(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        registry.unregister(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        registry.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        registry.clear(getName());
+        return invalidated;
+    }
+}
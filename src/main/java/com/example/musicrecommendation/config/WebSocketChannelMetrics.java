@@ -0,0 +1,170 @@
+package com.example.musicrecommendation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 채널 메트릭 수집기
+ * - 목적지별 처리(전송) 지연 시간
+ * - 아웃바운드 목적지별 대기열 깊이
+ * - 느린 소비자 세션 강제 종료 횟수
+ *
+ * 목적지는 방 ID/사용자 ID를 '*'로 치환해 태그 카디널리티를 제한한다.
+ */
+@Component
+public class WebSocketChannelMetrics {
+
+    /** 숫자 ID 또는 hex 방 ID 형태의 경로 토큰 */
+    private static final Pattern ID_TOKEN = Pattern.compile("^(\\d+|[0-9a-fA-F-]{8,})$");
+
+    private final MeterRegistry meterRegistry;
+    private final Counter evictedSessions;
+    private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handleTimers = new ConcurrentHashMap<>();
+
+    public WebSocketChannelMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.evictedSessions = Counter.builder("websocket.sessions.evicted")
+                .description("전송 시간/버퍼 제한 초과로 종료된 느린 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널에 부착할 인터셉터 생성
+     *
+     * @param channelName 메트릭 태그로 쓰일 채널 이름 (inbound/outbound)
+     * @param trackDepth  목적지별 대기열 깊이 추적 여부 (핸들러가 하나인 아웃바운드 채널에서만 정확)
+     */
+    public ExecutorChannelInterceptor interceptor(String channelName, boolean trackDepth) {
+        return new MetricsInterceptor(channelName, trackDepth);
+    }
+
+    /**
+     * 풀 기반 실행기의 대기열 크기/활성 스레드 수 게이지 등록
+     */
+    public void bindExecutor(String channelName, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channelName)
+                .register(meterRegistry);
+        Gauge.builder("websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channelName)
+                .register(meterRegistry);
+    }
+
+    public void recordSlowConsumerEviction() {
+        evictedSessions.increment();
+    }
+
+    /**
+     * 목적지 정규화: /topic/room.3f2a9c1d.typing → /topic/room.*.typing,
+     * /queue/notifications-user1a2b → /queue/notifications
+     */
+    static String normalizeDestination(String destination) {
+        if (destination == null || destination.isEmpty()) {
+            return "none";
+        }
+        int userSuffix = destination.indexOf("-user");
+        String path = userSuffix > 0 ? destination.substring(0, userSuffix) : destination;
+
+        StringBuilder sb = new StringBuilder(path.length());
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/' || path.charAt(i) == '.') {
+                String token = path.substring(start, i);
+                sb.append(ID_TOKEN.matcher(token).matches() ? "*" : token);
+                if (i < path.length()) {
+                    sb.append(path.charAt(i));
+                }
+                start = i + 1;
+            }
+        }
+        return sb.toString();
+    }
+
+    private AtomicInteger depthOf(String channelName, String destination) {
+        return queueDepths.computeIfAbsent(channelName + "|" + destination, key -> {
+            AtomicInteger depth = new AtomicInteger();
+            Gauge.builder("websocket.channel.queue.depth", depth, AtomicInteger::get)
+                    .tag("channel", channelName)
+                    .tag("destination", destination)
+                    .register(meterRegistry);
+            return depth;
+        });
+    }
+
+    private Timer timerOf(String channelName, String destination) {
+        return handleTimers.computeIfAbsent(channelName + "|" + destination, key ->
+                Timer.builder("websocket.channel.handle")
+                        .description("채널 메시지 처리 시간 (아웃바운드는 세션 전송 시간)")
+                        .tag("channel", channelName)
+                        .tag("destination", destination)
+                        .register(meterRegistry));
+    }
+
+    private final class MetricsInterceptor implements ExecutorChannelInterceptor {
+
+        private final String channelName;
+        private final boolean trackDepth;
+        private final ThreadLocal<Long> handleStart = new ThreadLocal<>();
+
+        private MetricsInterceptor(String channelName, boolean trackDepth) {
+            this.channelName = channelName;
+            this.trackDepth = trackDepth;
+        }
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            if (trackDepth) {
+                depthOf(channelName, destinationOf(message)).incrementAndGet();
+            }
+            return message;
+        }
+
+        @Override
+        public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+            // 실행기 거부 등으로 대기열에 들어가지 못한 경우 되돌림
+            if (trackDepth && (!sent || ex != null)) {
+                depthOf(channelName, destinationOf(message)).decrementAndGet();
+            }
+        }
+
+        @Override
+        public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+            handleStart.set(System.nanoTime());
+            return message;
+        }
+
+        @Override
+        public void afterMessageHandled(Message<?> message, MessageChannel channel,
+                                        MessageHandler handler, Exception ex) {
+            String destination = destinationOf(message);
+            Long start = handleStart.get();
+            handleStart.remove();
+            if (start != null) {
+                timerOf(channelName, destination).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (trackDepth) {
+                depthOf(channelName, destination).decrementAndGet();
+            }
+        }
+
+        private String destinationOf(Message<?> message) {
+            return normalizeDestination(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        }
+    }
+}
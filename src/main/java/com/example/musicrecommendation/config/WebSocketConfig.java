@@ -1,15 +1,25 @@
 // src/main/java/com/example/musicrecommendation/config/WebSocketConfig.java
 package com.example.musicrecommendation.config;
 
+import com.example.musicrecommendation.service.ChatRateLimitService;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 
@@ -18,23 +28,30 @@ import java.util.Map;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketConfig.class);
 
+    private final WebSocketProperties webSocketProperties;
+    private final WebSocketChannelMetrics channelMetrics;
+    private final PayloadFormatRegistry payloadFormatRegistry;
+    private final ChatRateLimitService chatRateLimitService;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 프론트에서 SockJS('/ws')를 사용하므로 반드시 withSockJS() 필요
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
-                .addInterceptors(new UserHandshakeInterceptor())
+                .addInterceptors(new UserHandshakeInterceptor(chatRateLimitService))
                 .setHandshakeHandler(new UserPrincipalHandshakeHandler())
                 .withSockJS();
         // 만약 네이티브 WebSocket도 같이 열고 싶다면(선택):
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
-                .addInterceptors(new UserHandshakeInterceptor())
+                .addInterceptors(new UserHandshakeInterceptor(chatRateLimitService))
                 .setHandshakeHandler(new UserPrincipalHandshakeHandler());
+        registry.setPreserveReceiveOrder(webSocketProperties.isPreserveReceiveOrder());
     }
 
     @Override
@@ -45,6 +62,79 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/topic", "/queue");
         // /user/queue/... 구독용
         registry.setUserDestinationPrefix("/user");
+        // 아웃바운드 스레드가 여러 개여도 세션별 메시지 순서 유지
+        registry.setPreservePublishOrder(webSocketProperties.isPreservePublishOrder());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        applyChannelSettings("inbound", webSocketProperties.getInbound(), registration);
+        registration.interceptors(channelMetrics.interceptor("inbound", false), payloadFormatRegistry);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 아웃바운드는 SubProtocolWebSocketHandler 하나만 구독하므로 목적지별 대기열 깊이 추적 가능
+        applyChannelSettings("outbound", webSocketProperties.getOutbound(), registration);
+        registration.interceptors(channelMetrics.interceptor("outbound", true));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+        // 전송 시간/버퍼 제한을 넘는 세션은 SESSION_NOT_RELIABLE로 종료되어 다른 세션의 전송을 막지 않음
+        registration.setSendTimeLimit(transport.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(transport.getSendBufferSizeLimitBytes())
+                .setMessageSizeLimit(transport.getMessageSizeLimitBytes())
+                .setTimeToFirstMessage(transport.getTimeToFirstMessageMs())
+                .addDecoratorFactory(handler -> new SlowConsumerTrackingHandler(handler, channelMetrics));
+    }
+
+    /**
+     * 채널 실행기 구성 - 가상 스레드 또는 크기 제한 스레드 풀
+     */
+    private void applyChannelSettings(String channelName, WebSocketProperties.Channel settings,
+                                      ChannelRegistration registration) {
+        if (settings.isVirtualThreads()) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-" + channelName + "-"));
+            log.info("[WS-CONFIG] {} 채널: 가상 스레드 실행기 사용", channelName);
+            return;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-" + channelName + "-");
+        executor.setCorePoolSize(settings.getCorePoolSize());
+        executor.setMaxPoolSize(settings.getMaxPoolSize());
+        executor.setQueueCapacity(settings.getQueueCapacity());
+        executor.setKeepAliveSeconds(settings.getKeepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(true);
+        registration.taskExecutor(executor);
+        channelMetrics.bindExecutor(channelName, executor);
+
+        log.info("[WS-CONFIG] {} 채널: core={}, max={}, queue={}", channelName,
+                settings.getCorePoolSize(), settings.getMaxPoolSize(), settings.getQueueCapacity());
+    }
+
+    /**
+     * 느린 소비자 강제 종료(SESSION_NOT_RELIABLE) 집계용 핸들러 데코레이터
+     */
+    static class SlowConsumerTrackingHandler extends WebSocketHandlerDecorator {
+
+        private final WebSocketChannelMetrics channelMetrics;
+
+        SlowConsumerTrackingHandler(WebSocketHandler delegate, WebSocketChannelMetrics channelMetrics) {
+            super(delegate);
+            this.channelMetrics = channelMetrics;
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                channelMetrics.recordSlowConsumerEviction();
+                log.warn("[WS-TRANSPORT] 느린 소비자 세션 종료: sessionId={}", session.getId());
+            }
+            super.afterConnectionClosed(session, closeStatus);
+        }
     }
 
     /**
@@ -52,10 +142,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     public static class UserHandshakeInterceptor implements HandshakeInterceptor {
 
+        private final ChatRateLimitService rateLimitService;
+
+        public UserHandshakeInterceptor(ChatRateLimitService rateLimitService) {
+            this.rateLimitService = rateLimitService;
+        }
+
         @Override
         public boolean beforeHandshake(ServerHttpRequest request, org.springframework.http.server.ServerHttpResponse response,
                                      WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
             
+            // IP별 연결 시도 속도 제한 (IP 회전 공격에도 키 테이블 크기는 상한 유지)
+            String clientIp = request.getRemoteAddress() != null
+                    ? request.getRemoteAddress().getHostString()
+                    : null;
+            if (clientIp != null && !rateLimitService.isConnectionAllowed(clientIp)) {
+                response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                return false;
+            }
+
+            // SockJS 전송(/ws/{server}/{session}/...)이 아닌 네이티브 WebSocket 여부 - 이진 페이로드 협상에 사용
+            attributes.put(PayloadFormatRegistry.NATIVE_TRANSPORT_ATTR, request.getURI().getPath().endsWith("/ws"));
+
             // URL 파라미터에서 userId 추출 시도
             String query = request.getURI().getQuery();
             log.info("[WS-HANDSHAKE] Query string: {}", query);
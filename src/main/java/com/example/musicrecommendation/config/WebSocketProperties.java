@@ -0,0 +1,92 @@
+package com.example.musicrecommendation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket(STOMP) 채널/전송 설정 프로퍼티
+ * - 인바운드/아웃바운드 채널 실행기 분리
+ * - 느린 클라이언트 보호를 위한 전송 시간/버퍼 제한
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.websocket")
+public class WebSocketProperties {
+
+    /**
+     * 클라이언트 → 서버 메시지 처리 채널
+     */
+    private Channel inbound = new Channel();
+
+    /**
+     * 서버 → 클라이언트 메시지 전송 채널
+     */
+    private Channel outbound = new Channel();
+
+    /**
+     * 세션 전송 제한 설정
+     */
+    private Transport transport = new Transport();
+
+    /**
+     * 세션 단위 발행 순서 보장 (아웃바운드 스레드가 여러 개일 때 필요)
+     */
+    private boolean preservePublishOrder = true;
+
+    /**
+     * 세션 단위 수신 순서 보장
+     */
+    private boolean preserveReceiveOrder = false;
+
+    @Data
+    public static class Channel {
+        /**
+         * 가상 스레드 실행기 사용 여부 (true면 풀 크기 설정은 무시)
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 기본 스레드 수
+         */
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * 최대 스레드 수
+         */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+
+        /**
+         * 대기열 크기 (가득 차면 최대 스레드 수까지 확장)
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * 유휴 스레드 유지 시간 (초)
+         */
+        private int keepAliveSeconds = 60;
+    }
+
+    @Data
+    public static class Transport {
+        /**
+         * 단일 메시지 전송 최대 허용 시간 (ms) - 초과 시 느린 소비자로 판단해 세션 종료
+         */
+        private int sendTimeLimitMs = 10_000;
+
+        /**
+         * 세션별 전송 대기 버퍼 최대 크기 (bytes) - 초과 시 세션 종료
+         */
+        private int sendBufferSizeLimitBytes = 512 * 1024;
+
+        /**
+         * 수신 메시지 최대 크기 (bytes)
+         */
+        private int messageSizeLimitBytes = 64 * 1024;
+
+        /**
+         * 연결 후 첫 메시지(CONNECT)까지 허용 시간 (ms)
+         */
+        private int timeToFirstMessageMs = 30_000;
+    }
+}
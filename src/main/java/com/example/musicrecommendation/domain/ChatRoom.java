@@ -0,0 +1,47 @@
+package com.example.musicrecommendation.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보안 채팅방 엔티티
+ * 매칭으로 생성된 1:1 채팅방 (재시작 후에도 활성 방 유지)
+ */
+@Entity
+@Table(name = "chat_rooms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatRoom {
+
+    @Id
+    @Column(name = "room_id", length = 50)
+    private String roomId;
+
+    @Column(name = "participant1_id", nullable = false)
+    private Long participant1Id;
+
+    @Column(name = "participant2_id", nullable = false)
+    private Long participant2Id;
+
+    @Column(name = "room_type", nullable = false, length = 30)
+    private String roomType;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+}
@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -14,6 +15,7 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "music_items")
+@EntityListeners(StatsEntityListener.class)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @EqualsAndHashCode(of = "id")
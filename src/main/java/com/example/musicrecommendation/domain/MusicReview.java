@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +12,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "music_reviews")
+@EntityListeners(StatsEntityListener.class)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @EqualsAndHashCode(of = "id")
@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "recommendation_history")
+@EntityListeners(StatsEntityListener.class)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,11 +1,13 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "songs")
+@EntityListeners(StatsEntityListener.class)
 @Getter
 @NoArgsConstructor
 public class Song {
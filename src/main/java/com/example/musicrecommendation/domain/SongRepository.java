@@ -3,17 +3,27 @@ package com.example.musicrecommendation.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 // @Repository는 생략해도 됩니다. Spring Data JPA가 자동으로 빈으로 등록함.
 
 public interface SongRepository extends JpaRepository<Song, Long> {
 
     /**
-     * 제목 또는 아티스트에 q가 (대소문자 구분 없이) 포함되는 곡을 페이징으로 검색
+     * 제목/아티스트 부분 일치 검색 - 트라이그램 인덱스(V45) 사용, 유사도 높은 순
+     *
+     * @param pattern {@link com.example.musicrecommendation.util.SearchPatterns#contains} 결과 (이스케이프된 ILIKE 패턴)
+     * @param q       유사도 계산용 원본 검색어
+     * @param pageable 정렬 없이 전달 (정렬은 유사도 → 최신 순으로 고정)
      */
-    Page<Song> findByTitleContainingIgnoreCaseOrArtistContainingIgnoreCase(
-            String title, String artist, Pageable pageable
-    );
+    @Query(value = "SELECT s.* FROM songs s " +
+           "WHERE s.title ILIKE :pattern OR s.artist ILIKE :pattern " +
+           "ORDER BY GREATEST(similarity(s.title, :q), similarity(s.artist, :q)) DESC, s.id DESC",
+           countQuery = "SELECT COUNT(*) FROM songs s WHERE s.title ILIKE :pattern OR s.artist ILIKE :pattern",
+           nativeQuery = true)
+    Page<Song> searchRanked(@Param("pattern") String pattern, @Param("q") String q, Pageable pageable);
 
     /**
      * 제목과 아티스트가 정확히 일치하는 곡을 찾기
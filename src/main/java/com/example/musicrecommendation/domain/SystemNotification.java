@@ -63,6 +63,29 @@ public class SystemNotification {
      */
     private OffsetDateTime sentAt;
     
+    /**
+     * 발송 진행 커서 - 마지막으로 처리한 사용자 ID (재시작 시 이어서 발송)
+     */
+    @Column(nullable = false)
+    private Long fanoutCursor = 0L;
+    
+    /**
+     * 지금까지 알림함에 저장된 수
+     */
+    @Column(nullable = false)
+    private Integer deliveredCount = 0;
+    
+    /**
+     * 발송 진행 하트비트 (오래 갱신되지 않은 SENDING 건은 중단된 것으로 보고 재개)
+     */
+    private OffsetDateTime progressUpdatedAt;
+    
+    /**
+     * 실패한 발송 횟수 (상한 미만이면 FAILED 건도 커서부터 다시 발송)
+     */
+    @Column(nullable = false)
+    private Integer fanoutAttempts = 0;
+    
     /**
      * 생성 시점에 KST 시간으로 설정
      */
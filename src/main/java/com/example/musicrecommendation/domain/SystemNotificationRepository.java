@@ -1,9 +1,11 @@
 package com.example.musicrecommendation.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -53,4 +55,60 @@ public interface SystemNotificationRepository extends JpaRepository<SystemNotifi
      */
     @Query("SELECT sn FROM SystemNotification sn WHERE sn.createdAt >= :thirtyDaysAgo ORDER BY sn.createdAt DESC")
     List<SystemNotification> findRecentNotifications(@Param("thirtyDaysAgo") OffsetDateTime thirtyDaysAgo);
-}
\ No newline at end of file
+    
+    /**
+     * 발송 청크 완료 기록 (커서 전진 + 누적 발송 수 + 하트비트)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SystemNotification sn SET sn.fanoutCursor = :cursor, sn.deliveredCount = sn.deliveredCount + :delivered, " +
+           "sn.progressUpdatedAt = :now WHERE sn.id = :id AND sn.status = 'SENDING'")
+    int advanceFanout(@Param("id") Long id, @Param("cursor") Long cursor,
+                      @Param("delivered") int delivered, @Param("now") OffsetDateTime now);
+    
+    /**
+     * 발송 시작/재개 선점 - 하트비트가 staleBefore 이전인 경우에만 성공 (인스턴스 간 중복 실행 방지)
+     * FAILED 건은 실패 횟수가 maxAttempts 미만일 때만 (staleBefore가 재시도 간격 역할)
+     * 선점 후 다시 조회할 때 영속성 컨텍스트의 이전 상태를 쓰지 않도록 clearAutomatically
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE SystemNotification sn " +
+           "SET sn.status = com.example.musicrecommendation.domain.SystemNotification.NotificationStatus.SENDING, " +
+           "sn.progressUpdatedAt = :now " +
+           "WHERE sn.id = :id AND sn.status IN ('PENDING', 'SCHEDULED', 'SENDING', 'FAILED') " +
+           "AND (sn.status <> 'FAILED' OR sn.fanoutAttempts < :maxAttempts) " +
+           "AND (sn.progressUpdatedAt IS NULL OR sn.progressUpdatedAt < :staleBefore)")
+    int claimFanout(@Param("id") Long id, @Param("now") OffsetDateTime now,
+                    @Param("staleBefore") OffsetDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+    
+    /**
+     * 발송 완료 - 진행 커서/누적 수는 청크 커밋 때 기록된 값을 그대로 둠
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SystemNotification sn " +
+           "SET sn.status = com.example.musicrecommendation.domain.SystemNotification.NotificationStatus.SENT, " +
+           "sn.sentAt = :now, sn.progressUpdatedAt = :now WHERE sn.id = :id AND sn.status = 'SENDING'")
+    int completeFanout(@Param("id") Long id, @Param("now") OffsetDateTime now);
+    
+    /**
+     * 발송 실패 기록 (실패 횟수 +1) - 커서는 유지되어 재시도 시 이어서 발송
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SystemNotification sn " +
+           "SET sn.status = com.example.musicrecommendation.domain.SystemNotification.NotificationStatus.FAILED, " +
+           "sn.fanoutAttempts = sn.fanoutAttempts + 1, sn.progressUpdatedAt = :now " +
+           "WHERE sn.id = :id AND sn.status = 'SENDING'")
+    int failFanout(@Param("id") Long id, @Param("now") OffsetDateTime now);
+    
+    /**
+     * 재개할 발송 조회 (하트비트가 끊긴 SENDING 건 + 재시도 상한 미만의 FAILED 건)
+     */
+    @Query("SELECT sn.id FROM SystemNotification sn " +
+           "WHERE (sn.status = 'SENDING' OR (sn.status = 'FAILED' AND sn.fanoutAttempts < :maxAttempts)) " +
+           "AND (sn.progressUpdatedAt IS NULL OR sn.progressUpdatedAt < :staleBefore)")
+    List<Long> findStalledFanoutIds(@Param("staleBefore") OffsetDateTime staleBefore,
+                                    @Param("maxAttempts") int maxAttempts);
+}
@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -13,7 +14,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "users")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, StatsEntityListener.class})
 public class User {
 
     @Id
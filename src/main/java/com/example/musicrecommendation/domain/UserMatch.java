@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.domain;
 
+import com.example.musicrecommendation.event.StatsEntityListener;
 import jakarta.persistence.*;
 import java.time.OffsetDateTime;
 
@@ -8,6 +9,7 @@ import java.time.OffsetDateTime;
  */
 @Entity
 @Table(name = "user_matches")
+@EntityListeners(StatsEntityListener.class)
 public class UserMatch {
 
     @Id
@@ -1,8 +1,13 @@
 package com.example.musicrecommendation.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -65,4 +70,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 중복되면 true, 없으면 false
      */
     boolean existsByNameAndIdNot(String name, Long excludeId);
-}
\ No newline at end of file
+    
+    /**
+     * 사용자 ID 키셋 페이지 (afterId 초과, 오름차순)
+     * 전체 사용자 대상 작업을 고정 크기 청크로 순회할 때 사용
+     *
+     * @param afterId 이전 청크의 마지막 ID (처음이면 0)
+     * @param pageable 청크 크기 (PageRequest.of(0, size))
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 주어진 ID 중 실제 존재하는 사용자 ID (오름차순)
+     *
+     * @param ids 확인할 사용자 ID
+     * @return 존재하는 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -116,51 +116,7 @@ public interface UserSongLikeRepository extends JpaRepository<UserSongLike, Long
 
     // === 🔥 HOT 통계를 위한 간소화된 쿼리들 ===
 
-    /**
-     * 특정 기간 동안 가장 많이 좋아요 받은 곡들 조회 (LIMIT 대신 Pageable 사용)
-     */
-    @Query("SELECT l.song.id as songId, COUNT(l) as likeCount " +
-            "FROM UserSongLike l " +
-            "WHERE l.likedAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY l.song.id " +
-            "ORDER BY COUNT(l) DESC")
-    List<SongLikeCount> findTopLikedSongsByPeriod(@Param("startDate") java.time.LocalDateTime startDate,
-                                                  @Param("endDate") java.time.LocalDateTime endDate,
-                                                  org.springframework.data.domain.Pageable pageable);
-
-    /**
-     * 특정 기간 동안 가장 활발한 사용자들 조회
-     */
-    @Query("SELECT l.user.id as userId, COUNT(l) as likeCount " +
-            "FROM UserSongLike l " +
-            "WHERE l.likedAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY l.user.id " +
-            "ORDER BY COUNT(l) DESC")
-    List<UserLikeCount> findMostActiveUsersByPeriod(@Param("startDate") java.time.LocalDateTime startDate,
-                                                    @Param("endDate") java.time.LocalDateTime endDate,
-                                                    org.springframework.data.domain.Pageable pageable);
-
-    /**
-     * 특정 기간 동안 아티스트별 좋아요 수 집계
-     */
-    @Query("SELECT l.song.artist as artistName, COUNT(l) as likeCount, COUNT(DISTINCT l.song.id) as songCount " +
-            "FROM UserSongLike l " +
-            "WHERE l.likedAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY l.song.artist " +
-            "ORDER BY COUNT(l) DESC")
-    List<ArtistLikeCount> findTopArtistsByPeriod(@Param("startDate") java.time.LocalDateTime startDate,
-                                                 @Param("endDate") java.time.LocalDateTime endDate,
-                                                 org.springframework.data.domain.Pageable pageable);
-
-    /**
-     * 현재 기간의 곡별 좋아요 수 (급상승 계산용 - 단순화)
-     */
-    @Query("SELECT l.song.id as songId, COUNT(l) as likeCount " +
-            "FROM UserSongLike l " +
-            "WHERE l.likedAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY l.song.id")
-    List<SongLikeCount> findSongLikesByPeriod(@Param("startDate") java.time.LocalDateTime startDate,
-                                              @Param("endDate") java.time.LocalDateTime endDate);
+    // 기간별 곡/아티스트/사용자 순위는 일별 집계 테이블에서 계산 (LikeRollupStore / LikeChartService)
 
     /**
      * 특정 기간 동안의 좋아요 수 카운트 (오늘 좋아요 등)
@@ -177,23 +133,4 @@ public interface UserSongLikeRepository extends JpaRepository<UserSongLike, Long
             "FROM UserSongLike l " +
             "WHERE l.song.artist = :artistName")
     long countFansByArtist(@Param("artistName") String artistName);
-
-    // === 📊 Projection 인터페이스들 ===
-
-    /**
-     * 사용자 ID와 좋아요 수를 담는 인터페이스
-     */
-    interface UserLikeCount {
-        Long getUserId();
-        Long getLikeCount();
-    }
-
-    /**
-     * 아티스트와 좋아요 통계를 담는 인터페이스
-     */
-    interface ArtistLikeCount {
-        String getArtistName();
-        Long getLikeCount();
-        Long getSongCount();
-    }
 }
\ No newline at end of file
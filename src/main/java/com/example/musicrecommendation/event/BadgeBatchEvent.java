@@ -0,0 +1,24 @@
+package com.example.musicrecommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 여러 사용자의 배지가 한 번에 바뀐 경우 (일괄 부여/만료 정리) - 캐시 무효화를 한 번에 처리
+ */
+@Getter
+@RequiredArgsConstructor
+public class BadgeBatchEvent {
+    private final Collection<Long> userIds;
+    private final String action; // "CREATED", "EXPIRED"
+    
+    public static BadgeBatchEvent created(Collection<Long> userIds) {
+        return new BadgeBatchEvent(userIds, "CREATED");
+    }
+    
+    public static BadgeBatchEvent expired(Collection<Long> userIds) {
+        return new BadgeBatchEvent(userIds, "EXPIRED");
+    }
+}
@@ -27,4 +27,15 @@ public class BadgeEventListener {
             log.error("❌ 배지 캐시 무효화 실패 - userId: {}", event.getUserId(), e);
         }
     }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBadgeBatchEvent(BadgeBatchEvent event) {
+        try {
+            // 대상 사용자 캐시를 한 번에 무효화
+            userBadgeService.evictUserBadgeCaches(event.getUserIds());
+            log.info("✅ 배지 캐시 일괄 무효화 완료 - action: {}, 사용자: {}명", event.getAction(), event.getUserIds().size());
+        } catch (Exception e) {
+            log.error("❌ 배지 캐시 일괄 무효화 실패 - action: {}", event.getAction(), e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.musicrecommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 캐시 무효화 이벤트 - 도메인 변경을 "어떤 사용자의 어떤 캐시 항목"으로 바꿔 커밋 후 정확히 그 항목만 삭제
+ */
+@Getter
+@RequiredArgsConstructor
+public class CacheInvalidationEvent {
+
+    /** 무효화 범위 */
+    public enum Scope {
+        /** 사용자의 추천 결과 (musicRecommendations / mlRecommendations / collaborativeRecommendations) */
+        RECOMMENDATIONS,
+        /** 사용자의 취향 프로필 (userMusicPreferences) */
+        PREFERENCES,
+        /** 리뷰 한 건의 응답 (user-names, 키 = 리뷰ID_작성자ID) */
+        REVIEW_RESPONSE,
+        /** 사용자가 쓴 리뷰 응답 전체 (닉네임/대표 배지 변경) */
+        AUTHORED_REVIEW_RESPONSES
+    }
+
+    public enum Type {
+        REVIEW_CREATED(Scope.RECOMMENDATIONS),
+        REVIEW_UPDATED(Scope.RECOMMENDATIONS, Scope.REVIEW_RESPONSE),
+        REVIEW_DELETED(Scope.RECOMMENDATIONS, Scope.REVIEW_RESPONSE),
+        /** 도움이 됨/신고 - 다른 사용자의 반응이므로 작성자 추천은 그대로 */
+        REVIEW_FEEDBACK(Scope.REVIEW_RESPONSE),
+        LIKE_TOGGLED(Scope.RECOMMENDATIONS),
+        PREFERENCES_UPDATED(Scope.PREFERENCES, Scope.RECOMMENDATIONS),
+        PROFILE_UPDATED(Scope.AUTHORED_REVIEW_RESPONSES);
+
+        private final Set<Scope> scopes;
+
+        Type(Scope first, Scope... rest) {
+            this.scopes = EnumSet.of(first, rest);
+        }
+
+        public Set<Scope> getScopes() {
+            return scopes;
+        }
+    }
+
+    private final Type type;
+    private final Long userId;
+    /** REVIEW_RESPONSE 범위에서만 사용 */
+    private final Long reviewId;
+
+    public static CacheInvalidationEvent reviewCreated(Long userId) {
+        return new CacheInvalidationEvent(Type.REVIEW_CREATED, userId, null);
+    }
+
+    public static CacheInvalidationEvent reviewUpdated(Long userId, Long reviewId) {
+        return new CacheInvalidationEvent(Type.REVIEW_UPDATED, userId, reviewId);
+    }
+
+    public static CacheInvalidationEvent reviewDeleted(Long userId, Long reviewId) {
+        return new CacheInvalidationEvent(Type.REVIEW_DELETED, userId, reviewId);
+    }
+
+    /** @param authorId 리뷰 작성자 (반응한 사용자가 아님) */
+    public static CacheInvalidationEvent reviewFeedback(Long authorId, Long reviewId) {
+        return new CacheInvalidationEvent(Type.REVIEW_FEEDBACK, authorId, reviewId);
+    }
+
+    public static CacheInvalidationEvent likeToggled(Long userId) {
+        return new CacheInvalidationEvent(Type.LIKE_TOGGLED, userId, null);
+    }
+
+    public static CacheInvalidationEvent preferencesUpdated(Long userId) {
+        return new CacheInvalidationEvent(Type.PREFERENCES_UPDATED, userId, null);
+    }
+
+    public static CacheInvalidationEvent profileUpdated(Long userId) {
+        return new CacheInvalidationEvent(Type.PROFILE_UPDATED, userId, null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.musicrecommendation.event;
+
+import com.example.musicrecommendation.service.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    /**
+     * 커밋 후 무효화 - 커밋 전에 지우면 다른 요청이 이전 데이터로 다시 채울 수 있음
+     * (트랜잭션 밖에서 발행된 이벤트는 바로 처리, 롤백되면 처리하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCacheInvalidation(CacheInvalidationEvent event) {
+        try {
+            cacheInvalidationService.invalidate(event);
+        } catch (Exception e) {
+            log.error("❌ 캐시 무효화 실패 - type: {}, userId: {}", event.getType(), event.getUserId(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.musicrecommendation.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 채팅방 만료 타이머 이벤트 (타이밍 휠에서 발생)
+ * - WARNING: 만료 minutesLeft분 전 경고 시점 도달
+ * - EXPIRED: 만료되어 채팅방이 제거됨
+ */
+@Getter
+public class ChatRoomExpiryEvent extends ApplicationEvent {
+
+    public enum Type { WARNING, EXPIRED }
+
+    private final String roomId;
+    private final Type type;
+    private final int minutesLeft;
+    private final Long participant1;
+    private final Long participant2;
+
+    public ChatRoomExpiryEvent(Object source, String roomId, Type type, int minutesLeft,
+                               Long participant1, Long participant2) {
+        super(source);
+        this.roomId = roomId;
+        this.type = type;
+        this.minutesLeft = minutesLeft;
+        this.participant1 = participant1;
+        this.participant2 = participant2;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.musicrecommendation.event;
+
+import com.example.musicrecommendation.service.StatsAggregator;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 통계 대상 엔티티의 생성/수정/삭제를 StatsAggregator에 전달 (JPA 엔티티 리스너)
+ * - 트랜잭션 안이면 커밋 후에만 반영 (롤백된 변경은 집계하지 않음)
+ * - Hibernate가 Spring 빈 컨테이너로 생성 - 집계기는 지연 조회해 EntityManagerFactory 초기화와 순환하지 않음
+ */
+public class StatsEntityListener {
+
+    private final ObjectProvider<StatsAggregator> statsAggregator;
+
+    public StatsEntityListener(ObjectProvider<StatsAggregator> statsAggregator) {
+        this.statsAggregator = statsAggregator;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        afterCommit(() -> statsAggregator.ifAvailable(aggregator -> aggregator.onCreated(entity)));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        afterCommit(() -> statsAggregator.ifAvailable(aggregator -> aggregator.onDeleted(entity)));
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        afterCommit(() -> statsAggregator.ifAvailable(aggregator -> aggregator.onUpdated(entity)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.musicrecommendation.jobs;
+
+import com.example.musicrecommendation.service.UserBadgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeEvaluationJob {
+
+    private final UserBadgeService userBadgeService;
+
+    // 매일 03:00 - 이벤트 경로에서 놓친 배지까지 전체 사용자 일괄 평가
+    @Scheduled(cron = "${app.badges.evaluation-cron:0 0 3 * * *}")
+    public void run() {
+        int awarded = userBadgeService.evaluateAllUsers();
+        log.info("Badge evaluation: {} badges awarded", awarded);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.musicrecommendation.jobs;
+
+import com.example.musicrecommendation.service.SpotifySyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSyncJob {
+
+    private final SpotifySyncService spotifySyncService;
+
+    @Value("${app.catalog-sync.sources:}")
+    private String[] sources;
+
+    // 기본 비활성 - 설정한 소스(search:/album:/artist:)를 체크포인트부터 이어서 수집
+    @Scheduled(cron = "${app.catalog-sync.cron:-}")
+    public void run() {
+        List<String> configured = Arrays.stream(sources).filter(source -> !source.isBlank()).toList();
+        if (configured.isEmpty()) {
+            return;
+        }
+        List<SpotifySyncService.CatalogSyncResult> results = spotifySyncService.syncCatalog(configured);
+        int ingested = results.stream().mapToInt(SpotifySyncService.CatalogSyncResult::ingested).sum();
+        long failed = results.stream().filter(result -> result.error() != null).count();
+        log.info("Catalog sync: sources={} ingested={} failed={}", results.size(), ingested, failed);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.musicrecommendation.jobs;
+
+import com.example.musicrecommendation.config.TieredCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiskCacheCleanupJob {
+
+    private final CacheManager cacheManager;
+
+    @Value("${app.cache.disk.max-entries:20000}")
+    private int maxEntries;
+
+    // 매시 15분 - 디스크 캐시 계층에서 보관 기간이 지난 항목/개수 초과분 삭제
+    @Scheduled(cron = "${app.cache.disk.cleanup-cron:0 15 * * * *}")
+    public void run() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TieredCache tiered) {
+                int removed = tiered.prune(maxEntries);
+                if (removed > 0) {
+                    log.info("Disk cache cleanup: {} removed={}", name, removed);
+                }
+            }
+        }
+    }
+}
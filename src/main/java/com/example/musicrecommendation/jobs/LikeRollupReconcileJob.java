@@ -0,0 +1,33 @@
+package com.example.musicrecommendation.jobs;
+
+import com.example.musicrecommendation.service.LikeChartService;
+import com.example.musicrecommendation.service.LikeRollupStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeRollupReconcileJob {
+
+    private final LikeRollupStore likeRollupStore;
+    private final LikeChartService likeChartService;
+
+    @Value("${app.charts.rollup-reconcile-days:35}")
+    private int reconcileDays;
+
+    // 매일 03:30 - 최근 구간 일별 집계를 원본 좋아요 기준으로 재계산 (CASCADE 삭제 등 서비스 밖 변경 보정)
+    @Scheduled(cron = "${app.charts.rollup-reconcile-cron:0 30 3 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(reconcileDays - 1L);
+        likeRollupStore.rebuild(from, today);
+        likeChartService.invalidateAll();
+        log.info("Like rollup reconcile: {} ~ {}", from, today);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.musicrecommendation.jobs;
+
+import com.example.musicrecommendation.service.NotificationInboxStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPartitionJob {
+
+    private final NotificationInboxStore inboxStore;
+
+    @Value("${app.retention.notifications.months:6}")
+    private int retentionMonths;
+
+    // 기동 시 + 매일 03:30 - 다음 달 파티션 미리 생성, 보존 기간 지난 월 파티션 삭제
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void run() {
+        try {
+            int dropped = inboxStore.maintainPartitions(retentionMonths);
+            log.info("Notification partitions maintained: {} dropped (>{} months)", dropped, retentionMonths);
+        } catch (Exception e) {
+            log.error("Notification partition maintenance failed", e);
+        }
+    }
+}
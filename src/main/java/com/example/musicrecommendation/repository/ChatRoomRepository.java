@@ -0,0 +1,64 @@
+package com.example.musicrecommendation.repository;
+
+import com.example.musicrecommendation.domain.ChatRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보안 채팅방 리포지토리
+ */
+@Repository
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
+
+    /**
+     * 사용자가 참여 중인 최근 활성 채팅방 (참여자 부분 인덱스 사용)
+     */
+    @Query("SELECT r FROM ChatRoom r WHERE r.active = true " +
+           "AND (r.participant1Id = :userId OR r.participant2Id = :userId) " +
+           "AND r.lastActivityAt > :activeSince ORDER BY r.lastActivityAt DESC")
+    List<ChatRoom> findActiveRoomsByParticipant(@Param("userId") Long userId,
+                                                @Param("activeSince") LocalDateTime activeSince);
+
+    /**
+     * 시작 시 미리 적재할 활성 채팅방 (만료되지 않은 방만)
+     */
+    List<ChatRoom> findByActiveTrueAndLastActivityAtAfter(LocalDateTime activeSince);
+
+    /**
+     * 활성 채팅방 단건 조회
+     */
+    Optional<ChatRoom> findByRoomIdAndActiveTrue(String roomId);
+
+    /**
+     * 마지막 활동 시각 갱신
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom r SET r.lastActivityAt = :lastActivityAt WHERE r.roomId = :roomId AND r.active = true")
+    int updateLastActivity(@Param("roomId") String roomId, @Param("lastActivityAt") LocalDateTime lastActivityAt);
+
+    /**
+     * 채팅방 종료 (나가기/만료)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom r SET r.active = false, r.closedAt = :closedAt WHERE r.roomId = :roomId AND r.active = true")
+    int deactivate(@Param("roomId") String roomId, @Param("closedAt") LocalDateTime closedAt);
+
+    /**
+     * 서버가 내려가 있는 동안 만료된 방 일괄 종료
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatRoom r SET r.active = false, r.closedAt = :closedAt " +
+           "WHERE r.active = true AND r.lastActivityAt <= :expiredBefore")
+    int deactivateExpired(@Param("expiredBefore") LocalDateTime expiredBefore, @Param("closedAt") LocalDateTime closedAt);
+}
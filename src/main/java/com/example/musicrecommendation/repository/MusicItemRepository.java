@@ -1,7 +1,9 @@
 package com.example.musicrecommendation.repository;
 
 import com.example.musicrecommendation.domain.MusicItem;
+import com.example.musicrecommendation.util.SearchPatterns;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,25 +18,75 @@ public interface MusicItemRepository extends JpaRepository<MusicItem, Long> {
     
     Optional<MusicItem> findByExternalIdAndItemType(String externalId, MusicItem.MusicItemType itemType);
     
-    List<MusicItem> findByItemTypeAndNameContainingIgnoreCase(MusicItem.MusicItemType itemType, String name);
+    /**
+     * 이름 부분 일치 (트라이그램 인덱스, 유사도 순)
+     */
+    default List<MusicItem> findByItemTypeAndNameContainingIgnoreCase(MusicItem.MusicItemType itemType, String name) {
+        String pattern = SearchPatterns.contains(name);
+        return pattern == null ? List.of() : searchByName(itemType.name(), pattern, name.strip());
+    }
     
-    List<MusicItem> findByArtistNameContainingIgnoreCase(String artistName);
+    /**
+     * 아티스트명 부분 일치 (트라이그램 인덱스, 유사도 순)
+     */
+    default List<MusicItem> findByArtistNameContainingIgnoreCase(String artistName) {
+        String pattern = SearchPatterns.contains(artistName);
+        return pattern == null ? List.of() : searchByArtistName(pattern, artistName.strip());
+    }
+    
+    @Query(value = "SELECT m.* FROM music_items m " +
+           "WHERE m.item_type = :itemType AND m.name ILIKE :pattern " +
+           "ORDER BY similarity(m.name, :q) DESC, m.id DESC",
+           nativeQuery = true)
+    List<MusicItem> searchByName(@Param("itemType") String itemType,
+                                 @Param("pattern") String pattern,
+                                 @Param("q") String q);
+    
+    @Query(value = "SELECT m.* FROM music_items m " +
+           "WHERE m.artist_name ILIKE :pattern " +
+           "ORDER BY similarity(m.artist_name, :q) DESC, m.id DESC",
+           nativeQuery = true)
+    List<MusicItem> searchByArtistName(@Param("pattern") String pattern, @Param("q") String q);
     
     Page<MusicItem> findByGenre(String genre, Pageable pageable);
     
+    /**
+     * 이름/아티스트/앨범 부분 일치 검색 - 트라이그램 인덱스(V45) 사용, 검색어가 있으면 유사도 순
+     * (검색어가 있으면 pageable 정렬은 무시 - 정렬 없는 페이지로 조회)
+     */
+    default Page<MusicItem> searchMusicItems(MusicItem.MusicItemType itemType, String genre,
+                                             String searchTerm, Pageable pageable) {
+        String pattern = SearchPatterns.contains(searchTerm);
+        if (pattern == null) {
+            return findByFilters(itemType, genre, pageable);
+        }
+        return searchRanked(itemType != null ? itemType.name() : null, genre, pattern, searchTerm.strip(),
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+    
     @Query("SELECT m FROM MusicItem m WHERE " +
            "(:itemType IS NULL OR m.itemType = :itemType) AND " +
-           "(:genre IS NULL OR m.genre = :genre) AND " +
-           "(:searchTerm IS NULL OR " +
-           "LOWER(m.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(m.artistName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(m.albumName) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    Page<MusicItem> searchMusicItems(
-        @Param("itemType") MusicItem.MusicItemType itemType,
-        @Param("genre") String genre,
-        @Param("searchTerm") String searchTerm,
-        Pageable pageable
-    );
+           "(:genre IS NULL OR m.genre = :genre)")
+    Page<MusicItem> findByFilters(@Param("itemType") MusicItem.MusicItemType itemType,
+                                  @Param("genre") String genre,
+                                  Pageable pageable);
+    
+    @Query(value = "SELECT m.* FROM music_items m WHERE " +
+           "(CAST(:itemType AS text) IS NULL OR m.item_type = CAST(:itemType AS text)) AND " +
+           "(CAST(:genre AS text) IS NULL OR m.genre = CAST(:genre AS text)) AND " +
+           "(m.name ILIKE :pattern OR m.artist_name ILIKE :pattern OR m.album_name ILIKE :pattern) " +
+           "ORDER BY GREATEST(similarity(m.name, :q), " +
+           "  similarity(COALESCE(m.artist_name, ''), :q), similarity(COALESCE(m.album_name, ''), :q)) DESC, m.id DESC",
+           countQuery = "SELECT COUNT(*) FROM music_items m WHERE " +
+           "(CAST(:itemType AS text) IS NULL OR m.item_type = CAST(:itemType AS text)) AND " +
+           "(CAST(:genre AS text) IS NULL OR m.genre = CAST(:genre AS text)) AND " +
+           "(m.name ILIKE :pattern OR m.artist_name ILIKE :pattern OR m.album_name ILIKE :pattern)",
+           nativeQuery = true)
+    Page<MusicItem> searchRanked(@Param("itemType") String itemType,
+                                 @Param("genre") String genre,
+                                 @Param("pattern") String pattern,
+                                 @Param("q") String q,
+                                 Pageable pageable);
     
     @Query("SELECT DISTINCT m.genre FROM MusicItem m WHERE m.genre IS NOT NULL ORDER BY m.genre")
     List<String> findAllGenres();
@@ -46,6 +46,14 @@ public interface MusicReviewRepository extends JpaRepository<MusicReview, Long>
     @Query("SELECT COUNT(r) FROM MusicReview r WHERE r.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
     
+    /**
+     * 사용자의 최근 리뷰 작성 시각 (user_id, created_at 복합 인덱스 사용) - 스팸 방지 윈도우 초기화용
+     */
+    @Query("SELECT r.createdAt FROM MusicReview r WHERE r.userId = :userId AND r.createdAt >= :since ORDER BY r.createdAt DESC")
+    List<OffsetDateTime> findRecentCreatedAtByUserId(@Param("userId") Long userId,
+                                                     @Param("since") OffsetDateTime since,
+                                                     Pageable pageable);
+    
     @Query(value = "SELECT * FROM music_reviews r WHERE r.is_public = true AND " +
            "(:tag IS NULL OR :tag = ANY(r.tags)) AND " +
            "(:minRating IS NULL OR r.rating >= :minRating) AND " +
@@ -59,6 +67,31 @@ public interface MusicReviewRepository extends JpaRepository<MusicReview, Long>
         Pageable pageable
     );
     
+    /**
+     * 리뷰 본문 전문 검색 - search_vector GIN 인덱스(V45) 사용, 관련도(ts_rank) → 최신 순
+     *
+     * @param tsQuery {@link com.example.musicrecommendation.util.SearchPatterns#prefixTsQuery} 결과
+     */
+    @Query(value = "SELECT r.* FROM music_reviews r WHERE r.is_public = true AND " +
+           "r.search_vector @@ to_tsquery('simple', :tsQuery) AND " +
+           "(CAST(:tag AS text) IS NULL OR CAST(:tag AS text) = ANY(r.tags)) AND " +
+           "(CAST(:minRating AS integer) IS NULL OR r.rating >= CAST(:minRating AS integer)) AND " +
+           "(CAST(:maxRating AS integer) IS NULL OR r.rating <= CAST(:maxRating AS integer)) " +
+           "ORDER BY ts_rank(r.search_vector, to_tsquery('simple', :tsQuery)) DESC, r.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM music_reviews r WHERE r.is_public = true AND " +
+           "r.search_vector @@ to_tsquery('simple', :tsQuery) AND " +
+           "(CAST(:tag AS text) IS NULL OR CAST(:tag AS text) = ANY(r.tags)) AND " +
+           "(CAST(:minRating AS integer) IS NULL OR r.rating >= CAST(:minRating AS integer)) AND " +
+           "(CAST(:maxRating AS integer) IS NULL OR r.rating <= CAST(:maxRating AS integer))",
+           nativeQuery = true)
+    Page<MusicReview> searchByText(
+        @Param("tsQuery") String tsQuery,
+        @Param("tag") String tag,
+        @Param("minRating") Integer minRating,
+        @Param("maxRating") Integer maxRating,
+        Pageable pageable
+    );
+    
     @Query(value = "SELECT DISTINCT UNNEST(tags) as tag FROM music_reviews WHERE is_public = true ORDER BY tag", 
            nativeQuery = true)
     List<String> findAllTags();
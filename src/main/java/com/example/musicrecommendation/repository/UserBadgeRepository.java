@@ -19,6 +19,9 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     
     boolean existsByUserIdAndBadgeType(Long userId, UserBadge.BadgeType badgeType);
     
+    @Query("SELECT b.badgeType FROM UserBadge b WHERE b.userId = :userId")
+    List<UserBadge.BadgeType> findBadgeTypesByUserId(@Param("userId") Long userId);
+    
     @Query("SELECT COUNT(b) FROM UserBadge b WHERE b.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
     
@@ -3,7 +3,9 @@ package com.example.musicrecommendation.security;
 import com.example.musicrecommendation.domain.AuthProvider;
 import com.example.musicrecommendation.domain.User;
 import com.example.musicrecommendation.domain.UserRepository;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
 import com.example.musicrecommendation.service.UserPreferenceService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -18,11 +21,14 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserPreferenceService userPreferenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CustomOAuth2UserService(UserRepository userRepository,
-                                   UserPreferenceService userPreferenceService) {
+                                   UserPreferenceService userPreferenceService,
+                                   ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userPreferenceService = userPreferenceService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -77,11 +83,16 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         User user;
         if (existing.isPresent()) {
             user = existing.get();
+            String previousName = user.getName();
             // 재로그인 시 표시 정보 갱신
             user.updateProfile(
                     (name != null && !name.isBlank()) ? name : user.getName(),
                     (picture != null && !picture.isBlank()) ? picture : user.getProfileImageUrl()
             );
+            // 닉네임이 바뀐 경우에만 작성 리뷰 응답 캐시 무효화 (로그인마다 지우지 않도록)
+            if (!Objects.equals(previousName, user.getName())) {
+                eventPublisher.publishEvent(CacheInvalidationEvent.profileUpdated(user.getId()));
+            }
         } else {
             // 신규 사용자 저장 (대체 이메일 사용)
             String finalName = (name != null && !name.isBlank()) ? name : "User";
@@ -1,13 +1,24 @@
 package com.example.musicrecommendation.security;
 
+import com.example.musicrecommendation.config.RateLimitProperties;
 import com.example.musicrecommendation.domain.MusicReview;
 import com.example.musicrecommendation.repository.MusicReviewRepository;
 import com.example.musicrecommendation.repository.ReviewHelpfulRepository;
+import com.example.musicrecommendation.service.ContentModerationService;
+import com.example.musicrecommendation.service.RateLimitService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -18,28 +29,32 @@ public class ReviewSecurityService {
 
     private final MusicReviewRepository reviewRepository;
     private final ReviewHelpfulRepository reviewHelpfulRepository;
+    private final RateLimitService rateLimitService;
+    private final ContentModerationService contentModerationService;
     
-    // 스팸 패턴 정의
-    private static final Pattern SPAM_PATTERN = Pattern.compile(
-        ".*(광고|홍보|돈|벌기|사기|클릭|링크|www\\.|http|쿠폰|할인|무료|당첨).*",
-        Pattern.CASE_INSENSITIVE
-    );
+    /** 시간당 리뷰 작성 제한 */
+    private static final int MAX_REVIEWS_PER_HOUR = 100;
+    private static final long REVIEW_WINDOW_MILLIS = Duration.ofHours(1).toMillis();
     
-    // 욕설 패턴 (간단한 예시)
-    private static final Pattern PROFANITY_PATTERN = Pattern.compile(
-        ".*(바보|멍청|짜증|욕설|비속어).*",
-        Pattern.CASE_INSENSITIVE
-    );
+    // 반복 문자 패턴 (같은 문자 5번 이상)
+    private static final Pattern REPETITION_PATTERN = Pattern.compile("(.)\\1{4,}");
+    
+    /** 사용자별 최근 1시간 리뷰 작성 시각 (슬라이딩 로그, 미스 시 인덱스 조회로 초기화) */
+    private final Cache<Long, ReviewWindow> reviewWindows = Caffeine.newBuilder()
+        .maximumSize(50_000)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
     
     public boolean canCreateReview(Long userId, String externalId) {
-        // 사용자의 최근 리뷰 작성 빈도 체크 (스팸 방지)
-        OffsetDateTime oneHourAgo = OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul")).minusHours(1);
-        long recentReviews = reviewRepository.findByUserId(userId)
-                .stream()
-                .filter(review -> review.getCreatedAt().isAfter(oneHourAgo))
-                .count();
-        
-        if (recentReviews >= 100) { // 임시로 제한을 100개로 늘림
+        // 연속 작성 버스트는 DB 조회 없이 토큰 버킷에서 먼저 차단
+        if (!rateLimitService.tryAcquire(RateLimitProperties.REVIEW_CREATE, userId)) {
+            log.warn("사용자 {}의 리뷰 작성 속도 제한 초과", userId);
+            return false;
+        }
+        
+        // 사용자의 최근 1시간 리뷰 작성 빈도 체크 (스팸 방지)
+        int recentReviews = windowOf(userId).count(System.currentTimeMillis());
+        if (recentReviews >= MAX_REVIEWS_PER_HOUR) {
             log.warn("사용자 {}의 시간당 리뷰 생성 제한 초과: {}개", userId, recentReviews);
             return false;
         }
@@ -47,6 +62,46 @@ public class ReviewSecurityService {
         return true;
     }
     
+    /**
+     * 리뷰 저장 후 작성 시각 기록 - 호출 트랜잭션이 있으면 커밋 후 기록 (롤백된 작성은 한도에 포함하지 않음)
+     */
+    public void recordReviewCreated(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordCommittedReview(userId);
+                }
+            });
+        } else {
+            recordCommittedReview(userId);
+        }
+    }
+    
+    /**
+     * 캐시된 기록에만 추가 - 없으면 다음 조회 시 커밋된 리뷰까지 DB에서 적재되므로 중복 기록하지 않음
+     */
+    private void recordCommittedReview(Long userId) {
+        ReviewWindow window = reviewWindows.getIfPresent(userId);
+        if (window != null) {
+            window.record(System.currentTimeMillis());
+        }
+    }
+    
+    private ReviewWindow windowOf(Long userId) {
+        return reviewWindows.get(userId, id -> {
+            OffsetDateTime since = OffsetDateTime.now(ZoneId.of("Asia/Seoul")).minusHours(1);
+            List<OffsetDateTime> recent = reviewRepository.findRecentCreatedAtByUserId(
+                id, since, PageRequest.of(0, MAX_REVIEWS_PER_HOUR));
+            ReviewWindow window = new ReviewWindow(MAX_REVIEWS_PER_HOUR, REVIEW_WINDOW_MILLIS);
+            // 최신순 조회 결과를 오래된 순서로 기록
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                window.record(recent.get(i).toInstant().toEpochMilli());
+            }
+            return window;
+        });
+    }
+    
     public boolean canUpdateReview(Long reviewId, Long userId) {
         Optional<MusicReview> reviewOpt = reviewRepository.findById(reviewId);
         
@@ -95,14 +150,17 @@ public class ReviewSecurityService {
             return new ReviewValidationResult(false, "리뷰는 2000자를 초과할 수 없습니다.");
         }
         
-        // 스팸 패턴 체크
-        if (SPAM_PATTERN.matcher(reviewText).matches()) {
+        // 채팅과 같은 금칙어 사전으로 검사 (정규화 후 1회 선형 스캔)
+        ContentModerationService.ModerationResult moderation = contentModerationService.moderate(reviewText);
+        
+        // 스팸 키워드 체크
+        if (moderation.has(ContentModerationService.CATEGORY_SPAM)) {
             log.warn("스팸 패턴 감지된 리뷰: {}", reviewText.substring(0, Math.min(50, reviewText.length())));
             return new ReviewValidationResult(false, "부적절한 내용이 포함되어 있습니다.");
         }
         
-        // 욕설 패턴 체크
-        if (PROFANITY_PATTERN.matcher(reviewText).matches()) {
+        // 욕설 키워드 체크
+        if (moderation.has(ContentModerationService.CATEGORY_PROFANITY)) {
             log.warn("욕설 패턴 감지된 리뷰: {}", reviewText.substring(0, Math.min(50, reviewText.length())));
             return new ReviewValidationResult(false, "부적절한 언어가 포함되어 있습니다.");
         }
@@ -150,8 +208,45 @@ public class ReviewSecurityService {
     
     private boolean hasExcessiveRepetition(String text) {
         // 같은 문자가 5번 이상 반복되는지 체크
-        Pattern repetitionPattern = Pattern.compile("(.)\\1{4,}");
-        return repetitionPattern.matcher(text).find();
+        return REPETITION_PATTERN.matcher(text).find();
+    }
+    
+    /**
+     * 사용자 한 명의 슬라이딩 로그 - 최대 limit개의 작성 시각을 원형 버퍼에 보관 (판정/기록 O(1) 분할상환)
+     */
+    static final class ReviewWindow {
+        private final long[] timestamps;
+        private final long windowMillis;
+        private int head;
+        private int size;
+        
+        ReviewWindow(int limit, long windowMillis) {
+            this.timestamps = new long[limit];
+            this.windowMillis = windowMillis;
+        }
+        
+        synchronized int count(long now) {
+            evictBefore(now - windowMillis);
+            return size;
+        }
+        
+        synchronized void record(long timestamp) {
+            evictBefore(System.currentTimeMillis() - windowMillis);
+            if (size == timestamps.length) {
+                // 가득 차면 가장 오래된 기록을 덮어씀 (제한 판정에는 최근 limit개만 필요)
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
+            timestamps[(head + size) % timestamps.length] = timestamp;
+            size++;
+        }
+        
+        private void evictBefore(long cutoff) {
+            while (size > 0 && timestamps[head] <= cutoff) {
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
+        }
     }
     
     public static class ReviewValidationResult {
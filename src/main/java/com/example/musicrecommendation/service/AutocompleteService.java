@@ -0,0 +1,357 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.util.HangulNormalizer;
+import com.example.musicrecommendation.util.PrefixIndex;
+import com.example.musicrecommendation.web.dto.AutocompleteResponse;
+import com.example.musicrecommendation.web.dto.AutocompleteResponse.Suggestion;
+import com.example.musicrecommendation.web.dto.spotify.ArtistDto;
+import com.example.musicrecommendation.web.dto.spotify.TrackDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아티스트/트랙 검색 자동완성
+ *
+ * - 로컬 카탈로그(songs, music_items)와 최근 Spotify 검색에서 본 아티스트/트랙으로 접두사 인덱스({@link PrefixIndex}) 구성
+ * - 키는 자모 단위로 분해 ({@link HangulNormalizer#toJamo}) - 입력 중인 음절("앙" → "아이유")과 초성("ㅇㅇㅇ")도 일치
+ * - 결과는 인기도(Spotify popularity + 좋아요/리뷰 수) 순 상위 K개
+ * - 로컬 결과가 부족할 때만 Spotify 검색으로 보충 (검색 캐시 경유) - 받은 결과는 인덱스에 추가
+ * - 인덱스는 불변 - 주기적으로 통째로 다시 만들어 교체 (Spotify에서 본 항목은 짧은 주기로 반영)
+ */
+@Service
+@Slf4j
+public class AutocompleteService {
+
+    private static final String ARTIST = "artist";
+    private static final String TRACK = "track";
+
+    /** 곡 + Spotify 인기도 + 좋아요 수 (좋아요 많은 순으로 최대 maxLocalEntries곡) */
+    private static final String SONGS_SQL =
+        "SELECT s.id, s.title, s.artist, s.image_url, m.spotify_id, " +
+        "       COALESCE(m.popularity, 0) AS popularity, COALESCE(l.likes, 0) AS likes " +
+        "FROM songs s " +
+        "LEFT JOIN music_metadata m ON m.song_id = s.id " +
+        "LEFT JOIN (SELECT song_id, COUNT(*) AS likes FROM user_song_likes GROUP BY song_id) l ON l.song_id = s.id " +
+        "ORDER BY likes DESC, s.id DESC LIMIT ?";
+
+    /** 리뷰 대상 트랙/아티스트 + 리뷰 수 */
+    private static final String MUSIC_ITEMS_SQL =
+        "SELECT i.external_id, i.item_type, i.name, i.artist_name, i.image_url, COALESCE(st.total_reviews, 0) AS reviews " +
+        "FROM music_items i LEFT JOIN music_item_stats st ON st.music_item_id = i.id " +
+        "WHERE i.item_type IN ('TRACK', 'ARTIST') " +
+        "ORDER BY reviews DESC, i.id DESC LIMIT ?";
+
+    /** 좋아요/리뷰 수 가중치 (로그 스케일 - 인기 곡 몇 개가 전부를 차지하지 않도록) */
+    private static final double ENGAGEMENT_WEIGHT = 15.0;
+
+    /** 제목 중간 단어부터 시작하는 키 최대 수 ("crazy in love" → "in love", "love") */
+    private static final int MAX_WORD_KEYS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpotifyService spotifyService;
+    private final int topK;
+    private final int minLocalResults;
+    private final int maxLocalEntries;
+    private final int maxSeen;
+
+    private volatile Indexes indexes;
+    /** 마지막 DB 적재 결과 - Spotify 항목 반영 시 재사용 */
+    private volatile List<Candidate> localCandidates = List.of();
+    /** 최근 Spotify 검색에서 본 항목 (LRU) */
+    private final Map<String, Candidate> seen;
+    private volatile boolean seenDirty;
+
+    private final Counter localHits;
+    private final Counter spotifyFills;
+
+    public AutocompleteService(JdbcTemplate jdbcTemplate,
+                               SpotifyService spotifyService,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.autocomplete.top-k:10}") int topK,
+                               @Value("${app.autocomplete.min-local-results:3}") int minLocalResults,
+                               @Value("${app.autocomplete.max-local-entries:100000}") int maxLocalEntries,
+                               @Value("${app.autocomplete.max-seen:20000}") int maxSeen) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spotifyService = spotifyService;
+        this.topK = Math.max(1, topK);
+        this.minLocalResults = Math.max(1, minLocalResults);
+        this.maxLocalEntries = maxLocalEntries;
+        this.maxSeen = maxSeen;
+        this.seen = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Candidate> eldest) {
+                return size() > AutocompleteService.this.maxSeen;
+            }
+        };
+        this.indexes = buildIndexes(List.of());
+        this.localHits = Counter.builder("autocomplete.requests")
+            .description("자동완성 요청 수 (응답 출처별)")
+            .tag("source", "local")
+            .register(meterRegistry);
+        this.spotifyFills = Counter.builder("autocomplete.requests")
+            .description("자동완성 요청 수 (응답 출처별)")
+            .tag("source", "spotify")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 자동완성
+     *
+     * @param type  all | artist | track
+     * @param limit 유형별 최대 건수 (1 ~ topK)
+     */
+    public AutocompleteResponse suggest(String query, String type, int limit) {
+        String text = query == null ? "" : query.strip();
+        String key = HangulNormalizer.toJamo(text);
+        if (key.isEmpty()) {
+            return new AutocompleteResponse(text, "local", List.of(), List.of());
+        }
+        int safeLimit = Math.max(1, Math.min(limit, topK));
+        boolean wantArtists = !TRACK.equals(type);
+        boolean wantTracks = !ARTIST.equals(type);
+
+        Indexes current = indexes;
+        List<Suggestion> artists = wantArtists ? current.artists().complete(key, safeLimit) : List.of();
+        List<Suggestion> tracks = wantTracks ? current.tracks().complete(key, safeLimit) : List.of();
+
+        int enough = Math.min(safeLimit, minLocalResults);
+        boolean artistsMissing = wantArtists && artists.size() < enough;
+        boolean tracksMissing = wantTracks && tracks.size() < enough;
+        if (!artistsMissing && !tracksMissing) {
+            localHits.increment();
+            return new AutocompleteResponse(text, "local", artists, tracks);
+        }
+
+        // 로컬 결과 부족 - Spotify 검색(캐시 경유)으로 보충하고 인덱스에 기억
+        spotifyFills.increment();
+        try {
+            if (artistsMissing) {
+                List<ArtistDto> found = spotifyService.searchArtists(text, safeLimit);
+                rememberArtists(found);
+                artists = merge(artists, found.stream().map(AutocompleteService::toSuggestion).toList(), safeLimit);
+            }
+            if (tracksMissing) {
+                List<TrackDto> found = spotifyService.searchTracks(text, safeLimit);
+                rememberTracks(found);
+                tracks = merge(tracks, found.stream().map(AutocompleteService::toSuggestion).toList(), safeLimit);
+            }
+        } catch (Exception e) {
+            log.debug("자동완성 Spotify 보충 실패 - 로컬 결과만 반환: q='{}' - {}", text, e.getMessage());
+        }
+        return new AutocompleteResponse(text, "spotify", artists, tracks);
+    }
+
+    /** Spotify 검색 결과 기억 - 다음 인덱스 반영 시 자동완성 대상 */
+    public void rememberArtists(List<ArtistDto> artists) {
+        if (artists == null || artists.isEmpty()) {
+            return;
+        }
+        synchronized (seen) {
+            for (ArtistDto artist : artists) {
+                if (artist != null && artist.getId() != null && artist.getName() != null) {
+                    seen.put(ARTIST + ":" + artist.getId(), new Candidate(toSuggestion(artist), popularity(artist.getPopularity())));
+                }
+            }
+        }
+        seenDirty = true;
+    }
+
+    public void rememberTracks(List<TrackDto> tracks) {
+        if (tracks == null || tracks.isEmpty()) {
+            return;
+        }
+        synchronized (seen) {
+            for (TrackDto track : tracks) {
+                if (track != null && track.getId() != null && track.getName() != null) {
+                    seen.put(TRACK + ":" + track.getId(), new Candidate(toSuggestion(track), popularity(track.getPopularity())));
+                }
+            }
+        }
+        seenDirty = true;
+    }
+
+    /**
+     * 로컬 카탈로그 다시 적재 후 인덱스 교체 (기동 시 + 주기 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:600000}",
+               initialDelayString = "${app.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            localCandidates = loadLocalCandidates();
+            seenDirty = false;
+            Indexes rebuilt = buildIndexes(localCandidates);
+            indexes = rebuilt;
+            log.info("Autocomplete index rebuilt: artists={} tracks={} keys={} ({}ms)",
+                rebuilt.artistCount(), rebuilt.trackCount(),
+                rebuilt.artists().size() + rebuilt.tracks().size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 재구성 실패 - 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Spotify에서 새로 본 항목이 있으면 마지막 DB 적재 결과와 합쳐 인덱스 교체
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.seen-refresh-interval-ms:15000}")
+    public void refreshIfSeenChanged() {
+        if (!seenDirty) {
+            return;
+        }
+        seenDirty = false;
+        indexes = buildIndexes(localCandidates);
+    }
+
+    // === 인덱스 구성 ===
+
+    private List<Candidate> loadLocalCandidates() {
+        List<Candidate> candidates = new ArrayList<>();
+        Map<String, double[]> artistStats = new HashMap<>();
+        Map<String, String> artistImages = new HashMap<>();
+        jdbcTemplate.query(SONGS_SQL, rs -> {
+            String artist = rs.getString("artist");
+            int popularity = rs.getInt("popularity");
+            long likes = rs.getLong("likes");
+            candidates.add(new Candidate(new Suggestion(TRACK, rs.getString("spotify_id"), rs.getLong("id"),
+                rs.getString("title"), artist, rs.getString("image_url"), popularity),
+                popularity + ENGAGEMENT_WEIGHT * Math.log1p(likes)));
+            // 곡 아티스트도 아티스트 후보 (가장 인기 있는 곡 인기도 + 전체 좋아요)
+            double[] stats = artistStats.computeIfAbsent(artist, name -> new double[2]);
+            stats[0] = Math.max(stats[0], popularity);
+            stats[1] += likes;
+            artistImages.putIfAbsent(artist, rs.getString("image_url"));
+        }, maxLocalEntries);
+        artistStats.forEach((artist, stats) -> candidates.add(new Candidate(
+            new Suggestion(ARTIST, null, null, artist, null, artistImages.get(artist), (int) stats[0]),
+            stats[0] + ENGAGEMENT_WEIGHT * Math.log1p(stats[1]))));
+
+        jdbcTemplate.query(MUSIC_ITEMS_SQL, rs -> {
+            boolean artist = "ARTIST".equals(rs.getString("item_type"));
+            candidates.add(new Candidate(new Suggestion(artist ? ARTIST : TRACK, rs.getString("external_id"), null,
+                rs.getString("name"), artist ? null : rs.getString("artist_name"), rs.getString("image_url"), null),
+                ENGAGEMENT_WEIGHT * Math.log1p(rs.getLong("reviews"))));
+        }, maxLocalEntries);
+        return candidates;
+    }
+
+    private Indexes buildIndexes(List<Candidate> local) {
+        List<Candidate> all = new ArrayList<>(local);
+        synchronized (seen) {
+            all.addAll(seen.values());
+        }
+
+        // 같은 (유형, 이름, 아티스트)는 하나로 - 가중치가 큰 쪽, 같으면 Spotify ID가 있는 쪽
+        Map<String, Candidate> unique = new HashMap<>();
+        for (Candidate candidate : all) {
+            Suggestion s = candidate.suggestion();
+            if (s.name() == null || s.name().isBlank()) {
+                continue;
+            }
+            String identity = s.type() + '\u001F' + HangulNormalizer.normalize(s.name())
+                + '\u001F' + HangulNormalizer.normalize(s.artist());
+            unique.merge(identity, candidate, AutocompleteService::preferred);
+        }
+
+        PrefixIndex.Builder<Suggestion> artists = PrefixIndex.builder(topK);
+        PrefixIndex.Builder<Suggestion> tracks = PrefixIndex.builder(topK);
+        int artistCount = 0;
+        int trackCount = 0;
+        for (Candidate candidate : unique.values()) {
+            Suggestion s = candidate.suggestion();
+            boolean artist = ARTIST.equals(s.type());
+            PrefixIndex.Builder<Suggestion> target = artist ? artists : tracks;
+            for (String key : keysFor(s)) {
+                target.add(key, s, candidate.weight());
+            }
+            if (artist) {
+                artistCount++;
+            } else {
+                trackCount++;
+            }
+        }
+        return new Indexes(artists.build(), tracks.build(), artistCount, trackCount);
+    }
+
+    /**
+     * 항목 검색 키 - 이름, 이름 중간 단어부터, 초성 (트랙은 "아티스트+제목"도)
+     */
+    static Set<String> keysFor(Suggestion s) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(HangulNormalizer.toJamo(s.name()));
+        String[] words = s.name().strip().split("\\s+");
+        for (int i = 1; i < words.length && i <= MAX_WORD_KEYS; i++) {
+            keys.add(HangulNormalizer.toJamo(String.join(" ", List.of(words).subList(i, words.length))));
+        }
+        String initials = HangulNormalizer.initialConsonants(s.name());
+        if (initials != null) {
+            keys.add(initials);
+        }
+        if (s.artist() != null && !s.artist().isBlank()) {
+            keys.add(HangulNormalizer.toJamo(s.artist() + s.name()));
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static Candidate preferred(Candidate a, Candidate b) {
+        if (a.weight() != b.weight()) {
+            return a.weight() > b.weight() ? a : b;
+        }
+        return a.suggestion().spotifyId() != null ? a : b;
+    }
+
+    private static List<Suggestion> merge(List<Suggestion> local, List<Suggestion> remote, int limit) {
+        Map<String, Suggestion> merged = new LinkedHashMap<>();
+        for (Suggestion s : local) {
+            merged.putIfAbsent(identity(s), s);
+        }
+        for (Suggestion s : remote) {
+            if (merged.size() >= limit) {
+                break;
+            }
+            merged.putIfAbsent(identity(s), s);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static String identity(Suggestion s) {
+        return HangulNormalizer.normalize(s.name()) + '\u001F' + HangulNormalizer.normalize(s.artist());
+    }
+
+    private static Suggestion toSuggestion(ArtistDto artist) {
+        return new Suggestion(ARTIST, artist.getId(), null, artist.getName(), null, artist.getImage(), artist.getPopularity());
+    }
+
+    private static Suggestion toSuggestion(TrackDto track) {
+        String artist = track.getArtists() != null && !track.getArtists().isEmpty()
+            ? track.getArtists().get(0).getName() : null;
+        return new Suggestion(TRACK, track.getId(), null, track.getName(), artist, track.getImage(), track.getPopularity());
+    }
+
+    private static double popularity(Integer popularity) {
+        return popularity != null ? popularity : 0;
+    }
+
+    private record Candidate(Suggestion suggestion, double weight) {
+    }
+
+    private record Indexes(PrefixIndex<Suggestion> artists, PrefixIndex<Suggestion> tracks,
+                           int artistCount, int trackCount) {
+    }
+}
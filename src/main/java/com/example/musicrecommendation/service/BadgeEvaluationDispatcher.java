@@ -0,0 +1,75 @@
+package com.example.musicrecommendation.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 활동 기반 배지 평가 요청 처리
+ *
+ * - 리뷰 작성/도움됨 트랜잭션이 커밋된 뒤 백그라운드에서 평가 (요청 응답 경로에서 제외)
+ * - 같은 사용자의 요청이 대기 중이면 하나로 합침 (연속 작성 시 평가 1회)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeEvaluationDispatcher {
+
+    private final UserBadgeService userBadgeService;
+
+    /** 평가 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "badge-evaluation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 평가 대기 중인 사용자 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 배지 평가 예약 - 호출 트랜잭션이 있으면 커밋 후 시작
+     */
+    public void requestEvaluation(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(userId);
+                }
+            });
+        } else {
+            enqueue(userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 평가는 버려도 야간 일괄 평가에서 다시 판정됨
+        executor.shutdownNow();
+    }
+
+    private void enqueue(Long userId) {
+        if (pending.add(userId)) {
+            executor.execute(() -> evaluate(userId));
+        }
+    }
+
+    private void evaluate(Long userId) {
+        // 평가 시작 전에 해제 - 평가 중 들어온 요청은 다음 평가로 반영
+        pending.remove(userId);
+        try {
+            userBadgeService.checkAndAwardBadges(userId);
+        } catch (Exception e) {
+            log.warn("배지 평가 실패 - 사용자: {}", userId, e);
+        }
+    }
+}
@@ -5,26 +5,88 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 
 /**
  * 통합 알림 서비스 (배지, 공지사항, 운영자 메시지 등)
+ * - 알림은 NotificationInboxStore(BADGE 알림함)에 저장, 최근 알림/안 읽은 개수는 메모리에서 응답
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BadgeNotificationService {
     
-    // 사용자별 알림 저장소 (실제로는 Redis나 데이터베이스 사용 권장)
-    private final ConcurrentHashMap<Long, List<BadgeNotification>> userNotifications = new ConcurrentHashMap<>();
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    
+    private final NotificationInboxStore inboxStore;
     
     /**
      * 배지 획득 알림 전송
      */
     public void sendBadgeAwardedNotification(Long userId, UserBadge badge) {
-        BadgeNotification notification = BadgeNotification.builder()
+        addNotification(userId, awardedNotification(userId, badge));
+        
+        log.info("🔔 배지 획득 알림 전송 - 사용자: {}, 배지: {}", userId, badge.getBadgeName());
+        
+        // TODO: WebSocket으로 실시간 알림 전송
+        // TODO: 이메일/푸시 알림 전송 (설정에 따라)
+    }
+    
+    /**
+     * 배지 획득 알림 일괄 전송 (일괄 부여/야간 평가)
+     */
+    public void sendBadgeAwardedNotifications(List<UserBadge> badges) {
+        addNotifications(badges.stream()
+                .map(badge -> awardedNotification(badge.getUserId(), badge))
+                .toList());
+        log.info("🔔 배지 획득 알림 일괄 전송 - {}건", badges.size());
+    }
+    
+    /**
+     * 배지 만료 예정 알림 전송
+     */
+    public void sendBadgeExpirationNotification(Long userId, UserBadge badge, long daysUntilExpiry) {
+        addNotification(userId, expiringNotification(userId, badge, daysUntilExpiry));
+        
+        log.info("⏰ 배지 만료 예정 알림 전송 - 사용자: {}, 배지: {}, 남은 일수: {}", 
+                userId, badge.getBadgeName(), daysUntilExpiry);
+    }
+    
+    /**
+     * 배지 만료 예정 알림 일괄 전송 (남은 일수는 배지별 만료일 기준)
+     */
+    public void sendBadgeExpirationNotifications(List<UserBadge> badges) {
+        addNotifications(badges.stream()
+                .map(badge -> expiringNotification(badge.getUserId(), badge, badge.getDaysUntilExpiry()))
+                .toList());
+        log.info("⏰ 배지 만료 예정 알림 일괄 전송 - {}건", badges.size());
+    }
+    
+    /**
+     * 배지 만료 알림 전송
+     */
+    public void sendBadgeExpiredNotification(Long userId, UserBadge badge) {
+        addNotification(userId, expiredNotification(userId, badge));
+        
+        log.info("💔 배지 만료 알림 전송 - 사용자: {}, 배지: {}", userId, badge.getBadgeName());
+    }
+    
+    /**
+     * 배지 만료 알림 일괄 전송
+     */
+    public void sendBadgeExpiredNotifications(List<UserBadge> badges) {
+        addNotifications(badges.stream()
+                .map(badge -> expiredNotification(badge.getUserId(), badge))
+                .toList());
+        log.info("💔 배지 만료 알림 일괄 전송 - {}건", badges.size());
+    }
+    
+    private BadgeNotification awardedNotification(Long userId, UserBadge badge) {
+        return BadgeNotification.builder()
                 .userId(userId)
                 .type(NotificationType.BADGE_AWARDED)
                 .title("🎉 새 배지 획득!")
@@ -33,27 +95,17 @@ public class BadgeNotificationService {
                 .badgeType(badge.getBadgeType())
                 .badgeName(badge.getBadgeName())
                 .rarity(badge.getRarity())
-                .timestamp(java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul")))
+                .timestamp(OffsetDateTime.now(KST))
                 .isRead(false)
                 .build();
-        
-        addNotification(userId, notification);
-        
-        log.info("🔔 배지 획득 알림 전송 - 사용자: {}, 배지: {}", userId, badge.getBadgeName());
-        
-        // TODO: WebSocket으로 실시간 알림 전송
-        // TODO: 이메일/푸시 알림 전송 (설정에 따라)
     }
     
-    /**
-     * 배지 만료 예정 알림 전송
-     */
-    public void sendBadgeExpirationNotification(Long userId, UserBadge badge, long daysUntilExpiry) {
+    private BadgeNotification expiringNotification(Long userId, UserBadge badge, long daysUntilExpiry) {
         String message = daysUntilExpiry > 1 ? 
             String.format("'%s' 배지가 %d일 후 만료됩니다.", badge.getBadgeName(), daysUntilExpiry) :
             String.format("'%s' 배지가 내일 만료됩니다!", badge.getBadgeName());
         
-        BadgeNotification notification = BadgeNotification.builder()
+        return BadgeNotification.builder()
                 .userId(userId)
                 .type(NotificationType.BADGE_EXPIRING)
                 .title("⏰ 배지 만료 예정")
@@ -61,21 +113,13 @@ public class BadgeNotificationService {
                 .badgeId(badge.getId())
                 .badgeType(badge.getBadgeType())
                 .badgeName(badge.getBadgeName())
-                .timestamp(java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul")))
+                .timestamp(OffsetDateTime.now(KST))
                 .isRead(false)
                 .build();
-        
-        addNotification(userId, notification);
-        
-        log.info("⏰ 배지 만료 예정 알림 전송 - 사용자: {}, 배지: {}, 남은 일수: {}", 
-                userId, badge.getBadgeName(), daysUntilExpiry);
     }
     
-    /**
-     * 배지 만료 알림 전송
-     */
-    public void sendBadgeExpiredNotification(Long userId, UserBadge badge) {
-        BadgeNotification notification = BadgeNotification.builder()
+    private BadgeNotification expiredNotification(Long userId, UserBadge badge) {
+        return BadgeNotification.builder()
                 .userId(userId)
                 .type(NotificationType.BADGE_EXPIRED)
                 .title("💔 배지 만료")
@@ -83,107 +127,136 @@ public class BadgeNotificationService {
                 .badgeId(badge.getId())
                 .badgeType(badge.getBadgeType())
                 .badgeName(badge.getBadgeName())
-                .timestamp(java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul")))
+                .timestamp(OffsetDateTime.now(KST))
                 .isRead(false)
                 .build();
-        
-        addNotification(userId, notification);
-        
-        log.info("💔 배지 만료 알림 전송 - 사용자: {}, 배지: {}", userId, badge.getBadgeName());
     }
     
     /**
-     * 사용자의 모든 알림 조회
+     * 사용자의 최근 알림 조회 (최신순 첫 페이지)
      */
     public List<BadgeNotification> getUserNotifications(Long userId) {
-        List<BadgeNotification> notifications = new ArrayList<>(userNotifications.getOrDefault(userId, new ArrayList<>()));
-        log.info("📋 사용자 알림 조회 - userId: {}, 총 알림 수: {}", userId, notifications.size());
-        
-        // 각 알림의 읽음 상태 로그
-        for (BadgeNotification notification : notifications) {
-            log.info("📄 알림 상세 - id: {}, title: '{}', isRead: {}, readAt: {}", 
-                notification.getId(), notification.getTitle(), notification.isRead(), notification.getReadAt());
-        }
-        
-        return notifications;
+        return getUserNotificationPage(userId, null, NotificationInboxStore.RECENT_WINDOW).notifications();
+    }
+    
+    /**
+     * 사용자의 알림 페이지 조회 (커서 기반, 최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public NotificationPage getUserNotificationPage(Long userId, Long cursor, int limit) {
+        NotificationInboxStore.Page page = inboxStore.page(
+            userId, NotificationInboxStore.Inbox.BADGE, cursor, limit, false);
+        List<BadgeNotification> notifications = page.items().stream()
+                .map(entry -> toBadgeNotification(userId, entry))
+                .toList();
+        log.debug("📋 사용자 알림 조회 - userId: {}, 조회 수: {}, 안 읽음: {}", userId, notifications.size(), page.unreadCount());
+        return new NotificationPage(notifications, page.nextCursor(), page.unreadCount());
     }
     
     /**
-     * 사용자의 읽지 않은 알림 개수
+     * 사용자의 읽지 않은 알림 개수 (저장/읽음 시 갱신되는 카운터)
      */
     public long getUnreadNotificationCount(Long userId) {
-        return userNotifications.getOrDefault(userId, new ArrayList<>())
-                .stream()
-                .filter(notification -> !notification.isRead())
-                .count();
+        return inboxStore.unreadCount(userId, NotificationInboxStore.Inbox.BADGE);
     }
     
     /**
      * 알림 읽음 처리
      */
     public boolean markAsRead(Long userId, Long notificationId) {
-        List<BadgeNotification> notifications = userNotifications.get(userId);
-        if (notifications != null) {
-            java.time.OffsetDateTime now = java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
-            boolean found = notifications.stream()
-                    .filter(n -> n.getId().equals(notificationId))
-                    .peek(n -> {
-                        log.info("알림 읽음 처리 전 상태 - notificationId: {}, isRead: {}", notificationId, n.isRead());
-                        n.setRead(true);
-                        n.setReadAt(now);
-                        log.info("알림 읽음 처리 후 상태 - notificationId: {}, isRead: {}, readAt: {}", notificationId, n.isRead(), now);
-                    })
-                    .findAny()
-                    .isPresent();
-            
-            if (found) {
-                log.info("✅ 알림 읽음 처리 완료 - userId: {}, notificationId: {}", userId, notificationId);
-            } else {
-                log.warn("⚠️ 알림을 찾을 수 없음 - userId: {}, notificationId: {}", userId, notificationId);
-            }
-            return found;
+        if (userId == null || notificationId == null) {
+            return false;
+        }
+        boolean found = inboxStore.markRead(userId, NotificationInboxStore.Inbox.BADGE, notificationId);
+        if (found) {
+            log.info("✅ 알림 읽음 처리 완료 - userId: {}, notificationId: {}", userId, notificationId);
+        } else {
+            log.warn("⚠️ 알림을 찾을 수 없음 - userId: {}, notificationId: {}", userId, notificationId);
         }
-        log.warn("⚠️ 해당 사용자의 알림 목록이 없음 - userId: {}", userId);
-        return false;
+        return found;
     }
     
     /**
      * 모든 알림 읽음 처리
      */
     public void markAllAsRead(Long userId) {
-        List<BadgeNotification> notifications = userNotifications.get(userId);
-        if (notifications != null) {
-            java.time.OffsetDateTime now = java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
-            int readCount = 0;
-            for (BadgeNotification n : notifications) {
-                if (!n.isRead()) {
-                    n.setRead(true);
-                    n.setReadAt(now);
-                    readCount++;
-                }
-            }
-            log.info("모든 알림 읽음 처리 완료 - userId: {}, 읽음 처리된 알림 수: {}", userId, readCount);
-        }
+        int readCount = inboxStore.markAllRead(userId, NotificationInboxStore.Inbox.BADGE);
+        log.info("모든 알림 읽음 처리 완료 - userId: {}, 읽음 처리된 알림 수: {}", userId, readCount);
     }
     
     /**
      * 알림 삭제
      */
     public void deleteNotification(Long userId, Long notificationId) {
-        List<BadgeNotification> notifications = userNotifications.get(userId);
-        if (notifications != null) {
-            notifications.removeIf(n -> n.getId().equals(notificationId));
-        }
+        inboxStore.delete(userId, NotificationInboxStore.Inbox.BADGE, notificationId);
     }
     
     private void addNotification(Long userId, BadgeNotification notification) {
-        userNotifications.computeIfAbsent(userId, k -> new ArrayList<>()).add(notification);
-        
-        // 최대 100개의 알림만 유지 (오래된 것부터 삭제)
-        List<BadgeNotification> notifications = userNotifications.get(userId);
-        if (notifications.size() > 100) {
-            notifications.subList(0, notifications.size() - 100).clear();
+        NotificationInboxStore.Entry saved = inboxStore.append(
+                userId,
+                NotificationInboxStore.Inbox.BADGE,
+                notification.getType().name(),
+                notification.getTitle(),
+                notification.getMessage(),
+                payloadOf(notification));
+        notification.setId(saved.id());
+        notification.setUserId(userId);
+        notification.setTimestamp(saved.createdAt().atZoneSameInstant(KST).toOffsetDateTime());
+    }
+    
+    private void addNotifications(List<BadgeNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
         }
+        List<NotificationInboxStore.Draft> drafts = notifications.stream()
+                .map(notification -> new NotificationInboxStore.Draft(
+                        notification.getUserId(),
+                        notification.getType().name(),
+                        notification.getTitle(),
+                        notification.getMessage(),
+                        payloadOf(notification)))
+                .toList();
+        inboxStore.appendAll(NotificationInboxStore.Inbox.BADGE, drafts);
+    }
+    
+    private static Map<String, Object> payloadOf(BadgeNotification notification) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("badgeId", notification.getBadgeId());
+        payload.put("badgeType", notification.getBadgeType() != null ? notification.getBadgeType().name() : null);
+        payload.put("badgeName", notification.getBadgeName());
+        payload.put("rarity", notification.getRarity());
+        return payload;
+    }
+    
+    static BadgeNotification toBadgeNotification(Long userId, NotificationInboxStore.Entry entry) {
+        Map<String, Object> payload = entry.payload();
+        Object badgeId = payload.get("badgeId");
+        Object badgeType = payload.get("badgeType");
+        
+        BadgeNotification notification = BadgeNotification.builder()
+                .userId(userId)
+                .type(NotificationType.valueOf(entry.type()))
+                .title(entry.title())
+                .message(entry.message())
+                .badgeId(badgeId instanceof Number number ? number.longValue() : null)
+                .badgeType(badgeType instanceof String name ? UserBadge.BadgeType.valueOf(name) : null)
+                .badgeName((String) payload.get("badgeName"))
+                .rarity((String) payload.get("rarity"))
+                .timestamp(entry.createdAt().atZoneSameInstant(KST).toOffsetDateTime())
+                .isRead(entry.read())
+                .build();
+        notification.setId(entry.id());
+        notification.setReadAt(entry.readAt() != null ? entry.readAt().atZoneSameInstant(KST).toOffsetDateTime() : null);
+        return notification;
+    }
+    
+    /**
+     * 알림 페이지
+     *
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record NotificationPage(List<BadgeNotification> notifications, Long nextCursor, long unreadCount) {
     }
     
     /**
@@ -211,7 +284,7 @@ public class BadgeNotificationService {
         public BadgeNotification(Long userId, NotificationType type, String title, String message,
                                Long badgeId, UserBadge.BadgeType badgeType, String badgeName, 
                                String rarity, java.time.OffsetDateTime timestamp, boolean isRead) {
-            this.id = System.currentTimeMillis() + (long) (Math.random() * 1000); // 고유 ID 생성
+            // id는 알림함 저장 시 부여
             this.userId = userId;
             this.type = type;
             this.title = title;
@@ -256,12 +329,7 @@ public class BadgeNotificationService {
      * 사용자에게 직접 알림 추가 (시스템 알림용)
      */
     public void addNotificationForUser(Long userId, BadgeNotification notification) {
-        // 알림 ID 생성 (시간 기반)
-        if (notification.getId() == null) {
-            notification.setId(System.currentTimeMillis() + userId); // 고유 ID 생성
-        }
-        
-        userNotifications.computeIfAbsent(userId, k -> new ArrayList<>()).add(notification);
+        addNotification(userId, notification);
         log.info("📨 사용자 {} 에게 시스템 알림 추가 - 제목: '{}'", userId, notification.getTitle());
     }
     
@@ -269,10 +337,8 @@ public class BadgeNotificationService {
      * 알림 삭제
      */
     public void removeNotification(Long userId, Long notificationId) {
-        List<BadgeNotification> notifications = userNotifications.get(userId);
-        if (notifications != null) {
-            notifications.removeIf(n -> n.getId().equals(notificationId));
+        if (inboxStore.delete(userId, NotificationInboxStore.Inbox.BADGE, notificationId)) {
             log.info("🗑️ 사용자 {} 의 알림 삭제 - 알림 ID: {}", userId, notificationId);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.domain.UserBadge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 활동 기반 자동 배지 규칙 표
+ *
+ * - 규칙 하나 = (배지, 지표, 기준값) - 사용자 통계 스냅샷 하나로 모든 규칙을 메모리에서 판정
+ * - 같은 표를 야간 일괄 평가 SQL의 조건으로도 사용 (단건/일괄 판정 기준이 어긋나지 않음)
+ */
+public final class BadgeRules {
+
+    /** 판정에 쓰는 사용자 지표 */
+    public enum Metric {
+        REVIEWS,
+        HELPFUL_VOTES
+    }
+
+    /**
+     * 배지 규칙
+     *
+     * @param description 부여 시 설명 (null이면 배지 기본 설명)
+     */
+    public record Rule(UserBadge.BadgeType badgeType, Metric metric, long threshold, String description) {
+
+        public boolean isSatisfiedBy(UserStats stats) {
+            return stats.get(metric) >= threshold;
+        }
+    }
+
+    /**
+     * 사용자 활동 통계 스냅샷 (한 번의 조회로 적재)
+     */
+    public record UserStats(long reviewCount, long helpfulCount) {
+
+        public static final UserStats EMPTY = new UserStats(0, 0);
+
+        public long get(Metric metric) {
+            return switch (metric) {
+                case REVIEWS -> reviewCount;
+                case HELPFUL_VOTES -> helpfulCount;
+            };
+        }
+    }
+
+    public static final List<Rule> RULES = List.of(
+            new Rule(UserBadge.BadgeType.FIRST_REVIEW, Metric.REVIEWS, 1, null),
+            new Rule(UserBadge.BadgeType.HELPFUL_REVIEWER, Metric.HELPFUL_VOTES, 25,
+                    "다른 사용자들에게 도움이 되는 리뷰를 작성하는 멤버!"),
+            new Rule(UserBadge.BadgeType.REVIEW_MASTER, Metric.REVIEWS, 50,
+                    "50개 이상의 리뷰를 작성한 숙련된 리뷰어!"),
+            new Rule(UserBadge.BadgeType.CRITIC, Metric.REVIEWS, 100,
+                    "진정한 음악 평론가! 100개 이상의 전문적인 리뷰를 작성했습니다!")
+    );
+
+    /** 규칙으로 부여되는 배지 전체 - 모두 보유한 사용자는 통계 조회 자체를 생략 */
+    public static final Set<UserBadge.BadgeType> RULE_BADGES;
+
+    static {
+        EnumSet<UserBadge.BadgeType> types = EnumSet.noneOf(UserBadge.BadgeType.class);
+        RULES.forEach(rule -> types.add(rule.badgeType()));
+        RULE_BADGES = Collections.unmodifiableSet(types);
+    }
+
+    private BadgeRules() {
+    }
+
+    /**
+     * 아직 보유하지 않았고 조건을 만족한 규칙 (규칙 표 순서)
+     */
+    public static List<Rule> newlyEarned(UserStats stats, Set<UserBadge.BadgeType> owned) {
+        List<Rule> earned = new ArrayList<>();
+        for (Rule rule : RULES) {
+            if (!owned.contains(rule.badgeType()) && rule.isSatisfiedBy(stats)) {
+                earned.add(rule);
+            }
+        }
+        return earned;
+    }
+
+    public static boolean ownsAllRuleBadges(Set<UserBadge.BadgeType> owned) {
+        return owned.containsAll(RULE_BADGES);
+    }
+
+    public static Rule ruleFor(UserBadge.BadgeType badgeType) {
+        for (Rule rule : RULES) {
+            if (rule.badgeType() == badgeType) {
+                return rule;
+            }
+        }
+        return null;
+    }
+}
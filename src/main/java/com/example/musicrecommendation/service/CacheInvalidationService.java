@@ -0,0 +1,90 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.UserCacheKeyRegistry;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 캐시 정밀 무효화 - 이벤트 범위({@link CacheInvalidationEvent.Scope})를 캐시 키 집합으로 바꿔 그 항목만 삭제
+ *
+ * - 키가 "사용자ID_..." / "..._사용자ID" 형태인 캐시는 {@link UserCacheKeyRegistry}에서 사용자 키를 찾아 삭제
+ * - 키가 사용자 ID 자체인 캐시(userMusicPreferences)는 바로 삭제
+ * - 다른 사용자의 항목은 건드리지 않으므로 쓰기가 많아도 적중률이 유지됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationService {
+
+    /** 사용자별 추천 결과 캐시 (키 = 사용자ID_개수) */
+    public static final List<String> RECOMMENDATION_CACHES =
+        List.of("musicRecommendations", "mlRecommendations", "collaborativeRecommendations");
+
+    /** 사용자 취향 프로필 캐시 (키 = 사용자ID) */
+    public static final String PREFERENCES_CACHE = "userMusicPreferences";
+
+    /** 리뷰 응답 캐시 (키 = 리뷰ID_작성자ID) */
+    public static final String REVIEW_RESPONSE_CACHE = "user-names";
+
+    private final CacheManager cacheManager;
+    private final UserCacheKeyRegistry keyRegistry;
+
+    /**
+     * @return 삭제 요청한 키 수
+     */
+    public int invalidate(CacheInvalidationEvent event) {
+        Long userId = event.getUserId();
+        if (userId == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (CacheInvalidationEvent.Scope scope : event.getType().getScopes()) {
+            evicted += switch (scope) {
+                case RECOMMENDATIONS -> evictRecommendations(userId);
+                case PREFERENCES -> evictKey(PREFERENCES_CACHE, userId);
+                case REVIEW_RESPONSE -> event.getReviewId() != null
+                    ? evictKey(REVIEW_RESPONSE_CACHE, event.getReviewId() + "_" + userId) : 0;
+                case AUTHORED_REVIEW_RESPONSES -> evictUserKeys(REVIEW_RESPONSE_CACHE, userId);
+            };
+        }
+        log.debug("캐시 무효화 - type: {}, userId: {}, 키 {}개", event.getType(), userId, evicted);
+        return evicted;
+    }
+
+    /** 사용자의 추천 결과 전체 (요청 개수별 항목 모두) */
+    public int evictRecommendations(Long userId) {
+        int evicted = 0;
+        for (String cacheName : RECOMMENDATION_CACHES) {
+            evicted += evictUserKeys(cacheName, userId);
+        }
+        return evicted;
+    }
+
+    private int evictUserKeys(String cacheName, Long userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (Object key : keyRegistry.drain(cacheName, userId)) {
+            cache.evict(key);
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private int evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        cache.evict(key);
+        return 1;
+    }
+}
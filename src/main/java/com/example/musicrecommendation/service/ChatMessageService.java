@@ -23,6 +23,7 @@ public class ChatMessageService {
     private final ChatMessageRepository repository;
     private final AESGcmTextEncryptor encryptor;
     private final NotificationService notificationService;
+    private final SecureChatRoomService secureChatRoomService;
 
     @Transactional(readOnly = true)
     public List<ChatMessageDto> getMessages(String roomId, int limit, boolean asc) {
@@ -69,8 +70,8 @@ public class ChatMessageService {
         
         // 채팅 메시지 알림 전송 (비동기)
         try {
-            // roomId에서 수신자 추정 (실제 구현에서는 채팅방 정보를 조회해야 함)
-            Long receiverId = extractReceiverIdFromRoom(roomId, senderId);
+            // 채팅방 레지스트리에서 상대 참여자 조회
+            Long receiverId = secureChatRoomService.getOtherParticipant(roomId, senderId);
             if (receiverId != null) {
                 String senderName = "사용자#" + senderId;
                 notificationService.sendMessageNotification(receiverId, senderId, senderName, plaintext);
@@ -107,26 +108,6 @@ public class ChatMessageService {
         }
     }
     
-    private Long extractReceiverIdFromRoom(String roomId, Long senderId) {
-        // 간단한 roomId 파싱 로직 (예: roomId가 두 사용자 ID의 조합인 경우)
-        // 실제 구현에서는 채팅방 정보 테이블을 조회해야 함
-        try {
-            // hex string roomId에서 사용자 ID 추출하는 로직
-            // 실제 구현에서는 채팅방 정보 테이블을 조회해야 함
-            if (roomId != null && roomId.length() >= 2) {
-                // 단순 예제: roomId의 마지막 문자를 숫자로 변환 시도
-                String lastChar = roomId.substring(roomId.length() - 1);
-                if (lastChar.matches("[0-9]")) {
-                    Long possibleReceiverId = Long.parseLong(lastChar);
-                    return possibleReceiverId.equals(senderId) ? null : possibleReceiverId;
-                }
-            }
-        } catch (Exception e) {
-            // 파싱 실패시 null 반환
-        }
-        return null;
-    }
-
     /**
      * 해당 채팅방에서 senderId가 아닌 다른 참여자 찾기
      */
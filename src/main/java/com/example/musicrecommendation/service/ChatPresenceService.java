@@ -0,0 +1,300 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.event.ChatRoomExpiryEvent;
+import com.example.musicrecommendation.web.dto.ChatMessageResponse;
+import com.example.musicrecommendation.web.dto.ws.PresenceSnapshot;
+import com.example.musicrecommendation.web.dto.ws.TypingEvent;
+import com.example.musicrecommendation.web.dto.ws.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 입장/퇴장/타이핑 상태 집계 서비스 (메모리 전용, DB 미사용)
+ * - 이벤트마다 즉시 브로드캐스트하지 않고 방 단위로 상태만 갱신
+ * - flush 주기(기본 250ms)마다 변경된 방에 대해서만 전송 - 사용자당 타이핑 신호는 주기당 최대 1건
+ * - 전송 형식은 기존과 동일: 입장/퇴장은 /topic/room.{id} SYSTEM 메시지, 타이핑은 /topic/room.{id}.typing TypingEvent
+ * - 같은 주기 안에서 입장 후 퇴장한 사용자는 알림 없이 상쇄
+ * - 타이핑은 TTL(기본 3초) 동안 재신호가 없으면 해제, 멤버는 장시간 무활동 시 퇴장 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserEventPublisher userEventPublisher;
+
+    /** 타이핑 신호 유지 시간 (ms) */
+    @Value("${app.chat.presence.typing-ttl-ms:3000}")
+    private long typingTtlMs;
+
+    /** 무활동 멤버 자동 퇴장 시간 (ms) */
+    @Value("${app.chat.presence.member-ttl-ms:600000}")
+    private long memberTtlMs;
+
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    /** 전송할 변경분이 있는 방 */
+    private final Set<String> pendingRooms = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 채팅방 입장 - 입장한 사용자에게는 현재 상태 스냅샷을 개인 채널로 전송
+     */
+    public void join(String roomId, Long userId, String username) {
+        long now = System.currentTimeMillis();
+        PresenceSnapshot[] snapshot = new PresenceSnapshot[1];
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            target.join(userId, username, now);
+            snapshot[0] = target.snapshot(id, now);
+            return target;
+        });
+        pendingRooms.add(roomId);
+
+        userEventPublisher.publish(userId, UserEvent.CHANNEL_PRESENCE, snapshot[0].type(), snapshot[0]);
+    }
+
+    /**
+     * 채팅방 퇴장
+     */
+    public void leave(String roomId, Long userId, String username) {
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            if (target.leave(userId, username)) {
+                pendingRooms.add(roomId);
+            }
+            return target.isEmpty() ? null : target;
+        });
+    }
+
+    /**
+     * 타이핑 신호 - TTL 동안 타이핑 중으로 유지
+     */
+    public void typing(String roomId, Long userId, String username) {
+        long now = System.currentTimeMillis();
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            target.typing(userId, username, now, now + typingTtlMs);
+            return target;
+        });
+        pendingRooms.add(roomId);
+    }
+
+    /**
+     * 메시지 전송 등으로 타이핑 종료 + 활동 시각 갱신
+     */
+    public void stopTyping(String roomId, Long userId) {
+        long now = System.currentTimeMillis();
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            room.stopTyping(userId, now);
+            return room;
+        });
+    }
+
+    /**
+     * 채팅방 종료 시 상태 제거
+     */
+    public void clearRoom(String roomId) {
+        rooms.remove(roomId);
+        pendingRooms.remove(roomId);
+    }
+
+    /**
+     * 채팅방 만료 시 presence 상태 제거
+     */
+    @EventListener
+    public void handleRoomExpiry(ChatRoomExpiryEvent event) {
+        if (event.getType() == ChatRoomExpiryEvent.Type.EXPIRED) {
+            clearRoom(event.getRoomId());
+        }
+    }
+
+    /**
+     * 변경된 방에 대해서만 입장/퇴장 알림과 타이핑 신호 전송
+     */
+    @Scheduled(fixedRateString = "${app.chat.presence.flush-interval-ms:250}")
+    public void flushPendingChanges() {
+        long now = System.currentTimeMillis();
+        OffsetDateTime createdAt = Instant.ofEpochMilli(now).atOffset(ZoneOffset.UTC);
+        String timestamp = Instant.ofEpochMilli(now).toString();
+
+        for (Iterator<String> it = pendingRooms.iterator(); it.hasNext(); ) {
+            String roomId = it.next();
+            // 먼저 제거한 뒤 처리 - 처리 중 들어온 이벤트는 다시 등록되어 다음 주기에 반영
+            it.remove();
+
+            RoomPresence room = rooms.get(roomId);
+            if (room == null) {
+                continue;
+            }
+
+            Changes changes = room.drainChanges(now);
+            String roomTopic = "/topic/room." + roomId;
+            changes.joined().forEach((userId, username) -> messagingTemplate.convertAndSend(roomTopic,
+                    systemMessage(roomId, userId, username + "님이 채팅방에 입장했습니다.", createdAt)));
+            changes.left().forEach((userId, username) -> messagingTemplate.convertAndSend(roomTopic,
+                    systemMessage(roomId, userId, username + "님이 채팅방에서 나갔습니다.", createdAt)));
+            changes.typing().forEach((userId, username) -> messagingTemplate.convertAndSend(roomTopic + ".typing",
+                    new TypingEvent("TYPING", userId, username, username + "님이 타이핑중...", timestamp)));
+
+            rooms.computeIfPresent(roomId, (id, r) -> r.isEmpty() ? null : r);
+        }
+    }
+
+    /**
+     * 장시간 무활동 멤버 정리 (변경이 생긴 방만 flush 대상에 등록)
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.sweep-interval-ms:30000}")
+    public void expireIdleMembers() {
+        long idleBefore = System.currentTimeMillis() - memberTtlMs;
+        rooms.forEach((roomId, room) -> {
+            if (room.expireIdle(idleBefore)) {
+                pendingRooms.add(roomId);
+            }
+        });
+    }
+
+    private static ChatMessageResponse systemMessage(String roomId, Long userId, String content, OffsetDateTime createdAt) {
+        return new ChatMessageResponse(-1L, roomId, userId, content, createdAt, "SYSTEM");
+    }
+
+    /**
+     * flush 한 번에 보낼 변경분 (사용자 ID → 이름, 발생 순서)
+     */
+    record Changes(Map<Long, String> joined, Map<Long, String> left, Map<Long, String> typing) {
+    }
+
+    /**
+     * 방 하나의 입장/타이핑 상태 (모든 변경은 방 객체 단위로 동기화)
+     */
+    static final class RoomPresence {
+
+        private final Map<Long, MemberState> members = new LinkedHashMap<>();
+        private Map<Long, String> joined = new LinkedHashMap<>();
+        private Map<Long, String> left = new LinkedHashMap<>();
+        /** 직전 flush 이후 타이핑 신호를 보낸 사용자 */
+        private Map<Long, String> typed = new LinkedHashMap<>();
+
+        synchronized void join(Long userId, String username, long now) {
+            MemberState member = members.get(userId);
+            if (member == null) {
+                members.put(userId, new MemberState(username, now));
+                // 같은 주기 안의 퇴장 → 재입장은 알림 없이 상쇄
+                if (left.remove(userId) == null) {
+                    joined.put(userId, username);
+                }
+            } else {
+                member.lastSeen = now;
+            }
+        }
+
+        synchronized boolean leave(Long userId, String username) {
+            MemberState member = members.remove(userId);
+            if (member == null) {
+                // 재시작 등으로 입장 기록이 없어도 퇴장 알림은 기존처럼 전송
+                if (username == null) {
+                    return false;
+                }
+                left.put(userId, username);
+                return true;
+            }
+            typed.remove(userId);
+            // 같은 주기 안의 입장 → 퇴장은 알림 없이 상쇄
+            if (joined.remove(userId) == null) {
+                left.put(userId, username != null ? username : member.username);
+            }
+            return true;
+        }
+
+        synchronized void typing(Long userId, String username, long now, long typingUntil) {
+            // 입장 신호 없이 타이핑만 온 사용자는 알림 없이 멤버로 등록 (기존에도 타이핑은 입장 알림을 보내지 않음)
+            MemberState member = members.computeIfAbsent(userId, id -> new MemberState(username, now));
+            member.lastSeen = now;
+            member.typingUntil = typingUntil;
+            typed.put(userId, member.username);
+        }
+
+        synchronized void stopTyping(Long userId, long now) {
+            MemberState member = members.get(userId);
+            if (member != null) {
+                member.lastSeen = now;
+                member.typingUntil = 0L;
+            }
+            typed.remove(userId);
+        }
+
+        synchronized boolean expireIdle(long idleBefore) {
+            boolean changed = false;
+            for (Iterator<Map.Entry<Long, MemberState>> it = members.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Long, MemberState> entry = it.next();
+                if (entry.getValue().lastSeen < idleBefore) {
+                    it.remove();
+                    typed.remove(entry.getKey());
+                    if (joined.remove(entry.getKey()) == null) {
+                        left.put(entry.getKey(), entry.getValue().username);
+                    }
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        synchronized boolean isEmpty() {
+            return members.isEmpty() && joined.isEmpty() && left.isEmpty() && typed.isEmpty();
+        }
+
+        synchronized PresenceSnapshot snapshot(String roomId, long now) {
+            List<PresenceSnapshot.Member> current = new ArrayList<>();
+            List<PresenceSnapshot.Member> typers = new ArrayList<>();
+            members.forEach((userId, member) -> {
+                current.add(new PresenceSnapshot.Member(userId, member.username));
+                if (member.typingUntil > now) {
+                    typers.add(new PresenceSnapshot.Member(userId, member.username));
+                }
+            });
+            return new PresenceSnapshot("PRESENCE_SNAPSHOT", roomId, current, typers, Instant.ofEpochMilli(now).toString());
+        }
+
+        /**
+         * 직전 flush 이후 변경분을 꺼내고 비움 (타이핑은 아직 TTL 안인 사용자만)
+         */
+        synchronized Changes drainChanges(long now) {
+            typed.keySet().removeIf(userId -> {
+                MemberState member = members.get(userId);
+                return member == null || member.typingUntil <= now;
+            });
+            Changes changes = new Changes(joined, left, typed);
+            joined = new LinkedHashMap<>();
+            left = new LinkedHashMap<>();
+            typed = new LinkedHashMap<>();
+            return changes;
+        }
+    }
+
+    private static final class MemberState {
+        private final String username;
+        private long lastSeen;
+        private long typingUntil;
+
+        private MemberState(String username, long lastSeen) {
+            this.username = username;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.config.ChatSecurityConfig;
+import com.example.musicrecommendation.config.RateLimitProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -14,6 +13,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * 채팅 시스템 Rate Limiting 서비스
  * DoS 공격 및 스팸 방지를 위한 요청 제한
+ * - 메시지/연결 속도 제한은 공용 토큰 버킷 엔진({@link RateLimitService})에 위임 (키 수 상한 + 유휴 제거)
  */
 @Slf4j
 @Service
@@ -21,14 +21,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class ChatRateLimitService {
     
     private final ChatSecurityConfig securityConfig;
+    private final RateLimitService rateLimitService;
     
-    // 사용자별 메시지 전송 카운터 (userId -> counter)
-    private final Map<Long, MessageRateCounter> userMessageCounters = new ConcurrentHashMap<>();
-    
-    // IP별 연결 시도 카운터 (ip -> counter) 
-    private final Map<String, ConnectionRateCounter> ipConnectionCounters = new ConcurrentHashMap<>();
-    
-    // 사용자별 WebSocket 연결 카운터
+    // 사용자별 WebSocket 연결 카운터 (연결 해제 시 제거되므로 접속 중인 사용자 수로 제한됨)
     private final Map<Long, AtomicInteger> userConnectionCounts = new ConcurrentHashMap<>();
     
     /**
@@ -39,13 +34,7 @@ public class ChatRateLimitService {
     public boolean isMessageAllowed(Long userId) {
         if (userId == null) return false;
         
-        MessageRateCounter counter = userMessageCounters.computeIfAbsent(userId, 
-            k -> new MessageRateCounter());
-            
-        boolean allowed = counter.isAllowed(
-            securityConfig.getMessagesPerMinute(),
-            securityConfig.getMessagesPerHour()
-        );
+        boolean allowed = rateLimitService.tryAcquire(RateLimitProperties.CHAT_MESSAGE, userId);
         
         if (!allowed) {
             log.warn("메시지 속도 제한 초과 - 사용자: {}", securityConfig.maskUserId(userId));
@@ -62,10 +51,7 @@ public class ChatRateLimitService {
     public boolean isConnectionAllowed(String clientIp) {
         if (clientIp == null || clientIp.isBlank()) return false;
         
-        ConnectionRateCounter counter = ipConnectionCounters.computeIfAbsent(clientIp,
-            k -> new ConnectionRateCounter());
-            
-        boolean allowed = counter.isAllowed(securityConfig.getConnectionsPerMinute());
+        boolean allowed = rateLimitService.tryAcquire(RateLimitProperties.WS_CONNECT, clientIp);
         
         if (!allowed) {
             log.warn("연결 속도 제한 초과 - IP: {}", maskIp(clientIp));
@@ -144,23 +130,6 @@ public class ChatRateLimitService {
         return lengthOk && sizeOk;
     }
     
-    /**
-     * 정리 작업 - 오래된 카운터 제거
-     */
-    public void cleanup() {
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(2);
-        
-        // 메시지 카운터 정리
-        userMessageCounters.entrySet().removeIf(entry -> 
-            entry.getValue().getLastActivity().isBefore(cutoff));
-            
-        // 연결 카운터 정리  
-        ipConnectionCounters.entrySet().removeIf(entry ->
-            entry.getValue().getLastActivity().isBefore(cutoff));
-            
-        log.debug("Rate limit 카운터 정리 완료");
-    }
-    
     // IP 마스킹 (개인정보 보호)
     private String maskIp(String ip) {
         if (securityConfig.isProductionMode() && ip != null && ip.contains(".")) {
@@ -171,84 +140,4 @@ public class ChatRateLimitService {
         }
         return ip;
     }
-    
-    /**
-     * 메시지 전송 속도 카운터
-     */
-    private static class MessageRateCounter {
-        private volatile int minuteCount = 0;
-        private volatile int hourCount = 0;
-        private volatile LocalDateTime lastMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
-        private volatile LocalDateTime lastHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
-        private volatile LocalDateTime lastActivity = LocalDateTime.now();
-        
-        public synchronized boolean isAllowed(int maxPerMinute, int maxPerHour) {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime currentMinute = now.truncatedTo(ChronoUnit.MINUTES);
-            LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
-            
-            // 분 카운터 리셋
-            if (!currentMinute.equals(lastMinute)) {
-                minuteCount = 0;
-                lastMinute = currentMinute;
-            }
-            
-            // 시간 카운터 리셋
-            if (!currentHour.equals(lastHour)) {
-                hourCount = 0;
-                lastHour = currentHour;
-            }
-            
-            // 제한 확인
-            if (minuteCount >= maxPerMinute || hourCount >= maxPerHour) {
-                return false;
-            }
-            
-            // 카운터 증가
-            minuteCount++;
-            hourCount++;
-            lastActivity = now;
-            
-            return true;
-        }
-        
-        public LocalDateTime getLastActivity() {
-            return lastActivity;
-        }
-    }
-    
-    /**
-     * 연결 시도 속도 카운터
-     */
-    private static class ConnectionRateCounter {
-        private volatile int minuteCount = 0;
-        private volatile LocalDateTime lastMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
-        private volatile LocalDateTime lastActivity = LocalDateTime.now();
-        
-        public synchronized boolean isAllowed(int maxPerMinute) {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime currentMinute = now.truncatedTo(ChronoUnit.MINUTES);
-            
-            // 분 카운터 리셋
-            if (!currentMinute.equals(lastMinute)) {
-                minuteCount = 0;
-                lastMinute = currentMinute;
-            }
-            
-            // 제한 확인
-            if (minuteCount >= maxPerMinute) {
-                return false;
-            }
-            
-            // 카운터 증가
-            minuteCount++;
-            lastActivity = now;
-            
-            return true;
-        }
-        
-        public LocalDateTime getLastActivity() {
-            return lastActivity;
-        }
-    }
-}
\ No newline at end of file
+}
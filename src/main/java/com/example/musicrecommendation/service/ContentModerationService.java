@@ -0,0 +1,179 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.util.AhoCorasickMatcher;
+import com.example.musicrecommendation.util.HangulNormalizer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 금칙어 기반 콘텐츠 검열 서비스 (리뷰/채팅 공용)
+ * - 분류별 키워드 사전을 Aho–Corasick 오토마톤 하나로 컴파일해 본문을 한 번만 훑음
+ * - 본문과 사전 모두 {@link HangulNormalizer}로 정규화 (한 글자 사이 구분자 제거, 자모 재조합)
+ * - 외부 사전 파일이 바뀌면 주기적으로 다시 컴파일해 교체 (요청 처리 중단 없음)
+ */
+@Slf4j
+@Service
+public class ContentModerationService {
+
+    public static final String CATEGORY_SPAM = "SPAM";
+    public static final String CATEGORY_PROFANITY = "PROFANITY";
+
+    private final ResourceLoader resourceLoader;
+    private final String dictionaryLocation;
+    /** 채팅에서 전송을 막을 분류 (리뷰는 모든 분류를 거부) */
+    private final Set<String> chatBlockedCategories;
+
+    /** 현재 사용 중인 사전 (교체 시 참조만 바꿈) */
+    private volatile Dictionary dictionary = Dictionary.EMPTY;
+
+    public ContentModerationService(ResourceLoader resourceLoader,
+                                    @Value("${app.moderation.dictionary-location:classpath:moderation/keywords.txt}")
+                                    String dictionaryLocation,
+                                    @Value("${app.moderation.chat-blocked-categories:PROFANITY}")
+                                    Set<String> chatBlockedCategories) {
+        this.resourceLoader = resourceLoader;
+        this.dictionaryLocation = dictionaryLocation;
+        this.chatBlockedCategories = chatBlockedCategories.stream()
+                .map(category -> category.trim().toUpperCase())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!reload()) {
+            log.warn("금칙어 사전을 불러오지 못했습니다 - 검열 비활성 상태로 시작: {}", dictionaryLocation);
+        }
+    }
+
+    /**
+     * 본문 검사 - 일치한 분류 반환
+     */
+    public ModerationResult moderate(String text) {
+        if (text == null || text.isEmpty()) {
+            return ModerationResult.CLEAN;
+        }
+        Set<String> categories = dictionary.matcher.matchedCategories(HangulNormalizer.normalize(text));
+        return categories.isEmpty() ? ModerationResult.CLEAN : new ModerationResult(categories);
+    }
+
+    /**
+     * 채팅 메시지 전송 차단 여부
+     */
+    public boolean isBlockedInChat(String message) {
+        return moderate(message).hasAny(chatBlockedCategories);
+    }
+
+    /**
+     * 사전 파일이 바뀌었으면 다시 적재 (파일 시스템 위치일 때만 변경 감지 가능)
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long lastModified = lastModified(resourceLoader.getResource(dictionaryLocation));
+        if (lastModified > 0 && lastModified != dictionary.lastModified) {
+            reload();
+        }
+    }
+
+    /**
+     * 사전 다시 적재
+     *
+     * @return 성공 여부 (실패 시 기존 사전 유지)
+     */
+    public synchronized boolean reload() {
+        Resource resource = resourceLoader.getResource(dictionaryLocation);
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            Map<String, String> keywords = parseDictionary(reader);
+            AhoCorasickMatcher.Builder<String> builder = AhoCorasickMatcher.builder();
+            keywords.forEach((keyword, category) -> builder.add(HangulNormalizer.normalize(keyword), category));
+
+            dictionary = new Dictionary(builder.build(), lastModified(resource));
+            log.info("금칙어 사전 적재 완료: {}개 키워드 ({})", dictionary.matcher.getKeywordCount(), dictionaryLocation);
+            return true;
+        } catch (IOException e) {
+            log.error("금칙어 사전 적재 실패 - 기존 사전 유지: {} ({})", dictionaryLocation, e.getMessage());
+            return false;
+        }
+    }
+
+    public int getKeywordCount() {
+        return dictionary.matcher.getKeywordCount();
+    }
+
+    /**
+     * 사전 파싱: "[분류]" 줄로 구역 시작, 한 줄에 키워드 하나, '#' 이후는 주석
+     *
+     * @return 키워드 → 분류
+     */
+    static Map<String, String> parseDictionary(Reader source) throws IOException {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        String category = null;
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int comment = line.indexOf('#');
+            String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            if (entry.startsWith("[") && entry.endsWith("]")) {
+                category = entry.substring(1, entry.length() - 1).trim().toUpperCase();
+            } else if (category != null) {
+                keywords.put(entry, category);
+            }
+        }
+        return keywords;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 검사 결과
+     */
+    public record ModerationResult(Set<String> categories) {
+
+        static final ModerationResult CLEAN = new ModerationResult(Collections.emptySet());
+
+        public boolean isClean() {
+            return categories.isEmpty();
+        }
+
+        public boolean has(String category) {
+            return categories.contains(category);
+        }
+
+        public boolean hasAny(Set<String> blocked) {
+            for (String category : categories) {
+                if (blocked.contains(category)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Dictionary(AhoCorasickMatcher<String> matcher, long lastModified) {
+        static final Dictionary EMPTY = new Dictionary(AhoCorasickMatcher.<String>builder().build(), 0L);
+    }
+}
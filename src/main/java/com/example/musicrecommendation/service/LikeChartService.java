@@ -0,0 +1,266 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.domain.UserSongLike;
+import com.example.musicrecommendation.web.dto.ChartsDashboardResponse;
+import com.example.musicrecommendation.web.dto.PeriodChartResponse;
+import com.example.musicrecommendation.web.dto.SimpleStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 좋아요 기반 기간 차트 (일간/주간/월간/급상승, 아티스트/사용자 순위)
+ *
+ * - 좋아요/취소 시 일별 집계를 같은 트랜잭션에서 증감 ({@link LikeRollupStore})
+ * - 임의 기간은 일별 집계 행을 합산해 계산하고, 결과는 (종류, 시작일, 종료일, 개수) 구간별로 캐시
+ * - 오늘이 포함된 구간은 짧게 캐시 (좋아요마다 무효화하지 않음), 지난 구간은 길게 캐시하고
+ *   과거 좋아요가 취소되어 해당 날짜가 바뀐 경우에만 그 날짜를 포함한 구간을 무효화
+ */
+@Service
+public class LikeChartService {
+
+    public static final int MAX_LIMIT = 50;
+
+    /** 급상승 비교 구간 길이 (최근 N일 vs 그 이전 N일) */
+    private static final int TRENDING_WINDOW_DAYS = 3;
+
+    private static final DateTimeFormatter TITLE_DATE = DateTimeFormatter.ofPattern("M월 d일");
+
+    /** 캐시 대상 조회 종류 */
+    private enum Kind {
+        SONGS, TRENDING, ARTISTS, USERS, TOTAL_LIKES, ACTIVE_ARTISTS
+    }
+
+    /** 기간 버킷 캐시 키 */
+    private record ChartKey(Kind kind, LocalDate from, LocalDate to, int limit) {
+
+        boolean isLive(LocalDate today) {
+            return !to.isBefore(today);
+        }
+
+        boolean contains(LocalDate day) {
+            return !day.isBefore(from) && !day.isAfter(to);
+        }
+    }
+
+    private final LikeRollupStore rollupStore;
+    private final Cache<ChartKey, Object> charts;
+
+    public LikeChartService(LikeRollupStore rollupStore,
+                            @Value("${app.charts.live-ttl-ms:30000}") long liveTtlMs,
+                            @Value("${app.charts.closed-ttl-ms:21600000}") long closedTtlMs) {
+        this.rollupStore = rollupStore;
+        long liveTtlNanos = Duration.ofMillis(liveTtlMs).toNanos();
+        long closedTtlNanos = Duration.ofMillis(closedTtlMs).toNanos();
+        this.charts = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfter(new Expiry<ChartKey, Object>() {
+                @Override
+                public long expireAfterCreate(ChartKey key, Object value, long currentTime) {
+                    return key.isLive(LocalDate.now()) ? liveTtlNanos : closedTtlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(ChartKey key, Object value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(ChartKey key, Object value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    // === 집계 유지 ===
+
+    /**
+     * 좋아요 저장 직후 호출 (같은 트랜잭션)
+     */
+    public void onLiked(UserSongLike like) {
+        apply(like, 1);
+    }
+
+    /**
+     * 좋아요 삭제 직전/직후 호출 (같은 트랜잭션) - 원래 좋아요 날짜의 집계를 차감
+     */
+    public void onUnliked(UserSongLike like) {
+        apply(like, -1);
+    }
+
+    private void apply(UserSongLike like, int delta) {
+        LocalDate day = like.getLikedAt() != null ? like.getLikedAt().toLocalDate() : LocalDate.now();
+        rollupStore.apply(day, like.getUser().getId(), like.getSong().getId(), like.getSong().getArtist(), delta);
+        afterCommit(() -> invalidate(day));
+    }
+
+    /**
+     * 지난 날짜의 집계가 바뀌면 그 날짜를 포함한 구간 캐시 제거 (오늘 변경분은 짧은 TTL로 반영)
+     */
+    public void invalidate(LocalDate day) {
+        if (day.isBefore(LocalDate.now())) {
+            charts.asMap().keySet().removeIf(key -> key.contains(day));
+        }
+    }
+
+    /**
+     * 재집계 후 전체 캐시 제거
+     */
+    public void invalidateAll() {
+        charts.invalidateAll();
+    }
+
+    // === 차트 조회 ===
+
+    public PeriodChartResponse getDailyChart(int limit) {
+        LocalDate today = LocalDate.now();
+        return buildChart("📅 " + today.format(TITLE_DATE) + " 일간 차트", today.toString(), today, today, limit);
+    }
+
+    public PeriodChartResponse getWeeklyChart(int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate monday = today.with(DayOfWeek.MONDAY);
+        return buildChart("📊 " + monday.format(TITLE_DATE) + " ~ " + today.format(TITLE_DATE) + " 주간 차트",
+            monday + " ~ " + today, monday, today, limit);
+    }
+
+    public PeriodChartResponse getMonthlyChart(int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.withDayOfMonth(1);
+        return buildChart("🏆 " + today.getMonthValue() + "월 월간 차트",
+            first + " ~ " + today, first, today, limit);
+    }
+
+    /**
+     * 급상승 차트 - 최근 {@value #TRENDING_WINDOW_DAYS}일 좋아요가 직전 같은 기간보다 많이 늘어난 순
+     */
+    public PeriodChartResponse getTrendingChart(int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate recentFrom = today.minusDays(TRENDING_WINDOW_DAYS - 1);
+        LocalDate from = recentFrom.minusDays(TRENDING_WINDOW_DAYS);
+        int size = clampLimit(limit);
+
+        List<LikeRollupStore.SongCount> songs = cached(new ChartKey(Kind.TRENDING, from, today, size),
+            () -> rollupStore.trendingSongs(from, recentFrom, today, size));
+        long total = totalLikes(recentFrom, today);
+        return new PeriodChartResponse("🔥 급상승 차트", recentFrom + " ~ " + today, toSongDtos(songs, total));
+    }
+
+    /**
+     * 임의 기간 차트 (시작일/종료일 포함)
+     */
+    public PeriodChartResponse getPeriodChart(LocalDate from, LocalDate to, int limit) {
+        validatePeriod(from, to);
+        return buildChart("📈 " + from.format(TITLE_DATE) + " ~ " + to.format(TITLE_DATE) + " 차트",
+            from + " ~ " + to, from, to, limit);
+    }
+
+    public ChartsDashboardResponse getDashboard(int limit) {
+        PeriodChartResponse daily = getDailyChart(limit);
+        PeriodChartResponse weekly = getWeeklyChart(limit);
+        PeriodChartResponse monthly = getMonthlyChart(limit);
+        PeriodChartResponse trending = getTrendingChart(limit);
+
+        Set<Long> chartSongs = new LinkedHashSet<>();
+        for (PeriodChartResponse chart : List.of(daily, weekly, monthly, trending)) {
+            chart.getSongs().forEach(song -> chartSongs.add(song.getSongId()));
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.withDayOfMonth(1);
+        long activeArtists = cached(new ChartKey(Kind.ACTIVE_ARTISTS, first, today, 0),
+            () -> rollupStore.countActiveArtists(first, today));
+
+        ChartsDashboardResponse.ChartSummary summary = new ChartsDashboardResponse.ChartSummary(
+            champion(monthly), champion(weekly), champion(daily), champion(trending),
+            chartSongs.size(), (int) activeArtists);
+        return new ChartsDashboardResponse(daily, weekly, monthly, trending, summary);
+    }
+
+    /**
+     * 기간 내 아티스트 순위 (좋아요 수 / 좋아요 받은 곡 수)
+     */
+    public List<LikeRollupStore.ArtistCount> getTopArtists(LocalDate from, LocalDate to, int limit) {
+        validatePeriod(from, to);
+        int size = clampLimit(limit);
+        return cached(new ChartKey(Kind.ARTISTS, from, to, size), () -> rollupStore.topArtists(from, to, size));
+    }
+
+    /**
+     * 기간 내 좋아요를 가장 많이 누른 사용자
+     */
+    public List<LikeRollupStore.UserCount> getMostActiveUsers(LocalDate from, LocalDate to, int limit) {
+        validatePeriod(from, to);
+        int size = clampLimit(limit);
+        return cached(new ChartKey(Kind.USERS, from, to, size), () -> rollupStore.topUsers(from, to, size));
+    }
+
+    private PeriodChartResponse buildChart(String title, String period, LocalDate from, LocalDate to, int limit) {
+        int size = clampLimit(limit);
+        List<LikeRollupStore.SongCount> songs = cached(new ChartKey(Kind.SONGS, from, to, size),
+            () -> rollupStore.topSongs(from, to, size));
+        return new PeriodChartResponse(title, period, toSongDtos(songs, totalLikes(from, to)));
+    }
+
+    private long totalLikes(LocalDate from, LocalDate to) {
+        return cached(new ChartKey(Kind.TOTAL_LIKES, from, to, 0), () -> rollupStore.totalLikes(from, to));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(ChartKey key, Supplier<T> loader) {
+        return (T) charts.get(key, ignored -> loader.get());
+    }
+
+    private static List<SimpleStatsResponse.TopSongDto> toSongDtos(List<LikeRollupStore.SongCount> songs, long total) {
+        List<SimpleStatsResponse.TopSongDto> result = new ArrayList<>(songs.size());
+        int rank = 1;
+        for (LikeRollupStore.SongCount song : songs) {
+            double percentage = total > 0 ? Math.round(song.likeCount() * 1000.0 / total) / 10.0 : 0.0;
+            result.add(new SimpleStatsResponse.TopSongDto(rank++, song.songId(), song.title(), song.artist(),
+                null, song.likeCount(), percentage));
+        }
+        return result;
+    }
+
+    private static String champion(PeriodChartResponse chart) {
+        return chart.getSongs().isEmpty() ? null : chart.getSongs().get(0).getTitle();
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.musicrecommendation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 좋아요 일별 집계 저장소 (like_rollup_song_daily / like_rollup_artist_daily / like_rollup_user_daily)
+ *
+ * - 좋아요/취소 시 같은 트랜잭션에서 (곡, 일) / (아티스트, 일) / (사용자, 일) 건수를 한 문장으로 증감
+ * - 기간 차트는 원본 좋아요 테이블 대신 기간 내 일별 행만 합산 (전체 좋아요 이력 크기와 무관)
+ * - 서비스를 거치지 않은 변경(사용자/곡 삭제 CASCADE 등)은 {@link #rebuild}로 구간 재집계
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeRollupStore {
+
+    /** 세 집계 테이블 동시 증감 (data-modifying CTE) - 음수 결과는 조회 시 제외하고 재집계에서 정리 */
+    private static final String APPLY_DELTA_SQL =
+        "WITH song_row AS (" +
+        "  INSERT INTO like_rollup_song_daily (day, song_id, like_count) VALUES (?, ?, ?) " +
+        "  ON CONFLICT (day, song_id) DO UPDATE SET like_count = like_rollup_song_daily.like_count + EXCLUDED.like_count" +
+        "), artist_row AS (" +
+        "  INSERT INTO like_rollup_artist_daily (day, artist, like_count) VALUES (?, ?, ?) " +
+        "  ON CONFLICT (day, artist) DO UPDATE SET like_count = like_rollup_artist_daily.like_count + EXCLUDED.like_count" +
+        ") " +
+        "INSERT INTO like_rollup_user_daily (day, user_id, like_count) VALUES (?, ?, ?) " +
+        "ON CONFLICT (day, user_id) DO UPDATE SET like_count = like_rollup_user_daily.like_count + EXCLUDED.like_count";
+
+    private static final String TOP_SONGS_SQL =
+        "SELECT t.song_id, s.title, s.artist, t.like_count FROM (" +
+        "  SELECT song_id, SUM(like_count) AS like_count FROM like_rollup_song_daily " +
+        "  WHERE day BETWEEN ? AND ? GROUP BY song_id HAVING SUM(like_count) > 0 " +
+        "  ORDER BY like_count DESC, song_id LIMIT ?" +
+        ") t JOIN songs s ON s.id = t.song_id " +
+        "ORDER BY t.like_count DESC, t.song_id";
+
+    /** 최근 구간 좋아요 수가 이전 구간 대비 가장 많이 늘어난 곡 */
+    private static final String TRENDING_SONGS_SQL =
+        "SELECT t.song_id, s.title, s.artist, t.recent AS like_count FROM (" +
+        "  SELECT song_id, " +
+        "         COALESCE(SUM(like_count) FILTER (WHERE day >= ?), 0) AS recent, " +
+        "         COALESCE(SUM(like_count) FILTER (WHERE day < ?), 0) AS previous " +
+        "  FROM like_rollup_song_daily WHERE day BETWEEN ? AND ? GROUP BY song_id" +
+        ") t JOIN songs s ON s.id = t.song_id " +
+        "WHERE t.recent > 0 AND t.recent > t.previous " +
+        "ORDER BY t.recent - t.previous DESC, t.recent DESC, t.song_id LIMIT ?";
+
+    private static final String TOP_ARTISTS_SQL =
+        "SELECT t.artist, t.like_count, " +
+        "  (SELECT COUNT(DISTINCT r.song_id) FROM like_rollup_song_daily r JOIN songs s ON s.id = r.song_id " +
+        "   WHERE r.day BETWEEN ? AND ? AND r.like_count > 0 AND s.artist = t.artist) AS song_count " +
+        "FROM (" +
+        "  SELECT artist, SUM(like_count) AS like_count FROM like_rollup_artist_daily " +
+        "  WHERE day BETWEEN ? AND ? GROUP BY artist HAVING SUM(like_count) > 0 " +
+        "  ORDER BY like_count DESC, artist LIMIT ?" +
+        ") t ORDER BY t.like_count DESC, t.artist";
+
+    private static final String TOP_USERS_SQL =
+        "SELECT t.user_id, u.name, t.like_count FROM (" +
+        "  SELECT user_id, SUM(like_count) AS like_count FROM like_rollup_user_daily " +
+        "  WHERE day BETWEEN ? AND ? GROUP BY user_id HAVING SUM(like_count) > 0 " +
+        "  ORDER BY like_count DESC, user_id LIMIT ?" +
+        ") t JOIN users u ON u.id = t.user_id " +
+        "ORDER BY t.like_count DESC, t.user_id";
+
+    private static final String TOTAL_LIKES_SQL =
+        "SELECT COALESCE(SUM(like_count), 0) FROM like_rollup_user_daily WHERE day BETWEEN ? AND ?";
+
+    private static final String ACTIVE_ARTISTS_SQL =
+        "SELECT COUNT(*) FROM (" +
+        "  SELECT artist FROM like_rollup_artist_daily WHERE day BETWEEN ? AND ? " +
+        "  GROUP BY artist HAVING SUM(like_count) > 0" +
+        ") a";
+
+    private static final String[] REBUILD_SQL = {
+        "DELETE FROM like_rollup_song_daily WHERE day BETWEEN ? AND ?",
+        "DELETE FROM like_rollup_artist_daily WHERE day BETWEEN ? AND ?",
+        "DELETE FROM like_rollup_user_daily WHERE day BETWEEN ? AND ?",
+        "INSERT INTO like_rollup_song_daily (day, song_id, like_count) " +
+        "SELECT CAST(liked_at AS DATE), song_id, COUNT(*) FROM user_song_likes " +
+        "WHERE liked_at >= CAST(? AS DATE) AND liked_at < CAST(? AS DATE) + 1 " +
+        "GROUP BY CAST(liked_at AS DATE), song_id",
+        "INSERT INTO like_rollup_artist_daily (day, artist, like_count) " +
+        "SELECT CAST(l.liked_at AS DATE), s.artist, COUNT(*) FROM user_song_likes l JOIN songs s ON s.id = l.song_id " +
+        "WHERE l.liked_at >= CAST(? AS DATE) AND l.liked_at < CAST(? AS DATE) + 1 " +
+        "GROUP BY CAST(l.liked_at AS DATE), s.artist",
+        "INSERT INTO like_rollup_user_daily (day, user_id, like_count) " +
+        "SELECT CAST(liked_at AS DATE), user_id, COUNT(*) FROM user_song_likes " +
+        "WHERE liked_at >= CAST(? AS DATE) AND liked_at < CAST(? AS DATE) + 1 " +
+        "GROUP BY CAST(liked_at AS DATE), user_id"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 1건 증감 반영 (호출 트랜잭션에 참여)
+     *
+     * @param day   좋아요 날짜 (liked_at 기준 - 취소 시에도 원래 좋아요 날짜)
+     * @param delta +1: 좋아요, -1: 취소
+     */
+    public void apply(LocalDate day, long userId, long songId, String artist, int delta) {
+        jdbcTemplate.update(APPLY_DELTA_SQL,
+            day, songId, delta,
+            day, artist, delta,
+            day, userId, delta);
+    }
+
+    public List<SongCount> topSongs(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(TOP_SONGS_SQL, (rs, rowNum) -> new SongCount(
+            rs.getLong("song_id"), rs.getString("title"), rs.getString("artist"), rs.getLong("like_count")),
+            from, to, limit);
+    }
+
+    /**
+     * 급상승 곡 - [recentFrom, to] 구간과 [from, recentFrom) 구간 비교
+     */
+    public List<SongCount> trendingSongs(LocalDate from, LocalDate recentFrom, LocalDate to, int limit) {
+        return jdbcTemplate.query(TRENDING_SONGS_SQL, (rs, rowNum) -> new SongCount(
+            rs.getLong("song_id"), rs.getString("title"), rs.getString("artist"), rs.getLong("like_count")),
+            recentFrom, recentFrom, from, to, limit);
+    }
+
+    public List<ArtistCount> topArtists(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(TOP_ARTISTS_SQL, (rs, rowNum) -> new ArtistCount(
+            rs.getString("artist"), rs.getLong("like_count"), rs.getLong("song_count")),
+            from, to, from, to, limit);
+    }
+
+    public List<UserCount> topUsers(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(TOP_USERS_SQL, (rs, rowNum) -> new UserCount(
+            rs.getLong("user_id"), rs.getString("name"), rs.getLong("like_count")),
+            from, to, limit);
+    }
+
+    public long totalLikes(LocalDate from, LocalDate to) {
+        Long total = jdbcTemplate.queryForObject(TOTAL_LIKES_SQL, Long.class, from, to);
+        return total != null ? total : 0L;
+    }
+
+    public long countActiveArtists(LocalDate from, LocalDate to) {
+        Long count = jdbcTemplate.queryForObject(ACTIVE_ARTISTS_SQL, Long.class, from, to);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * [from, to] 구간을 원본 좋아요 테이블 기준으로 다시 집계 (구간 내 행 교체)
+     */
+    @Transactional
+    public void rebuild(LocalDate from, LocalDate to) {
+        for (String sql : REBUILD_SQL) {
+            jdbcTemplate.update(sql, from, to);
+        }
+        log.debug("좋아요 집계 재계산: {} ~ {}", from, to);
+    }
+
+    /** 곡별 좋아요 수 */
+    public record SongCount(long songId, String title, String artist, long likeCount) {
+    }
+
+    /** 아티스트별 좋아요 수 / 좋아요 받은 곡 수 */
+    public record ArtistCount(String artist, long likeCount, long songCount) {
+    }
+
+    /** 사용자별 좋아요 누른 수 */
+    public record UserCount(long userId, String name, long likeCount) {
+    }
+}
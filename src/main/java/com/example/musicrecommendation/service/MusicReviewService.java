@@ -3,14 +3,17 @@ package com.example.musicrecommendation.service;
 import com.example.musicrecommendation.domain.*;
 import com.example.musicrecommendation.repository.*;
 import com.example.musicrecommendation.domain.ReviewReport;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
 import com.example.musicrecommendation.security.ReviewSecurityService;
+import com.example.musicrecommendation.util.SearchPatterns;
 import com.example.musicrecommendation.web.dto.ReviewDto;
 import com.example.musicrecommendation.web.dto.BadgeDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,14 +34,15 @@ public class MusicReviewService {
     private final MusicItemRepository musicItemRepository;
     private final UserBadgeRepository badgeRepository;
     private final UserBadgeService badgeService;
+    private final BadgeEvaluationDispatcher badgeEvaluationDispatcher;
     private final ReviewSecurityService securityService;
     private final ReviewHelpfulRepository reviewHelpfulRepository;
     private final ReviewReportRepository reviewReportRepository;
     private final UserService userService;
     private final UserBehaviorTrackingService behaviorTrackingService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
-    @CacheEvict(value = {"reviews", "user-names"}, allEntries = true)
     public MusicReview createReview(Long userId, String externalId, MusicItem.MusicItemType itemType,
                                    String musicName, String artistName, String albumName, String imageUrl,
                                    Integer rating, String reviewText, List<String> tags) {
@@ -78,12 +82,13 @@ public class MusicReviewService {
                 musicItem.getId(), musicItem.getName(), musicItem.getArtistName());
         
         MusicReview savedReview = reviewRepository.save(review);
+        securityService.recordReviewCreated(userId); // 커밋 후 작성 한도에 반영
         
         log.info("💾 리뷰 저장 완료 - Review ID: {}, MusicItem ID: {}, 곡명: '{}'", 
                 savedReview.getId(), savedReview.getMusicItem().getId(), savedReview.getMusicItem().getName());
         
-        // 배지 시스템 체크
-        badgeService.checkAndAwardBadges(userId);
+        // 배지 시스템 체크 (커밋 후 백그라운드 평가)
+        badgeEvaluationDispatcher.requestEvaluation(userId);
         
         // 리뷰 작성 행동 추적 (비동기)
         behaviorTrackingService.trackReviewEvent(userId, externalId, 
@@ -91,13 +96,14 @@ public class MusicReviewService {
         
         log.info("✅ 새 리뷰 작성 완료 - 사용자: {}, 음악: '{}' (ID: {}), 평점: {}, 리뷰 ID: {}", 
                 userId, musicItem.getName(), musicItem.getId(), rating, savedReview.getId());
-        log.info("🔄 캐시 무효화 완료 - reviews, user-names");
+        
+        // 작성자의 추천 캐시만 커밋 후 무효화 (새 리뷰는 아직 캐시된 응답이 없음)
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewCreated(userId));
         
         return savedReview;
     }
     
     @Transactional
-    @CacheEvict(value = {"reviews", "user-names", "musicRecommendations"}, allEntries = true)
     public MusicReview updateReview(Long reviewId, Long userId, Integer rating, String reviewText, List<String> tags) {
         
         // 보안 검증
@@ -133,11 +139,12 @@ public class MusicReviewService {
             review.setTags(tags);
         }
         
-        return reviewRepository.save(review);
+        MusicReview saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewUpdated(userId, reviewId));
+        return saved;
     }
     
     @Transactional
-    @CacheEvict(value = "reviews", allEntries = true)
     public void deleteReview(Long reviewId, Long userId) {
         MusicReview review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
@@ -147,16 +154,17 @@ public class MusicReviewService {
         }
         
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewDeleted(userId, reviewId));
         log.info("리뷰 삭제 완료 - ID: {}, 사용자: {}", reviewId, userId);
     }
     
     @Transactional
-    @CacheEvict(value = "reviews", allEntries = true)
     public void adminDeleteReview(Long reviewId) {
         MusicReview review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
         
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewDeleted(review.getUserId(), reviewId));
         log.info("관리자 권한으로 리뷰 삭제 완료 - ID: {}, 원 작성자: {}", reviewId, review.getUserId());
     }
     
@@ -188,8 +196,16 @@ public class MusicReviewService {
         return reviewRepository.findHighRatedReviews(minRating, pageable);
     }
     
-    public Page<MusicReview> searchReviews(String tag, Integer minRating, Integer maxRating, Pageable pageable) {
-        return reviewRepository.findReviewsWithFilters(tag, minRating, maxRating, pageable);
+    /**
+     * 본문 검색어가 있으면 전문 검색 인덱스로 관련도 순 조회 (요청 정렬은 무시)
+     */
+    public Page<MusicReview> searchReviews(String text, String tag, Integer minRating, Integer maxRating, Pageable pageable) {
+        String tsQuery = SearchPatterns.prefixTsQuery(text);
+        if (tsQuery == null) {
+            return reviewRepository.findReviewsWithFilters(tag, minRating, maxRating, pageable);
+        }
+        return reviewRepository.searchByText(tsQuery, tag, minRating, maxRating,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
     }
     
     public Optional<Double> getAverageRating(Long musicItemId) {
@@ -215,7 +231,6 @@ public class MusicReviewService {
     }
     
     @Transactional
-    @CacheEvict(value = {"reviews", "user-names"}, allEntries = true)
     public void markReviewAsHelpful(Long reviewId, Long userId) {
         log.info("도움이 됨 처리 시작: reviewId={}, userId={}", reviewId, userId);
         
@@ -254,9 +269,10 @@ public class MusicReviewService {
         // 카운트 증가
         review.setHelpfulCount(review.getHelpfulCount() + 1);
         reviewRepository.save(review);
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewFeedback(review.getUserId(), reviewId));
         
-        // 리뷰어에게 배지 체크
-        badgeService.checkAndAwardBadges(review.getUserId());
+        // 리뷰어에게 배지 체크 (커밋 후 백그라운드 평가)
+        badgeEvaluationDispatcher.requestEvaluation(review.getUserId());
     }
     
     private void validateRating(Integer rating) {
@@ -392,6 +408,7 @@ public class MusicReviewService {
         long reportCount = reviewReportRepository.countByReviewId(reviewId);
         review.setReportCount((int) reportCount);
         reviewRepository.save(review);
+        eventPublisher.publishEvent(CacheInvalidationEvent.reviewFeedback(review.getUserId(), reviewId));
         
         log.info("리뷰 신고 완료 - 신고 ID: {}, 리뷰 ID: {}, 총 신고 건수: {}", 
                 savedReport.getId(), reviewId, reportCount);
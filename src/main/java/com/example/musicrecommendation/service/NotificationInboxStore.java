@@ -0,0 +1,590 @@
+package com.example.musicrecommendation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 사용자 알림함 저장소 (user_notifications 테이블, 월 단위 파티션)
+ *
+ * - 사용자/알림함마다 최근 {@link #RECENT_WINDOW}건과 안 읽은 개수를 메모리에 보관 (크기 제한 캐시)
+ * - 안 읽은 개수는 쓰기 시점에 증감 - 조회 시 목록을 훑지 않음
+ * - 목록은 id 커서 기반 페이지 (최신순), 첫 페이지는 대부분 메모리에서 응답
+ * - 캐시 항목은 주기적으로 만료되어 DB 기준으로 다시 적재 (다중 인스턴스 간 오차 보정)
+ * - 트랜잭션 안의 변경은 커밋 후 캐시에 반영 - 롤백된 알림이 캐시에 남지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationInboxStore {
+
+    /** 메모리에 보관하는 사용자별 최근 알림 수 */
+    public static final int RECENT_WINDOW = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String TABLE = "user_notifications";
+    private static final String DEFAULT_PARTITION = "user_notifications_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private static final String INSERT_SQL =
+        "INSERT INTO user_notifications (user_id, inbox, type, title, message, payload) " +
+        "VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB)) RETURNING id, created_at";
+
+    private static final String INSERT_FOR_USERS_SQL =
+        "INSERT INTO user_notifications (user_id, inbox, type, title, message, payload) " +
+        "SELECT target.user_id, ?, ?, ?, ?, CAST(? AS JSONB) FROM unnest(?) AS target(user_id) " +
+        "RETURNING id, user_id, created_at";
+
+    /** 건별로 내용이 다른 알림 일괄 저장 - id를 미리 할당해 입력 순서와 결과를 맞춤 */
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval('user_notifications_id_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_BATCH_SQL =
+        "INSERT INTO user_notifications (id, user_id, inbox, type, title, message, payload) " +
+        "SELECT d.id, d.user_id, ?, d.type, d.title, d.message, CAST(d.payload AS JSONB) " +
+        "FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[]) " +
+        "AS d(id, user_id, type, title, message, payload) " +
+        "RETURNING created_at";
+
+    /** 일괄 저장 한 문장당 최대 행 수 */
+    private static final int BATCH_CHUNK_SIZE = 5_000;
+
+    private static final String SELECT_COLUMNS =
+        "SELECT id, type, title, message, payload::text AS payload, is_read, read_at, created_at FROM user_notifications ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Cache<InboxKey, RecentInbox> recentInboxes = Caffeine.newBuilder()
+        .maximumSize(20_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build();
+
+    private final RowMapper<Entry> entryMapper = (rs, rowNum) -> new Entry(
+        rs.getLong("id"),
+        rs.getString("type"),
+        rs.getString("title"),
+        rs.getString("message"),
+        readPayload(rs.getString("payload")),
+        rs.getBoolean("is_read"),
+        rs.getObject("read_at", OffsetDateTime.class),
+        rs.getObject("created_at", OffsetDateTime.class)
+    );
+
+    /**
+     * 알림 저장 (안 읽은 개수 +1)
+     */
+    public Entry append(Long userId, Inbox inbox, String type, String title, String message,
+                        Map<String, Object> payload) {
+        Map<String, Object> safePayload = payload != null ? payload : Collections.emptyMap();
+        Entry entry = jdbcTemplate.queryForObject(INSERT_SQL,
+            (rs, rowNum) -> new Entry(rs.getLong("id"), type, title, message, safePayload, false, null,
+                rs.getObject("created_at", OffsetDateTime.class)),
+            userId, inbox.name(), type, title, message, writePayload(safePayload));
+
+        applyAfterCommit(new InboxKey(userId, inbox), recent -> recent.add(entry));
+        return entry;
+    }
+
+    /**
+     * 같은 알림을 여러 사용자에게 한 번의 INSERT로 저장 (대량 발송 청크용)
+     *
+     * @return 사용자별 저장 결과 (입력 순서와 무관)
+     */
+    public List<UserEntry> appendToUsers(List<Long> userIds, Inbox inbox, String type, String title, String message,
+                                         Map<String, Object> payload) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Object> safePayload = payload != null ? payload : Collections.emptyMap();
+        String payloadJson = writePayload(safePayload);
+
+        List<UserEntry> saved = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_FOR_USERS_SQL);
+            ps.setString(1, inbox.name());
+            ps.setString(2, type);
+            ps.setString(3, title);
+            ps.setString(4, message);
+            ps.setString(5, payloadJson);
+            ps.setArray(6, con.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new UserEntry(rs.getLong("user_id"), new Entry(rs.getLong("id"), type, title, message,
+            safePayload, false, null, rs.getObject("created_at", OffsetDateTime.class))));
+
+        for (UserEntry userEntry : saved) {
+            applyAfterCommit(new InboxKey(userEntry.userId(), inbox), recent -> recent.add(userEntry.entry()));
+        }
+        return saved;
+    }
+
+    /**
+     * 사용자마다 내용이 다른 알림 일괄 저장 (배지 일괄 부여/만료 등) - 청크당 INSERT 한 번
+     *
+     * @return 입력 순서대로의 저장 결과
+     */
+    public List<UserEntry> appendAll(Inbox inbox, List<Draft> drafts) {
+        List<UserEntry> saved = new ArrayList<>(drafts.size());
+        for (int from = 0; from < drafts.size(); from += BATCH_CHUNK_SIZE) {
+            List<Draft> chunk = drafts.subList(from, Math.min(from + BATCH_CHUNK_SIZE, drafts.size()));
+            List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, chunk.size());
+
+            int size = chunk.size();
+            Long[] userIds = new Long[size];
+            String[] types = new String[size];
+            String[] titles = new String[size];
+            String[] messages = new String[size];
+            String[] payloads = new String[size];
+            for (int i = 0; i < size; i++) {
+                Draft draft = chunk.get(i);
+                userIds[i] = draft.userId();
+                types[i] = draft.type();
+                titles[i] = draft.title();
+                messages[i] = draft.message();
+                payloads[i] = writePayload(draft.payload());
+            }
+
+            List<OffsetDateTime> createdAt = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_BATCH_SQL);
+                ps.setString(1, inbox.name());
+                ps.setArray(2, con.createArrayOf("bigint", ids.toArray()));
+                ps.setArray(3, con.createArrayOf("bigint", userIds));
+                ps.setArray(4, con.createArrayOf("text", types));
+                ps.setArray(5, con.createArrayOf("text", titles));
+                ps.setArray(6, con.createArrayOf("text", messages));
+                ps.setArray(7, con.createArrayOf("text", payloads));
+                return ps;
+            }, (rs, rowNum) -> rs.getObject("created_at", OffsetDateTime.class));
+            // 한 문장 안에서는 created_at(now())이 모두 같음
+            OffsetDateTime chunkCreatedAt = createdAt.isEmpty() ? OffsetDateTime.now() : createdAt.get(0);
+
+            for (int i = 0; i < size; i++) {
+                Draft draft = chunk.get(i);
+                Entry entry = new Entry(ids.get(i), draft.type(), draft.title(), draft.message(), draft.payload(),
+                    false, null, chunkCreatedAt);
+                saved.add(new UserEntry(draft.userId(), entry));
+                applyAfterCommit(new InboxKey(draft.userId(), inbox), recent -> recent.add(entry));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 알림 목록 페이지 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public Page page(Long userId, Inbox inbox, Long cursor, int limit, boolean unreadOnly) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RecentInbox recent = recentOf(userId, inbox);
+
+        if (cursor == null) {
+            Page fromWindow = recent.firstPage(size, unreadOnly);
+            if (fromWindow != null) {
+                return fromWindow;
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append("WHERE user_id = ? AND inbox = ?");
+        List<Object> args = new ArrayList<>(List.of(userId, inbox.name()));
+        if (cursor != null) {
+            sql.append(" AND id < ?");
+            args.add(cursor);
+        }
+        if (unreadOnly) {
+            sql.append(" AND NOT is_read");
+        }
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(size + 1);
+
+        List<Entry> rows = jdbcTemplate.query(sql.toString(), entryMapper, args.toArray());
+        boolean hasMore = rows.size() > size;
+        List<Entry> items = hasMore ? rows.subList(0, size) : rows;
+        return new Page(List.copyOf(items), hasMore ? items.get(items.size() - 1).id() : null, recent.unreadCount());
+    }
+
+    /**
+     * 안 읽은 알림 개수 (메모리 카운터)
+     */
+    public long unreadCount(Long userId, Inbox inbox) {
+        return recentOf(userId, inbox).unreadCount();
+    }
+
+    /**
+     * 읽음 처리
+     *
+     * @return 알림이 존재하면 true (이미 읽은 알림 포함)
+     */
+    public boolean markRead(Long userId, Inbox inbox, long notificationId) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+        int updated = jdbcTemplate.update(
+            "UPDATE user_notifications SET is_read = TRUE, read_at = ? " +
+            "WHERE id = ? AND user_id = ? AND inbox = ? AND NOT is_read",
+            now, notificationId, userId, inbox.name());
+        if (updated > 0) {
+            applyAfterCommit(new InboxKey(userId, inbox), recent -> recent.markRead(notificationId, now));
+            return true;
+        }
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_notifications WHERE id = ? AND user_id = ? AND inbox = ?",
+            Integer.class, notificationId, userId, inbox.name());
+        return exists != null && exists > 0;
+    }
+
+    /**
+     * 모두 읽음 처리
+     *
+     * @return 읽음 처리된 개수
+     */
+    public int markAllRead(Long userId, Inbox inbox) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+        int updated = jdbcTemplate.update(
+            "UPDATE user_notifications SET is_read = TRUE, read_at = ? WHERE user_id = ? AND inbox = ? AND NOT is_read",
+            now, userId, inbox.name());
+        applyAfterCommit(new InboxKey(userId, inbox), recent -> recent.markAllRead(now));
+        return updated;
+    }
+
+    /**
+     * 알림 삭제
+     *
+     * @return 삭제되었으면 true
+     */
+    public boolean delete(Long userId, Inbox inbox, long notificationId) {
+        List<Boolean> deleted = jdbcTemplate.queryForList(
+            "DELETE FROM user_notifications WHERE id = ? AND user_id = ? AND inbox = ? RETURNING is_read",
+            Boolean.class, notificationId, userId, inbox.name());
+        if (deleted.isEmpty()) {
+            return false;
+        }
+        boolean wasUnread = !deleted.get(0);
+        applyAfterCommit(new InboxKey(userId, inbox), recent -> recent.remove(notificationId, wasUnread));
+        return true;
+    }
+
+    /**
+     * 파티션 유지보수 - 이번 달/다음 달 파티션 생성, 보존 기간이 지난 월 파티션 삭제
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int maintainPartitions(int retentionMonths) {
+        YearMonth current = YearMonth.now(ZoneId.of("Asia/Seoul"));
+        for (int i = 0; i <= 1; i++) {
+            createMonthPartition(current.plusMonths(i));
+        }
+
+        String oldest = current.minusMonths(retentionMonths).format(PARTITION_SUFFIX);
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ?", String.class, TABLE);
+
+        int dropped = 0;
+        for (String partition : partitions) {
+            String suffix = partition.substring(partition.lastIndexOf('_') + 1);
+            // 월 파티션(yyyyMM)만 대상 - default 파티션은 유지
+            if (suffix.matches("\\d{6}") && suffix.compareTo(oldest) < 0) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            // 삭제된 알림이 캐시에 남지 않도록 전체 재적재
+            recentInboxes.invalidateAll();
+        }
+        return dropped;
+    }
+
+    /**
+     * 월 파티션 생성 - default 파티션에 그 달 행이 있으면 PostgreSQL이 생성을 거부하므로 한 트랜잭션 안에서
+     * default 분리 → 월 파티션 생성 → 그 달 행을 월 파티션으로 이동 → default 재연결
+     * (실패하면 예외 - 롤백되어 default 파티션은 원래대로)
+     */
+    private void createMonthPartition(YearMonth month) {
+        String partition = TABLE + "_" + month.format(PARTITION_SUFFIX);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        // 파티션 경계와 이동 조건에 같은 리터럴 사용 (세션 시간대 기준 해석이 같도록)
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partition, TABLE, from, to));
+            int count = jdbcTemplate.update(String.format(
+                "WITH moved AS (DELETE FROM %s WHERE created_at >= '%s' AND created_at < '%s' RETURNING *) " +
+                "INSERT INTO %s SELECT * FROM moved", DEFAULT_PARTITION, from, to, partition));
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            return count;
+        });
+        log.info("알림 파티션 생성: {} (default 파티션에서 {}건 이동)", partition, moved);
+    }
+
+    private RecentInbox recentOf(Long userId, Inbox inbox) {
+        InboxKey key = new InboxKey(userId, inbox);
+        PendingChanges pending = currentPendingChanges();
+        if (pending != null && pending.changes.containsKey(key)) {
+            // 이 트랜잭션에서 바뀐 알림함 - 커밋 전 상태를 캐시에 올리지 않고 DB에서 직접 조회
+            return loadRecent(key);
+        }
+        return recentInboxes.get(key, this::loadRecent);
+    }
+
+    private RecentInbox loadRecent(InboxKey key) {
+        List<Entry> latest = jdbcTemplate.query(
+            SELECT_COLUMNS + "WHERE user_id = ? AND inbox = ? ORDER BY id DESC LIMIT ?",
+            entryMapper, key.userId(), key.inbox().name(), RECENT_WINDOW + 1);
+        Long unread = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_notifications WHERE user_id = ? AND inbox = ? AND NOT is_read",
+            Long.class, key.userId(), key.inbox().name());
+        return new RecentInbox(latest, unread != null ? unread : 0L);
+    }
+
+    /**
+     * 캐시 변경 적용 - 트랜잭션 밖이면 즉시, 안이면 커밋 후 (롤백되면 버림)
+     *
+     * @param change 캐시된 알림함에 적용, false면 창만으로 판단할 수 없으므로 항목을 무효화
+     */
+    private void applyAfterCommit(InboxKey key, Predicate<RecentInbox> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, List.of(change));
+            return;
+        }
+        PendingChanges pending = currentPendingChanges();
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.computeIfAbsent(key, k -> new ArrayList<>()).add(change);
+    }
+
+    private void apply(InboxKey key, List<Predicate<RecentInbox>> changes) {
+        RecentInbox recent = recentInboxes.getIfPresent(key);
+        if (recent == null) {
+            return;
+        }
+        for (Predicate<RecentInbox> change : changes) {
+            if (!change.test(recent)) {
+                recentInboxes.invalidate(key);
+                return;
+            }
+        }
+    }
+
+    /** 현재 트랜잭션에 등록된 이 저장소의 대기 변경 (트랜잭션 동기화 목록에서 조회 - REQUIRES_NEW로 중단된 바깥 트랜잭션 것은 제외) */
+    private PendingChanges currentPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 트랜잭션 하나에서 생긴 알림함별 캐시 변경 - 커밋 후 순서대로 적용
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Map<InboxKey, List<Predicate<RecentInbox>>> changes = new LinkedHashMap<>();
+
+        NotificationInboxStore owner() {
+            return NotificationInboxStore.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            changes.forEach(NotificationInboxStore.this::apply);
+        }
+    }
+
+    private String writePayload(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 payload 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> readPayload(String json) {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return objectMapper.readValue(json, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 payload 역직렬화 실패: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 알림함 종류 - 같은 테이블을 서비스별로 나눠 사용
+     */
+    public enum Inbox {
+        /** NotificationService (매칭/메시지/추천) */
+        GENERAL,
+        /** BadgeNotificationService (배지, 시스템 공지) */
+        BADGE
+    }
+
+    private record InboxKey(Long userId, Inbox inbox) {
+    }
+
+    /**
+     * 저장된 알림 한 건 (불변)
+     */
+    public record Entry(long id, String type, String title, String message, Map<String, Object> payload,
+                        boolean read, OffsetDateTime readAt, OffsetDateTime createdAt) {
+
+        Entry markedRead(OffsetDateTime at) {
+            return read ? this : new Entry(id, type, title, message, payload, true, at, createdAt);
+        }
+    }
+
+    /**
+     * 일괄 저장할 알림 한 건
+     */
+    public record Draft(long userId, String type, String title, String message, Map<String, Object> payload) {
+
+        public Draft {
+            payload = payload != null ? payload : Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 대량 저장 결과 - 사용자 ID와 저장된 알림
+     */
+    public record UserEntry(long userId, Entry entry) {
+    }
+
+    /**
+     * 알림 페이지
+     *
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record Page(List<Entry> items, Long nextCursor, long unreadCount) {
+    }
+
+    /**
+     * 사용자 한 명의 최근 알림 창 + 안 읽은 개수
+     */
+    static final class RecentInbox {
+        /** 최신순 (최대 RECENT_WINDOW건이라 앞쪽 삽입 비용은 무시할 수준) */
+        private final List<Entry> entries = new ArrayList<>(RECENT_WINDOW + 1);
+        /** 창 밖에 더 오래된 알림이 있는지 */
+        private boolean truncated;
+        private long unread;
+
+        RecentInbox(List<Entry> latest, long unread) {
+            this.truncated = latest.size() > RECENT_WINDOW;
+            entries.addAll(latest.subList(0, Math.min(latest.size(), RECENT_WINDOW)));
+            this.unread = unread;
+        }
+
+        /**
+         * 새 알림을 id 순서 위치에 삽입 (동시 저장은 id 순서와 다르게 커밋될 수 있음)
+         *
+         * @return 창 밖(더 오래된 쪽)이라 적재 시 이미 셌는지 알 수 없으면 false
+         */
+        synchronized boolean add(Entry entry) {
+            int index = 0;
+            while (index < entries.size() && entries.get(index).id() > entry.id()) {
+                index++;
+            }
+            if (index < entries.size() && entries.get(index).id() == entry.id()) {
+                // 커밋 후 캐시 적재 때 이미 포함됨
+                return true;
+            }
+            if (index == entries.size() && truncated) {
+                return false;
+            }
+            entries.add(index, entry);
+            if (entries.size() > RECENT_WINDOW) {
+                entries.remove(entries.size() - 1);
+                truncated = true;
+            }
+            if (!entry.read()) {
+                unread++;
+            }
+            return true;
+        }
+
+        synchronized boolean markRead(long id, OffsetDateTime at) {
+            unread = Math.max(0, unread - 1);
+            entries.replaceAll(entry -> entry.id() == id ? entry.markedRead(at) : entry);
+            return true;
+        }
+
+        synchronized boolean markAllRead(OffsetDateTime at) {
+            unread = 0;
+            entries.replaceAll(entry -> entry.markedRead(at));
+            return true;
+        }
+
+        synchronized boolean remove(long id, boolean wasUnread) {
+            entries.removeIf(entry -> entry.id() == id);
+            if (wasUnread) {
+                unread = Math.max(0, unread - 1);
+            }
+            return true;
+        }
+
+        synchronized long unreadCount() {
+            return unread;
+        }
+
+        /**
+         * 창만으로 첫 페이지를 만들 수 있으면 반환, 아니면 null (DB 조회 필요)
+         */
+        synchronized Page firstPage(int limit, boolean unreadOnly) {
+            List<Entry> matched = new ArrayList<>(Math.min(limit + 1, entries.size()));
+            for (Entry entry : entries) {
+                if (!unreadOnly || !entry.read()) {
+                    matched.add(entry);
+                    if (matched.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            if (matched.size() > limit) {
+                List<Entry> items = List.copyOf(matched.subList(0, limit));
+                return new Page(items, items.get(limit - 1).id(), unread);
+            }
+            if (truncated) {
+                return null;
+            }
+            return new Page(List.copyOf(matched), null, unread);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.musicrecommendation.service;
 
+import com.example.musicrecommendation.web.dto.ws.UserEvent;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * - 플레이리스트 공유 알림
  * - 추천 알림
  * - 실시간 WebSocket 알림
- * - 알림 기록 관리
+ * - 알림 기록 관리 (NotificationInboxStore - DB 저장, 최근 알림/안 읽은 개수는 메모리)
  */
 @Service
 @RequiredArgsConstructor
@@ -28,9 +29,9 @@ public class NotificationService {
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
     
     private final SimpMessagingTemplate messagingTemplate;
+    private final UserEventPublisher userEventPublisher;
+    private final NotificationInboxStore inboxStore;
     
-    // 메모리 기반 알림 저장소 (실제 구현에서는 데이터베이스 사용)
-    private final Map<Long, List<NotificationData>> userNotifications = new ConcurrentHashMap<>();
     private final Map<Long, Set<String>> userSubscriptions = new ConcurrentHashMap<>();
     
     /**
@@ -57,11 +58,8 @@ public class NotificationService {
                     )
                 );
                 
-                // 사용자에게 실시간 알림 전송
-                sendRealTimeNotification(userId, notification);
-                
-                // 알림 기록에 저장
-                saveNotification(userId, notification);
+                // 알림 기록에 저장 후 사용자에게 실시간 알림 전송
+                deliver(userId, notification);
                 
                 log.info("매칭 알림 전송 완료: userId={}, matchedUserId={}, score={}", 
                     userId, matchedUserId, compatibilityScore);
@@ -98,8 +96,7 @@ public class NotificationService {
                 
                 // 수신자에게 실시간 알림 전송 (발신자가 아닌 경우에만)
                 if (!receiverId.equals(senderId)) {
-                    sendRealTimeNotification(receiverId, notification);
-                    saveNotification(receiverId, notification);
+                    deliver(receiverId, notification);
                 }
                 
                 log.debug("메시지 알림 전송: receiverId={}, senderId={}", receiverId, senderId);
@@ -134,8 +131,7 @@ public class NotificationService {
                     )
                 );
                 
-                sendRealTimeNotification(receiverId, notification);
-                saveNotification(receiverId, notification);
+                deliver(receiverId, notification);
                 
                 log.info("플레이리스트 공유 알림 전송: receiverId={}, playlistName={}", 
                     receiverId, playlistName);
@@ -173,8 +169,7 @@ public class NotificationService {
                     )
                 );
                 
-                sendRealTimeNotification(userId, notification);
-                saveNotification(userId, notification);
+                deliver(userId, notification);
                 
                 log.debug("추천 알림 전송: userId={}, type={}, count={}", 
                     userId, recommendationType, trackCount);
@@ -186,67 +181,51 @@ public class NotificationService {
     }
     
     /**
-     * 사용자별 알림 목록 조회
+     * 사용자별 알림 목록 조회 (최신순 첫 페이지)
      */
     public List<NotificationData> getUserNotifications(Long userId, int limit, boolean unreadOnly) {
-        List<NotificationData> notifications = userNotifications.getOrDefault(userId, new ArrayList<>());
-        
-        return notifications.stream()
-            .filter(notification -> !unreadOnly || !notification.isRead())
-            .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-            .limit(limit)
+        return getUserNotificationPage(userId, null, limit, unreadOnly).notifications();
+    }
+    
+    /**
+     * 사용자별 알림 목록 페이지 조회 (커서 기반)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public NotificationPage getUserNotificationPage(Long userId, Long cursor, int limit, boolean unreadOnly) {
+        NotificationInboxStore.Page page = inboxStore.page(
+            userId, NotificationInboxStore.Inbox.GENERAL, cursor, limit, unreadOnly);
+        List<NotificationData> notifications = page.items().stream()
+            .map(NotificationService::toNotificationData)
             .toList();
+        return new NotificationPage(notifications, page.nextCursor(), (int) page.unreadCount());
     }
     
     /**
      * 알림 읽음 처리
      */
     public boolean markAsRead(Long userId, String notificationId) {
-        List<NotificationData> notifications = userNotifications.get(userId);
-        if (notifications == null) return false;
-        
-        return notifications.stream()
-            .filter(n -> n.getId().equals(notificationId))
-            .findFirst()
-            .map(notification -> {
-                notification.setRead(true);
-                notification.setReadAt(Instant.now());
-                return true;
-            })
-            .orElse(false);
+        long id;
+        try {
+            id = Long.parseLong(notificationId);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return inboxStore.markRead(userId, NotificationInboxStore.Inbox.GENERAL, id);
     }
     
     /**
      * 모든 알림 읽음 처리
      */
     public int markAllAsRead(Long userId) {
-        List<NotificationData> notifications = userNotifications.get(userId);
-        if (notifications == null) return 0;
-        
-        int count = 0;
-        Instant now = Instant.now();
-        
-        for (NotificationData notification : notifications) {
-            if (!notification.isRead()) {
-                notification.setRead(true);
-                notification.setReadAt(now);
-                count++;
-            }
-        }
-        
-        return count;
+        return inboxStore.markAllRead(userId, NotificationInboxStore.Inbox.GENERAL);
     }
     
     /**
-     * 읽지 않은 알림 개수 조회
+     * 읽지 않은 알림 개수 조회 (저장 시 갱신되는 카운터)
      */
     public int getUnreadCount(Long userId) {
-        List<NotificationData> notifications = userNotifications.get(userId);
-        if (notifications == null) return 0;
-        
-        return (int) notifications.stream()
-            .filter(n -> !n.isRead())
-            .count();
+        return (int) inboxStore.unreadCount(userId, NotificationInboxStore.Inbox.GENERAL);
     }
     
     /**
@@ -316,21 +295,34 @@ public class NotificationService {
             .build();
     }
     
+    /**
+     * 알림함에 저장한 뒤 저장된 id로 실시간 전송
+     */
+    private void deliver(Long userId, NotificationData notification) {
+        NotificationInboxStore.Entry saved = inboxStore.append(
+            userId,
+            NotificationInboxStore.Inbox.GENERAL,
+            notification.getType(),
+            notification.getTitle(),
+            notification.getMessage(),
+            notification.getData()
+        );
+        notification.setId(String.valueOf(saved.id()));
+        notification.setTimestamp(saved.createdAt().toInstant());
+        
+        sendRealTimeNotification(userId, notification);
+    }
+    
     private void sendRealTimeNotification(Long userId, NotificationData notification) {
         try {
-            // 사용자별 개인 알림
-            messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/notifications",
-                notification
-            );
-            
-            // 알림 배지 업데이트를 위한 카운트 전송
-            int unreadCount = getUnreadCount(userId) + 1; // 새 알림 포함
-            messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/notification-count",
-                Map.of("unreadCount", unreadCount)
+            // 사용자별 개인 알림 + 알림 배지 카운트를 한 프레임으로 전송 (저장 시 카운터에 이미 반영됨)
+            int unreadCount = getUnreadCount(userId);
+            userEventPublisher.publish(
+                userId,
+                UserEvent.CHANNEL_NOTIFICATIONS,
+                notification.getType(),
+                notification,
+                unreadCount
             );
             
         } catch (Exception e) {
@@ -338,15 +330,26 @@ public class NotificationService {
         }
     }
     
-    private void saveNotification(Long userId, NotificationData notification) {
-        userNotifications.computeIfAbsent(userId, k -> new ArrayList<>()).add(notification);
-        
-        // 알림 개수 제한 (최근 100개만 유지)
-        List<NotificationData> notifications = userNotifications.get(userId);
-        if (notifications.size() > 100) {
-            notifications.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
-            userNotifications.put(userId, new ArrayList<>(notifications.subList(0, 100)));
-        }
+    private static NotificationData toNotificationData(NotificationInboxStore.Entry entry) {
+        NotificationData notification = NotificationData.builder()
+            .id(String.valueOf(entry.id()))
+            .type(entry.type())
+            .title(entry.title())
+            .message(entry.message())
+            .data(entry.payload())
+            .timestamp(entry.createdAt().toInstant())
+            .read(entry.read())
+            .build();
+        notification.setReadAt(entry.readAt() != null ? entry.readAt().toInstant() : null);
+        return notification;
+    }
+    
+    /**
+     * 알림 목록 페이지
+     *
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record NotificationPage(List<NotificationData> notifications, Long nextCursor, int unreadCount) {
     }
     
     /**
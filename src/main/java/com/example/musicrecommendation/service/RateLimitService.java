@@ -0,0 +1,72 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.RateLimitProperties;
+import com.example.musicrecommendation.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공용 Rate Limit 서비스
+ * - 채팅 메시지, WebSocket 연결, 리뷰 작성, 추천 새로고침이 같은 토큰 버킷 엔진을 공유
+ * - 정책별 키 테이블은 크기 제한 + 유휴 제거로 메모리 상한 유지
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    private final Map<String, TokenBucketRateLimiter<Object>> limiters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimitService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        properties.getPolicies().forEach((name, policy) -> {
+            TokenBucketRateLimiter.Builder builder = TokenBucketRateLimiter.builder()
+                    .maximumKeys(policy.getMaxKeys());
+            if (policy.getPerMinute() > 0) {
+                builder.limit(policy.getPerMinute(), Duration.ofMinutes(1));
+            }
+            if (policy.getPerHour() > 0) {
+                builder.limit(policy.getPerHour(), Duration.ofHours(1));
+            }
+            TokenBucketRateLimiter<Object> limiter = builder.build();
+            limiters.put(name, limiter);
+
+            rejectedCounters.put(name, Counter.builder("ratelimit.rejected")
+                    .description("Rate limit 초과로 거부된 요청 수")
+                    .tag("policy", name)
+                    .register(meterRegistry));
+            Gauge.builder("ratelimit.keys", limiter, TokenBucketRateLimiter::estimatedSize)
+                    .description("Rate limit 추적 중인 키 수")
+                    .tag("policy", name)
+                    .register(meterRegistry);
+
+            log.info("Rate limit 정책 등록: {} (분당 {}, 시간당 {}, 최대 키 {})",
+                    name, policy.getPerMinute(), policy.getPerHour(), policy.getMaxKeys());
+        });
+    }
+
+    /**
+     * 정책에 따라 허용 1건 소비 시도
+     *
+     * @param policy 정책 이름 ({@link RateLimitProperties} 상수)
+     * @param key    사용자 ID, IP 등 제한 단위
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String policy, Object key) {
+        TokenBucketRateLimiter<Object> limiter = limiters.get(policy);
+        if (limiter == null) {
+            throw new IllegalArgumentException("등록되지 않은 Rate limit 정책: " + policy);
+        }
+        if (limiter.tryAcquire(key)) {
+            return true;
+        }
+        rejectedCounters.get(policy).increment();
+        return false;
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.musicrecommendation.service;
 
+import com.example.musicrecommendation.web.dto.ws.AnnouncementMessage;
+import com.example.musicrecommendation.web.dto.ws.PersonalNotification;
+import com.example.musicrecommendation.web.dto.ws.RealtimeNotification;
+import com.example.musicrecommendation.web.dto.ws.SystemStatusMessage;
+import com.example.musicrecommendation.web.dto.ws.UserEvent;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
@@ -16,82 +21,63 @@ import java.util.Map;
 public class RealtimeMatchingService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final UserEventPublisher userEventPublisher;
     private final UserProfileService userProfileService;
     private final MusicMatchingService musicMatchingService;
 
     /**
      * 매칭 성공 알림 전송
+     * - 사용자 이벤트 채널로 한 번만 전송 (기존 notifications/matching-result 중복 전송 및
+     *   전체 사용자 대상 matching-updates 브로드캐스트 제거)
      */
     public void sendMatchingSuccessNotification(Long userId, Object matchingResult) {
-        Object notification = new Object() {
-            public final String type = "MATCHING_SUCCESS";
-            public final String title = "🎵 새로운 매칭 발견!";
-            public final String message = "음악 취향이 비슷한 사용자를 찾았습니다!";
-            public final Object data = matchingResult;
-            public final String timestamp = LocalDateTime.now().toString();
-            public final boolean success = true;
-            public final String status = "MATCHED";
-            public final Object matchingData = matchingResult;
-        };
+        RealtimeNotification notification = new RealtimeNotification(
+                "MATCHING_SUCCESS",
+                "🎵 새로운 매칭 발견!",
+                "음악 취향이 비슷한 사용자를 찾았습니다!",
+                matchingResult,
+                LocalDateTime.now().toString(),
+                true,
+                "MATCHED",
+                matchingResult
+        );
 
         System.out.println("=== 매칭 성공 WebSocket 알림 전송 ===");
         System.out.println("대상 사용자: " + userId);
-        System.out.println("알림 데이터: " + notification.toString());
 
-        // 특정 사용자에게 개인 알림 전송 (기존)
-        messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/notifications",
-                notification
-        );
-        
-        // 매칭 결과 채널로도 전송 (추가)
-        messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/matching-result",
-                notification
-        );
-
-        // 전체 사용자에게 브로드캐스트 (선택적)
-        messagingTemplate.convertAndSend("/topic/matching-updates", new Object() {
-            public final String type = "NEW_MATCH_AVAILABLE";
-            public final String message = "새로운 매칭이 생성되었습니다";
-            public final String timestamp = LocalDateTime.now().toString();
-        });
+        userEventPublisher.publish(userId, UserEvent.CHANNEL_MATCHING_RESULT, notification.type(), notification);
     }
 
     /**
      * 추천곡 업데이트 알림
      */
     public void sendRecommendationUpdateNotification(Long userId, Object recommendations) {
-        Object notification = new Object() {
-            public final String type = "RECOMMENDATION_UPDATE";
-            public final String title = "🎶 새로운 추천곡 도착!";
-            public final String message = "당신을 위한 새로운 음악을 발견했습니다!";
-            public final Object data = recommendations;
-            public final String timestamp = LocalDateTime.now().toString();
-            public final boolean success = true;
-        };
-
-        messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/recommendations",
-                notification
+        RealtimeNotification notification = new RealtimeNotification(
+                "RECOMMENDATION_UPDATE",
+                "🎶 새로운 추천곡 도착!",
+                "당신을 위한 새로운 음악을 발견했습니다!",
+                recommendations,
+                LocalDateTime.now().toString(),
+                true,
+                null,
+                null
         );
+
+        userEventPublisher.publish(userId, UserEvent.CHANNEL_RECOMMENDATIONS, notification.type(), notification);
     }
 
     /**
      * 실시간 매칭 상태 브로드캐스트
      */
     public void broadcastMatchingStatus() {
-        Object status = new Object() {
-            public final String type = "SYSTEM_STATUS";
-            public final String message = "매칭 시스템 가동 중";
-            public final int activeUsers = getActiveUsersCount();
-            public final int totalMatches = getTotalMatchesCount();
-            public final String timestamp = LocalDateTime.now().toString();
-            public final boolean online = true;
-        };
+        SystemStatusMessage status = new SystemStatusMessage(
+                "SYSTEM_STATUS",
+                "매칭 시스템 가동 중",
+                getActiveUsersCount(),
+                getTotalMatchesCount(),
+                LocalDateTime.now().toString(),
+                true
+        );
 
         messagingTemplate.convertAndSend("/topic/system-status", status);
     }
@@ -211,33 +197,29 @@ public class RealtimeMatchingService {
      * 사용자별 실시간 알림 전송
      */
     public void sendPersonalNotification(Long userId, String title, String message, Object data) {
-        Object notification = new Object() {
-            public final String type = "PERSONAL_NOTIFICATION";
-            public final String notificationTitle = title;
-            public final String notificationMessage = message;
-            public final Object notificationData = data;
-            public final String timestamp = LocalDateTime.now().toString();
-            public final boolean personal = true;
-        };
-
-        messagingTemplate.convertAndSendToUser(
-                userId.toString(),
-                "/queue/personal",
-                notification
+        PersonalNotification notification = new PersonalNotification(
+                "PERSONAL_NOTIFICATION",
+                title,
+                message,
+                data,
+                LocalDateTime.now().toString(),
+                true
         );
+
+        userEventPublisher.publish(userId, UserEvent.CHANNEL_PERSONAL, notification.type(), notification);
     }
 
     /**
      * 전체 공지사항 브로드캐스트
      */
     public void broadcastAnnouncement(String title, String message) {
-        Object announcement = new Object() {
-            public final String type = "ANNOUNCEMENT";
-            public final String announcementTitle = title;
-            public final String announcementMessage = message;
-            public final String timestamp = LocalDateTime.now().toString();
-            public final boolean broadcast = true;
-        };
+        AnnouncementMessage announcement = new AnnouncementMessage(
+                "ANNOUNCEMENT",
+                title,
+                message,
+                LocalDateTime.now().toString(),
+                true
+        );
 
         messagingTemplate.convertAndSend("/topic/announcements", announcement);
     }
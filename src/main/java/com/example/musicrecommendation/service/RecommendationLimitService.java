@@ -1,23 +1,37 @@
 package com.example.musicrecommendation.service;
 
+import com.example.musicrecommendation.config.RateLimitProperties;
 import com.example.musicrecommendation.config.RecommendationProperties;
 import com.example.musicrecommendation.domain.UserRecommendationActivity;
 import com.example.musicrecommendation.repository.UserRecommendationActivityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 추천 시스템 제한 관리 서비스
- * - 데이터베이스 기반 일일 새로고침 제한
- * - 서버 재시작에도 지속적인 제한 관리
+ * - 일일/시간당 새로고침 제한을 사용자별 메모리 카운터로 원자적으로 판정 (요청 경로에서 DB 쓰기 없음)
+ * - 하루 첫 접근 시 DB 값으로 카운터를 채우고, 증가분은 주기적으로 일괄 upsert 하여 재시작에도 유지
  * - 성능 최적화를 위한 캐싱 적용
  */
 @Slf4j
@@ -25,31 +39,48 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RecommendationLimitService {
     
+    /** 시간당 새로고침 제한 */
+    private static final int HOURLY_REFRESH_LIMIT = 3;
+    
+    private static final String UPSERT_ACTIVITY_SQL =
+        "INSERT INTO user_recommendation_activity " +
+        "(user_id, activity_date, refresh_count, last_refresh_at, hourly_count, last_hourly_reset) " +
+        "VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (user_id, activity_date) DO UPDATE SET " +
+        "refresh_count = user_recommendation_activity.refresh_count + EXCLUDED.refresh_count, " +
+        "last_refresh_at = GREATEST(user_recommendation_activity.last_refresh_at, EXCLUDED.last_refresh_at), " +
+        "hourly_count = EXCLUDED.hourly_count, " +
+        "last_hourly_reset = EXCLUDED.last_hourly_reset";
+    
     private final UserRecommendationActivityRepository activityRepository;
     private final RecommendationProperties properties;
+    private final RateLimitService rateLimitService;
+    private final JdbcTemplate jdbcTemplate;
+    
+    /** 사용자별 오늘 새로고침 카운터 (하루 동안 접근이 없으면 제거) */
+    private final Cache<Long, RefreshQuota> quotas = Caffeine.newBuilder()
+        .maximumSize(200_000)
+        .expireAfterAccess(Duration.ofDays(1))
+        .build();
+    
+    /** DB에 아직 반영하지 않은 증가분이 있는 카운터 (캐시에서 제거되어도 반영되도록 객체를 직접 보관) */
+    private final Set<RefreshQuota> dirtyQuotas = ConcurrentHashMap.newKeySet();
     
-    /**
-     * 새로고침 가능 여부 확인 및 카운트 증가
-     * 
-     * @param userId 사용자 ID
-     * @return 제한 정보와 성공 여부
-     */
     /**
      * 현재 새로고침 상태 조회 (카운트 증가하지 않음)
      */
-    @Transactional
     public RefreshLimitResult checkCurrentRefreshStatus(Long userId) {
         try {
             LocalDate today = LocalDate.now();
-            UserRecommendationActivity activity = getOrCreateTodayActivity(userId, today);
+            QuotaSnapshot snapshot = quotaOf(userId).view(LocalDateTime.now());
             
             int dailyLimit = properties.getDailyRefreshLimit();
             
             return RefreshLimitResult.builder()
                 .success(true)
-                .currentCount(activity.getRefreshCount())
+                .currentCount(snapshot.dailyCount())
                 .maxCount(dailyLimit)
-                .remainingCount(Math.max(0, dailyLimit - activity.getRefreshCount()))
+                .remainingCount(Math.max(0, dailyLimit - snapshot.dailyCount()))
                 .resetDate(today.plusDays(1))
                 .message("현재 새로고침 상태 조회")
                 .build();
@@ -72,24 +103,22 @@ public class RecommendationLimitService {
     /**
      * 제한 상태만 확인 (카운트 증가 없음)
      */
-    @Transactional(readOnly = true)
     public RefreshLimitResult checkLimitOnly(Long userId) {
         try {
             LocalDate today = LocalDate.now();
-            UserRecommendationActivity activity = getOrCreateTodayActivity(userId, today);
+            QuotaSnapshot snapshot = quotaOf(userId).view(LocalDateTime.now());
             
             // 제한 상태만 확인
             int dailyLimit = properties.getDailyRefreshLimit();
-            int hourlyLimit = 3; // 시간당 3회 제한
             
             return RefreshLimitResult.builder()
                 .success(true)
-                .currentCount(activity.getRefreshCount())
-                .remainingCount(activity.getRemainingRefreshCount(dailyLimit))
+                .currentCount(snapshot.dailyCount())
+                .remainingCount(Math.max(0, dailyLimit - snapshot.dailyCount()))
                 .maxCount(dailyLimit)
-                .hourlyUsed(activity.getCurrentHourlyCount())
-                .hourlyRemaining(activity.getRemainingHourlyRefreshCount(hourlyLimit))
-                .hourlyMax(hourlyLimit)
+                .hourlyUsed(snapshot.hourlyCount())
+                .hourlyRemaining(Math.max(0, HOURLY_REFRESH_LIMIT - snapshot.hourlyCount()))
+                .hourlyMax(HOURLY_REFRESH_LIMIT)
                 .resetDate(today.plusDays(1))
                 .message("제한 상태 조회")
                 .build();
@@ -104,78 +133,91 @@ public class RecommendationLimitService {
                 .remainingCount(properties.getDailyRefreshLimit())
                 .maxCount(properties.getDailyRefreshLimit())
                 .hourlyUsed(0)
-                .hourlyRemaining(3)
-                .hourlyMax(3)
+                .hourlyRemaining(HOURLY_REFRESH_LIMIT)
+                .hourlyMax(HOURLY_REFRESH_LIMIT)
                 .resetDate(LocalDate.now().plusDays(1))
                 .message("제한 확인 실패 - 기본값")
                 .build();
         }
     }
 
-    @Transactional
+    /**
+     * 새로고침 가능 여부 확인 및 카운트 증가
+     * - 확인과 증가가 사용자 카운터 하나에서 원자적으로 수행되어 동시 요청에도 제한을 넘지 않음
+     * 
+     * @param userId 사용자 ID
+     * @return 제한 정보와 성공 여부
+     */
     public RefreshLimitResult checkAndIncrementRefreshCount(Long userId) {
+        int dailyLimit = properties.getDailyRefreshLimit();
+        
+        // 짧은 시간 연타는 카운터 확인 전에 차단
+        if (!rateLimitService.tryAcquire(RateLimitProperties.RECOMMENDATION_REFRESH, userId)) {
+            return RefreshLimitResult.builder()
+                .success(false)
+                .maxCount(dailyLimit)
+                .hourlyMax(HOURLY_REFRESH_LIMIT)
+                .resetDate(LocalDate.now().plusDays(1))
+                .message("새로고침 요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+        }
+        
         try {
             LocalDate today = LocalDate.now();
-            UserRecommendationActivity activity = getOrCreateTodayActivity(userId, today);
+            RefreshQuota quota = quotaOf(userId);
+            QuotaSnapshot snapshot = quota.tryIncrement(LocalDateTime.now(), dailyLimit, HOURLY_REFRESH_LIMIT);
             
             // 일일 제한 확인
-            int dailyLimit = properties.getDailyRefreshLimit();
-            int hourlyLimit = 3; // 시간당 3회 제한
-            
-            if (activity.isLimitExceeded(dailyLimit)) {
+            if (snapshot.dailyExceeded()) {
                 log.info("사용자 {}의 일일 새로고침 제한 초과 (현재: {}, 제한: {})", 
-                    userId, activity.getRefreshCount(), dailyLimit);
+                    userId, snapshot.dailyCount(), dailyLimit);
                 
                 return RefreshLimitResult.builder()
                     .success(false)
-                    .currentCount(activity.getRefreshCount())
+                    .currentCount(snapshot.dailyCount())
                     .remainingCount(0)
                     .maxCount(dailyLimit)
-                    .hourlyUsed(activity.getCurrentHourlyCount())
-                    .hourlyRemaining(activity.getRemainingHourlyRefreshCount(hourlyLimit))
-                    .hourlyMax(hourlyLimit)
+                    .hourlyUsed(snapshot.hourlyCount())
+                    .hourlyRemaining(Math.max(0, HOURLY_REFRESH_LIMIT - snapshot.hourlyCount()))
+                    .hourlyMax(HOURLY_REFRESH_LIMIT)
                     .resetDate(today.plusDays(1))
                     .message("일일 새로고침 제한에 도달했습니다")
                     .build();
             }
             
             // 시간당 제한 확인
-            if (activity.isHourlyLimitExceeded(hourlyLimit)) {
+            if (snapshot.hourlyExceeded()) {
                 log.info("사용자 {}의 시간당 새로고침 제한 초과 (현재: {}, 제한: {})", 
-                    userId, activity.getCurrentHourlyCount(), hourlyLimit);
+                    userId, snapshot.hourlyCount(), HOURLY_REFRESH_LIMIT);
                 
                 return RefreshLimitResult.builder()
                     .success(false)
-                    .currentCount(activity.getRefreshCount())
-                    .remainingCount(activity.getRemainingRefreshCount(dailyLimit))
+                    .currentCount(snapshot.dailyCount())
+                    .remainingCount(Math.max(0, dailyLimit - snapshot.dailyCount()))
                     .maxCount(dailyLimit)
-                    .hourlyUsed(activity.getCurrentHourlyCount())
+                    .hourlyUsed(snapshot.hourlyCount())
                     .hourlyRemaining(0)
-                    .hourlyMax(hourlyLimit)
+                    .hourlyMax(HOURLY_REFRESH_LIMIT)
                     .resetDate(today.plusDays(1))
                     .message("시간당 새로고침 제한에 도달했습니다. 1시간 후에 다시 시도해주세요.")
                     .build();
             }
             
-            // 카운트 증가 (일일 및 시간당)
-            activity.incrementRefreshCount();
-            activityRepository.save(activity);
-            
-            // 캐시 무효화 (다음 조회 시 최신 데이터 반영)
-            evictUserActivityCache(userId, today);
+            // 증가분은 다음 반영 주기에 DB로 일괄 저장
+            dirtyQuotas.add(quota);
             
             log.debug("사용자 {} 새로고침 카운트 증가: 일일 {}/{}, 시간당 {}/{}", 
-                userId, activity.getRefreshCount(), dailyLimit, 
-                activity.getCurrentHourlyCount(), hourlyLimit);
+                userId, snapshot.dailyCount(), dailyLimit, 
+                snapshot.hourlyCount(), HOURLY_REFRESH_LIMIT);
             
             return RefreshLimitResult.builder()
                 .success(true)
-                .currentCount(activity.getRefreshCount())
-                .remainingCount(activity.getRemainingRefreshCount(dailyLimit))
+                .currentCount(snapshot.dailyCount())
+                .remainingCount(Math.max(0, dailyLimit - snapshot.dailyCount()))
                 .maxCount(dailyLimit)
-                .hourlyUsed(activity.getCurrentHourlyCount())
-                .hourlyRemaining(activity.getRemainingHourlyRefreshCount(hourlyLimit))
-                .hourlyMax(hourlyLimit)
+                .hourlyUsed(snapshot.hourlyCount())
+                .hourlyRemaining(Math.max(0, HOURLY_REFRESH_LIMIT - snapshot.hourlyCount()))
+                .hourlyMax(HOURLY_REFRESH_LIMIT)
                 .resetDate(today.plusDays(1))
                 .message("새로고침 성공")
                 .build();
@@ -187,17 +229,61 @@ public class RecommendationLimitService {
             return RefreshLimitResult.builder()
                 .success(true)
                 .currentCount(0)
-                .remainingCount(properties.getDailyRefreshLimit())
-                .maxCount(properties.getDailyRefreshLimit())
+                .remainingCount(dailyLimit)
+                .maxCount(dailyLimit)
                 .hourlyUsed(0)
-                .hourlyRemaining(3)
-                .hourlyMax(3)
+                .hourlyRemaining(HOURLY_REFRESH_LIMIT)
+                .hourlyMax(HOURLY_REFRESH_LIMIT)
                 .resetDate(LocalDate.now().plusDays(1))
                 .message("제한 확인 실패 - 기본 허용")
                 .build();
         }
     }
     
+    /**
+     * 메모리 카운터 증가분을 DB에 일괄 반영 (refresh_count는 증가분을 더하는 upsert)
+     */
+    @Scheduled(fixedDelayString = "${app.recommendation.refresh-flush-interval-ms:5000}")
+    public void flushRefreshCounts() {
+        if (dirtyQuotas.isEmpty()) {
+            return;
+        }
+        
+        List<RefreshQuota> drained = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Iterator<RefreshQuota> it = dirtyQuotas.iterator(); it.hasNext(); ) {
+            RefreshQuota quota = it.next();
+            it.remove();
+            for (Object[] row : quota.drainPending()) {
+                drained.add(quota);
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_ACTIVITY_SQL, rows);
+            log.debug("새로고침 카운트 DB 반영: {}건", rows.size());
+        } catch (Exception e) {
+            // 실패한 증가분은 되돌려 다음 주기에 재시도
+            for (int i = 0; i < drained.size(); i++) {
+                drained.get(i).restorePending(rows.get(i));
+                dirtyQuotas.add(drained.get(i));
+            }
+            log.warn("새로고침 카운트 DB 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushRefreshCounts();
+    }
+    
     /**
      * 사용자의 오늘 새로고침 현황 조회
      */
@@ -228,37 +314,170 @@ public class RecommendationLimitService {
     @Transactional
     @CacheEvict(value = "userRefreshStatus", key = "#userId + '_' + T(java.time.LocalDate).now()")
     public void resetUserDailyLimit(Long userId) {
+        // 반영 전 증가분을 버리고 다음 접근 시 DB 값(0)으로 다시 적재
+        RefreshQuota quota = quotas.asMap().remove(userId);
+        if (quota != null) {
+            quota.discard();
+            dirtyQuotas.remove(quota);
+        }
+        
         LocalDate today = LocalDate.now();
         activityRepository.findByUserIdAndActivityDate(userId, today)
             .ifPresent(activity -> {
                 activity.setRefreshCount(0);
                 activity.setLastRefreshAt(null);
+                activity.setHourlyCount(0);
+                activity.setLastHourlyReset(null);
                 activityRepository.save(activity);
                 log.info("관리자가 사용자 {}의 일일 제한을 리셋했습니다", userId);
             });
     }
     
     /**
-     * 오늘의 활동 기록 조회 또는 생성
+     * 사용자 카운터 조회 (없으면 오늘 DB 기록으로 초기화 - 사용자당 하루 한 번 조회)
      */
-    private UserRecommendationActivity getOrCreateTodayActivity(Long userId, LocalDate today) {
-        return activityRepository.findByUserIdAndActivityDate(userId, today)
-            .orElseGet(() -> {
-                UserRecommendationActivity newActivity = UserRecommendationActivity.builder()
-                    .userId(userId)
-                    .activityDate(today)
-                    .refreshCount(0)
-                    .build();
-                return activityRepository.save(newActivity);
-            });
+    private RefreshQuota quotaOf(Long userId) {
+        return quotas.get(userId, id -> {
+            LocalDate today = LocalDate.now();
+            return activityRepository.findByUserIdAndActivityDate(id, today)
+                .map(activity -> new RefreshQuota(id, today, activity.getRefreshCount(),
+                    activity.getLastRefreshAt(), activity.getHourlyCount(), activity.getLastHourlyReset()))
+                .orElseGet(() -> new RefreshQuota(id, today, 0, null, 0, null));
+        });
     }
     
     /**
-     * 사용자 활동 캐시 무효화
+     * 카운터 판정 결과
      */
-    @CacheEvict(value = "userRefreshStatus", key = "#userId + '_' + #date")
-    private void evictUserActivityCache(Long userId, LocalDate date) {
-        // 캐시 무효화 전용 메서드
+    record QuotaSnapshot(int dailyCount, int hourlyCount, boolean dailyExceeded, boolean hourlyExceeded) { }
+    
+    /**
+     * 사용자별 오늘 새로고침 카운터 - 판정과 증가는 객체 단위로 동기화 (DB 접근 없음)
+     */
+    static final class RefreshQuota {
+        private final Long userId;
+        private LocalDate date;
+        private int dailyCount;
+        private LocalDateTime lastRefreshAt;
+        private int hourlyCount;
+        private LocalDateTime hourlyWindowStart;
+        
+        /** DB에 아직 반영하지 않은 오늘 증가분 */
+        private int pendingDelta;
+        
+        /** 날짜가 바뀌기 전에 반영하지 못한 이전 날짜 행 */
+        private Object[] carriedRow;
+        private boolean discarded;
+        
+        RefreshQuota(Long userId, LocalDate date, int dailyCount, LocalDateTime lastRefreshAt,
+                     int hourlyCount, LocalDateTime hourlyWindowStart) {
+            this.userId = userId;
+            this.date = date;
+            this.dailyCount = dailyCount;
+            this.lastRefreshAt = lastRefreshAt;
+            this.hourlyCount = hourlyCount;
+            this.hourlyWindowStart = hourlyWindowStart;
+        }
+        
+        synchronized QuotaSnapshot tryIncrement(LocalDateTime now, int dailyLimit, int hourlyLimit) {
+            rollOver(now);
+            if (dailyCount >= dailyLimit) {
+                return new QuotaSnapshot(dailyCount, hourlyCount, true, false);
+            }
+            if (hourlyCount >= hourlyLimit) {
+                return new QuotaSnapshot(dailyCount, hourlyCount, false, true);
+            }
+            
+            dailyCount++;
+            pendingDelta++;
+            lastRefreshAt = now;
+            if (hourlyWindowStart == null) {
+                hourlyWindowStart = now;
+            }
+            hourlyCount++;
+            return new QuotaSnapshot(dailyCount, hourlyCount, false, false);
+        }
+        
+        synchronized QuotaSnapshot view(LocalDateTime now) {
+            rollOver(now);
+            return new QuotaSnapshot(dailyCount, hourlyCount, false, false);
+        }
+        
+        /**
+         * 반영할 행 추출 후 증가분 초기화
+         * 행 형식: [user_id, activity_date, refresh_count 증가분, last_refresh_at, hourly_count, last_hourly_reset]
+         */
+        synchronized List<Object[]> drainPending() {
+            List<Object[]> rows = new ArrayList<>(2);
+            if (discarded) {
+                return rows;
+            }
+            if (carriedRow != null) {
+                rows.add(carriedRow);
+                carriedRow = null;
+            }
+            if (pendingDelta > 0) {
+                rows.add(currentRow());
+                pendingDelta = 0;
+            }
+            return rows;
+        }
+        
+        /**
+         * 반영 실패 시 증가분 복구
+         */
+        synchronized void restorePending(Object[] row) {
+            if (discarded) {
+                return;
+            }
+            if (Date.valueOf(date).equals(row[1])) {
+                pendingDelta += (Integer) row[2];
+            } else if (carriedRow == null) {
+                carriedRow = row;
+            } else {
+                carriedRow[2] = (Integer) carriedRow[2] + (Integer) row[2];
+            }
+        }
+        
+        synchronized void discard() {
+            discarded = true;
+            pendingDelta = 0;
+            carriedRow = null;
+        }
+        
+        private Object[] currentRow() {
+            return new Object[] {
+                userId,
+                Date.valueOf(date),
+                pendingDelta,
+                lastRefreshAt != null ? Timestamp.valueOf(lastRefreshAt) : null,
+                hourlyCount,
+                hourlyWindowStart != null ? Timestamp.valueOf(hourlyWindowStart) : null
+            };
+        }
+        
+        /**
+         * 날짜/시간 구간이 지났으면 카운터 초기화
+         * - 날짜가 바뀌면 일일/시간당 모두 초기화 (이전 날짜 증가분은 별도 행으로 보관)
+         * - 시간당 구간은 첫 새로고침 시점부터 1시간
+         */
+        private void rollOver(LocalDateTime now) {
+            LocalDate today = now.toLocalDate();
+            if (!today.equals(date)) {
+                if (pendingDelta > 0) {
+                    carriedRow = currentRow();
+                    pendingDelta = 0;
+                }
+                date = today;
+                dailyCount = 0;
+                hourlyCount = 0;
+                hourlyWindowStart = null;
+            }
+            if (hourlyWindowStart != null && now.isAfter(hourlyWindowStart.plusHours(1))) {
+                hourlyCount = 0;
+                hourlyWindowStart = null;
+            }
+        }
     }
     
     /**
@@ -26,6 +26,7 @@ public class RecommendationSchedulerService {
     private final MusicRecommendationEngine recommendationEngine;
     private final UserProfileService userProfileService;
     private final CacheManager cacheManager;
+    private final CacheInvalidationService cacheInvalidationService;
     
     /**
      * 매일 새벽 3시에 추천 캐시 점진적 갱신 (전체 삭제 대신 만료된 것만)
@@ -108,14 +109,8 @@ public class RecommendationSchedulerService {
             try {
                 log.info("사용자 {} 추천 갱신 시작", userId);
                 
-                // 해당 사용자의 캐시 삭제
-                var cache = cacheManager.getCache("musicRecommendations");
-                if (cache != null) {
-                    // 해당 사용자의 모든 추천 캐시 키 삭제
-                    cache.evictIfPresent(userId + "_20");
-                    cache.evictIfPresent(userId + "_10");
-                    cache.evictIfPresent(userId + "_30");
-                }
+                // 해당 사용자의 모든 추천 캐시 키 삭제 (요청 개수와 무관하게 등록된 키 전체)
+                cacheInvalidationService.evictRecommendations(userId);
                 
                 // 새로운 추천 미리 생성
                 recommendationEngine.getPersonalizedRecommendations(userId, 20);
@@ -1,24 +1,32 @@
 package com.example.musicrecommendation.service;
 
+import com.example.musicrecommendation.domain.ChatRoom;
+import com.example.musicrecommendation.event.ChatRoomExpiryEvent;
+import com.example.musicrecommendation.repository.ChatRoomRepository;
+import com.example.musicrecommendation.util.HashedTimingWheel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.security.SecureRandom;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 
 /**
  * 보안이 강화된 채팅방 관리 서비스
  * - UUID 기반 안전한 roomId 생성
  * - 사용자 권한 검증
- * - 세션 만료 관리
+ * - 세션 만료 관리 (타이밍 휠 기반 - 방별 다음 체크포인트 하나만 등록, 전체 스캔 없음)
+ * - chat_rooms 테이블에 write-through 저장, Caffeine 캐시로 조회 (재시작 시 활성 방만 미리 적재)
  */
 @Service
 @RequiredArgsConstructor
@@ -26,18 +34,73 @@ public class SecureChatRoomService {
     
     private static final Logger log = LoggerFactory.getLogger(SecureChatRoomService.class);
     
-    // 채팅방 정보 저장
-    private final Map<String, ChatRoomInfo> chatRooms = new ConcurrentHashMap<>();
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     
-    // 사용자별 활성 채팅방 매핑 (userId -> roomId)
-    private final Map<Long, String> userToRoom = new ConcurrentHashMap<>();
+    /** 만료 경고 시점 (만료 N분 전, 내림차순) */
+    private static final int[] WARNING_MINUTES = {30, 5, 1};
     
-    // 채팅방별 참여자 매핑 (roomId -> Set<userId>)  
-    private final Map<String, Set<Long>> roomToUsers = new ConcurrentHashMap<>();
+    /** 타이밍 휠: 1초 tick × 512 슬롯 (한 바퀴 약 8.5분, 그 이상은 회전 수로 표현) */
+    private static final long WHEEL_TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 512;
+    
+    /** 캐시에 유지할 최대 채팅방 수 (초과분은 DB에서 다시 적재) */
+    private static final long MAX_CACHED_ROOMS = 100_000L;
+    
+    /** 존재하지 않는 roomId 조회 결과 보관 시간 */
+    private static final Duration MISSING_ROOM_TTL = Duration.ofSeconds(30);
+    
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatRoomRepository chatRoomRepository;
+    
+    private final HashedTimingWheel<ChatRoomInfo> expiryWheel =
+        new HashedTimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    
+    // 채팅방 정보 캐시 (roomId -> 채팅방), 원본은 chat_rooms 테이블
+    private final Cache<String, ChatRoomInfo> chatRooms = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_ROOMS)
+        .build();
+    
+    // DB에 없는(또는 비활성) roomId 캐시 - 잘못된 roomId로 메시지가 올 때마다 DB 조회하지 않도록
+    private final Cache<String, Boolean> missingRooms = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_ROOMS)
+        .expireAfterWrite(MISSING_ROOM_TTL)
+        .build();
+    
+    // 사용자별 활성 채팅방 캐시 (userId -> roomId), 미스 시 참여자 인덱스로 조회
+    private final Cache<Long, String> userToRoom = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_ROOMS * 2)
+        .build();
     
     // 보안 강화를 위한 SecureRandom
     private final SecureRandom secureRandom = new SecureRandom();
     
+    /**
+     * 시작 시 활성 채팅방 미리 적재
+     * - 서버가 내려가 있는 동안 만료된 방은 일괄 종료 처리
+     * - 남은 방은 캐시에 올리고 만료 타이머 재등록 (재접속 시 방 재생성 폭주 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadActiveRooms() {
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime activeSince = now.minus(ChatRoomInfo.ROOM_EXPIRY);
+        try {
+            int closed = chatRoomRepository.deactivateExpired(activeSince, now);
+            List<ChatRoom> activeRooms = chatRoomRepository.findByActiveTrueAndLastActivityAtAfter(activeSince);
+            
+            long nowMillis = System.currentTimeMillis();
+            for (ChatRoom entity : activeRooms) {
+                ChatRoomInfo room = ChatRoomInfo.from(entity);
+                chatRooms.put(room.getRoomId(), room);
+                userToRoom.put(room.getParticipant1(), room.getRoomId());
+                userToRoom.put(room.getParticipant2(), room.getRoomId());
+                scheduleNextCheckpoint(room, nowMillis);
+            }
+            log.info("활성 채팅방 적재 완료: {}개 (만료 처리: {}개)", activeRooms.size(), closed);
+        } catch (Exception e) {
+            log.error("활성 채팅방 적재 실패 - 조회 시점에 개별 적재됨", e);
+        }
+    }
+    
     /**
      * 안전한 채팅방 ID 생성
      * UUID 기반으로 예측 불가능한 ID 생성
@@ -57,7 +120,7 @@ public class SecureChatRoomService {
         // 기존 활성 채팅방 확인
         String existingRoom = findExistingRoom(user1Id, user2Id);
         if (existingRoom != null) {
-            ChatRoomInfo existing = chatRooms.get(existingRoom);
+            ChatRoomInfo existing = getRoomInfo(existingRoom);
             if (existing != null && existing.isActive() && !existing.isExpired()) {
                 log.info("기존 채팅방 재사용: {} (users: {}, {})", existingRoom, user1Id, user2Id);
                 return new ChatRoomCreationResult(existingRoom, existing, false);
@@ -66,22 +129,34 @@ public class SecureChatRoomService {
         
         // 새 채팅방 생성
         String secureRoomId = generateSecureRoomId();
+        LocalDateTime now = LocalDateTime.now(KST);
         
         ChatRoomInfo roomInfo = ChatRoomInfo.builder()
             .roomId(secureRoomId)
             .participant1(user1Id)
             .participant2(user2Id)
-            .createdAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
-            .lastActivityAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+            .createdAt(now)
+            .lastActivityAt(now)
             .active(true)
             .roomType("PRIVATE_MATCH")
             .build();
         
-        // 매핑 정보 저장
+        // DB 먼저 저장 후 캐시 반영 (write-through)
+        chatRoomRepository.save(ChatRoom.builder()
+            .roomId(secureRoomId)
+            .participant1Id(user1Id)
+            .participant2Id(user2Id)
+            .roomType(roomInfo.getRoomType())
+            .active(true)
+            .createdAt(now)
+            .lastActivityAt(now)
+            .build());
+        
         chatRooms.put(secureRoomId, roomInfo);
+        missingRooms.invalidate(secureRoomId);
         userToRoom.put(user1Id, secureRoomId);
         userToRoom.put(user2Id, secureRoomId);
-        roomToUsers.put(secureRoomId, Set.of(user1Id, user2Id));
+        scheduleNextCheckpoint(roomInfo, System.currentTimeMillis());
         
         log.info("새 보안 채팅방 생성: {} (users: {}, {})", secureRoomId, user1Id, user2Id);
         
@@ -99,14 +174,13 @@ public class SecureChatRoomService {
             return false;
         }
         
-        ChatRoomInfo room = chatRooms.get(roomId);
+        ChatRoomInfo room = getRoomInfo(roomId);
         if (room == null || !room.isActive() || room.isExpired()) {
             log.warn("채팅방 접근 거부 - 존재하지 않거나 비활성/만료됨: {}", roomId);
             return false;
         }
         
-        boolean hasAccess = room.getParticipant1().equals(userId) || 
-                           room.getParticipant2().equals(userId);
+        boolean hasAccess = room.isParticipant(userId);
         
         if (!hasAccess) {
             log.warn("채팅방 접근 거부 - 권한 없음: {} (user: {})", roomId, userId);
@@ -119,9 +193,9 @@ public class SecureChatRoomService {
      * 채팅방 활동 업데이트 (메시지 전송 시)
      */
     public void updateRoomActivity(String roomId) {
-        ChatRoomInfo room = chatRooms.get(roomId);
+        ChatRoomInfo room = getRoomInfo(roomId);
         if (room != null) {
-            room.updateLastActivity();
+            touch(room);
         }
     }
     
@@ -129,24 +203,45 @@ public class SecureChatRoomService {
      * 사용자의 활성 채팅방 조회
      */
     public String getUserActiveRoom(Long userId) {
-        String roomId = userToRoom.get(userId);
+        if (userId == null) {
+            return null;
+        }
+        String roomId = userToRoom.getIfPresent(userId);
+        if (roomId == null) {
+            roomId = loadUserActiveRoom(userId);
+        }
         if (roomId != null) {
-            ChatRoomInfo room = chatRooms.get(roomId);
+            ChatRoomInfo room = getRoomInfo(roomId);
             if (room != null && room.isActive() && !room.isExpired()) {
                 return roomId;
             }
             // 만료된 방 정리
-            userToRoom.remove(userId);
+            userToRoom.asMap().remove(userId, roomId);
         }
         return null;
     }
     
+    /**
+     * 상대 참여자 조회 (알림 수신자 결정용)
+     * @return 상대 사용자 ID, 채팅방이 없거나 참여자가 아니면 null
+     */
+    public Long getOtherParticipant(String roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return null;
+        }
+        ChatRoomInfo room = getRoomInfo(roomId);
+        if (room == null || !room.isParticipant(userId)) {
+            return null;
+        }
+        return room.getParticipant1().equals(userId) ? room.getParticipant2() : room.getParticipant1();
+    }
+    
     /**
      * 기존 채팅방 찾기 (같은 사용자 조합)
      */
     private String findExistingRoom(Long user1Id, Long user2Id) {
-        String room1 = userToRoom.get(user1Id);
-        String room2 = userToRoom.get(user2Id);
+        String room1 = getUserActiveRoom(user1Id);
+        String room2 = getUserActiveRoom(user2Id);
         
         if (room1 != null && room1.equals(room2)) {
             return room1;
@@ -155,64 +250,151 @@ public class SecureChatRoomService {
     }
     
     /**
-     * 만료된 채팅방 정리 (스케줄링으로 호출)
+     * 캐시 미스 시 참여자 인덱스로 활성 채팅방 조회
+     */
+    private String loadUserActiveRoom(Long userId) {
+        LocalDateTime activeSince = LocalDateTime.now(KST).minus(ChatRoomInfo.ROOM_EXPIRY);
+        List<ChatRoom> rooms = chatRoomRepository.findActiveRoomsByParticipant(userId, activeSince);
+        if (rooms.isEmpty()) {
+            return null;
+        }
+        ChatRoom latest = rooms.get(0);
+        if (chatRooms.get(latest.getRoomId(), id -> loadedRoom(latest)) == null) {
+            return null;
+        }
+        userToRoom.put(userId, latest.getRoomId());
+        return latest.getRoomId();
+    }
+    
+    /**
+     * DB에서 읽은 방을 캐시 항목으로 변환하고 만료 타이머 등록 (캐시 적재 시 키당 한 번만 호출)
      */
-    public int cleanupExpiredRooms() {
-        int cleaned = 0;
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        
-        for (Map.Entry<String, ChatRoomInfo> entry : chatRooms.entrySet()) {
-            ChatRoomInfo room = entry.getValue();
-            if (room.isExpired()) {
-                String roomId = entry.getKey();
-                
-                // 매핑 정보 정리
-                userToRoom.remove(room.getParticipant1());
-                userToRoom.remove(room.getParticipant2());
-                roomToUsers.remove(roomId);
-                chatRooms.remove(roomId);
-                
-                cleaned++;
-                log.info("만료된 채팅방 정리: {} (created: {}, lastActivity: {})", 
-                    roomId, room.getCreatedAt(), room.getLastActivityAt());
+    private ChatRoomInfo loadedRoom(ChatRoom entity) {
+        ChatRoomInfo room = ChatRoomInfo.from(entity);
+        if (room.isExpired()) {
+            return null;
+        }
+        scheduleNextCheckpoint(room, System.currentTimeMillis());
+        return room;
+    }
+    
+    /**
+     * 활동 시각 갱신 - 메모리는 매번, DB는 일정 간격 이상 지났을 때만 반영
+     */
+    private void touch(ChatRoomInfo room) {
+        room.updateLastActivity();
+        if (room.needsActivityPersist()) {
+            room.markActivityPersisted();
+            try {
+                chatRoomRepository.updateLastActivity(room.getRoomId(), room.getLastActivityAt());
+            } catch (Exception e) {
+                log.warn("채팅방 활동 시각 저장 실패: {} - {}", room.getRoomId(), e.getMessage());
             }
         }
+    }
+    
+    /**
+     * 타이밍 휠 진행 (스케줄러가 tick 주기로 호출)
+     * - 이번 tick에 도달한 방만 처리하므로 방 개수와 무관하게 비용이 일정
+     * @return 처리된 체크포인트 수
+     */
+    public int processExpiryTimers() {
+        long now = System.currentTimeMillis();
+        return expiryWheel.advance(now, room -> {
+            try {
+                onCheckpoint(room, now);
+            } catch (Exception e) {
+                log.error("채팅방 만료 타이머 처리 실패: {}", room.getRoomId(), e);
+            }
+        });
+    }
+    
+    /**
+     * 등록된 만료 타이머 수 (모니터링용)
+     */
+    public int getScheduledTimerCount() {
+        return expiryWheel.size();
+    }
+    
+    /**
+     * 체크포인트 도달 처리
+     * - 활동으로 만료 시각이 밀렸으면 새 시각으로 다시 등록 (활동 시 타이머 취소/재등록 불필요)
+     * - 경고 시점이면 경고 이벤트, 만료 시각이면 방 제거 후 만료 이벤트 발행
+     * - 캐시 크기 초과로 밀려난 방도 타이머는 계속 진행 (다시 적재되면 새 항목의 타이머로 넘김)
+     */
+    private void onCheckpoint(ChatRoomInfo room, long now) {
+        String roomId = room.getRoomId();
+        ChatRoomInfo cached = chatRooms.getIfPresent(roomId);
+        if ((cached != null && cached != room) || room.closed) {
+            return; // 이미 제거되었거나 다시 적재된 방 (새 항목은 자체 타이머 보유)
+        }
         
-        if (cleaned > 0) {
-            log.info("채팅방 정리 완료: {}개 방 삭제", cleaned);
+        long millisLeft = room.getExpiresAtMillis() - now;
+        if (millisLeft <= 0) {
+            removeRoom(roomId, room);
+            log.info("만료된 채팅방 정리: {} (created: {}, lastActivity: {})",
+                roomId, room.getCreatedAt(), room.getLastActivityAt());
+            eventPublisher.publishEvent(new ChatRoomExpiryEvent(this, roomId, ChatRoomExpiryEvent.Type.EXPIRED,
+                0, room.getParticipant1(), room.getParticipant2()));
+            return;
         }
         
-        return cleaned;
+        // 늦게 도달한 경우 여러 경고 시점을 지나쳤을 수 있으므로 가장 임박한 경고 하나만 전송
+        int dueWarning = -1;
+        for (int warningMinutes : WARNING_MINUTES) {
+            if (millisLeft <= warningMinutes * 60_000L && room.lastWarningMinutes > warningMinutes) {
+                dueWarning = warningMinutes;
+            }
+        }
+        if (dueWarning > 0 && room.isActive()) {
+            room.lastWarningMinutes = dueWarning;
+            eventPublisher.publishEvent(new ChatRoomExpiryEvent(this, roomId, ChatRoomExpiryEvent.Type.WARNING,
+                dueWarning, room.getParticipant1(), room.getParticipant2()));
+        }
+        
+        scheduleNextCheckpoint(room, now);
     }
     
     /**
-     * 만료 경고가 필요한 채팅방들 조회
-     * @param warningMinutes 경고 시점 (분)
-     * @return 경고 필요한 채팅방 목록
+     * 다음 체크포인트(아직 지나지 않은 가장 가까운 경고 시점 또는 만료 시각) 등록
      */
-    public Map<String, ChatRoomInfo> getRoomsNeedingWarning(int warningMinutes) {
-        Map<String, ChatRoomInfo> needingWarning = new ConcurrentHashMap<>();
-        
-        for (Map.Entry<String, ChatRoomInfo> entry : chatRooms.entrySet()) {
-            ChatRoomInfo room = entry.getValue();
-            if (room.needsWarning(warningMinutes)) {
-                needingWarning.put(entry.getKey(), room);
+    private void scheduleNextCheckpoint(ChatRoomInfo room, long now) {
+        long expiresAt = room.getExpiresAtMillis();
+        long next = expiresAt;
+        for (int warningMinutes : WARNING_MINUTES) {
+            long warningAt = expiresAt - warningMinutes * 60_000L;
+            if (warningAt > now && warningMinutes < room.lastWarningMinutes) {
+                next = warningAt;
+                break;
             }
         }
-        
-        return needingWarning;
+        expiryWheel.schedule(room, next);
+    }
+    
+    /**
+     * 만료된 방 제거 (캐시 + DB)
+     * - 캐시에서 이미 밀려난 방이어도 DB 비활성화는 수행 (조건부 UPDATE라 중복 호출해도 무해)
+     */
+    private void removeRoom(String roomId, ChatRoomInfo room) {
+        chatRooms.asMap().remove(roomId, room);
+        room.closed = true;
+        userToRoom.asMap().remove(room.getParticipant1(), roomId);
+        userToRoom.asMap().remove(room.getParticipant2(), roomId);
+        if (room.isActive()) {
+            chatRoomRepository.deactivate(roomId, LocalDateTime.now(KST));
+        }
     }
     
     /**
      * 채팅방 활동 업데이트 및 자동 연장 알림
      */
     public boolean updateRoomActivityWithExtensionCheck(String roomId) {
-        ChatRoomInfo room = chatRooms.get(roomId);
+        ChatRoomInfo room = getRoomInfo(roomId);
         if (room != null) {
             // 만료 임박 상태였는지 확인 (5분 이내)
             boolean wasExpiringSoon = room.needsWarning(5);
             
-            room.updateLastActivity();
+            touch(room);
             
             // 만료 임박 상태에서 메시지가 와서 연장된 경우 true 반환
             return wasExpiringSoon;
@@ -231,38 +413,46 @@ public class SecureChatRoomService {
             return false;
         }
         
-        ChatRoomInfo room = chatRooms.get(roomId);
+        ChatRoomInfo room = getRoomInfo(roomId);
         if (room == null) {
             log.warn("존재하지 않는 채팅방 나가기 시도: {}", roomId);
             return false;
         }
         
         // 해당 사용자가 참여자인지 확인
-        if (!room.getParticipant1().equals(userId) && !room.getParticipant2().equals(userId)) {
+        if (!room.isParticipant(userId)) {
             log.warn("채팅방 참여자가 아닌 사용자의 나가기 시도: {} (user: {})", roomId, userId);
             return false;
         }
         
-        // 채팅방을 비활성화하고 매핑 정보 제거
+        // 채팅방을 비활성화하고 매핑 정보 제거 (DB 먼저 반영)
+        chatRoomRepository.deactivate(roomId, LocalDateTime.now(KST));
         room.deactivate();
-        userToRoom.remove(userId);
         
         // 상대방도 매핑에서 제거 (채팅방 자체를 종료)
-        Long otherUserId = room.getParticipant1().equals(userId) ? room.getParticipant2() : room.getParticipant1();
-        userToRoom.remove(otherUserId);
-        roomToUsers.remove(roomId);
+        userToRoom.asMap().remove(room.getParticipant1(), roomId);
+        userToRoom.asMap().remove(room.getParticipant2(), roomId);
         
         log.info("사용자 채팅방 나가기 완료: {} (user: {}, room deactivated)", roomId, userId);
         return true;
     }
     
     /**
-     * 채팅방 정보 조회
+     * 채팅방 정보 조회 (캐시 미스 시 DB에서 활성 방 적재, 없는 방은 잠시 기억해 DB 재조회 방지)
      * @param roomId 채팅방 ID
      * @return 채팅방 정보
      */
     public ChatRoomInfo getRoomInfo(String roomId) {
-        return chatRooms.get(roomId);
+        if (roomId == null || missingRooms.getIfPresent(roomId) != null) {
+            return null;
+        }
+        ChatRoomInfo room = chatRooms.get(roomId, id -> chatRoomRepository.findByRoomIdAndActiveTrue(id)
+            .map(this::loadedRoom)
+            .orElse(null));
+        if (room == null) {
+            missingRooms.put(roomId, Boolean.TRUE);
+        }
+        return room;
     }
     
     /**
@@ -274,11 +464,25 @@ public class SecureChatRoomService {
         private final Long participant2;
         private final LocalDateTime createdAt;
         private volatile LocalDateTime lastActivityAt;
+        private volatile long lastActivityMillis;
         private volatile boolean active;
         private final String roomType;
         
+        /** 마지막으로 전송한 만료 경고 시점 (분), 활동 시 초기화 - 타이머 스레드 전용 */
+        private volatile int lastWarningMinutes = Integer.MAX_VALUE;
+        
+        /** DB에 마지막으로 반영한 활동 시각 (epoch ms) */
+        private volatile long persistedActivityMillis;
+        
+        /** 만료 처리되어 캐시에서 제거됨 */
+        private volatile boolean closed;
+        
         // 채팅방 만료 시간 (1시간)
-        private static final long ROOM_EXPIRY_HOURS = 1;
+        static final Duration ROOM_EXPIRY = Duration.ofHours(1);
+        private static final long ROOM_EXPIRY_MILLIS = ROOM_EXPIRY.toMillis();
+        
+        // 활동 시각 DB 반영 최소 간격 (만료 판정 오차 허용 범위)
+        private static final long ACTIVITY_PERSIST_INTERVAL_MILLIS = 60_000L;
         
         // KST 타임존
         private static final ZoneId KST = ZoneId.of("Asia/Seoul");
@@ -291,33 +495,65 @@ public class SecureChatRoomService {
             this.participant2 = participant2;
             this.createdAt = createdAt;
             this.lastActivityAt = lastActivityAt;
+            this.lastActivityMillis = lastActivityAt != null
+                ? lastActivityAt.atZone(KST).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+            this.persistedActivityMillis = this.lastActivityMillis;
             this.active = active;
             this.roomType = roomType;
         }
         
+        /**
+         * DB 엔티티로부터 생성 (마지막 활동 시각 기준으로 만료 시각 복원)
+         */
+        static ChatRoomInfo from(ChatRoom entity) {
+            return new ChatRoomInfo(entity.getRoomId(), entity.getParticipant1Id(), entity.getParticipant2Id(),
+                entity.getCreatedAt(), entity.getLastActivityAt(), entity.isActive(), entity.getRoomType());
+        }
+        
         public static Builder builder() {
             return new Builder();
         }
         
         public void updateLastActivity() {
             this.lastActivityAt = LocalDateTime.now(KST);
+            this.lastActivityMillis = System.currentTimeMillis();
+            this.lastWarningMinutes = Integer.MAX_VALUE;
         }
         
         public void deactivate() {
             this.active = false;
         }
         
+        public boolean isParticipant(Long userId) {
+            return participant1.equals(userId) || participant2.equals(userId);
+        }
+        
+        boolean needsActivityPersist() {
+            return lastActivityMillis - persistedActivityMillis >= ACTIVITY_PERSIST_INTERVAL_MILLIS;
+        }
+        
+        void markActivityPersisted() {
+            this.persistedActivityMillis = lastActivityMillis;
+        }
+        
         public boolean isExpired() {
-            return ChronoUnit.HOURS.between(lastActivityAt, LocalDateTime.now(KST)) > ROOM_EXPIRY_HOURS;
+            return System.currentTimeMillis() >= getExpiresAtMillis();
+        }
+        
+        /**
+         * 만료 예정 시각 (epoch ms) - 마지막 활동 + 1시간
+         */
+        public long getExpiresAtMillis() {
+            return lastActivityMillis + ROOM_EXPIRY_MILLIS;
         }
         
         /**
          * 만료까지 남은 시간 (분 단위)
          */
         public long getMinutesUntilExpiry() {
-            long minutesSinceActivity = ChronoUnit.MINUTES.between(lastActivityAt, LocalDateTime.now(KST));
-            long expiryMinutes = ROOM_EXPIRY_HOURS * 60;
-            return Math.max(0, expiryMinutes - minutesSinceActivity);
+            long millisLeft = getExpiresAtMillis() - System.currentTimeMillis();
+            return Math.max(0, (millisLeft + 59_999) / 60_000);
         }
         
         /**
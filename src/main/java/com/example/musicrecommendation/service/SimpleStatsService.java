@@ -1,12 +1,8 @@
 package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.domain.UserRepository;
-import com.example.musicrecommendation.domain.SongRepository;
 import com.example.musicrecommendation.domain.UserMatchRepository;
-import com.example.musicrecommendation.repository.MusicItemRepository;
-import com.example.musicrecommendation.repository.MusicReviewRepository;
 import com.example.musicrecommendation.repository.RecommendationHistoryRepository;
-import com.example.musicrecommendation.repository.UserProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
@@ -22,41 +18,29 @@ public class SimpleStatsService {
     @Autowired
     private UserRepository userRepository;
     
-    @Autowired
-    private SongRepository songRepository;
-    
     @Autowired
     private UserMatchRepository userMatchRepository;
     
-    @Autowired
-    private MusicItemRepository musicItemRepository;
-    
-    @Autowired
-    private MusicReviewRepository musicReviewRepository;
-    
     @Autowired
     private RecommendationHistoryRepository recommendationHistoryRepository;
     
     @Autowired
-    private UserProfileRepository userProfileRepository;
+    private StatsAggregator statsAggregator;
 
     /**
      * 실제 데이터 기반 통계 조회
      */
     public Object getSimpleStats() {
         try {
-            long totalUsers = userRepository.count();
-            long totalSongs = songRepository.count();
-            long totalMusicItems = musicItemRepository.count();
-            long totalRecommendations = recommendationHistoryRepository.count();
-            long totalMatches = userMatchRepository.count();
-            long totalReviews = musicReviewRepository.count();
-            
-            // 오늘 가입한 사용자 수 계산 (간단 버전 - createdAt이 오늘인 사용자)
-            LocalDate today = LocalDate.now();
-            long newUsersToday = userRepository.findAll().stream()
-                .filter(user -> user.getCreatedAt() != null && user.getCreatedAt().toLocalDate().equals(today))
-                .count();
+            // 집계기 스냅샷에서 바로 읽음 (요청마다 COUNT/전체 조회 없음)
+            StatsAggregator.StatsSnapshot snapshot = statsAggregator.snapshot();
+            long totalUsers = snapshot.get(StatsAggregator.Counter.USERS);
+            long totalSongs = snapshot.get(StatsAggregator.Counter.SONGS);
+            long totalMusicItems = snapshot.get(StatsAggregator.Counter.MUSIC_ITEMS);
+            long totalRecommendations = snapshot.get(StatsAggregator.Counter.RECOMMENDATIONS);
+            long totalMatches = snapshot.get(StatsAggregator.Counter.MATCHES);
+            long totalReviews = snapshot.get(StatsAggregator.Counter.REVIEWS);
+            long newUsersToday = snapshot.newUsersToday();
             
             final long finalTotalUsers = totalUsers;
             final long finalTotalSongs = totalSongs + totalMusicItems;
@@ -151,21 +135,19 @@ public class SimpleStatsService {
      */
     public Object getOverallStats() {
         try {
-            long totalUsers = userRepository.count();
-            long totalSongs = songRepository.count();
-            long totalMusicItems = musicItemRepository.count();
-            long totalRecommendations = recommendationHistoryRepository.count();
-            long totalMatches = userMatchRepository.count();
-            long totalReviews = musicReviewRepository.count();
+            StatsAggregator.StatsSnapshot snapshot = statsAggregator.snapshot();
+            long totalUsers = snapshot.get(StatsAggregator.Counter.USERS);
+            long totalSongs = snapshot.get(StatsAggregator.Counter.SONGS);
+            long totalMusicItems = snapshot.get(StatsAggregator.Counter.MUSIC_ITEMS);
+            long totalRecommendations = snapshot.get(StatsAggregator.Counter.RECOMMENDATIONS);
+            long totalMatches = snapshot.get(StatsAggregator.Counter.MATCHES);
+            long totalReviews = snapshot.get(StatsAggregator.Counter.REVIEWS);
             
             // 매칭 성공률 계산 (임시로 85%로 설정)
             double matchSuccessRate = totalMatches > 0 ? 85.0 : 0.0;
             
             // 오늘 가입한 사용자 수
-            LocalDate today = LocalDate.now();
-            long newUsersToday = userRepository.findAll().stream()
-                .filter(user -> user.getCreatedAt() != null && user.getCreatedAt().toLocalDate().equals(today))
-                .count();
+            long newUsersToday = snapshot.newUsersToday();
             
             // 활성 사용자 수 (최근 활동한 사용자 - 임시로 전체 사용자의 70%로 계산)
             long activeUsers = Math.round(totalUsers * 0.7);
@@ -221,153 +203,42 @@ public class SimpleStatsService {
 
     /**
      * 실제 데이터 기반 장르별 통계 - 사용자 프로필의 선호 장르 우선
+     * (출처 선택과 집계는 StatsAggregator가 백그라운드에서 수행, 여기서는 스냅샷만 읽음)
      */
     public Object getGenreStats() {
         try {
-            System.out.println("=== 장르 통계 디버그 ===");
-            
-            // 1순위: 사용자 프로필에서 선택한 선호 장르
-            List<Object[]> userProfileGenreStats = userProfileRepository.getUserFavoriteGenreStatistics();
-            System.out.println("사용자 프로필 선호 장르 통계 쿼리 결과 수: " + userProfileGenreStats.size());
-            
-            for (int i = 0; i < Math.min(userProfileGenreStats.size(), 10); i++) {
-                Object[] row = userProfileGenreStats.get(i);
-                System.out.println("사용자 선호 장르: " + row[0] + ", 선택한 사용자 수: " + row[1]);
-            }
-            
-            if (!userProfileGenreStats.isEmpty()) {
-                System.out.println("사용자 프로필에서 실제 선호 장르 데이터를 찾았습니다!");
-                return buildGenreStatsFromUserProfiles(userProfileGenreStats);
-            }
-            
-            // 2순위: 데이터베이스 음악 장르 정보
-            long totalMusicItems = musicItemRepository.count();
-            long totalSongs = songRepository.count();
-            System.out.println("전체 MusicItem 수: " + totalMusicItems);
-            System.out.println("전체 Song 수: " + totalSongs);
-            
-            List<Object[]> genreStatsRaw = musicItemRepository.getGenreStatistics();
-            System.out.println("장르 통계 쿼리 결과 수: " + genreStatsRaw.size());
-            
-            // 쿼리 결과 출력
-            for (int i = 0; i < Math.min(genreStatsRaw.size(), 10); i++) {
-                Object[] row = genreStatsRaw.get(i);
-                System.out.println("장르: " + row[0] + ", 수: " + row[1]);
-            }
-            
-            // 전체 음악 수 계산
-            long totalCount = genreStatsRaw.stream().mapToLong(row -> (Long) row[1]).sum();
-            System.out.println("장르별 총합: " + totalCount);
-            
-            if (genreStatsRaw.isEmpty() || totalCount == 0) {
-                System.out.println("MusicItem에 장르 데이터가 없습니다. RecommendationHistory에서 확인해보겠습니다...");
-                
-                // 3순위: RecommendationHistory에서 장르 정보 조회
-                List<Object[]> recommendationGenreStats = recommendationHistoryRepository.getGenreStatisticsFromRecommendations();
-                System.out.println("추천 히스토리 장르 통계 쿼리 결과 수: " + recommendationGenreStats.size());
-                
-                if (!recommendationGenreStats.isEmpty()) {
-                    // 추천 히스토리에서 실제 장르 데이터 발견!
-                    System.out.println("추천 히스토리에서 실제 장르 데이터를 찾았습니다!");
-                    for (int i = 0; i < Math.min(recommendationGenreStats.size(), 10); i++) {
-                        Object[] row = recommendationGenreStats.get(i);
-                        System.out.println("추천 장르: " + row[0] + ", 수: " + row[1]);
-                    }
-                    return buildGenreStatsFromRecommendations(recommendationGenreStats);
-                } else {
-                    System.out.println("추천 히스토리에도 장르 데이터가 없습니다. 실제 데이터가 없음을 반환합니다.");
-                    return getNoDataGenreStats();
-                }
-            }
-            
-            // 실제 장르 통계 생성 (상위 6개)
-            Object[] genres = genreStatsRaw.stream()
-                .limit(6)
-                .map(row -> {
-                    String genreName = (String) row[0];
-                    Long genreCount = (Long) row[1];
-                    int genrePercentage = (int) Math.round((genreCount * 100.0) / totalCount);
-                    
-                    return new Object() {
-                        public final String genre = genreName != null ? genreName : "Unknown";
-                        public final long count = genreCount;
-                        public final int percentage = genrePercentage;
-                    };
-                }).toArray();
-            
-            // 실제 데이터가 6개 미만이면 기본 분포로 보완
-            if (genres.length < 3) {
-                System.out.println("실제 장르 데이터가 너무 적어서 기본 분포를 사용합니다. (실제 데이터 수: " + genres.length + ")");
-                return getDefaultGenreStats();
-            }
-            
-            final Object[] finalGenres = genres;
-            final String finalMessage = "🎵 실제 데이터베이스 장르별 통계 (상위 " + genres.length + "개)";
-            
-            return new Object() {
-                public final boolean success = true;
-                public final String message = finalMessage;
-                public final Object[] genres = finalGenres;
-                public final String generatedAt = LocalDateTime.now().toString();
+            StatsAggregator.GenreDistribution distribution = statsAggregator.snapshot().genres();
+            
+            return switch (distribution.source()) {
+                case USER_PROFILES -> buildGenreStats(distribution,
+                    "🎵 사용자 프로필 기반 실제 선호 장르 분포 (총 " + distribution.total() + "개 선택)");
+                case MUSIC_ITEMS -> distribution.genres().size() < 3
+                    // 실제 장르 데이터가 너무 적으면 기본 분포 사용
+                    ? getDefaultGenreStats()
+                    : buildGenreStats(distribution,
+                        "🎵 실제 데이터베이스 장르별 통계 (상위 " + Math.min(6, distribution.genres().size()) + "개)");
+                case RECOMMENDATIONS -> buildGenreStats(distribution,
+                    "🎵 추천 히스토리 기반 실제 장르 분포 (총 " + distribution.total() + "개)");
+                case NONE -> getNoDataGenreStats();
             };
         } catch (Exception e) {
             System.err.println("장르 통계 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
             return getDefaultGenreStats();
         }
     }
     
     /**
-     * 사용자 프로필에서 선택한 선호 장르를 기반으로 통계 생성
+     * 장르 분포 스냅샷에서 상위 6개 장르 응답 생성
      */
-    private Object buildGenreStatsFromUserProfiles(List<Object[]> userProfileGenreStats) {
-        // 사용자들이 선택한 선호 장르 통계 생성
-        long totalUserSelections = userProfileGenreStats.stream().mapToLong(row -> ((Number) row[1]).longValue()).sum();
-        
-        Object[] genres = userProfileGenreStats.stream()
-            .limit(6) // 상위 6개 장르만
-            .map(row -> {
-                String genreName = (String) row[0];
-                Number countNumber = (Number) row[1];
-                long count = countNumber.longValue();
-                int percentage = (int) Math.round((count * 100.0) / totalUserSelections);
-                
-                final String finalGenreName = genreName;
-                final int finalCount = (int) count;
-                final int finalPercentage = percentage;
-                
-                return new Object() {
-                    public final String genre = finalGenreName;
-                    public final int count = finalCount;
-                    public final int percentage = finalPercentage;
-                };
-            })
-            .toArray();
-        
-        final Object[] finalGenres = genres;
-        
-        return new Object() {
-            public final boolean success = true;
-            public final String message = "🎵 사용자 프로필 기반 실제 선호 장르 분포 (총 " + totalUserSelections + "개 선택)";
-            public final Object[] genres = finalGenres;
-            public final String generatedAt = LocalDateTime.now().toString();
-        };
-    }
-    
-    private Object buildGenreStatsFromRecommendations(List<Object[]> recommendationGenreStats) {
-        // 추천 히스토리에서 실제 장르 통계 생성
-        long totalCount = recommendationGenreStats.stream().mapToLong(row -> (Long) row[1]).sum();
+    private Object buildGenreStats(StatsAggregator.GenreDistribution distribution, String resultMessage) {
+        long total = distribution.total();
         
-        Object[] genres = recommendationGenreStats.stream()
+        Object[] genres = distribution.genres().stream()
             .limit(6) // 상위 6개 장르만
             .map(row -> {
-                String genreName = (String) row[0];
-                Long count = (Long) row[1];
-                int percentage = (int) Math.round((count * 100.0) / totalCount);
-                
-                final String finalGenreName = genreName;
-                final int finalCount = count.intValue();
-                final int finalPercentage = percentage;
+                final String finalGenreName = row.genre() != null ? row.genre() : "Unknown";
+                final int finalCount = (int) row.count();
+                final int finalPercentage = total > 0 ? (int) Math.round((row.count() * 100.0) / total) : 0;
                 
                 return new Object() {
                     public final String genre = finalGenreName;
@@ -381,7 +252,7 @@ public class SimpleStatsService {
         
         return new Object() {
             public final boolean success = true;
-            public final String message = "🎵 추천 히스토리 기반 실제 장르 분포 (총 " + totalCount + "개)";
+            public final String message = resultMessage;
             public final Object[] genres = finalGenres;
             public final String generatedAt = LocalDateTime.now().toString();
         };
@@ -399,9 +270,8 @@ public class SimpleStatsService {
     
     private Object getDefaultGenreStats() {
         // 실제 데이터베이스에 데이터가 없을 때 현실적인 장르 분포를 보여주기
-        long totalMusicItems = musicItemRepository.count();
-        long totalSongs = songRepository.count();
-        long totalMusic = totalMusicItems + totalSongs;
+        StatsAggregator.StatsSnapshot snapshot = statsAggregator.snapshot();
+        long totalMusic = snapshot.get(StatsAggregator.Counter.MUSIC_ITEMS) + snapshot.get(StatsAggregator.Counter.SONGS);
         
         if (totalMusic == 0) {
             // 완전히 데이터가 없을 때는 샘플 데이터
@@ -514,7 +384,7 @@ public class SimpleStatsService {
     public Object getMatchingTrends() {
         try {
             // 먼저 데이터베이스 상태 확인
-            long totalMatches = userMatchRepository.count();
+            long totalMatches = statsAggregator.snapshot().get(StatsAggregator.Counter.MATCHES);
             System.out.println("=== 매칭 추이 디버그 ===");
             System.out.println("전체 UserMatch 수: " + totalMatches);
             
@@ -2,12 +2,14 @@ package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.domain.Song;
 import com.example.musicrecommendation.domain.SongRepository;
+import com.example.musicrecommendation.util.SearchPatterns;
 import com.example.musicrecommendation.web.dto.SongResponse;
 import com.example.musicrecommendation.web.dto.SongUpdateRequest;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -38,10 +40,11 @@ public class SongService {
                 .stream().limit(10).map(SongResponse::from).toList();
     }
 
-    /** 검색 페이지 */
+    /** 검색 페이지 (검색어가 있으면 요청 정렬 대신 유사도 순) */
     public Page<Song> page(String q, Pageable pageable) {
         if (q == null || q.isBlank()) return repo.findAll(pageable);
-        return repo.findByTitleContainingIgnoreCaseOrArtistContainingIgnoreCase(q, q, pageable);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return repo.searchRanked(SearchPatterns.contains(q), q.strip(), unsorted);
     }
 
     public Page<SongResponse> pageDto(String q, Pageable pageable) {
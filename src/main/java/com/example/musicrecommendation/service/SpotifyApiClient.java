@@ -0,0 +1,307 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyTokenResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Spotify Web API 공용 HTTP 클라이언트 (JDK HttpClient, HTTP/2)
+ *
+ * - 클라이언트 하나를 공유 - 연결 재사용/HTTP/2 다중화, 연결/요청 타임아웃 적용
+ * - 토큰 갱신은 동시에 하나만 수행 (single-flight), 만료 전 일정 시간부터 백그라운드로 미리 갱신
+ * - 같은 GET 요청이 진행 중이면 새로 보내지 않고 그 결과를 함께 사용 (응답 객체는 읽기 전용으로 취급)
+ * - 모든 API 요청은 {@link SpotifyRequestScheduler}를 거쳐 전송 (전역 속도 제한, 호출 스레드의 {@link SpotifyPriority} 대기열)
+ * - 401은 토큰을 버리고 1회 재시도
+ * - 429는 Retry-After 동안 스케줄러 전체를 멈추고 재전송 (최대 maxThrottleRetries회, Retry-After가 maxRetryAfterMs 이하일 때)
+ * - 그 외 429/5xx/네트워크 오류는 {@link TransientSpotifyException}, 그 외 4xx는 {@link SpotifyApiException}
+ * - 실제 전송은 {@link SpotifyTransport} (spotify.transport.mode: live / record / replay)
+ */
+@Service
+@Slf4j
+public class SpotifyApiClient {
+
+    /** Retry-After 헤더가 없을 때 멈출 시간 */
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final SpotifyConfig config;
+    private final ObjectMapper objectMapper;
+    private final SpotifyRequestScheduler scheduler;
+    private final HttpClient httpClient;
+    private final SpotifyTransport transport;
+    private final Duration requestTimeout;
+    private final long refreshAheadMs;
+    private final int maxThrottleRetries;
+    private final long maxRetryAfterMs;
+
+    /** 진행 중인 GET 요청 (URI + 응답 타입 → 결과) */
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private volatile AccessToken token;
+    private final AtomicReference<CompletableFuture<AccessToken>> refreshing = new AtomicReference<>();
+
+    public SpotifyApiClient(SpotifyConfig config, ObjectMapper objectMapper, SpotifyRequestScheduler scheduler) {
+        this.config = config;
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.scheduler = scheduler;
+        this.requestTimeout = Duration.ofMillis(config.getHttp().getRequestTimeoutMs());
+        this.refreshAheadMs = config.getHttp().getTokenRefreshAheadMs();
+        this.maxThrottleRetries = config.getScheduler().getMaxThrottleRetries();
+        this.maxRetryAfterMs = config.getScheduler().getMaxRetryAfterMs();
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(config.getHttp().getConnectTimeoutMs()))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        this.transport = SpotifyTransport.create(config.getTransport(), httpClient);
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * API 기본 URL 기준 요청 URI 생성 (쿼리 파라미터 인코딩 포함)
+     * - 파라미터는 이름순으로 정렬 - 같은 요청은 항상 같은 URI (요청 합치기/캐시 키)
+     */
+    public URI uri(String path, Map<String, ?> queryParams) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(config.getApi().getBaseUrl() + path);
+        new TreeMap<>(queryParams).forEach(builder::queryParam);
+        return builder.build().encode().toUri();
+    }
+
+    /**
+     * GET 요청 (동기) - 같은 요청이 진행 중이면 그 결과를 기다림
+     */
+    public <T> T get(URI uri, Class<T> type) {
+        return await(getAsync(uri, type));
+    }
+
+    /**
+     * GET 요청 (비동기) - 우선순위는 호출 스레드의 {@link SpotifyPriority#current()}
+     * (같은 요청에 합류한 호출은 먼저 보낸 요청의 우선순위를 따름)
+     */
+    public <T> CompletableFuture<T> getAsync(URI uri, Class<T> type) {
+        SpotifyPriority priority = SpotifyPriority.current();
+        String key = uri + "|" + type.getName();
+        CompletableFuture<Object> promise = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            log.debug("Spotify 요청 합류: {}", uri);
+            return existing.thenApply(type::cast);
+        }
+        promise.whenComplete((result, error) -> inFlight.remove(key, promise));
+        send(uri, type, priority, true, 0).whenComplete((result, error) -> {
+            if (error != null) {
+                promise.completeExceptionally(unwrap(error));
+            } else {
+                promise.complete(result);
+            }
+        });
+        return promise.thenApply(type::cast);
+    }
+
+    /**
+     * 유효한 토큰 확보 (헬스 체크용)
+     */
+    public void ensureToken() {
+        await(accessToken());
+    }
+
+    private <T> CompletableFuture<Object> send(URI uri, Class<T> type, SpotifyPriority priority,
+                                               boolean retryOnUnauthorized, int throttleRetries) {
+        return accessToken().thenCompose(bearer -> {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + bearer)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+            return scheduler.submit(priority, () -> transport.send(request))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw networkError(error);
+                    }
+                    return response;
+                })
+                .thenCompose(response -> {
+                    if (response.statusCode() == 401 && retryOnUnauthorized) {
+                        log.info("Spotify 토큰 거부(401) - 토큰 재발급 후 재시도");
+                        invalidateToken(bearer);
+                        return send(uri, type, priority, false, throttleRetries);
+                    }
+                    if (response.statusCode() == 429) {
+                        Duration retryAfter = retryAfter(response);
+                        scheduler.pause(retryAfter);
+                        if (throttleRetries < maxThrottleRetries && retryAfter.toMillis() <= maxRetryAfterMs) {
+                            // 스케줄러가 멈춘 동안 대기열에서 기다렸다가 재전송
+                            return send(uri, type, priority, retryOnUnauthorized, throttleRetries + 1);
+                        }
+                    }
+                    return CompletableFuture.completedFuture(decode(response, type));
+                });
+        });
+    }
+
+    private Object decode(HttpResponse<String> response, Class<?> type) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            try {
+                return objectMapper.readValue(response.body(), type);
+            } catch (IOException e) {
+                throw new SpotifyApiException(status, "응답 파싱 실패: " + e.getMessage());
+            }
+        }
+        if (status == 429 || status >= 500) {
+            log.warn("Spotify 일시적 오류(상태 {}): {}", status, response.uri());
+            throw new TransientSpotifyException("Transient HTTP " + status);
+        }
+        throw new SpotifyApiException(status, response.body());
+    }
+
+    /**
+     * Retry-After 헤더 (초 단위) - 없거나 해석할 수 없으면 기본값
+     */
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+            .map(String::trim)
+            .filter(value -> value.matches("\\d{1,6}"))
+            .map(value -> Duration.ofSeconds(Long.parseLong(value)))
+            .orElse(DEFAULT_RETRY_AFTER);
+    }
+
+    // === 토큰 ===
+
+    /**
+     * 현재 토큰 - 만료 임박이면 백그라운드 갱신을 시작하고 기존 토큰 사용, 만료되었으면 갱신 완료까지 대기
+     */
+    private CompletableFuture<String> accessToken() {
+        AccessToken current = token;
+        long now = System.currentTimeMillis();
+        if (current != null && now < current.expiresAt()) {
+            if (now >= current.expiresAt() - refreshAheadMs) {
+                refreshToken();
+            }
+            return CompletableFuture.completedFuture(current.value());
+        }
+        return refreshToken().thenApply(AccessToken::value);
+    }
+
+    /**
+     * 토큰 갱신 (single-flight) - 진행 중인 갱신이 있으면 그 결과를 공유
+     */
+    private CompletableFuture<AccessToken> refreshToken() {
+        while (true) {
+            CompletableFuture<AccessToken> running = refreshing.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<AccessToken> promise = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, promise)) {
+                log.info("Spotify 토큰 갱신 요청");
+                requestToken().whenComplete((issued, error) -> {
+                    if (issued != null) {
+                        token = issued;
+                    }
+                    refreshing.set(null);
+                    if (error != null) {
+                        log.error("Spotify 인증 실패: {}", unwrap(error).getMessage());
+                        promise.completeExceptionally(unwrap(error));
+                    } else {
+                        promise.complete(issued);
+                    }
+                });
+                return promise;
+            }
+        }
+    }
+
+    private CompletableFuture<AccessToken> requestToken() {
+        String credentials = config.getClient().getId() + ":" + config.getClient().getSecret();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getApi().getAuthUrl()))
+            .timeout(requestTimeout)
+            .header("Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials"))
+            .build();
+        long requestedAt = System.currentTimeMillis();
+        return transport.send(request)
+            .handle((response, error) -> {
+                if (error != null) {
+                    throw networkError(error);
+                }
+                SpotifyTokenResponse body = (SpotifyTokenResponse) decode(response, SpotifyTokenResponse.class);
+                if (body == null || body.getAccessToken() == null) {
+                    throw new SpotifyApiException(response.statusCode(), "access_token 없음");
+                }
+                int expiresIn = body.getExpiresIn() != null ? body.getExpiresIn() : 3600;
+                log.debug("Spotify 토큰 획득 성공, 만료(초): {}", expiresIn);
+                return new AccessToken(body.getAccessToken(), requestedAt + expiresIn * 1000L);
+            });
+    }
+
+    /**
+     * 거부된 토큰 폐기 - 그 사이 다른 요청이 이미 새 토큰을 받았으면 유지
+     */
+    private void invalidateToken(String rejected) {
+        AccessToken current = token;
+        if (current != null && current.value().equals(rejected)) {
+            token = null;
+        }
+    }
+
+    // === 오류 처리 ===
+
+    private static RuntimeException networkError(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new TransientSpotifyException("Network error: " + cause.getMessage(), cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new TransientSpotifyException("Spotify 요청 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private record AccessToken(String value, long expiresAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.musicrecommendation.service;
+
+/**
+ * Spotify API가 재시도해도 성공하지 않을 오류(4xx)를 반환한 경우.
+ * 일시적 오류는 {@link TransientSpotifyException} 사용.
+ */
+public class SpotifyApiException extends RuntimeException {
+
+    private final int status;
+    private final String responseBody;
+
+    public SpotifyApiException(int status, String responseBody) {
+        super("Spotify API error (status=" + status + ")");
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.util.MicroBatcher;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyArtist;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyArtistsResponse;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyDto;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyTrack;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyTracksResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Spotify ID 단건 조회를 다건 엔드포인트로 묶어 보내는 로더
+ *
+ * - 트랙(/tracks?ids=), 아티스트(/artists?ids=), 오디오 특성(/audio-features?ids=)
+ * - 짧은 대기 시간(spotify.batch.window-ms) 동안 들어온 조회를 최대 {@value #MAX_IDS}개씩 모아 한 번에 요청
+ * - 동시에 들어온 여러 요청/루프의 단건 조회가 자연스럽게 합쳐짐 - 결과는 호출자별로 나눠 전달
+ * - 우선순위({@link SpotifyPriority})별로 따로 모음 - 동기화 조회와 사용자 조회가 한 배치에 섞이지 않음
+ */
+@Service
+public class SpotifyBatchLoader {
+
+    /** 다건 엔드포인트 한 번에 보낼 최대 ID 수 */
+    public static final int MAX_IDS = 50;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "spotify-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SpotifyApiClient spotifyApiClient;
+    private final Duration window;
+
+    private final Map<SpotifyPriority, MicroBatcher<SpotifyTrack>> tracks;
+    private final Map<SpotifyPriority, MicroBatcher<SpotifyArtist>> artists;
+    private final Map<SpotifyPriority, MicroBatcher<SpotifyDto.AudioFeatures>> audioFeatures;
+
+    public SpotifyBatchLoader(SpotifyApiClient spotifyApiClient,
+                              @Value("${spotify.batch.window-ms:5}") long windowMs) {
+        this.spotifyApiClient = spotifyApiClient;
+        this.window = Duration.ofMillis(windowMs);
+        this.tracks = batchers("/tracks", SpotifyTracksResponse.class, SpotifyTracksResponse::getTracks);
+        this.artists = batchers("/artists", SpotifyArtistsResponse.class, SpotifyArtistsResponse::getArtists);
+        this.audioFeatures = batchers("/audio-features", SpotifyDto.AudioFeaturesResponse.class,
+                SpotifyDto.AudioFeaturesResponse::getAudioFeatures);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /** 트랙 1건 (없으면 null) */
+    public CompletableFuture<SpotifyTrack> track(String id) {
+        return isBlank(id) ? CompletableFuture.completedFuture(null) : current(tracks).load(id);
+    }
+
+    /** 트랙 여러 건 - ID → 트랙 (없는 ID 제외) */
+    public CompletableFuture<Map<String, SpotifyTrack>> tracks(List<String> ids) {
+        return current(tracks).loadAll(nonBlank(ids));
+    }
+
+    /** 아티스트 1건 (없으면 null) */
+    public CompletableFuture<SpotifyArtist> artist(String id) {
+        return isBlank(id) ? CompletableFuture.completedFuture(null) : current(artists).load(id);
+    }
+
+    /** 아티스트 여러 건 - ID → 아티스트 (없는 ID 제외) */
+    public CompletableFuture<Map<String, SpotifyArtist>> artists(List<String> ids) {
+        return current(artists).loadAll(nonBlank(ids));
+    }
+
+    /** 트랙 오디오 특성 1건 (없으면 null) */
+    public CompletableFuture<SpotifyDto.AudioFeatures> audioFeatures(String trackId) {
+        return isBlank(trackId) ? CompletableFuture.completedFuture(null) : current(audioFeatures).load(trackId);
+    }
+
+    /** 트랙 오디오 특성 여러 건 - 트랙 ID → 특성 (없는 ID 제외) */
+    public CompletableFuture<Map<String, SpotifyDto.AudioFeatures>> audioFeatures(List<String> trackIds) {
+        return current(audioFeatures).loadAll(nonBlank(trackIds));
+    }
+
+    /**
+     * 다건 엔드포인트별 우선순위 배처 - 배치는 대기 타이머 스레드에서 보낼 수도 있으므로 우선순위를 명시해 전송
+     */
+    private <R, T> Map<SpotifyPriority, MicroBatcher<T>> batchers(String path, Class<R> responseType,
+                                                                   Function<R, List<T>> items) {
+        Map<SpotifyPriority, MicroBatcher<T>> batchers = new EnumMap<>(SpotifyPriority.class);
+        for (SpotifyPriority priority : SpotifyPriority.values()) {
+            batchers.put(priority, new MicroBatcher<>(MAX_IDS, window, scheduler, ids -> priority.call(() ->
+                spotifyApiClient.getAsync(spotifyApiClient.uri(path, Map.of("ids", String.join(",", ids))), responseType)
+                    .thenApply(items))));
+        }
+        return batchers;
+    }
+
+    private static <T> MicroBatcher<T> current(Map<SpotifyPriority, MicroBatcher<T>> batchers) {
+        return batchers.get(SpotifyPriority.current());
+    }
+
+    private static boolean isBlank(String id) {
+        return id == null || id.isBlank();
+    }
+
+    private static List<String> nonBlank(List<String> ids) {
+        return ids.stream().filter(id -> !isBlank(id)).toList();
+    }
+}
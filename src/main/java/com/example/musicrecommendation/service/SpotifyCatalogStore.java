@@ -0,0 +1,207 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.web.dto.spotify.SpotifyDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Spotify 카탈로그 일괄 저장소 (songs / music_metadata / spotify_sync_checkpoints)
+ *
+ * - 페이지 단위로 곡을 한 문장에 삽입 (unnest 배열) - (title, artist) 중복은 uk_songs_title_artist로 건너뜀
+ * - 새로 들어간 곡의 메타데이터는 JDBC 배치로 upsert
+ * - 곡/메타데이터/체크포인트를 한 트랜잭션으로 커밋 - 중단 후 재시작하면 다음 페이지부터 이어서 진행
+ *
+ * JPA를 거치지 않으므로 통계 카운터는 {@link StatsAggregator#reconcile()}로 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpotifyCatalogStore {
+
+    /** songs.title / songs.artist 최대 길이 */
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    private static final String SONG_KEYS_SQL = "SELECT title, artist FROM songs";
+
+    /** 새로 삽입된 곡만 반환 (이미 있는 (title, artist)는 제외) */
+    private static final String INSERT_SONGS_SQL =
+        "INSERT INTO songs (title, artist, image_url) " +
+        "SELECT t.title, t.artist, t.image_url FROM unnest(?::text[], ?::text[], ?::text[]) AS t(title, artist, image_url) " +
+        "ON CONFLICT ON CONSTRAINT uk_songs_title_artist DO NOTHING " +
+        "RETURNING id, title, artist";
+
+    /** 오디오 특성은 값이 있을 때만 덮어씀 (특성 조회 실패 시 기존 값 유지) */
+    private static final String UPSERT_METADATA_SQL =
+        "INSERT INTO music_metadata (song_id, spotify_id, acousticness, danceability, energy, instrumentalness, " +
+        "  liveness, loudness, speechiness, valence, tempo, key_signature, mode, time_signature, duration_ms, " +
+        "  popularity, preview_url, external_urls, fetched_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW()) " +
+        "ON CONFLICT (song_id) DO UPDATE SET " +
+        "  spotify_id = EXCLUDED.spotify_id, " +
+        "  acousticness = COALESCE(EXCLUDED.acousticness, music_metadata.acousticness), " +
+        "  danceability = COALESCE(EXCLUDED.danceability, music_metadata.danceability), " +
+        "  energy = COALESCE(EXCLUDED.energy, music_metadata.energy), " +
+        "  instrumentalness = COALESCE(EXCLUDED.instrumentalness, music_metadata.instrumentalness), " +
+        "  liveness = COALESCE(EXCLUDED.liveness, music_metadata.liveness), " +
+        "  loudness = COALESCE(EXCLUDED.loudness, music_metadata.loudness), " +
+        "  speechiness = COALESCE(EXCLUDED.speechiness, music_metadata.speechiness), " +
+        "  valence = COALESCE(EXCLUDED.valence, music_metadata.valence), " +
+        "  tempo = COALESCE(EXCLUDED.tempo, music_metadata.tempo), " +
+        "  key_signature = COALESCE(EXCLUDED.key_signature, music_metadata.key_signature), " +
+        "  mode = COALESCE(EXCLUDED.mode, music_metadata.mode), " +
+        "  time_signature = COALESCE(EXCLUDED.time_signature, music_metadata.time_signature), " +
+        "  duration_ms = COALESCE(EXCLUDED.duration_ms, music_metadata.duration_ms), " +
+        "  popularity = COALESCE(EXCLUDED.popularity, music_metadata.popularity), " +
+        "  preview_url = COALESCE(EXCLUDED.preview_url, music_metadata.preview_url), " +
+        "  external_urls = COALESCE(EXCLUDED.external_urls, music_metadata.external_urls), " +
+        "  fetched_at = EXCLUDED.fetched_at, updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_CHECKPOINT_SQL =
+        "INSERT INTO spotify_sync_checkpoints (source, next_offset, ingested, skipped, completed, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, NOW()) " +
+        "ON CONFLICT (source) DO UPDATE SET " +
+        "  next_offset = EXCLUDED.next_offset, " +
+        "  ingested = spotify_sync_checkpoints.ingested + EXCLUDED.ingested, " +
+        "  skipped = spotify_sync_checkpoints.skipped + EXCLUDED.skipped, " +
+        "  completed = EXCLUDED.completed, updated_at = NOW()";
+
+    private static final String FIND_CHECKPOINT_SQL =
+        "SELECT source, next_offset, ingested, skipped, completed FROM spotify_sync_checkpoints WHERE source = ?";
+
+    private static final String DELETE_CHECKPOINT_SQL = "DELETE FROM spotify_sync_checkpoints WHERE source = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기존 곡 키 전체 ({@link #songKey} 형식) - 동기화 시작 시 1회 적재해 중복 트랙을 DB 왕복 없이 걸러냄
+     */
+    public Set<String> loadSongKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query(SONG_KEYS_SQL, rs -> {
+            keys.add(songKey(rs.getString("title"), rs.getString("artist")));
+        });
+        return keys;
+    }
+
+    /**
+     * 한 페이지 저장 + 체크포인트 전진 (한 트랜잭션)
+     *
+     * @param nextOffset 다음에 가져올 페이지 오프셋
+     * @param completed  마지막 페이지 여부
+     * @param tracks     키 집합으로 중복을 거른 새 트랙
+     * @param features   Spotify 트랙 ID → 오디오 특성 (없는 트랙은 특성 없이 저장)
+     * @param skipped    키 집합에서 중복으로 건너뛴 트랙 수
+     * @return 실제 삽입된 곡 수 (다른 경로로 먼저 들어간 곡은 건너뜀으로 집계)
+     */
+    @Transactional
+    public int writePage(String source, int nextOffset, boolean completed, List<CatalogTrack> tracks,
+                         Map<String, SpotifyDto.AudioFeatures> features, int skipped) {
+        int inserted = 0;
+        if (!tracks.isEmpty()) {
+            List<SongRow> songs = insertSongs(tracks);
+            upsertMetadata(songs, features);
+            inserted = songs.size();
+        }
+        int conflicts = tracks.size() - inserted;
+        jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, source, nextOffset, inserted, skipped + conflicts, completed);
+        return inserted;
+    }
+
+    public Optional<Checkpoint> findCheckpoint(String source) {
+        return jdbcTemplate.query(FIND_CHECKPOINT_SQL, (rs, rowNum) -> new Checkpoint(
+            rs.getString("source"), rs.getInt("next_offset"), rs.getInt("ingested"),
+            rs.getInt("skipped"), rs.getBoolean("completed")), source).stream().findFirst();
+    }
+
+    /** 체크포인트 삭제 - 다음 동기화에서 처음부터 다시 수집 */
+    public void resetCheckpoint(String source) {
+        jdbcTemplate.update(DELETE_CHECKPOINT_SQL, source);
+    }
+
+    /** 중복 판정 키 (uk_songs_title_artist와 같은 기준 - 대소문자/공백 그대로) */
+    public static String songKey(String title, String artist) {
+        return title + '\u001F' + artist;
+    }
+
+    /** songs 컬럼 길이에 맞춰 자름 */
+    public static String truncate(String text) {
+        return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+    }
+
+    // === 내부 ===
+
+    private List<SongRow> insertSongs(List<CatalogTrack> tracks) {
+        int size = tracks.size();
+        String[] titles = new String[size];
+        String[] artists = new String[size];
+        String[] imageUrls = new String[size];
+        Map<String, CatalogTrack> byKey = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            CatalogTrack track = tracks.get(i);
+            titles[i] = track.title();
+            artists[i] = track.artist();
+            imageUrls[i] = track.imageUrl();
+            byKey.put(songKey(track.title(), track.artist()), track);
+        }
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SONGS_SQL);
+            ps.setArray(1, con.createArrayOf("text", titles));
+            ps.setArray(2, con.createArrayOf("text", artists));
+            ps.setArray(3, con.createArrayOf("text", imageUrls));
+            return ps;
+        }, (rs, rowNum) -> new SongRow(rs.getLong("id"),
+            byKey.get(songKey(rs.getString("title"), rs.getString("artist")))));
+    }
+
+    private void upsertMetadata(List<SongRow> songs, Map<String, SpotifyDto.AudioFeatures> features) {
+        List<Object[]> rows = new ArrayList<>(songs.size());
+        for (SongRow song : songs) {
+            CatalogTrack track = song.track();
+            SpotifyDto.AudioFeatures f = features.get(track.spotifyId());
+            rows.add(new Object[]{
+                song.id(), track.spotifyId(),
+                f != null ? f.getAcousticness() : null,
+                f != null ? f.getDanceability() : null,
+                f != null ? f.getEnergy() : null,
+                f != null ? f.getInstrumentalness() : null,
+                f != null ? f.getLiveness() : null,
+                f != null ? f.getLoudness() : null,
+                f != null ? f.getSpeechiness() : null,
+                f != null ? f.getValence() : null,
+                f != null ? f.getTempo() : null,
+                f != null ? f.getKey() : null,
+                f != null ? f.getMode() : null,
+                f != null ? f.getTimeSignature() : null,
+                f != null && f.getDurationMs() != null ? f.getDurationMs() : track.durationMs(),
+                track.popularity(), track.previewUrl(), track.externalUrl()
+            });
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_METADATA_SQL, rows);
+        }
+    }
+
+    private record SongRow(long id, CatalogTrack track) {
+    }
+
+    /** 저장할 트랙 (title/artist는 {@link #truncate}된 값) */
+    public record CatalogTrack(String spotifyId, String title, String artist, String imageUrl,
+                               Integer popularity, Integer durationMs, String previewUrl, String externalUrl) {
+    }
+
+    /** 소스별 진행 상황 */
+    public record Checkpoint(String source, int nextOffset, int ingested, int skipped, boolean completed) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.util.DiskCacheStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 녹화된 Spotify 응답 코퍼스 (디렉터리 하나, 요청당 파일 1개)
+ *
+ * - 키는 요청 경로 + 쿼리 (호스트 제외) - base-url을 바꿔도 같은 코퍼스 사용
+ *   (SpotifyApiClient.uri()가 파라미터를 이름순으로 만들므로 같은 호출은 항상 같은 키)
+ * - 본문은 gzip 압축 - JSON 응답은 대체로 1/5 이하로 줄어듦
+ * - 인증 헤더/토큰은 저장하지 않음
+ */
+public final class SpotifyCorpus {
+
+    private final DiskCacheStore store;
+
+    public SpotifyCorpus(Path directory) {
+        this.store = new DiskCacheStore(directory);
+    }
+
+    /** 녹화된 응답 - 없으면 null */
+    public Recorded find(URI uri) {
+        DiskCacheStore.Entry entry = store.read(key(uri));
+        if (entry == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.value()))) {
+            int status = in.readInt();
+            byte[] compressed = new byte[in.readInt()];
+            in.readFully(compressed);
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                return new Recorded(status, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void record(URI uri, int status, String body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(compressed.size() + 8);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(status);
+            out.writeInt(compressed.size());
+            compressed.writeTo(out);
+        }
+        store.write(key(uri), buffer.toByteArray(), System.currentTimeMillis());
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    static String key(URI uri) {
+        String query = uri.getRawQuery();
+        return query != null ? uri.getRawPath() + "?" + query : uri.getRawPath();
+    }
+
+    /**
+     * @param status 녹화 당시 HTTP 상태
+     * @param body   응답 본문 (JSON)
+     */
+    public record Recorded(int status, String body) {
+    }
+}
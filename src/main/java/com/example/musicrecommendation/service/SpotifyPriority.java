@@ -0,0 +1,50 @@
+package com.example.musicrecommendation.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Spotify 요청 우선순위 (선언 순서가 높은 순)
+ *
+ * - 현재 스레드의 작업 구간에 지정 ({@link #call}/{@link #run}) - 지정하지 않으면 INTERACTIVE
+ * - {@link SpotifyApiClient}가 요청 시점의 값을 읽어 {@link SpotifyRequestScheduler}의 해당 대기열에 넣음
+ */
+public enum SpotifyPriority {
+
+    /** 사용자가 기다리는 검색/조회 */
+    INTERACTIVE,
+    /** 추천 생성 */
+    RECOMMENDATION,
+    /** 백그라운드 동기화/캐시 갱신 */
+    SYNC;
+
+    private static final ThreadLocal<SpotifyPriority> CURRENT = new ThreadLocal<>();
+
+    public static SpotifyPriority current() {
+        SpotifyPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * 이 우선순위로 작업 실행 (끝나면 이전 값 복원)
+     */
+    public <T> T call(Supplier<T> work) {
+        SpotifyPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.musicrecommendation.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 녹화 전송 - 실제 API로 보내고 GET 응답을 코퍼스에 저장 (재생 모드용)
+ *
+ * - 성공(2xx)과 404만 저장 - 401/429/5xx는 상황에 따른 응답이라 재생 대상에서 제외 (오류는 재생 시 주입)
+ * - 토큰 요청(POST)은 저장하지 않음
+ * - 저장 실패는 응답에 영향 없음
+ */
+@Slf4j
+public class SpotifyRecordingTransport implements SpotifyTransport {
+
+    private final SpotifyTransport delegate;
+    private final SpotifyCorpus corpus;
+
+    public SpotifyRecordingTransport(SpotifyTransport delegate, SpotifyCorpus corpus) {
+        this.delegate = delegate;
+        this.corpus = corpus;
+        log.info("Spotify 응답 녹화 모드 - 코퍼스 {}건", corpus.size());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        CompletableFuture<HttpResponse<String>> response = delegate.send(request);
+        if (!"GET".equals(request.method())) {
+            return response;
+        }
+        return response.thenApply(result -> {
+            int status = result.statusCode();
+            if ((status >= 200 && status < 300) || status == 404) {
+                try {
+                    corpus.record(request.uri(), status, result.body());
+                } catch (IOException e) {
+                    log.warn("Spotify 응답 녹화 실패: {} - {}", request.uri(), e.getMessage());
+                }
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재생 전송 - 녹화된 코퍼스에서만 응답 (네트워크 사용 안 함)
+ *
+ * - 토큰 요청(POST)은 고정 토큰으로 응답
+ * - 녹화되지 않은 요청은 404 - 호출부의 "결과 없음" 경로로 처리됨
+ * - 응답 지연: replayLatencyMs + 0~replayLatencyJitterMs, 요청 타임아웃을 넘으면 타임아웃 실패
+ * - 오류 주입: replayErrorRate 비율로 503, replayThrottleRate 비율로 429(Retry-After: 1)
+ * - 난수는 replaySeed로 고정 - 같은 설정/같은 요청 순서면 같은 결과 (벤치마크 재현)
+ */
+@Slf4j
+public class SpotifyReplayTransport implements SpotifyTransport {
+
+    private static final String TOKEN_BODY =
+        "{\"access_token\":\"replay-token\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+    private static final String NOT_RECORDED_BODY =
+        "{\"error\":{\"status\":404,\"message\":\"Not recorded\"}}";
+    private static final String UNAVAILABLE_BODY =
+        "{\"error\":{\"status\":503,\"message\":\"Injected error\"}}";
+    private static final String THROTTLED_BODY =
+        "{\"error\":{\"status\":429,\"message\":\"Injected throttle\"}}";
+
+    private final SpotifyCorpus corpus;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double errorRate;
+    private final double throttleRate;
+    private final Random random;
+
+    public SpotifyReplayTransport(SpotifyCorpus corpus, SpotifyConfig.Transport settings) {
+        this.corpus = corpus;
+        this.latencyMs = Math.max(0, settings.getReplayLatencyMs());
+        this.latencyJitterMs = Math.max(0, settings.getReplayLatencyJitterMs());
+        this.errorRate = settings.getReplayErrorRate();
+        this.throttleRate = settings.getReplayThrottleRate();
+        this.random = new Random(settings.getReplaySeed());
+        log.info("Spotify 재생 모드 - 코퍼스 {}건, 지연 {}+{}ms, 오류 {} / 429 {}",
+            corpus.size(), latencyMs, latencyJitterMs, errorRate, throttleRate);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        long delay = latencyMs + (latencyJitterMs > 0 ? (long) (random.nextDouble() * (latencyJitterMs + 1)) : 0);
+        HttpResponse<String> response = respond(request);
+        CompletableFuture<HttpResponse<String>> result = delay > 0
+            ? CompletableFuture.supplyAsync(() -> response, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+            : CompletableFuture.completedFuture(response);
+        return request.timeout()
+            .map(timeout -> result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS))
+            .orElse(result);
+    }
+
+    private HttpResponse<String> respond(HttpRequest request) {
+        if (!"GET".equals(request.method())) {
+            return new ReplayResponse(request, 200, TOKEN_BODY, Map.of());
+        }
+        double roll = random.nextDouble();
+        if (roll < errorRate) {
+            return new ReplayResponse(request, 503, UNAVAILABLE_BODY, Map.of());
+        }
+        if (roll < errorRate + throttleRate) {
+            return new ReplayResponse(request, 429, THROTTLED_BODY, Map.of("Retry-After", List.of("1")));
+        }
+        SpotifyCorpus.Recorded recorded = corpus.find(request.uri());
+        if (recorded == null) {
+            log.debug("재생 코퍼스에 없는 요청: {}", request.uri());
+            return new ReplayResponse(request, 404, NOT_RECORDED_BODY, Map.of());
+        }
+        return new ReplayResponse(request, recorded.status(), recorded.body(), Map.of());
+    }
+
+    private record ReplayResponse(HttpRequest request, int statusCode, String body,
+                                  Map<String, List<String>> headerValues) implements HttpResponse<String> {
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(headerValues, (name, value) -> true);
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import com.example.musicrecommendation.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Spotify API 전송 스케줄러 (애플리케이션 전체 공용)
+ *
+ * - 전역 토큰 버킷(초당 permitsPerSecond)과 동시 전송 수(maxConcurrency)로 전송 속도 제한
+ * - 우선순위 대기열: INTERACTIVE > RECOMMENDATION > SYNC - 전송 가능해지면 항상 높은 대기열부터 꺼냄
+ *   (동기화 작업이 몰려도 사용자 검색은 앞에서 처리)
+ * - 429 응답의 Retry-After 동안 모든 전송을 멈춤 ({@link #pause}) - 재시도가 제한을 다시 때리는 연쇄 방지
+ * - 메트릭: spotify.scheduler.queue.depth(대기열별), spotify.scheduler.wait(대기 시간), spotify.scheduler.throttled(429)
+ *
+ * 토큰 발급 요청은 거치지 않는다 (인증 서버는 별도 한도).
+ */
+@Component
+@Slf4j
+public class SpotifyRequestScheduler {
+
+    private static final String GLOBAL = "global";
+
+    private final TokenBucketRateLimiter<String> rateLimiter;
+    private final long refillIntervalMs;
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<SpotifyPriority, ArrayDeque<Task<?>>> lanes = new EnumMap<>(SpotifyPriority.class);
+    private int inFlight;
+    private long pausedUntil;
+    private volatile boolean running = true;
+
+    private final Map<SpotifyPriority, Timer> waitTimers = new EnumMap<>(SpotifyPriority.class);
+    private final Counter throttled;
+    private final Thread dispatcher;
+
+    public SpotifyRequestScheduler(SpotifyConfig config, MeterRegistry meterRegistry) {
+        SpotifyConfig.Scheduler settings = config.getScheduler();
+        int permitsPerSecond = Math.max(1, settings.getPermitsPerSecond());
+        this.rateLimiter = TokenBucketRateLimiter.<String>builder()
+                .limit(permitsPerSecond, Duration.ofSeconds(1))
+                .maximumKeys(1)
+                .build();
+        this.refillIntervalMs = Math.max(1, 1000 / permitsPerSecond);
+        this.maxConcurrency = Math.max(1, settings.getMaxConcurrency());
+        this.maxQueueSize = Math.max(1, settings.getMaxQueueSize());
+
+        for (SpotifyPriority priority : SpotifyPriority.values()) {
+            ArrayDeque<Task<?>> lane = new ArrayDeque<>();
+            lanes.put(priority, lane);
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("spotify.scheduler.queue.depth", this, scheduler -> scheduler.depth(priority))
+                    .description("전송 대기 중인 Spotify 요청 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("spotify.scheduler.wait")
+                    .description("Spotify 요청 전송 전 대기 시간")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("spotify.scheduler.in.flight", this, scheduler -> scheduler.inFlight())
+                .description("전송 중인 Spotify 요청 수")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("spotify.scheduler.throttled")
+                .description("Spotify 429 응답으로 전송을 멈춘 횟수")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "spotify-scheduler");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+        lock.lock();
+        try {
+            for (ArrayDeque<Task<?>> lane : lanes.values()) {
+                lane.forEach(task -> task.promise.completeExceptionally(
+                        new TransientSpotifyException("Spotify 요청 스케줄러 종료")));
+                lane.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전송 예약 - 차례가 되면 {@code send}를 호출하고 그 결과로 완료
+     *
+     * @throws TransientSpotifyException 대기열이 가득 찬 경우 (반환 future가 실패)
+     */
+    public <T> CompletableFuture<T> submit(SpotifyPriority priority, Supplier<CompletableFuture<T>> send) {
+        Task<T> task = new Task<>(priority, send, System.nanoTime());
+        lock.lock();
+        try {
+            ArrayDeque<Task<?>> lane = lanes.get(priority);
+            if (!running || lane.size() >= maxQueueSize) {
+                return CompletableFuture.failedFuture(new TransientSpotifyException(
+                        "Spotify 요청 대기열 초과 (" + priority + ", " + lane.size() + ")"));
+            }
+            lane.addLast(task);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return task.promise;
+    }
+
+    /**
+     * 429 Retry-After 동안 전체 전송 중지 (이미 더 길게 멈춰 있으면 유지)
+     */
+    public void pause(Duration retryAfter) {
+        throttled.increment();
+        lock.lock();
+        try {
+            long until = System.currentTimeMillis() + retryAfter.toMillis();
+            if (until > pausedUntil) {
+                pausedUntil = until;
+                log.warn("Spotify 요청 한도 초과(429) - {}ms 동안 전송 중지", retryAfter.toMillis());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int depth(SpotifyPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === 전송 루프 ===
+
+    private void dispatchLoop() {
+        while (running) {
+            Task<?> task;
+            try {
+                task = nextTask();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            start(task);
+        }
+    }
+
+    /**
+     * 보낼 수 있을 때까지 대기 후 가장 높은 우선순위 요청을 꺼냄 (동시 전송 수 1 증가)
+     */
+    private Task<?> nextTask() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                Task<?> head = peekHighest();
+                long now = System.currentTimeMillis();
+                if (head == null || inFlight >= maxConcurrency) {
+                    changed.await();
+                } else if (now < pausedUntil) {
+                    changed.await(pausedUntil - now, TimeUnit.MILLISECONDS);
+                } else if (!rateLimiter.tryAcquire(GLOBAL)) {
+                    changed.await(refillIntervalMs, TimeUnit.MILLISECONDS);
+                } else {
+                    lanes.get(head.priority).pollFirst();
+                    inFlight++;
+                    return head;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task<?> peekHighest() {
+        for (ArrayDeque<Task<?>> lane : lanes.values()) {
+            Task<?> head = lane.peekFirst();
+            if (head != null) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private <T> void start(Task<T> task) {
+        waitTimers.get(task.priority).record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+        CompletableFuture<T> sent;
+        try {
+            sent = task.send.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> {
+            release();
+            if (error != null) {
+                task.promise.completeExceptionally(error);
+            } else {
+                task.promise.complete(result);
+            }
+        });
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Task<T> {
+        private final SpotifyPriority priority;
+        private final Supplier<CompletableFuture<T>> send;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> promise = new CompletableFuture<>();
+
+        private Task(SpotifyPriority priority, Supplier<CompletableFuture<T>> send, long enqueuedAt) {
+            this.priority = priority;
+            this.send = send;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
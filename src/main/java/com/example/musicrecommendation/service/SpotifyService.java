@@ -1,24 +1,14 @@
 package com.example.musicrecommendation.service;
 
-import com.example.musicrecommendation.config.SpotifyConfig;
 import com.example.musicrecommendation.web.dto.spotify.*;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Collections;
 import java.util.List;
@@ -30,117 +20,48 @@ public class SpotifyService {
     private static final Logger log = LoggerFactory.getLogger(SpotifyService.class);
 
     @Autowired
-    private SpotifyConfig spotifyConfig;
+    private SpotifyApiClient spotifyApiClient;
 
     @Autowired
-    private RestTemplate restTemplate;
-
-    private String accessToken;
-    private long tokenExpiryTime;
-
-    /**
-     * Spotify API 액세스 토큰 획득 (Client Credentials)
-     */
-    private void authenticateWithSpotify() {
-        try {
-            String credentials = spotifyConfig.getClient().getId() + ":" + spotifyConfig.getClient().getSecret();
-            String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.set("Authorization", "Basic " + encodedCredentials);
-
-            MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-            body.add("grant_type", "client_credentials");
-
-            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<SpotifyTokenResponse> response = restTemplate.postForEntity(
-                    spotifyConfig.getApi().getAuthUrl(),
-                    request,
-                    SpotifyTokenResponse.class
-            );
-
-            if (response.getBody() != null) {
-                this.accessToken = response.getBody().getAccessToken();
-                this.tokenExpiryTime = System.currentTimeMillis() + (response.getBody().getExpiresIn() * 1000L);
-                log.debug("Spotify 토큰 획득 성공, 만료(초): {}", response.getBody().getExpiresIn());
-            }
-
-        } catch (Exception e) {
-            log.error("Spotify 인증 실패: {}", e.getMessage());
-            throw new RuntimeException("Spotify 인증에 실패했습니다.", e);
-        }
-    }
-
-    /**
-     * 토큰 유효성 체크 및 필요 시 갱신
-     */
-    private void ensureValidToken() {
-        log.debug("토큰 체크: accessToken={}, 현재시간={}, 만료시간={}", 
-            accessToken != null ? "exists" : "null", System.currentTimeMillis(), tokenExpiryTime);
-        if (accessToken == null || System.currentTimeMillis() >= tokenExpiryTime) {
-            log.info("토큰 갱신 필요 - 새로운 토큰 요청 중...");
-            authenticateWithSpotify();
-        }
-    }
+    private SpotifyBatchLoader spotifyBatchLoader;
 
     /**
      * 아티스트 검색
-     * - 캐시: 동일 (query, limit) 10분간
+     * - 캐시: 동일 (query, limit) 메모리 + 디스크 2단계 (빈 결과는 저장하지 않음, 오래된 항목은 즉시 반환 후 백그라운드 갱신)
      * - 재시도: 5xx/429/네트워크 등 "일시적 오류"는 최대 3회 (지수 백오프)
      */
     @Cacheable(
             value = "artistSearch",
             key = "#query + '|' + #limit",
-            unless = "#result == null || #result.isEmpty()"
+            sync = true
     )
     @Retry(name = "spotify", fallbackMethod = "searchFallback")
     public List<ArtistDto> searchArtists(String query, int limit) {
-        ensureValidToken();
-
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-
-            String url = UriComponentsBuilder.fromHttpUrl(spotifyConfig.getApi().getBaseUrl() + "/search")
-                    .queryParam("q", query)
-                    .queryParam("type", "artist")
-                    .queryParam("limit", limit)
-                    .toUriString();
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
             log.debug("Spotify 검색 호출: q='{}', limit={}", query, limit);
 
-            ResponseEntity<SpotifySearchResponse> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, SpotifySearchResponse.class
+            SpotifySearchResponse response = spotifyApiClient.get(
+                    spotifyApiClient.uri("/search", Map.of("q", query, "type", "artist", "limit", limit)),
+                    SpotifySearchResponse.class
             );
 
-            if (response.getBody() != null && response.getBody().getArtists() != null) {
-                List<ArtistDto> out = convertToArtistDtos(response.getBody().getArtists().getItems());
+            if (response != null && response.getArtists() != null) {
+                List<ArtistDto> out = convertToArtistDtos(response.getArtists().getItems());
                 log.debug("Spotify 검색 결과: {}건", out.size());
                 return out;
             }
 
             return new ArrayList<>();
 
-        } catch (HttpStatusCodeException e) {
-            // Spring 6: getStatusCode()는 HttpStatusCode (value()로 비교)
-            int code = e.getStatusCode().value();
-            // 5xx 또는 429는 "일시적 오류"로 간주 → 재시도 대상
-            if (e.getStatusCode().is5xxServerError() || code == 429) {
-                log.warn("Spotify 일시적 오류 감지(상태 {}), 재시도 대상: {}", code, e.getMessage());
-                throw new TransientSpotifyException("Transient HTTP " + code, e);
-            }
-            // 그 외 4xx는 즉시 실패
-            log.error("Spotify 클라이언트 오류(상태 {}): {}", code, e.getResponseBodyAsString());
-            throw new RuntimeException("아티스트 검색에 실패했습니다. (status=" + code + ")", e);
+        } catch (TransientSpotifyException e) {
+            // 5xx/429/타임아웃/네트워크 오류 → 재시도 대상
+            log.warn("Spotify 일시적 오류, 재시도 대상: {}", e.getMessage());
+            throw e;
 
-        } catch (ResourceAccessException e) {
-            // 타임아웃/네트워크 오류 → 재시도 대상
-            log.warn("Spotify 네트워크 오류, 재시도 대상: {}", e.getMessage());
-            throw new TransientSpotifyException("Network error", e);
+        } catch (SpotifyApiException e) {
+            // 그 외 4xx는 즉시 실패
+            log.error("Spotify 클라이언트 오류(상태 {}): {}", e.getStatus(), e.getResponseBody());
+            throw new RuntimeException("아티스트 검색에 실패했습니다. (status=" + e.getStatus() + ")", e);
 
         } catch (Exception e) {
             log.error("아티스트 검색 실패: {}", e.getMessage());
@@ -154,7 +75,7 @@ public class SpotifyService {
     @Cacheable(
             value = "trackSearch",
             key = "#query + '|' + #limit",
-            unless = "#result == null || #result.isEmpty()"
+            sync = true
     )
     @Retry(name = "spotify", fallbackMethod = "searchTracksFallback")
     public List<TrackDto> searchTracks(String query, int limit) {
@@ -167,12 +88,10 @@ public class SpotifyService {
     @Cacheable(
             value = "artistTrackSearch",
             key = "#artistName + '|' + #query + '|' + #limit",
-            unless = "#result == null || #result.isEmpty()"
+            sync = true
     )
     @Retry(name = "spotify", fallbackMethod = "searchArtistTracksFallback")
     public List<TrackDto> searchArtistTracks(String artistName, String query, int limit) {
-        ensureValidToken();
-        
         log.info("🎯 아티스트별 곡 검색: 아티스트='{}', 곡='{}', 한계={}", artistName, query, limit);
         
         List<TrackDto> allResults = new ArrayList<>();
@@ -288,40 +207,35 @@ public class SpotifyService {
     
     
     private List<TrackDto> performTrackSearch(String query, int limit) {
-        ensureValidToken();
-        
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-
             // 먼저 원본 검색어로 시도
             List<TrackDto> allResults = new ArrayList<>();
             
             // 1. 원본 검색어
-            List<TrackDto> originalResults = searchWithQuery(query, headers, limit);
+            List<TrackDto> originalResults = searchWithQuery(query, limit);
             allResults.addAll(originalResults);
             
             // 2. 구두점 변형 검색 (쉼표를 공백으로, 공백을 쉼표로)
             if (query.contains(",")) {
                 String spaceQuery = query.replaceAll(",\\s*", " ");
-                List<TrackDto> spaceResults = searchWithQuery(spaceQuery, headers, limit);
+                List<TrackDto> spaceResults = searchWithQuery(spaceQuery, limit);
                 addUniqueResults(allResults, spaceResults, limit * 2);
             } else if (query.contains(" ")) {
                 // 공백을 쉼표로 변환해서 검색
                 String commaQuery = query.replaceAll("\\s+", ",");
-                List<TrackDto> commaResults = searchWithQuery(commaQuery, headers, limit);
+                List<TrackDto> commaResults = searchWithQuery(commaQuery, limit);
                 addUniqueResults(allResults, commaResults, limit * 2);
                 
                 // 공백을 쉼표+공백으로 변환해서도 검색
                 String commaSpaceQuery = query.replaceAll("\\s+", ", ");
-                List<TrackDto> commaSpaceResults = searchWithQuery(commaSpaceQuery, headers, limit);
+                List<TrackDto> commaSpaceResults = searchWithQuery(commaSpaceQuery, limit);
                 addUniqueResults(allResults, commaSpaceResults, limit * 2);
             }
             
             // 3. 구두점 제거 버전
             String noPunctQuery = query.replaceAll("[\\p{Punct}]", " ").replaceAll("\\s+", " ").trim();
             if (!noPunctQuery.equals(query)) {
-                List<TrackDto> noPunctResults = searchWithQuery(noPunctQuery, headers, limit);
+                List<TrackDto> noPunctResults = searchWithQuery(noPunctQuery, limit);
                 addUniqueResults(allResults, noPunctResults, limit * 2);
             }
             
@@ -342,39 +256,26 @@ public class SpotifyService {
             
             return filteredResults.stream().limit(limit).collect(Collectors.toList());
 
-        } catch (HttpStatusCodeException e) {
-            int code = e.getStatusCode().value();
-            if (e.getStatusCode().is5xxServerError() || code == 429) {
-                log.warn("Spotify 일시적 오류 감지(상태 {}), 재시도 대상: {}", code, e.getMessage());
-                throw new TransientSpotifyException("Transient HTTP " + code, e);
-            }
-            log.error("Spotify 클라이언트 오류(상태 {}): {}", code, e.getResponseBodyAsString());
-            return new ArrayList<>();
+        } catch (TransientSpotifyException e) {
+            log.warn("Spotify 일시적 오류, 재시도 대상: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Spotify 트랙 검색 실패: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
     
-    private List<TrackDto> searchWithQuery(String query, HttpHeaders headers, int limit) {
+    private List<TrackDto> searchWithQuery(String query, int limit) {
         try {
-            String url = UriComponentsBuilder.fromHttpUrl(spotifyConfig.getApi().getBaseUrl() + "/search")
-                    .queryParam("q", query)
-                    .queryParam("type", "track")
-                    .queryParam("limit", limit)
-                    .toUriString();
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            var uri = spotifyApiClient.uri("/search", Map.of("q", query, "type", "track", "limit", limit));
 
             log.warn("🔗 Spotify 트랙 검색 호출: q='{}', limit={}", query, limit);
-            log.warn("🔗 실제 요청 URL: {}", url);
+            log.warn("🔗 실제 요청 URL: {}", uri);
 
-            ResponseEntity<SpotifySearchResponse> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, SpotifySearchResponse.class
-            );
+            SpotifySearchResponse response = spotifyApiClient.get(uri, SpotifySearchResponse.class);
 
-            if (response.getBody() != null && response.getBody().getTracks() != null) {
-                return convertToTrackDtos(response.getBody().getTracks().getItems());
+            if (response != null && response.getTracks() != null) {
+                return convertToTrackDtos(response.getTracks().getItems());
             }
 
             return new ArrayList<>();
@@ -439,23 +340,14 @@ public class SpotifyService {
 
     
     /**
-     * Spotify Track ID로 직접 곡 정보 가져오기
+     * Spotify Track ID로 직접 곡 정보 가져오기 (동시 조회는 /tracks?ids= 한 번으로 묶임)
      */
-    private TrackDto getTrackById(String trackId) {
-        ensureValidToken();
-        
+    public TrackDto getTrackById(String trackId) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-            
-            String url = spotifyConfig.getApi().getBaseUrl() + "/tracks/" + trackId;
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            SpotifyTrack response = spotifyBatchLoader.track(trackId).join();
             
-            ResponseEntity<SpotifyTrack> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, SpotifyTrack.class);
-            
-            if (response.getBody() != null) {
-                List<SpotifyTrack> tracks = Collections.singletonList(response.getBody());
+            if (response != null) {
+                List<SpotifyTrack> tracks = Collections.singletonList(response);
                 List<TrackDto> trackDtos = convertToTrackDtos(tracks);
                 return trackDtos.isEmpty() ? null : trackDtos.get(0);
             }
@@ -466,6 +358,32 @@ public class SpotifyService {
         return null;
     }
 
+    /**
+     * 여러 트랙 ID 조회 - 최대 50개씩 다건 요청, 요청 순서 유지 (없는 ID 제외)
+     */
+    public List<TrackDto> getTracksByIds(List<String> trackIds) {
+        try {
+            Map<String, SpotifyTrack> found = spotifyBatchLoader.tracks(trackIds).join();
+            return convertToTrackDtos(new ArrayList<>(found.values()));
+        } catch (Exception e) {
+            log.warn("트랙 일괄 조회 실패 ({}건): {}", trackIds.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 여러 아티스트 ID 조회 - 최대 50개씩 다건 요청, 요청 순서 유지 (없는 ID 제외)
+     */
+    public List<ArtistDto> getArtistsByIds(List<String> artistIds) {
+        try {
+            Map<String, SpotifyArtist> found = spotifyBatchLoader.artists(artistIds).join();
+            return convertToArtistDtos(new ArrayList<>(found.values()));
+        } catch (Exception e) {
+            log.warn("아티스트 일괄 조회 실패 ({}건): {}", artistIds.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
     /**
      * Spotify Track → TrackDto 매핑
      */
@@ -547,22 +465,13 @@ public class SpotifyService {
      */
     @Retry(name = "spotify")
     public List<TrackDto> getArtistTopTracks(String artistId, String market, int limit) {
-        ensureValidToken();
-        
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-            
-            String url = String.format("%s/artists/%s/top-tracks?market=%s", 
-                spotifyConfig.getApi().getBaseUrl(), artistId, market);
-            
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<SpotifyTopTracksResponse> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, SpotifyTopTracksResponse.class);
+            SpotifyTopTracksResponse response = spotifyApiClient.get(
+                spotifyApiClient.uri("/artists/" + artistId + "/top-tracks", Map.of("market", market)),
+                SpotifyTopTracksResponse.class);
             
-            if (response.getBody() != null && response.getBody().getTracks() != null) {
-                List<SpotifyTrack> tracks = response.getBody().getTracks().stream()
+            if (response != null && response.getTracks() != null) {
+                List<SpotifyTrack> tracks = response.getTracks().stream()
                     .limit(limit)
                     .collect(Collectors.toList());
                 
@@ -584,7 +493,7 @@ public class SpotifyService {
      */
     public String getHealthStatus() {
         try {
-            ensureValidToken();
+            spotifyApiClient.ensureToken();
             return "Spotify API 연결 정상";
         } catch (Exception e) {
             return "Spotify API 연결 실패: " + e.getMessage();
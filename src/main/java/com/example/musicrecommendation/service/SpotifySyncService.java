@@ -5,38 +5,242 @@ import com.example.musicrecommendation.domain.MusicMetadataRepository;
 import com.example.musicrecommendation.domain.Song;
 import com.example.musicrecommendation.domain.SongRepository;
 import com.example.musicrecommendation.web.dto.spotify.SpotifyDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
 
 /**
  * Spotify 데이터 동기화 서비스
- * - WebFlux 기반 SpotifyApiService 제거 후, RestTemplate 기반 SpotifyTrackService 사용
+ * - WebFlux 기반 SpotifyApiService 제거 후, SpotifyApiClient(JDK HttpClient) 기반 SpotifyTrackService 사용
+ * - Spotify 요청은 SYNC 우선순위 - 사용자 검색/추천 요청이 먼저 전송됨
+ *
+ * 카탈로그 일괄 동기화({@link #syncCatalog}):
+ * - 소스(search:검색어 / album:앨범 ID / artist:아티스트 ID)별로 페이지(50곡) 단위 수집
+ * - 현재 페이지를 저장하는 동안 다음 페이지를 미리 요청
+ * - 기존 곡 키 집합으로 (title, artist) 중복을 메모리에서 거르고, 오디오 특성은 다건 요청으로 조회
+ * - 페이지마다 체크포인트 커밋 ({@link SpotifyCatalogStore}) - 중단 후 다시 실행하면 이어서 진행
  */
 @Service
-@Transactional
+@Slf4j
 public class SpotifySyncService {
 
+    /** 페이지 크기 (검색/앨범 트랙 API 최대값) */
+    public static final int PAGE_SIZE = 50;
+
+    /** 검색 API가 허용하는 최대 오프셋 */
+    private static final int SEARCH_MAX_OFFSET = 1000;
+
+    private static final Pattern SPOTIFY_ID = Pattern.compile("[A-Za-z0-9]{1,64}");
+
     private final SpotifyTrackService spotifyTrackService;   // ⬅ 변경된 의존성
+    private final SpotifyApiClient spotifyApiClient;
+    private final SpotifyCatalogStore catalogStore;
+    private final StatsAggregator statsAggregator;
     private final SongRepository songRepository;
     private final MusicMetadataRepository musicMetadataRepository;
+    private final String market;
 
     public SpotifySyncService(SpotifyTrackService spotifyTrackService,
+                              SpotifyApiClient spotifyApiClient,
+                              SpotifyCatalogStore catalogStore,
+                              StatsAggregator statsAggregator,
                               SongRepository songRepository,
-                              MusicMetadataRepository musicMetadataRepository) {
+                              MusicMetadataRepository musicMetadataRepository,
+                              @Value("${app.catalog-sync.market:KR}") String market) {
         this.spotifyTrackService = spotifyTrackService;
+        this.spotifyApiClient = spotifyApiClient;
+        this.catalogStore = catalogStore;
+        this.statsAggregator = statsAggregator;
         this.songRepository = songRepository;
         this.musicMetadataRepository = musicMetadataRepository;
+        this.market = market;
+    }
+
+    // === 카탈로그 일괄 동기화 ===
+
+    /**
+     * 소스 목록 순서대로 수집 - 이미 완료된 소스는 건너뜀, 한 소스 실패가 다른 소스를 막지 않음
+     */
+    public List<CatalogSyncResult> syncCatalog(List<String> sources) {
+        return SpotifyPriority.SYNC.call(() -> {
+            Set<String> songKeys = catalogStore.loadSongKeys();
+            List<CatalogSyncResult> results = new ArrayList<>(sources.size());
+            int ingested = 0;
+            for (String source : sources) {
+                CatalogSyncResult result = syncSource(source.strip(), songKeys);
+                results.add(result);
+                ingested += result.ingested();
+            }
+            if (ingested > 0) {
+                // JDBC로 직접 삽입했으므로 엔티티 리스너 대신 통계 재집계
+                statsAggregator.reconcile();
+            }
+            return results;
+        });
+    }
+
+    /** 소스 진행 상황 초기화 - 다음 동기화에서 처음부터 다시 수집 */
+    public void resetCatalogSource(String source) {
+        catalogStore.resetCheckpoint(source.strip());
+    }
+
+    private CatalogSyncResult syncSource(String source, Set<String> songKeys) {
+        CatalogSource parsed;
+        try {
+            parsed = CatalogSource.parse(source);
+        } catch (IllegalArgumentException e) {
+            return CatalogSyncResult.failed(source, 0, e.getMessage());
+        }
+        Optional<SpotifyCatalogStore.Checkpoint> checkpoint = catalogStore.findCheckpoint(source);
+        if (checkpoint.isPresent() && checkpoint.get().completed()) {
+            return new CatalogSyncResult(source, 0, 0, checkpoint.get().nextOffset(), true, null);
+        }
+
+        int offset = checkpoint.map(SpotifyCatalogStore.Checkpoint::nextOffset).orElse(0);
+        int ingested = 0;
+        int skipped = 0;
+        long startedAt = System.currentTimeMillis();
+        try {
+            String fallbackImage = parsed.kind() == SourceKind.ALBUM ? albumImage(parsed.value()) : null;
+            CompletableFuture<Page> pending = fetchPage(parsed, offset);
+            while (true) {
+                Page page = pending.join();
+                int nextOffset = offset + page.items().size();
+                boolean completed = !page.hasNext() || page.items().isEmpty()
+                        || (parsed.kind() == SourceKind.SEARCH && nextOffset >= SEARCH_MAX_OFFSET);
+                if (!completed) {
+                    // 다음 페이지 미리 요청 - 아래 특성 조회/저장과 겹쳐 진행
+                    pending = fetchPage(parsed, nextOffset);
+                }
+
+                NewTracks batch = selectNewTracks(page.items(), fallbackImage, songKeys);
+                int inserted;
+                try {
+                    Map<String, SpotifyDto.AudioFeatures> features = batch.tracks().isEmpty()
+                            ? Map.of()
+                            : spotifyTrackService.getAudioFeatures(
+                                    batch.tracks().stream().map(SpotifyCatalogStore.CatalogTrack::spotifyId).toList());
+                    inserted = catalogStore.writePage(source, nextOffset, completed, batch.tracks(), features,
+                            batch.skipped());
+                } catch (RuntimeException e) {
+                    // 저장되지 않은 키는 되돌림 - 같은 실행의 다른 소스에서 다시 수집 가능
+                    batch.tracks().forEach(track -> songKeys.remove(
+                            SpotifyCatalogStore.songKey(track.title(), track.artist())));
+                    pending.cancel(false);
+                    throw e;
+                }
+                ingested += inserted;
+                skipped += page.items().size() - inserted;
+                offset = nextOffset;
+                if (completed) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("카탈로그 동기화 중단 (다음 실행에서 오프셋 {}부터 재개): {} - {}", offset, source, cause.getMessage());
+            return CatalogSyncResult.failed(source, offset, cause.getMessage(), ingested, skipped);
+        }
+
+        log.info("Catalog sync: {} ingested={} skipped={} offset={} ({}ms)",
+                source, ingested, skipped, offset, System.currentTimeMillis() - startedAt);
+        return new CatalogSyncResult(source, ingested, skipped, offset, true, null);
+    }
+
+    private CompletableFuture<Page> fetchPage(CatalogSource source, int offset) {
+        return switch (source.kind()) {
+            case SEARCH -> spotifyApiClient.getAsync(uri("/search", Map.of(
+                            "q", source.value(), "type", "track", "market", market,
+                            "limit", PAGE_SIZE, "offset", offset)), SpotifyDto.TrackSearchResponse.class)
+                    .thenApply(response -> Page.of(response.getTracks()));
+            case ALBUM -> spotifyApiClient.getAsync(uri("/albums/" + source.value() + "/tracks", Map.of(
+                            "market", market, "limit", PAGE_SIZE, "offset", offset)), SpotifyDto.Tracks.class)
+                    .thenApply(Page::of);
+            case ARTIST -> spotifyApiClient.getAsync(uri("/artists/" + source.value() + "/top-tracks",
+                            Map.of("market", market)), SpotifyDto.TopTracksResponse.class)
+                    .thenApply(response -> new Page(nonNull(response.getTracks()), false));
+        };
+    }
+
+    /** 앨범 트랙 응답에는 앨범 정보가 없으므로 앨범 이미지를 한 번 조회해 모든 트랙에 사용 */
+    private String albumImage(String albumId) {
+        SpotifyDto.Album album = spotifyApiClient.get(
+                uri("/albums/" + albumId, Map.of("market", market)), SpotifyDto.Album.class);
+        return album != null ? firstImage(album) : null;
     }
 
+    private URI uri(String path, Map<String, ?> queryParams) {
+        return spotifyApiClient.uri(path, queryParams);
+    }
+
+    /**
+     * 페이지 트랙 중 새 곡만 골라 저장 형태로 변환 - 키 집합에 없던 곡은 집합에 추가
+     * (이름/아티스트가 없거나 이미 있는 곡, 같은 페이지 안의 중복은 건너뜀으로 집계)
+     */
+    public static NewTracks selectNewTracks(List<SpotifyDto.Track> items, String fallbackImage, Set<String> songKeys) {
+        List<SpotifyCatalogStore.CatalogTrack> tracks = new ArrayList<>(items.size());
+        int skipped = 0;
+        for (SpotifyDto.Track item : items) {
+            SpotifyCatalogStore.CatalogTrack track = toCatalogTrack(item, fallbackImage);
+            if (track == null || !songKeys.add(SpotifyCatalogStore.songKey(track.title(), track.artist()))) {
+                skipped++;
+            } else {
+                tracks.add(track);
+            }
+        }
+        return new NewTracks(tracks, skipped);
+    }
+
+    /** Spotify 트랙 → 저장 형태 (대표 아티스트 = 첫 번째 아티스트) - 필수 값이 없으면 null */
+    static SpotifyCatalogStore.CatalogTrack toCatalogTrack(SpotifyDto.Track track, String fallbackImage) {
+        if (track == null || isBlank(track.getId()) || isBlank(track.getName())
+                || track.getArtists() == null || track.getArtists().isEmpty()
+                || isBlank(track.getArtists().get(0).getName())) {
+            return null;
+        }
+        String imageUrl = track.getAlbum() != null ? firstImage(track.getAlbum()) : null;
+        return new SpotifyCatalogStore.CatalogTrack(
+                track.getId(),
+                SpotifyCatalogStore.truncate(track.getName().strip()),
+                SpotifyCatalogStore.truncate(track.getArtists().get(0).getName().strip()),
+                imageUrl != null ? imageUrl : fallbackImage,
+                track.getPopularity(),
+                track.getDurationMs(),
+                track.getPreviewUrl(),
+                track.getExternalUrls() != null ? track.getExternalUrls().getSpotify() : null);
+    }
+
+    private static String firstImage(SpotifyDto.Album album) {
+        return album.getImages() != null && !album.getImages().isEmpty() ? album.getImages().get(0).getUrl() : null;
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    private static <T> List<T> nonNull(List<T> items) {
+        return items != null ? items : List.of();
+    }
+
+    // === 기존 단건 동기화 ===
+
     /** Spotify에서 곡 검색하고 DB에 저장(간단 샘플) */
+    @Transactional
     public Song syncTrackFromSpotify(String query) {
         Optional<SpotifyDto.TrackSearchResponse> searchResult =
-                spotifyTrackService.searchTracks(query, 1);
+                SpotifyPriority.SYNC.call(() -> spotifyTrackService.searchTracks(query, 1));
 
         if (searchResult.isPresent()
                 && searchResult.get().getTracks() != null
@@ -49,9 +253,10 @@ public class SpotifySyncService {
     }
 
     /** 장르 인기 곡 동기화(간단 샘플) */
+    @Transactional
     public List<Song> syncPopularTracks(String genre, int limit) {
         Optional<SpotifyDto.TrackSearchResponse> result =
-                spotifyTrackService.getPopularTracks(genre, limit);
+                SpotifyPriority.SYNC.call(() -> spotifyTrackService.getPopularTracks(genre, limit));
 
         if (result.isPresent() && result.get().getTracks() != null) {
             return result.get().getTracks().getItems().stream()
@@ -63,12 +268,13 @@ public class SpotifySyncService {
     }
 
     /** 기존 곡의 Spotify 오디오 특성 업데이트 */
+    @Transactional
     public boolean updateMusicMetadata(Long songId, String spotifyId) {
         Optional<Song> songOpt = songRepository.findById(songId);
         if (songOpt.isEmpty()) return false;
 
         Optional<SpotifyDto.AudioFeatures> audioFeatures =
-                spotifyTrackService.getAudioFeatures(spotifyId);
+                SpotifyPriority.SYNC.call(() -> spotifyTrackService.getAudioFeatures(spotifyId));
         if (audioFeatures.isEmpty()) return false;
 
         Song song = songOpt.get();
@@ -100,19 +306,33 @@ public class SpotifySyncService {
         return true;
     }
 
-    /** Spotify Track → Song 엔티티 변환/저장 */
+    /** Spotify Track → Song 엔티티 변환/저장 - (title, artist)가 같은 곡이 있으면 재사용, 메타데이터가 없으면 생성 */
     private Song createOrUpdateSong(SpotifyDto.Track spotifyTrack) {
+        SpotifyCatalogStore.CatalogTrack track = toCatalogTrack(spotifyTrack, null);
+        if (track == null) {
+            return null;
+        }
         try {
-            // 실제 구현을 위해서는 Song 엔티티의 필드와 메서드를 확인 후 매핑 필요
-            List<Song> allSongs = songRepository.findAll();
-            return allSongs.isEmpty() ? null : allSongs.get(0);
+            Song song = songRepository.findByTitleAndArtist(track.title(), track.artist())
+                    .orElseGet(() -> songRepository.save(new Song(track.title(), track.artist(), track.imageUrl())));
+            if (musicMetadataRepository.findBySongId(song.getId()).isEmpty()) {
+                MusicMetadata md = new MusicMetadata(song, track.spotifyId());
+                md.setDurationMs(track.durationMs());
+                md.setPopularity(track.popularity());
+                md.setPreviewUrl(track.previewUrl());
+                md.setExternalUrls(track.externalUrl());
+                md.setFetchedAt(LocalDateTime.now());
+                musicMetadataRepository.save(md);
+            }
+            return song;
         } catch (Exception e) {
-            System.err.println("Spotify 곡 저장 실패: " + e.getMessage());
+            log.warn("Spotify 곡 저장 실패: {} - {}", track.title(), e.getMessage());
             return null;
         }
     }
 
     /** 동기화/연동 상태 요약 (섀도잉 문제 없이 Map으로 반환) */
+    @Transactional(readOnly = true)
     public Map<String, Object> getSyncStatus() {
         boolean connected = spotifyTrackService.testConnection();
         long totalSongs = songRepository.count();
@@ -141,4 +361,59 @@ public class SpotifySyncService {
                 "capabilities", capabilities
         );
     }
+
+    // === 결과/내부 타입 ===
+
+    /**
+     * 소스별 동기화 결과
+     *
+     * @param nextOffset 다음 실행에서 이어갈 오프셋
+     * @param completed  소스 수집 완료 여부
+     * @param error      실패 사유 (성공 시 null)
+     */
+    public record CatalogSyncResult(String source, int ingested, int skipped, int nextOffset,
+                                    boolean completed, String error) {
+
+        static CatalogSyncResult failed(String source, int nextOffset, String error) {
+            return failed(source, nextOffset, error, 0, 0);
+        }
+
+        static CatalogSyncResult failed(String source, int nextOffset, String error, int ingested, int skipped) {
+            return new CatalogSyncResult(source, ingested, skipped, nextOffset, false, error);
+        }
+    }
+
+    /** 페이지에서 고른 새 트랙 + 건너뛴 수 */
+    public record NewTracks(List<SpotifyCatalogStore.CatalogTrack> tracks, int skipped) {
+    }
+
+    private enum SourceKind { SEARCH, ALBUM, ARTIST }
+
+    private record CatalogSource(SourceKind kind, String value) {
+
+        static CatalogSource parse(String source) {
+            int colon = source.indexOf(':');
+            String prefix = colon > 0 ? source.substring(0, colon) : "";
+            String value = colon > 0 ? source.substring(colon + 1).strip() : "";
+            SourceKind kind = switch (prefix) {
+                case "search" -> SourceKind.SEARCH;
+                case "album" -> SourceKind.ALBUM;
+                case "artist" -> SourceKind.ARTIST;
+                default -> throw new IllegalArgumentException("알 수 없는 소스 형식: " + source);
+            };
+            if (value.isEmpty() || (kind != SourceKind.SEARCH && !SPOTIFY_ID.matcher(value).matches())) {
+                throw new IllegalArgumentException("잘못된 소스 값: " + source);
+            }
+            return new CatalogSource(kind, value);
+        }
+    }
+
+    private record Page(List<SpotifyDto.Track> items, boolean hasNext) {
+
+        static Page of(SpotifyDto.Tracks tracks) {
+            return tracks == null
+                    ? new Page(List.of(), false)
+                    : new Page(nonNull(tracks.getItems()), tracks.getNext() != null);
+        }
+    }
 }
@@ -1,42 +1,35 @@
 package com.example.musicrecommendation.service;
 
-import com.example.musicrecommendation.config.SpotifyConfig;
 import com.example.musicrecommendation.web.dto.spotify.SpotifyDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * WebFlux 없이 RestTemplate로 구현한 트랙/오디오 특성용 서비스
- * - Client Credentials 토큰 캐시 포함
+ * 트랙/오디오 특성용 서비스
+ * - HTTP 연결/토큰은 {@link SpotifyApiClient}와 공유
  */
 @Service
 public class SpotifyTrackService {
 
     private static final Logger log = LoggerFactory.getLogger(SpotifyTrackService.class);
 
-    private final RestTemplate restTemplate;
-    private final SpotifyConfig props;
+    private final SpotifyApiClient spotifyApiClient;
+    private final SpotifyBatchLoader spotifyBatchLoader;
 
-    private volatile String accessToken;
-    private volatile long tokenExpiryMillis;
-
-    public SpotifyTrackService(RestTemplate restTemplate, SpotifyConfig props) {
-        this.restTemplate = restTemplate;
-        this.props = props;
+    public SpotifyTrackService(SpotifyApiClient spotifyApiClient, SpotifyBatchLoader spotifyBatchLoader) {
+        this.spotifyApiClient = spotifyApiClient;
+        this.spotifyBatchLoader = spotifyBatchLoader;
     }
 
     /** 외부에서 헬스체크로 사용 */
     public boolean testConnection() {
         try {
-            ensureToken();
+            spotifyApiClient.ensureToken();
             return true;
         } catch (Exception e) {
             log.warn("Spotify 연결 점검 실패: {}", e.getMessage());
@@ -44,66 +37,13 @@ public class SpotifyTrackService {
         }
     }
 
-    private void ensureToken() {
-        long now = System.currentTimeMillis();
-        if (accessToken == null || now >= tokenExpiryMillis) {
-            requestToken();
-        }
-    }
-
-    private void requestToken() {
-        try {
-            String basic = Base64.getEncoder().encodeToString(
-                    (props.getClient().getId() + ":" + props.getClient().getSecret())
-                            .getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            headers.set("Authorization", "Basic " + basic);
-
-            String body = "grant_type=client_credentials";
-
-            HttpEntity<String> req = new HttpEntity<>(body, headers);
-
-            ResponseEntity<TokenResp> resp = restTemplate.postForEntity(
-                    props.getApi().getAuthUrl(),   // 예: https://accounts.spotify.com/api/token
-                    req,
-                    TokenResp.class
-            );
-
-            if (resp.getBody() == null || resp.getBody().access_token == null) {
-                throw new IllegalStateException("Spotify access token 발급 실패");
-            }
-            this.accessToken = resp.getBody().access_token;
-            int expires = resp.getBody().expires_in != null ? resp.getBody().expires_in : 3600;
-            // 60초 여유
-            this.tokenExpiryMillis = System.currentTimeMillis() + (expires - 60) * 1000L;
-            log.debug("Spotify token OK, expires={}s", expires);
-        } catch (Exception e) {
-            throw new RuntimeException("Spotify 토큰 발급 실패", e);
-        }
-    }
-
-    private HttpHeaders bearer() {
-        ensureToken();
-        HttpHeaders h = new HttpHeaders();
-        h.set("Authorization", "Bearer " + accessToken);
-        return h;
-    }
-
     /** 트랙 검색 */
     public Optional<SpotifyDto.TrackSearchResponse> searchTracks(String query, int limit) {
         try {
-            String url = UriComponentsBuilder.fromHttpUrl(props.getApi().getBaseUrl() + "/search")
-                    .queryParam("q", query)
-                    .queryParam("type", "track")
-                    .queryParam("limit", Math.max(1, limit))
-                    .toUriString();
-
-            ResponseEntity<SpotifyDto.TrackSearchResponse> resp = restTemplate.exchange(
-                    url, HttpMethod.GET, new HttpEntity<>(bearer()), SpotifyDto.TrackSearchResponse.class
-            );
-            return Optional.ofNullable(resp.getBody());
+            return Optional.ofNullable(spotifyApiClient.get(
+                    spotifyApiClient.uri("/search", Map.of("q", query, "type", "track", "limit", Math.max(1, limit))),
+                    SpotifyDto.TrackSearchResponse.class
+            ));
         } catch (Exception e) {
             log.error("searchTracks 실패: {}", e.getMessage());
             return Optional.empty();
@@ -115,25 +55,23 @@ public class SpotifyTrackService {
         return searchTracks("genre:" + genre, limit);
     }
 
-    /** 오디오 특성 */
+    /** 오디오 특성 (동시 조회는 /audio-features?ids= 한 번으로 묶임) */
     public Optional<SpotifyDto.AudioFeatures> getAudioFeatures(String trackId) {
         try {
-            String url = props.getApi().getBaseUrl() + "/audio-features/" + trackId;
-            ResponseEntity<SpotifyDto.AudioFeatures> resp = restTemplate.exchange(
-                    url, HttpMethod.GET, new HttpEntity<>(bearer()), SpotifyDto.AudioFeatures.class
-            );
-            return Optional.ofNullable(resp.getBody());
+            return Optional.ofNullable(spotifyBatchLoader.audioFeatures(trackId).join());
         } catch (Exception e) {
             log.error("getAudioFeatures 실패: {}", e.getMessage());
             return Optional.empty();
         }
     }
 
-    // 내부 토큰 DTO
-    private static class TokenResp {
-        public String access_token;
-        public String token_type;
-        public Integer expires_in;
-        public String scope;
+    /** 여러 트랙 오디오 특성 - 최대 50개씩 다건 요청 (트랙 ID → 특성, 없는 ID 제외) */
+    public Map<String, SpotifyDto.AudioFeatures> getAudioFeatures(List<String> trackIds) {
+        try {
+            return spotifyBatchLoader.audioFeatures(trackIds).join();
+        } catch (Exception e) {
+            log.error("getAudioFeatures 일괄 조회 실패 ({}건): {}", trackIds.size(), e.getMessage());
+            return Map.of();
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SpotifyApiClient의 HTTP 전송 계층 (API 요청 + 토큰 요청)
+ *
+ * - LIVE: JDK HttpClient로 그대로 전송
+ * - RECORD: 실제로 전송하고 API 응답을 코퍼스에 저장 ({@link SpotifyRecordingTransport})
+ * - REPLAY: 코퍼스에서만 응답, 지연/오류 주입 ({@link SpotifyReplayTransport})
+ */
+@FunctionalInterface
+public interface SpotifyTransport {
+
+    CompletableFuture<HttpResponse<String>> send(HttpRequest request);
+
+    static SpotifyTransport create(SpotifyConfig.Transport settings, HttpClient httpClient) {
+        SpotifyTransport live = request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        return switch (settings.getMode()) {
+            case LIVE -> live;
+            case RECORD -> new SpotifyRecordingTransport(live, new SpotifyCorpus(Path.of(settings.getCorpusDir())));
+            case REPLAY -> new SpotifyReplayTransport(new SpotifyCorpus(Path.of(settings.getCorpusDir())), settings);
+        };
+    }
+}
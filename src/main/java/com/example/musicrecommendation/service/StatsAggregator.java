@@ -0,0 +1,280 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.domain.MusicItem;
+import com.example.musicrecommendation.domain.MusicReview;
+import com.example.musicrecommendation.domain.RecommendationHistory;
+import com.example.musicrecommendation.domain.Song;
+import com.example.musicrecommendation.domain.User;
+import com.example.musicrecommendation.domain.UserMatch;
+import com.example.musicrecommendation.domain.UserProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대시보드 통계 집계기
+ *
+ * - 전체 건수/오늘 가입자 수는 엔티티 생성·삭제 이벤트(커밋 후)마다 증감해 불변 스냅샷으로 교체
+ * - 장르 분포는 관련 엔티티가 바뀌면 표시만 해 두고 주기 작업에서 다시 집계 (요청 경로에서 GROUP BY 없음)
+ * - JDBC 일괄 작업 등 이벤트를 거치지 않은 변경은 주기적인 SQL 재집계로 보정
+ * - 조회는 스냅샷 참조 하나만 읽음 (O(1))
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatsAggregator {
+
+    /** 장르 분포를 계산할 데이터 출처 (우선순위 순) */
+    public enum GenreSource {
+        /** 사용자 프로필에서 선택한 선호 장르 */
+        USER_PROFILES,
+        /** 음악 아이템 장르 */
+        MUSIC_ITEMS,
+        /** 추천 히스토리 장르 */
+        RECOMMENDATIONS,
+        NONE
+    }
+
+    /** 증감 대상 전체 건수 */
+    public enum Counter {
+        USERS,
+        SONGS,
+        MUSIC_ITEMS,
+        RECOMMENDATIONS,
+        MATCHES,
+        REVIEWS;
+
+        static Counter of(Object entity) {
+            if (entity instanceof User) return USERS;
+            if (entity instanceof Song) return SONGS;
+            if (entity instanceof MusicItem) return MUSIC_ITEMS;
+            if (entity instanceof RecommendationHistory) return RECOMMENDATIONS;
+            if (entity instanceof UserMatch) return MATCHES;
+            if (entity instanceof MusicReview) return REVIEWS;
+            return null;
+        }
+    }
+
+    private static final String COUNTS_SQL =
+        "SELECT (SELECT COUNT(*) FROM users) AS users, " +
+        "(SELECT COUNT(*) FROM songs) AS songs, " +
+        "(SELECT COUNT(*) FROM music_items) AS music_items, " +
+        "(SELECT COUNT(*) FROM recommendation_history) AS recommendations, " +
+        "(SELECT COUNT(*) FROM user_matches) AS matches, " +
+        "(SELECT COUNT(*) FROM music_reviews) AS reviews, " +
+        "(SELECT COUNT(*) FROM users WHERE created_at >= ? AND created_at < ?) AS new_users_today";
+
+    private static final String PROFILE_GENRES_SQL =
+        "SELECT g->>'name' AS genre, COUNT(*) AS cnt " +
+        "FROM user_profile p CROSS JOIN LATERAL jsonb_array_elements(p.favorite_genres) AS g " +
+        "WHERE g->>'name' IS NOT NULL GROUP BY g->>'name' ORDER BY cnt DESC";
+
+    private static final String MUSIC_ITEM_GENRES_SQL =
+        "SELECT genre, COUNT(*) AS cnt FROM music_items WHERE genre IS NOT NULL GROUP BY genre ORDER BY cnt DESC";
+
+    private static final String RECOMMENDATION_GENRES_SQL =
+        "SELECT track_genre AS genre, COUNT(*) AS cnt FROM recommendation_history " +
+        "WHERE track_genre IS NOT NULL GROUP BY track_genre ORDER BY cnt DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicReference<StatsSnapshot> current = new AtomicReference<>(StatsSnapshot.EMPTY);
+
+    /** 장르 분포 재집계 필요 여부 */
+    private volatile boolean genresDirty = true;
+
+    /**
+     * 현재 스냅샷 (날짜가 바뀌었으면 오늘 가입자 수는 0으로 본 사본)
+     */
+    public StatsSnapshot snapshot() {
+        return current.get().asOf(LocalDate.now());
+    }
+
+    /**
+     * 엔티티 생성 반영 (커밋 후 호출)
+     */
+    public void onCreated(Object entity) {
+        Counter counter = Counter.of(entity);
+        if (counter != null) {
+            boolean signupToday = entity instanceof User user && isToday(user.getCreatedAt());
+            current.updateAndGet(snapshot -> snapshot.asOf(LocalDate.now()).plus(counter, 1, signupToday));
+        }
+        if (affectsGenres(entity)) {
+            genresDirty = true;
+        }
+    }
+
+    /**
+     * 엔티티 삭제 반영 (커밋 후 호출)
+     */
+    public void onDeleted(Object entity) {
+        Counter counter = Counter.of(entity);
+        if (counter != null) {
+            boolean signupToday = entity instanceof User user && isToday(user.getCreatedAt());
+            current.updateAndGet(snapshot -> snapshot.asOf(LocalDate.now()).plus(counter, -1, signupToday));
+        }
+        if (affectsGenres(entity)) {
+            genresDirty = true;
+        }
+    }
+
+    /**
+     * 엔티티 수정 반영 - 장르 분포에 영향을 주는 경우만
+     */
+    public void onUpdated(Object entity) {
+        if (affectsGenres(entity)) {
+            genresDirty = true;
+        }
+    }
+
+    /**
+     * 전체 건수 재집계 (기동 시 + 주기 실행) - 이벤트 경로에서 빠진 변경 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            LocalDate today = LocalDate.now();
+            Map<Counter, Long> counts = new EnumMap<>(Counter.class);
+            long[] newUsersToday = new long[1];
+            jdbcTemplate.query(COUNTS_SQL, rs -> {
+                counts.put(Counter.USERS, rs.getLong("users"));
+                counts.put(Counter.SONGS, rs.getLong("songs"));
+                counts.put(Counter.MUSIC_ITEMS, rs.getLong("music_items"));
+                counts.put(Counter.RECOMMENDATIONS, rs.getLong("recommendations"));
+                counts.put(Counter.MATCHES, rs.getLong("matches"));
+                counts.put(Counter.REVIEWS, rs.getLong("reviews"));
+                newUsersToday[0] = rs.getLong("new_users_today");
+            }, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+            StatsSnapshot previous = current.getAndUpdate(snapshot ->
+                snapshot.withCounts(counts, today, newUsersToday[0]));
+            if (!previous.counts().equals(counts)) {
+                log.debug("통계 카운터 보정: {} -> {}", previous.counts(), counts);
+            }
+            refreshGenres();
+        } catch (Exception e) {
+            log.warn("통계 재집계 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 장르 분포가 바뀌었으면 다시 집계
+     */
+    @Scheduled(fixedDelayString = "${app.stats.genre-refresh-interval-ms:30000}")
+    public void refreshGenresIfDirty() {
+        if (genresDirty) {
+            try {
+                refreshGenres();
+            } catch (Exception e) {
+                log.warn("장르 분포 집계 실패 - 기존 분포 유지: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void refreshGenres() {
+        genresDirty = false;
+        GenreDistribution distribution = loadGenres();
+        current.updateAndGet(snapshot -> snapshot.withGenres(distribution));
+    }
+
+    /**
+     * 출처 우선순위대로 첫 번째로 데이터가 있는 분포 사용
+     */
+    private GenreDistribution loadGenres() {
+        List<GenreCount> genres = queryGenres(PROFILE_GENRES_SQL);
+        if (!genres.isEmpty()) {
+            return GenreDistribution.of(GenreSource.USER_PROFILES, genres);
+        }
+        genres = queryGenres(MUSIC_ITEM_GENRES_SQL);
+        if (!genres.isEmpty()) {
+            return GenreDistribution.of(GenreSource.MUSIC_ITEMS, genres);
+        }
+        genres = queryGenres(RECOMMENDATION_GENRES_SQL);
+        if (!genres.isEmpty()) {
+            return GenreDistribution.of(GenreSource.RECOMMENDATIONS, genres);
+        }
+        return GenreDistribution.EMPTY;
+    }
+
+    private List<GenreCount> queryGenres(String sql) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new GenreCount(rs.getString("genre"), rs.getLong("cnt")));
+    }
+
+    private static boolean affectsGenres(Object entity) {
+        return entity instanceof UserProfile || entity instanceof MusicItem || entity instanceof RecommendationHistory;
+    }
+
+    private static boolean isToday(LocalDateTime createdAt) {
+        return createdAt == null || createdAt.toLocalDate().equals(LocalDate.now());
+    }
+
+    /**
+     * 장르별 건수
+     */
+    public record GenreCount(String genre, long count) {
+    }
+
+    /**
+     * 장르 분포 (건수 내림차순)
+     */
+    public record GenreDistribution(GenreSource source, List<GenreCount> genres, long total) {
+
+        static final GenreDistribution EMPTY = new GenreDistribution(GenreSource.NONE, List.of(), 0);
+
+        static GenreDistribution of(GenreSource source, List<GenreCount> genres) {
+            long total = genres.stream().mapToLong(GenreCount::count).sum();
+            return new GenreDistribution(source, List.copyOf(genres), total);
+        }
+    }
+
+    /**
+     * 통계 스냅샷 (불변 - 변경은 새 인스턴스로 교체)
+     *
+     * @param date          오늘 가입자 수의 기준 날짜
+     * @param reconciledAt  마지막 SQL 재집계 시각
+     */
+    public record StatsSnapshot(Map<Counter, Long> counts, LocalDate date, long newUsersToday,
+                                GenreDistribution genres, OffsetDateTime reconciledAt) {
+
+        static final StatsSnapshot EMPTY = new StatsSnapshot(Map.of(), LocalDate.MIN, 0,
+            GenreDistribution.EMPTY, null);
+
+        public long get(Counter counter) {
+            return counts.getOrDefault(counter, 0L);
+        }
+
+        StatsSnapshot asOf(LocalDate today) {
+            return today.equals(date) ? this : new StatsSnapshot(counts, today, 0, genres, reconciledAt);
+        }
+
+        StatsSnapshot plus(Counter counter, long delta, boolean signupToday) {
+            Map<Counter, Long> next = new EnumMap<>(Counter.class);
+            next.putAll(counts);
+            next.merge(counter, delta, Long::sum);
+            long today = signupToday ? Math.max(0, newUsersToday + delta) : newUsersToday;
+            return new StatsSnapshot(Map.copyOf(next), date, today, genres, reconciledAt);
+        }
+
+        StatsSnapshot withCounts(Map<Counter, Long> newCounts, LocalDate today, long newUsers) {
+            return new StatsSnapshot(Map.copyOf(newCounts), today, newUsers, genres, OffsetDateTime.now());
+        }
+
+        StatsSnapshot withGenres(GenreDistribution distribution) {
+            return new StatsSnapshot(counts, date, newUsersToday, distribution, reconciledAt);
+        }
+    }
+}
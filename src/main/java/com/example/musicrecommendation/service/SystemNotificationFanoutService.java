@@ -0,0 +1,309 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.domain.SystemNotification;
+import com.example.musicrecommendation.domain.SystemNotificationRepository;
+import com.example.musicrecommendation.domain.UserRepository;
+import com.example.musicrecommendation.web.dto.ws.UserEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 시스템 알림 대량 발송 엔진
+ *
+ * - 대상 사용자 ID를 키셋 페이지(id > cursor)로 청크 단위 순회 - 전체 목록을 메모리에 올리지 않음
+ * - 청크마다 짧은 트랜잭션 하나: 알림함 일괄 INSERT + 진행 커서 전진 (커밋된 청크는 다시 보내지 않음)
+ * - 커밋 후 접속 중인 사용자에게만 WebSocket 푸시 (오프라인 사용자는 알림함에서 확인)
+ * - 진행 하트비트가 끊긴 SENDING 건은 주기적으로 찾아 커서부터 이어서 발송
+ * - 실패한 건(FAILED)도 실패 횟수가 maxAttempts 미만이면 stale-after 이후 커서부터 다시 발송
+ * - 완료/실패 상태는 JPQL 업데이트로 기록 - 청크 진행 전에 읽은 엔티티를 저장해 커서를 되돌리지 않도록
+ */
+@Service
+@Slf4j
+public class SystemNotificationFanoutService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final TypeReference<List<Long>> USER_ID_LIST_TYPE_REF = new TypeReference<>() {};
+
+    private final SystemNotificationRepository systemNotificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationInboxStore inboxStore;
+    private final UserEventPublisher userEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration staleAfter;
+    private final int maxAttempts;
+
+    /** 발송 작업 전용 스레드 (대량 발송끼리 순차 실행 - DB 부하 상한) */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 이 인스턴스에서 실행 대기/진행 중인 알림 ID */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public SystemNotificationFanoutService(SystemNotificationRepository systemNotificationRepository,
+                                           UserRepository userRepository,
+                                           NotificationInboxStore inboxStore,
+                                           UserEventPublisher userEventPublisher,
+                                           ObjectMapper objectMapper,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${app.notification.fanout.chunk-size:1000}") int chunkSize,
+                                           @Value("${app.notification.fanout.stale-after-ms:120000}") long staleAfterMs,
+                                           @Value("${app.notification.fanout.max-attempts:5}") int maxAttempts) {
+        this.systemNotificationRepository = systemNotificationRepository;
+        this.userRepository = userRepository;
+        this.inboxStore = inboxStore;
+        this.userEventPublisher = userEventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 백그라운드 발송 예약 - 호출 트랜잭션이 있으면 커밋 후 시작
+     */
+    public void submit(Long notificationId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notificationId);
+                }
+            });
+        } else {
+            enqueue(notificationId);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 끝까지 발송 (소규모 대상용)
+     *
+     * @return 이번 실행 후의 누적 발송 수 (다른 인스턴스가 진행 중이면 null)
+     */
+    public Integer run(Long notificationId) {
+        if (!inFlight.add(notificationId)) {
+            return null;
+        }
+        try {
+            return fanOut(notificationId);
+        } finally {
+            inFlight.remove(notificationId);
+        }
+    }
+
+    /**
+     * 중단된 발송 재개 (기동 시 + 주기 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.notification.fanout.resume-interval-ms:60000}")
+    public void resumeStalled() {
+        List<Long> stalled = systemNotificationRepository.findStalledFanoutIds(
+            OffsetDateTime.now(KST).minus(staleAfter), maxAttempts);
+        for (Long id : stalled) {
+            log.info("⏯️ 중단된 시스템 알림 발송 재개 예약 - ID: {}", id);
+            enqueue(id);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 청크는 커밋 단위로 끊기므로 그대로 중단 (다음 기동 시 커서부터 재개)
+        executor.shutdownNow();
+    }
+
+    private void enqueue(Long notificationId) {
+        if (!inFlight.add(notificationId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                fanOut(notificationId);
+            } catch (Exception e) {
+                log.error("💥 시스템 알림 발송 작업 실패 - ID: {}", notificationId, e);
+            } finally {
+                inFlight.remove(notificationId);
+            }
+        });
+    }
+
+    private Integer fanOut(Long notificationId) {
+        OffsetDateTime now = OffsetDateTime.now(KST);
+        if (systemNotificationRepository.claimFanout(notificationId, now, now.minus(staleAfter), maxAttempts) == 0) {
+            log.debug("시스템 알림 발송 선점 실패 (진행 중이거나 완료) - ID: {}", notificationId);
+            return null;
+        }
+
+        SystemNotification notification = systemNotificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            return null;
+        }
+        FanoutMessage message = FanoutMessage.of(notification);
+        List<Long> specificTargets = notification.getTargetType() == SystemNotification.TargetType.ALL
+            ? null
+            : parseTargetUserIds(notification.getTargetUserIds());
+
+        long cursor = notification.getFanoutCursor() != null ? notification.getFanoutCursor() : 0L;
+        int delivered = notification.getDeliveredCount() != null ? notification.getDeliveredCount() : 0;
+        log.info("🚀 시스템 알림 발송 시작 - ID: {}, 대상: {}, 커서: {}", notificationId, notification.getTargetType(), cursor);
+
+        try {
+            while (true) {
+                final long from = cursor;
+                ChunkResult chunk = transactionTemplate.execute(status -> processChunk(notificationId, message, specificTargets, from));
+                if (chunk == null) {
+                    break;
+                }
+                pushToOnlineUsers(message, chunk.saved());
+                cursor = chunk.nextCursor();
+                delivered += chunk.saved().size();
+                log.debug("📦 시스템 알림 청크 완료 - ID: {}, 커서: {}, 누적: {}명", notificationId, cursor, delivered);
+            }
+
+            systemNotificationRepository.completeFanout(notificationId, OffsetDateTime.now(KST));
+            log.info("🎉 시스템 알림 발송 완료 - ID: {}, 발송: {}명", notificationId, delivered);
+            return delivered;
+
+        } catch (RuntimeException e) {
+            // 커밋된 청크까지는 발송 완료 - 커서는 유지하고 실패로 표시 (상한 전까지 재개 대상)
+            systemNotificationRepository.failFanout(notificationId, OffsetDateTime.now(KST));
+            throw e;
+        }
+    }
+
+    /**
+     * 청크 하나 처리 (트랜잭션 안)
+     *
+     * @return 더 처리할 대상이 없으면 null
+     */
+    private ChunkResult processChunk(Long notificationId, FanoutMessage message, List<Long> specificTargets, long cursor) {
+        List<Long> userIds;
+        long nextCursor;
+        if (specificTargets == null) {
+            userIds = userRepository.findIdsAfter(cursor, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                return null;
+            }
+            nextCursor = userIds.get(userIds.size() - 1);
+        } else {
+            List<Long> candidates = specificTargets.stream()
+                .filter(id -> id > cursor)
+                .limit(chunkSize)
+                .toList();
+            if (candidates.isEmpty()) {
+                return null;
+            }
+            userIds = userRepository.findExistingIds(candidates);
+            nextCursor = candidates.get(candidates.size() - 1);
+        }
+
+        List<NotificationInboxStore.UserEntry> saved = inboxStore.appendToUsers(
+            userIds, NotificationInboxStore.Inbox.BADGE, message.type().name(), message.title(), message.message(),
+            message.payload());
+        int advanced = systemNotificationRepository.advanceFanout(
+            notificationId, nextCursor, saved.size(), OffsetDateTime.now(KST));
+        if (advanced == 0) {
+            throw new IllegalStateException("시스템 알림 발송 상태가 변경되어 중단: " + notificationId);
+        }
+        return new ChunkResult(saved, nextCursor);
+    }
+
+    private void pushToOnlineUsers(FanoutMessage message, List<NotificationInboxStore.UserEntry> saved) {
+        int pushed = 0;
+        for (NotificationInboxStore.UserEntry userEntry : saved) {
+            Long userId = userEntry.userId();
+            if (!userEventPublisher.isOnline(userId)) {
+                continue;
+            }
+            try {
+                BadgeNotificationService.BadgeNotification payload =
+                    BadgeNotificationService.toBadgeNotification(userId, userEntry.entry());
+                int unreadCount = (int) inboxStore.unreadCount(userId, NotificationInboxStore.Inbox.BADGE);
+                userEventPublisher.publish(userId, UserEvent.CHANNEL_NOTIFICATIONS, message.type().name(), payload, unreadCount);
+                pushed++;
+            } catch (Exception e) {
+                log.warn("시스템 알림 실시간 전송 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+        if (pushed > 0) {
+            log.debug("📡 접속 중인 사용자 {}명에게 실시간 전송", pushed);
+        }
+    }
+
+    /**
+     * 특정 사용자 대상 ID 목록 (중복 제거, 오름차순 - 커서 비교용)
+     */
+    private List<Long> parseTargetUserIds(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(new TreeSet<>(objectMapper.readValue(json, USER_ID_LIST_TYPE_REF)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("사용자 ID 목록 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private record ChunkResult(List<NotificationInboxStore.UserEntry> saved, long nextCursor) {
+    }
+
+    /**
+     * 사용자 알림함에 저장할 내용 (청크마다 동일)
+     */
+    private record FanoutMessage(BadgeNotificationService.NotificationType type, String title, String message,
+                                 Map<String, Object> payload) {
+
+        static FanoutMessage of(SystemNotification notification) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("badgeId", null); // 시스템 알림은 배지와 무관
+            payload.put("badgeType", null);
+            payload.put("badgeName", notification.getType().getDisplayName());
+            payload.put("rarity", notification.getPriority().getDisplayName());
+            payload.put("systemNotificationId", notification.getId());
+            return new FanoutMessage(convertToNotificationType(notification.getType()),
+                notification.getTitle(), notification.getMessage(), payload);
+        }
+
+        /**
+         * SystemNotification.NotificationType을 BadgeNotificationService.NotificationType으로 변환
+         */
+        private static BadgeNotificationService.NotificationType convertToNotificationType(
+                SystemNotification.NotificationType type) {
+            return switch (type) {
+                case SYSTEM_ANNOUNCEMENT -> BadgeNotificationService.NotificationType.SYSTEM_ANNOUNCEMENT;
+                case ADMIN_MESSAGE -> BadgeNotificationService.NotificationType.ADMIN_MESSAGE;
+                case UPDATE_NOTIFICATION -> BadgeNotificationService.NotificationType.UPDATE_NOTIFICATION;
+                case MAINTENANCE_NOTICE -> BadgeNotificationService.NotificationType.MAINTENANCE_NOTICE;
+                case EVENT_NOTIFICATION -> BadgeNotificationService.NotificationType.EVENT_NOTIFICATION;
+            };
+        }
+    }
+}
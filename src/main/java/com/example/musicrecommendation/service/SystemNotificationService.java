@@ -13,7 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,16 +25,16 @@ import java.util.concurrent.CompletableFuture;
 public class SystemNotificationService {
     
     private final SystemNotificationRepository systemNotificationRepository;
-    private final UserRepository userRepository;
-    private final BadgeNotificationService badgeNotificationService;
+    private final SystemNotificationFanoutService fanoutService;
     private final ObjectMapper objectMapper;
     
-    private static final TypeReference<List<Long>> USER_ID_LIST_TYPE_REF = new TypeReference<List<Long>>() {};
+    /** 이 수 이하의 특정 사용자 대상은 요청 스레드에서 바로 발송 (결과 수치를 응답에 포함) */
+    private static final int INLINE_TARGET_LIMIT = 100;
     
     /**
      * 시스템 알림 생성 및 발송
+     * - 발송은 청크 단위 트랜잭션으로 진행하므로 전체를 하나의 트랜잭션으로 묶지 않음
      */
-    @Transactional
     public SystemNotificationSendResult createAndSendNotification(SystemNotificationCreateRequest request) {
         log.info("🔔 시스템 알림 생성 및 발송 시작 - 유형: {}, 제목: '{}'", request.getType(), request.getTitle());
         
@@ -94,134 +93,49 @@ public class SystemNotificationService {
     
     /**
      * 알림 즉시 발송
+     * - 소규모 특정 사용자 대상: 현재 스레드에서 완료까지 발송
+     * - 전체/대규모 대상: 발송 엔진에 넘기고 바로 반환 (진행 상황은 deliveredCount로 확인)
      */
-    @Transactional
     public SystemNotificationSendResult sendNotificationNow(SystemNotification notification) {
         log.info("🚀 알림 즉시 발송 시작 - ID: {}, 유형: {}", notification.getId(), notification.getType());
         
-        // 상태를 발송중으로 변경
-        notification.setStatus(SystemNotification.NotificationStatus.SENDING);
-        systemNotificationRepository.save(notification);
+        SystemNotificationSendResult result = new SystemNotificationSendResult();
+        result.setNotificationId(notification.getId());
+        result.setResults(List.of());
         
-        try {
-            // 대상 사용자 목록 조회
-            List<User> targetUsers = getTargetUsers(notification);
-            log.info("👥 발송 대상 사용자 수: {}명", targetUsers.size());
-            
-            // 각 사용자에게 알림 발송
-            int successCount = 0;
-            int failCount = 0;
-            List<String> results = new ArrayList<>();
-            
-            for (User user : targetUsers) {
-                try {
-                    sendNotificationToUser(user, notification);
-                    successCount++;
-                    results.add("사용자 ID " + user.getId() + ": 발송 성공");
-                    log.debug("✅ 사용자 {}에게 알림 발송 성공", user.getId());
-                } catch (Exception e) {
-                    failCount++;
-                    results.add("사용자 ID " + user.getId() + ": 발송 실패 - " + e.getMessage());
-                    log.error("❌ 사용자 {}에게 알림 발송 실패", user.getId(), e);
-                }
+        if (isInlineTarget(notification)) {
+            Integer delivered;
+            try {
+                delivered = fanoutService.run(notification.getId());
+            } catch (Exception e) {
+                log.error("💥 알림 발송 중 전체 실패 - ID: {}", notification.getId(), e);
+                throw new RuntimeException("알림 발송 중 오류가 발생했습니다.", e);
             }
-            
-            // 발송 완료 처리
-            notification.setStatus(SystemNotification.NotificationStatus.SENT);
-            notification.setSentAt(OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
-            systemNotificationRepository.save(notification);
-            
-            // 결과 반환
-            SystemNotificationSendResult result = new SystemNotificationSendResult();
-            result.setNotificationId(notification.getId());
+            int successCount = delivered != null ? delivered : 0;
             result.setSuccessCount(successCount);
-            result.setFailCount(failCount);
-            result.setResults(results);
-            result.setMessage(String.format("알림 발송 완료 - 성공: %d명, 실패: %d명", successCount, failCount));
-            
-            log.info("🎉 알림 발송 완료 - ID: {}, 성공: {}명, 실패: {}명", notification.getId(), successCount, failCount);
+            result.setFailCount(0);
+            result.setMessage(String.format("알림 발송 완료 - 성공: %d명", successCount));
+            log.info("🎉 알림 발송 완료 - ID: {}, 성공: {}명", notification.getId(), successCount);
             return result;
-            
-        } catch (Exception e) {
-            // 발송 실패 처리
-            notification.setStatus(SystemNotification.NotificationStatus.FAILED);
-            systemNotificationRepository.save(notification);
-            log.error("💥 알림 발송 중 전체 실패 - ID: {}", notification.getId(), e);
-            throw new RuntimeException("알림 발송 중 오류가 발생했습니다.", e);
         }
-    }
-    
-    /**
-     * 개별 사용자에게 알림 발송
-     */
-    private void sendNotificationToUser(User user, SystemNotification notification) {
-        log.info("📤 사용자 {}({})에게 {} 알림 발송 시작", user.getId(), user.getName(), notification.getType().getDisplayName());
-        
-        // BadgeNotificationService를 활용해서 실제 알림 생성
-        BadgeNotificationService.BadgeNotification userNotification = BadgeNotificationService.BadgeNotification.builder()
-                .userId(user.getId())
-                .type(convertToNotificationType(notification.getType()))
-                .title(notification.getTitle())
-                .message(notification.getMessage())
-                .badgeId(null) // 시스템 알림은 배지와 무관
-                .badgeType(null)
-                .badgeName(notification.getType().getDisplayName())
-                .rarity(notification.getPriority().getDisplayName())
-                .timestamp(OffsetDateTime.now(ZoneId.of("Asia/Seoul")))
-                .isRead(false)
-                .build();
         
-        // 사용자별 알림 저장
-        badgeNotificationService.addNotificationForUser(user.getId(), userNotification);
-        
-        log.info("✉️ 사용자 {}({}) 알림 저장 완료 - 제목: '{}'", user.getId(), user.getName(), notification.getTitle());
+        fanoutService.submit(notification.getId());
+        result.setSuccessCount(0);
+        result.setFailCount(0);
+        result.setMessage("알림 발송을 시작했습니다. 대상이 많아 백그라운드에서 순차 발송됩니다.");
+        log.info("📨 알림 대량 발송 시작 - ID: {}, 대상: {}", notification.getId(), notification.getTargetType());
+        return result;
     }
     
-    /**
-     * SystemNotification.NotificationType을 BadgeNotificationService.NotificationType으로 변환
-     */
-    private BadgeNotificationService.NotificationType convertToNotificationType(SystemNotification.NotificationType type) {
-        // 시스템 알림 타입을 그대로 매핑
-        switch (type) {
-            case SYSTEM_ANNOUNCEMENT:
-                return BadgeNotificationService.NotificationType.SYSTEM_ANNOUNCEMENT;
-            case ADMIN_MESSAGE:
-                return BadgeNotificationService.NotificationType.ADMIN_MESSAGE;
-            case UPDATE_NOTIFICATION:
-                return BadgeNotificationService.NotificationType.UPDATE_NOTIFICATION;
-            case MAINTENANCE_NOTICE:
-                return BadgeNotificationService.NotificationType.MAINTENANCE_NOTICE;
-            case EVENT_NOTIFICATION:
-                return BadgeNotificationService.NotificationType.EVENT_NOTIFICATION;
-            default:
-                return BadgeNotificationService.NotificationType.BADGE_AWARDED;
+    private boolean isInlineTarget(SystemNotification notification) {
+        if (notification.getTargetType() != SystemNotification.TargetType.SPECIFIC) {
+            return false;
         }
-    }
-    
-    /**
-     * 대상 사용자 목록 조회
-     */
-    private List<User> getTargetUsers(SystemNotification notification) {
-        if (notification.getTargetType() == SystemNotification.TargetType.ALL) {
-            // 전체 사용자
-            List<User> allUsers = userRepository.findAll();
-            log.debug("🌐 전체 사용자 대상 - 총 {}명", allUsers.size());
-            return allUsers;
-        } else {
-            // 특정 사용자들
-            try {
-                List<Long> userIds = objectMapper.readValue(
-                    notification.getTargetUserIds(), 
-                    USER_ID_LIST_TYPE_REF
-                );
-                List<User> specificUsers = userRepository.findAllById(userIds);
-                log.info("🎯 특정 사용자 대상 - 요청 ID: {}, 실제 조회: {}명", userIds, specificUsers.size());
-                specificUsers.forEach(user -> log.info("  - 대상 사용자: ID={}, 이름={}", user.getId(), user.getName()));
-                return specificUsers;
-            } catch (JsonProcessingException e) {
-                log.error("사용자 ID 목록 역직렬화 실패", e);
-                throw new RuntimeException("사용자 ID 목록 처리 중 오류가 발생했습니다.", e);
-            }
+        try {
+            List<Long> userIds = objectMapper.readValue(notification.getTargetUserIds(), new TypeReference<List<Long>>() {});
+            return userIds.size() <= INLINE_TARGET_LIMIT;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return false;
         }
     }
     
@@ -229,7 +143,6 @@ public class SystemNotificationService {
      * 예약된 알림들을 주기적으로 확인하여 발송 (매분 실행)
      */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
     public void processScheduledNotifications() {
         OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
         List<SystemNotification> scheduledNotifications = 
@@ -1,19 +1,27 @@
 package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.domain.UserBadge;
+import com.example.musicrecommendation.event.BadgeBatchEvent;
 import com.example.musicrecommendation.event.BadgeEvent;
-import com.example.musicrecommendation.repository.MusicReviewRepository;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
 import com.example.musicrecommendation.repository.UserBadgeRepository;
 import com.example.musicrecommendation.domain.UserRepository;
 import com.example.musicrecommendation.web.dto.BadgeDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,10 +34,69 @@ import com.example.musicrecommendation.web.dto.BadgeDto;
 public class UserBadgeService {
 
     private final UserBadgeRepository badgeRepository;
-    private final MusicReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final BadgeNotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    
+    /** 사용자 활동 통계 스냅샷 - 리뷰/도움됨 수를 한 번에 조회 */
+    private static final String USER_STATS_SQL =
+        "SELECT COUNT(*) AS review_count, COALESCE(SUM(helpful_count), 0) AS helpful_count " +
+        "FROM music_reviews WHERE user_id = ?";
+    
+    /** 전체 사용자 일괄 평가 - 사용자별 통계를 집합 단위로 집계해 규칙 표와 조인, 미보유 배지만 INSERT */
+    private static final String EVALUATE_ALL_USERS_SQL =
+        "WITH review_stats AS (" +
+        "  SELECT user_id, COUNT(*) AS review_count, COALESCE(SUM(helpful_count), 0) AS helpful_count " +
+        "  FROM music_reviews GROUP BY user_id), " +
+        "stats AS (" +
+        "  SELECT u.id AS user_id, COALESCE(r.review_count, 0) AS review_count, " +
+        "         COALESCE(r.helpful_count, 0) AS helpful_count " +
+        "  FROM users u LEFT JOIN review_stats r ON r.user_id = u.id), " +
+        "rules AS (" +
+        "  SELECT * FROM unnest(?::text[], ?::text[], ?::bigint[], ?::text[], ?::text[], ?::text[]) " +
+        "  AS t(badge_type, metric, threshold, badge_name, description, icon_url)) " +
+        "INSERT INTO user_badges (user_id, badge_type, badge_name, description, icon_url, earned_at) " +
+        "SELECT s.user_id, rl.badge_type, rl.badge_name, rl.description, rl.icon_url, ? " +
+        "FROM stats s JOIN rules rl ON (CASE rl.metric " +
+        "  WHEN 'REVIEWS' THEN s.review_count ELSE s.helpful_count END) >= rl.threshold " +
+        "WHERE NOT EXISTS (SELECT 1 FROM user_badges b WHERE b.user_id = s.user_id AND b.badge_type = rl.badge_type) " +
+        "ON CONFLICT (user_id, badge_type) DO NOTHING " +
+        "RETURNING id, user_id, badge_type, badge_name, description, icon_url, earned_at, expires_at";
+    
+    /** 일괄 부여 - 존재하는 사용자에게만 INSERT, 사용자별 결과(신규 배지 ID 또는 기보유)를 한 문장으로 반환 */
+    private static final String BATCH_AWARD_SQL =
+        "WITH targets AS (" +
+        "  SELECT DISTINCT u.id AS user_id FROM unnest(?::bigint[]) AS t(user_id) JOIN users u ON u.id = t.user_id), " +
+        "inserted AS (" +
+        "  INSERT INTO user_badges (user_id, badge_type, badge_name, description, icon_url, earned_at, expires_at) " +
+        "  SELECT user_id, ?, ?, ?, ?, ?, ? FROM targets " +
+        "  ON CONFLICT (user_id, badge_type) DO NOTHING " +
+        "  RETURNING id, user_id) " +
+        "SELECT t.user_id, i.id AS badge_id FROM targets t LEFT JOIN inserted i ON i.user_id = t.user_id";
+    
+    /** 만료 배지 일괄 삭제 (대표 배지는 FK ON DELETE SET NULL로 함께 해제) */
+    private static final String DELETE_EXPIRED_SQL =
+        "DELETE FROM user_badges WHERE expires_at < ? " +
+        "RETURNING id, user_id, badge_type, badge_name, description, icon_url, earned_at, expires_at";
+    
+    private static final RowMapper<UserBadge> BADGE_ROW_MAPPER = (rs, rowNum) -> UserBadge.builder()
+        .id(rs.getLong("id"))
+        .userId(rs.getLong("user_id"))
+        .badgeType(UserBadge.BadgeType.valueOf(rs.getString("badge_type")))
+        .badgeName(rs.getString("badge_name"))
+        .description(rs.getString("description"))
+        .iconUrl(rs.getString("icon_url"))
+        .earnedAt(rs.getObject("earned_at", OffsetDateTime.class))
+        .expiresAt(rs.getObject("expires_at", OffsetDateTime.class))
+        .build();
+    
+    /** 사용자별 보유 배지 유형 (규칙 평가용, 부여/회수/만료 시 무효화) */
+    private final Cache<Long, Set<UserBadge.BadgeType>> ownedBadgeTypes = Caffeine.newBuilder()
+        .maximumSize(50_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build();
     
     @Cacheable(value = "user-badges", key = "#userId")
     public List<UserBadge> getUserBadges(Long userId) {
@@ -85,17 +152,7 @@ public class UserBadgeService {
         log.info("🎖️ 배지 생성 시작 - userId: {}, badgeType: {}, expiresAt: {}", userId, badgeType, expiresAt);
         
         // expiresAt이 있을 경우 KST로 변환해서 저장
-        java.time.OffsetDateTime expiresAtKst = null;
-        if (expiresAt != null) {
-            // 입력받은 시간이 UTC라면 KST로 변환, 이미 KST라면 그대로 사용
-            if (expiresAt.getOffset().equals(java.time.ZoneOffset.UTC)) {
-                expiresAtKst = expiresAt.atZoneSameInstant(java.time.ZoneId.of("Asia/Seoul")).toOffsetDateTime();
-                log.info("🕰️ 만료일 UTC -> KST 변환: {} -> {}", expiresAt, expiresAtKst);
-            } else {
-                expiresAtKst = expiresAt;
-                log.info("🕰️ 만료일 그대로 사용: {}", expiresAtKst);
-            }
-        }
+        java.time.OffsetDateTime expiresAtKst = toKst(expiresAt);
 
         UserBadge badge = UserBadge.builder()
                 .userId(userId)
@@ -109,16 +166,13 @@ public class UserBadgeService {
         log.info("🎖️ 배지 객체 생성 완료 - expiresAt: {}", badge.getExpiresAt());
         
         UserBadge savedBadge = badgeRepository.save(badge);
+        ownedBadgeTypes.invalidate(userId);
         
         log.info("🎉 새 배지 획득! 사용자: {}, 배지: {} ({}), 만료일: {}, 저장된 만료일: {}", 
                 userId, badgeType, savedBadge.getBadgeName(), expiresAt, savedBadge.getExpiresAt());
         
-        // 배지 획득 알림 전송
-        try {
-            notificationService.sendBadgeAwardedNotification(userId, savedBadge);
-        } catch (Exception e) {
-            log.warn("배지 획득 알림 전송 실패 - 사용자: {}, 배지: {}", userId, savedBadge.getBadgeName(), e);
-        }
+        // 배지 획득 알림 전송 (같은 트랜잭션 - 실패하면 부여도 롤백)
+        notificationService.sendBadgeAwardedNotification(userId, savedBadge);
         
         // 배지 생성 이벤트 발행 (트랜잭션 완료 후 캐시 무효화됨)
         eventPublisher.publishEvent(BadgeEvent.created(userId, savedBadge.getBadgeName()));
@@ -126,45 +180,83 @@ public class UserBadgeService {
         return savedBadge;
     }
     
+    /**
+     * 활동 기반 배지 평가 - 보유 배지(캐시)와 통계 스냅샷 한 번으로 모든 규칙을 판정
+     */
     @Transactional
     public void checkAndAwardBadges(Long userId) {
-        
-        // 첫 리뷰 배지
-        if (!hasBadge(userId, UserBadge.BadgeType.FIRST_REVIEW)) {
-            long reviewCount = reviewRepository.countByUserId(userId);
-            if (reviewCount >= 1) {
-                awardBadge(userId, UserBadge.BadgeType.FIRST_REVIEW, null, null);
-            }
-        }
-        
-        // 리뷰 마스터 배지 (50개 이상 리뷰)
-        if (!hasBadge(userId, UserBadge.BadgeType.REVIEW_MASTER)) {
-            long reviewCount = reviewRepository.countByUserId(userId);
-            if (reviewCount >= 50) {
-                awardBadge(userId, UserBadge.BadgeType.REVIEW_MASTER, null, "50개 이상의 리뷰를 작성한 숙련된 리뷰어!");
-            }
+        Set<UserBadge.BadgeType> owned = getOwnedBadgeTypes(userId);
+        if (BadgeRules.ownsAllRuleBadges(owned)) {
+            return;
         }
         
-        // 음악 평론가 배지 (100개 이상 리뷰)
-        if (!hasBadge(userId, UserBadge.BadgeType.CRITIC)) {
-            long reviewCount = reviewRepository.countByUserId(userId);
-            if (reviewCount >= 100) {
-                awardBadge(userId, UserBadge.BadgeType.CRITIC, null, "진정한 음악 평론가! 100개 이상의 전문적인 리뷰를 작성했습니다!");
-            }
+        BadgeRules.UserStats stats = getUserStats(userId);
+        for (BadgeRules.Rule rule : BadgeRules.newlyEarned(stats, owned)) {
+            awardBadge(userId, rule.badgeType(), null, rule.description());
         }
-        
-        // 도움이 되는 리뷰어 배지 (25번 이상 도움됨 받기)
-        if (!hasBadge(userId, UserBadge.BadgeType.HELPFUL_REVIEWER)) {
-            // TODO: 실제 도움됨 카운트 로직 구현 필요
-            // 현재는 임시로 리뷰 수 기준으로 판정
-            long reviewCount = reviewRepository.countByUserId(userId);
-            if (reviewCount >= 25) {
-                awardBadge(userId, UserBadge.BadgeType.HELPFUL_REVIEWER, null, "다른 사용자들에게 도움이 되는 리뷰를 작성하는 멤버!");
-            }
+    }
+    
+    /**
+     * 전체 사용자 일괄 평가 (야간 배치) - 사용자 수와 무관하게 INSERT 문 하나
+     *
+     * @return 새로 부여된 배지 수
+     */
+    @Transactional
+    public int evaluateAllUsers() {
+        List<BadgeRules.Rule> rules = BadgeRules.RULES;
+        int size = rules.size();
+        String[] badgeTypes = new String[size];
+        String[] metrics = new String[size];
+        Long[] thresholds = new Long[size];
+        String[] names = new String[size];
+        String[] descriptions = new String[size];
+        String[] iconUrls = new String[size];
+        for (int i = 0; i < size; i++) {
+            BadgeRules.Rule rule = rules.get(i);
+            badgeTypes[i] = rule.badgeType().name();
+            metrics[i] = rule.metric().name();
+            thresholds[i] = rule.threshold();
+            names[i] = rule.badgeType().getDefaultName();
+            descriptions[i] = rule.description() != null ? rule.description() : getDefaultDescription(rule.badgeType());
+            iconUrls[i] = getIconUrl(rule.badgeType());
         }
-        
-        // 도움이 되는 리뷰어 배지 (도움이 됨 5개 이상 받은 리뷰 보유)
-        // TODO: 도움이 됨 수를 체크하는 로직 구현 필요
+        OffsetDateTime nowKst = OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
+        
+        List<UserBadge> awarded = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EVALUATE_ALL_USERS_SQL);
+            ps.setArray(1, con.createArrayOf("text", badgeTypes));
+            ps.setArray(2, con.createArrayOf("text", metrics));
+            ps.setArray(3, con.createArrayOf("bigint", thresholds));
+            ps.setArray(4, con.createArrayOf("text", names));
+            ps.setArray(5, con.createArrayOf("text", descriptions));
+            ps.setArray(6, con.createArrayOf("text", iconUrls));
+            ps.setObject(7, nowKst);
+            return ps;
+        }, BADGE_ROW_MAPPER);
+        
+        afterBulkAward(awarded);
+        
+        log.info("🏅 전체 사용자 배지 일괄 평가 완료 - 신규 부여: {}개", awarded.size());
+        return awarded.size();
+    }
+    
+    /**
+     * 사용자 활동 통계 스냅샷 (단일 쿼리)
+     */
+    public BadgeRules.UserStats getUserStats(Long userId) {
+        return jdbcTemplate.query(USER_STATS_SQL,
+            rs -> rs.next()
+                ? new BadgeRules.UserStats(rs.getLong("review_count"), rs.getLong("helpful_count"))
+                : BadgeRules.UserStats.EMPTY,
+            userId);
+    }
+    
+    private Set<UserBadge.BadgeType> getOwnedBadgeTypes(Long userId) {
+        return ownedBadgeTypes.get(userId, id -> {
+            EnumSet<UserBadge.BadgeType> owned = EnumSet.noneOf(UserBadge.BadgeType.class);
+            owned.addAll(badgeRepository.findBadgeTypesByUserId(id));
+            return Collections.unmodifiableSet(owned);
+        });
     }
     
     public List<Object[]> getBadgeStatistics() {
@@ -188,6 +280,8 @@ public class UserBadgeService {
         
         user.setRepresentativeBadgeId(badgeId);
         userRepository.save(user);
+        // 리뷰 응답에 대표 배지가 포함되므로 작성 리뷰 응답 캐시 무효화
+        eventPublisher.publishEvent(CacheInvalidationEvent.profileUpdated(userId));
         
         log.info("사용자 {}의 대표 배지가 {}로 설정되었습니다.", userId, badgeId);
     }
@@ -216,9 +310,11 @@ public class UserBadgeService {
         if (user != null && badge.getId().equals(user.getRepresentativeBadgeId())) {
             user.setRepresentativeBadgeId(null);
             userRepository.save(user);
+            eventPublisher.publishEvent(CacheInvalidationEvent.profileUpdated(userId));
         }
         
         badgeRepository.delete(badge);
+        ownedBadgeTypes.invalidate(userId);
         log.info("배지 회수 완료 - 사용자: {}, 배지: {}", userId, badgeType);
         return true;
     }
@@ -234,13 +330,8 @@ public class UserBadgeService {
         Map<UserBadge.BadgeType, UserBadge> earnedBadgesMap = userBadges.stream()
                 .collect(Collectors.toMap(UserBadge::getBadgeType, badge -> badge));
         
-        // 사용자의 현재 상태 정보 조회
-        long reviewCount = reviewRepository.countByUserId(userId);
-        // TODO: 향후 추가될 메트릭들
-        // long helpfulVotes = getHelpfulVotesCount(userId);
-        // long genreCount = getExploredGenresCount(userId);
-        // long friendCount = getFriendCount(userId);
-        // long chatCount = getChatCount(userId);
+        // 사용자의 현재 상태 정보 조회 (통계 스냅샷 한 번)
+        BadgeRules.UserStats stats = getUserStats(userId);
         
         // 모든 배지 유형에 대해 진행도 정보 생성
         List<BadgeDto.BadgeWithProgress> badgeProgresses = Arrays.stream(UserBadge.BadgeType.values())
@@ -264,7 +355,7 @@ public class UserBadgeService {
                     }
                     
                     // 배지 유형별 진행도 계산
-                    ProgressInfo progressInfo = calculateProgress(badgeType, reviewCount, userId);
+                    ProgressInfo progressInfo = calculateProgress(badgeType, stats);
                     builder.currentProgress(progressInfo.current)
                            .targetProgress(progressInfo.target)
                            .progressText(progressInfo.text);
@@ -289,7 +380,9 @@ public class UserBadgeService {
     /**
      * 배지 유형별 진행도 계산
      */
-    private ProgressInfo calculateProgress(UserBadge.BadgeType badgeType, long reviewCount, Long userId) {
+    private ProgressInfo calculateProgress(UserBadge.BadgeType badgeType, BadgeRules.UserStats stats) {
+        long reviewCount = stats.reviewCount();
+        long helpfulCount = stats.helpfulCount();
         return switch (badgeType) {
             case FIRST_REVIEW -> new ProgressInfo(
                     (int) Math.min(reviewCount, 1),
@@ -307,10 +400,9 @@ public class UserBadgeService {
                     reviewCount >= 100 ? "음악 평론가 달성!" : String.format("리뷰 %d/100개 작성", reviewCount)
             );
             case HELPFUL_REVIEWER -> new ProgressInfo(
-                    // TODO: 실제 도움이 됨 투표 수로 대체 필요
-                    (int) Math.min(reviewCount, 100),
-                    100,
-                    reviewCount >= 25 ? "도움이 되는 리뷰어 달성!" : String.format("도움이 됨 %d/100개 필요", Math.min(reviewCount, 100))
+                    (int) Math.min(helpfulCount, 25),
+                    25,
+                    helpfulCount >= 25 ? "도움이 되는 리뷰어 달성!" : String.format("도움이 됨 %d/25개 받기", helpfulCount)
             );
             // 소셜 활동 배지들 - 현재는 기본 로직으로 처리
             case SOCIAL_BUTTERFLY -> new ProgressInfo(0, 1, "소셜 활동 참여 필요");
@@ -483,7 +575,7 @@ public class UserBadgeService {
                 style, seed, backgroundColor);
     }
 
-    // 배치 배지 부여
+    // 배치 배지 부여 (INSERT ... SELECT 한 문장 - 대상 수와 무관하게 왕복 1회)
     @Transactional
     public BatchAwardResult batchAwardBadge(
             List<Long> userIds, 
@@ -494,47 +586,94 @@ public class UserBadgeService {
         
         log.info("🎯 배치 배지 부여 시작 - 대상자: {}명, 배지: {}", userIds.size(), badgeType);
         
-        List<BatchAwardResult.UserResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failCount = 0;
-        
+        String badgeName = customName != null ? customName : badgeType.getDefaultName();
+        String description = customDescription != null ? customDescription : getDefaultDescription(badgeType);
+        String iconUrl = getIconUrl(badgeType);
+        OffsetDateTime expiresAtKst = toKst(expiresAt);
+        OffsetDateTime nowKst = OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
+        
+        // 존재하는 사용자 ID -> 새 배지 ID (이미 보유했으면 null)
+        Map<Long, Long> outcomes = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BATCH_AWARD_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", userIds.toArray()));
+            ps.setString(2, badgeType.name());
+            ps.setString(3, badgeName);
+            ps.setString(4, description);
+            ps.setString(5, iconUrl);
+            ps.setObject(6, nowKst);
+            ps.setObject(7, expiresAtKst);
+            return ps;
+        }, rs -> {
+            long badgeId = rs.getLong("badge_id");
+            outcomes.put(rs.getLong("user_id"), rs.wasNull() ? null : badgeId);
+        });
+        
+        List<BatchAwardResult.UserResult> results = new ArrayList<>(userIds.size());
+        List<UserBadge> awarded = new ArrayList<>();
+        Set<Long> reported = new HashSet<>();
         for (Long userId : userIds) {
-            try {
-                // 사용자 존재 확인
-                if (!userRepository.existsById(userId)) {
-                    results.add(new BatchAwardResult.UserResult(userId, false, "사용자를 찾을 수 없습니다."));
-                    failCount++;
-                    continue;
-                }
-                
-                // 이미 배지를 보유하고 있는지 확인
-                if (badgeRepository.existsByUserIdAndBadgeType(userId, badgeType)) {
-                    results.add(new BatchAwardResult.UserResult(userId, false, "이미 해당 배지를 보유하고 있습니다."));
-                    failCount++;
-                    continue;
-                }
-                
-                // 배지 부여
-                UserBadge badge = awardBadge(userId, badgeType, customName, customDescription, expiresAt);
-                if (badge != null) {
-                    results.add(new BatchAwardResult.UserResult(userId, true, "배지 부여 성공"));
-                    successCount++;
-                } else {
-                    results.add(new BatchAwardResult.UserResult(userId, false, "배지 부여 실패"));
-                    failCount++;
-                }
-                
-            } catch (Exception e) {
-                log.error("사용자 {}에 대한 배지 부여 실패", userId, e);
-                results.add(new BatchAwardResult.UserResult(userId, false, "오류: " + e.getMessage()));
-                failCount++;
+            if (!outcomes.containsKey(userId)) {
+                results.add(new BatchAwardResult.UserResult(userId, false, "사용자를 찾을 수 없습니다."));
+                continue;
             }
+            Long badgeId = outcomes.get(userId);
+            // 같은 ID가 여러 번 들어오면 첫 번째만 성공으로 처리
+            if (badgeId == null || !reported.add(userId)) {
+                results.add(new BatchAwardResult.UserResult(userId, false, "이미 해당 배지를 보유하고 있습니다."));
+                continue;
+            }
+            results.add(new BatchAwardResult.UserResult(userId, true, "배지 부여 성공"));
+            awarded.add(UserBadge.builder()
+                    .id(badgeId)
+                    .userId(userId)
+                    .badgeType(badgeType)
+                    .badgeName(badgeName)
+                    .description(description)
+                    .iconUrl(iconUrl)
+                    .earnedAt(nowKst)
+                    .expiresAt(expiresAtKst)
+                    .build());
         }
         
+        afterBulkAward(awarded);
+        
+        int successCount = awarded.size();
+        int failCount = results.size() - successCount;
         log.info("🎉 배치 배지 부여 완료 - 성공: {}명, 실패: {}명", successCount, failCount);
         
         return new BatchAwardResult(successCount, failCount, results);
     }
+    
+    /**
+     * 일괄 부여 후처리 - 알림 일괄 저장, 보유 배지 캐시 무효화, 커밋 후 배지 목록 캐시 일괄 무효화
+     *
+     * 알림 저장 실패는 잡지 않고 전파 - Postgres는 문장 하나가 실패하면 트랜잭션 전체가 중단되므로
+     * 같은 트랜잭션 안에서 잡아도 부여가 커밋되지 않음 (부여와 알림을 함께 롤백, 호출자에게 실패를 알림)
+     */
+    private void afterBulkAward(List<UserBadge> awarded) {
+        if (awarded.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = awarded.stream().map(UserBadge::getUserId).distinct().toList();
+        ownedBadgeTypes.invalidateAll(userIds);
+        notificationService.sendBadgeAwardedNotifications(awarded);
+        eventPublisher.publishEvent(BadgeBatchEvent.created(userIds));
+    }
+    
+    private OffsetDateTime toKst(OffsetDateTime expiresAt) {
+        if (expiresAt == null) {
+            return null;
+        }
+        // 입력받은 시간이 UTC라면 KST로 변환, 이미 KST라면 그대로 사용
+        if (expiresAt.getOffset().equals(java.time.ZoneOffset.UTC)) {
+            OffsetDateTime expiresAtKst = expiresAt.atZoneSameInstant(java.time.ZoneId.of("Asia/Seoul")).toOffsetDateTime();
+            log.info("🕰️ 만료일 UTC -> KST 변환: {} -> {}", expiresAt, expiresAtKst);
+            return expiresAtKst;
+        }
+        log.info("🕰️ 만료일 그대로 사용: {}", expiresAt);
+        return expiresAt;
+    }
 
     // 만료 예정 배지 조회 (관리자용 - 만료된 것 + 곧 만료될 것)
     public List<UserBadge> getExpiredBadges() {
@@ -571,45 +710,29 @@ public class UserBadgeService {
         return allExpiringBadges;
     }
     
-    // 만료된 배지 정리
+    // 만료된 배지 정리 (DELETE ... RETURNING 한 문장)
     @Transactional
     public int removeExpiredBadges() {
         java.time.OffsetDateTime nowKst = java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
         
-        log.info("🧹 만료된 배지 정리 시작");
-        log.info("📅 현재 시각 (KST): {}", nowKst);
-        
-        var expiredBadges = badgeRepository.findByExpiresAtBefore(nowKst);
-        log.info("🧹 정리 대상 만료 배지: {}개", expiredBadges.size());
+        log.info("🧹 만료된 배지 정리 시작 - 현재 시각 (KST): {}", nowKst);
         
-        for (UserBadge badge : expiredBadges) {
-            log.info("🗑️ 배지 제거 중 - userId: {}, badgeName: {}, expiresAt: {}", 
-                badge.getUserId(), badge.getBadgeName(), badge.getExpiresAt());
-                
-            // 대표 배지로 설정되어 있다면 해제
-            var user = userRepository.findById(badge.getUserId()).orElse(null);
-            if (user != null && badge.getId().equals(user.getRepresentativeBadgeId())) {
-                user.setRepresentativeBadgeId(null);
-                userRepository.save(user);
-                log.info("📌 대표 배지 해제됨 - userId: {}", badge.getUserId());
-            }
-            
-            // 만료 알림 전송
-            try {
-                notificationService.sendBadgeExpiredNotification(badge.getUserId(), badge);
-                log.info("🔔 만료 알림 전송 완료 - userId: {}", badge.getUserId());
-            } catch (Exception e) {
-                log.warn("배지 만료 알림 전송 실패 - 사용자: {}, 배지: {}", badge.getUserId(), badge.getBadgeName(), e);
-            }
-            
-            badgeRepository.delete(badge);
-            log.info("✅ 만료된 배지 제거 완료 - 사용자: {}, 배지: {}", badge.getUserId(), badge.getBadgeType());
-            
-            // 배지 만료 이벤트 발행 (트랜잭션 완료 후 캐시 무효화됨)
-            eventPublisher.publishEvent(BadgeEvent.expired(badge.getUserId(), badge.getBadgeName()));
+        List<UserBadge> expiredBadges = jdbcTemplate.query(DELETE_EXPIRED_SQL, BADGE_ROW_MAPPER, nowKst);
+        if (expiredBadges.isEmpty()) {
+            log.info("🎉 만료된 배지 정리 완료 - 대상 없음");
+            return 0;
         }
         
-        log.info("🎉 만료된 배지 정리 완료 - {}개 제거", expiredBadges.size());
+        List<Long> userIds = expiredBadges.stream().map(UserBadge::getUserId).distinct().toList();
+        ownedBadgeTypes.invalidateAll(userIds);
+        
+        // 만료 알림 일괄 전송 (같은 트랜잭션 - 실패하면 삭제도 롤백되고 다음 정리 때 다시 처리)
+        notificationService.sendBadgeExpiredNotifications(expiredBadges);
+        
+        // 배지 만료 이벤트 발행 (트랜잭션 완료 후 캐시 일괄 무효화됨)
+        eventPublisher.publishEvent(BadgeBatchEvent.expired(userIds));
+        
+        log.info("🎉 만료된 배지 정리 완료 - {}개 제거 (사용자 {}명)", expiredBadges.size(), userIds.size());
         return expiredBadges.size();
     }
     
@@ -619,6 +742,20 @@ public class UserBadgeService {
         log.info("🧹 사용자 {}의 배지 캐시 무효화", userId);
     }
     
+    // 여러 사용자의 배지 캐시 일괄 무효화
+    public void evictUserBadgeCaches(Collection<Long> userIds) {
+        var cache = cacheManager.getCache("user-badges");
+        if (cache == null || userIds.isEmpty()) {
+            return;
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.invalidateAll(userIds);
+        } else {
+            userIds.forEach(cache::evict);
+        }
+        log.info("🧹 배지 캐시 일괄 무효화 - 사용자 {}명", userIds.size());
+    }
+    
     // 기존 UTC 배지들을 KST로 변환하는 메서드 (한번만 실행)
     @Transactional
     public void convertUtcBadgesToKst() {
@@ -645,35 +782,30 @@ public class UserBadgeService {
         log.info("🎉 UTC -> KST 변환 완료!");
     }
 
-    // 만료 예정 배지 알림 전송
-    @Transactional(readOnly = true)
+    // 만료 예정 배지 알림 전송 (조회 1회 + 알림 일괄 저장)
+    @Transactional
     public void sendExpirationNotifications() {
         java.time.OffsetDateTime nowKst = java.time.OffsetDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
         java.time.OffsetDateTime threeDaysLater = nowKst.plusDays(3);
-        java.time.OffsetDateTime oneDayLater = nowKst.plusDays(1);
         
-        // 3일 후 만료 예정 배지들
+        // 3일 내 만료 예정 배지들
         var badgesExpiringIn3Days = badgeRepository.findByExpiresAtBetween(
             nowKst, threeDaysLater
         );
         
+        List<UserBadge> targets = new ArrayList<>();
         for (UserBadge badge : badgesExpiringIn3Days) {
             if (badge.isExpired()) continue; // 이미 만료된 배지는 스킵
             
             long daysUntilExpiry = badge.getDaysUntilExpiry();
             if (daysUntilExpiry <= 3 && daysUntilExpiry > 0) {
-                try {
-                    notificationService.sendBadgeExpirationNotification(
-                        badge.getUserId(), badge, daysUntilExpiry
-                    );
-                } catch (Exception e) {
-                    log.warn("배지 만료 예정 알림 전송 실패 - 사용자: {}, 배지: {}", 
-                        badge.getUserId(), badge.getBadgeName(), e);
-                }
+                targets.add(badge);
             }
         }
         
-        log.info("배지 만료 예정 알림 전송 완료 - {}개 배지 처리", badgesExpiringIn3Days.size());
+        notificationService.sendBadgeExpirationNotifications(targets);
+        
+        log.info("배지 만료 예정 알림 전송 완료 - {}개 배지 중 {}건 발송", badgesExpiringIn3Days.size(), targets.size());
     }
 
     // 배치 부여 결과를 담는 클래스
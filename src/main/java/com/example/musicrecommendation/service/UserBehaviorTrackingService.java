@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,10 +33,10 @@ public class UserBehaviorTrackingService {
     
     /**
      * 사용자 행동 이벤트 기록 (비동기)
+     * 추천 캐시는 선호도가 실제로 바뀔 때(긍정/부정 이벤트) 취향 프로필 갱신 이벤트로 무효화
      */
     @Async
     @Transactional
-    @CacheEvict(value = "musicRecommendations", key = "#userId + '_*'")
     public CompletableFuture<Void> trackUserBehavior(Long userId, 
                                                     UserBehaviorEvent.EventType eventType,
                                                     UserBehaviorEvent.ItemType itemType,
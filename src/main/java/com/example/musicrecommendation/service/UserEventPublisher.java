@@ -0,0 +1,124 @@
+package com.example.musicrecommendation.service;
+
+import com.example.musicrecommendation.config.PayloadFormat;
+import com.example.musicrecommendation.config.PayloadFormatRegistry;
+import com.example.musicrecommendation.web.dto.ws.UserEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 사용자별 단일 이벤트 채널(/user/queue/events) 발행기
+ * - 알림 종류별 개별 큐로 중복 전송하던 방식을 channel 필드로 다중화한 봉투 하나로 통합
+ * - 포맷별 ObjectWriter를 미리 만들어 두고 직렬화 결과(byte[])를 그대로 전송해 메시지 컨버터 경유 비용 제거
+ * - 이진 포맷(CBOR/Smile)을 협상한 세션에는 세션 단위로 인코딩해 전송
+ */
+@Slf4j
+@Service
+public class UserEventPublisher {
+
+    public static final String EVENTS_DESTINATION = "/queue/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final PayloadFormatRegistry formatRegistry;
+    private final Map<PayloadFormat, ObjectWriter> writers = new EnumMap<>(PayloadFormat.class);
+
+    public UserEventPublisher(SimpMessagingTemplate messagingTemplate,
+                              SimpUserRegistry simpUserRegistry,
+                              PayloadFormatRegistry formatRegistry,
+                              ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.formatRegistry = formatRegistry;
+
+        writers.put(PayloadFormat.JSON, objectMapper.writerFor(UserEvent.class));
+        writers.put(PayloadFormat.CBOR, new ObjectMapper(new CBORFactory())
+                .findAndRegisterModules()
+                .writerFor(UserEvent.class));
+        writers.put(PayloadFormat.SMILE, new ObjectMapper(new SmileFactory())
+                .findAndRegisterModules()
+                .writerFor(UserEvent.class));
+    }
+
+    /**
+     * 사용자가 현재 WebSocket으로 접속 중인지 (로컬 사용자 레지스트리 기준)
+     */
+    public boolean isOnline(Long userId) {
+        return simpUserRegistry.getUser(userId.toString()) != null;
+    }
+
+    /**
+     * 사용자에게 이벤트 전송 (접속 중이 아니면 전송 생략)
+     */
+    public void publish(Long userId, String channel, String type, Object payload) {
+        publish(userId, channel, type, payload, null);
+    }
+
+    /**
+     * 사용자에게 이벤트 전송 - 읽지 않은 알림 수를 같은 프레임에 포함
+     */
+    public void publish(Long userId, String channel, String type, Object payload, Integer unreadCount) {
+        String user = userId.toString();
+        SimpUser simpUser = simpUserRegistry.getUser(user);
+        if (simpUser == null) {
+            log.debug("[WS-EVENT] 오프라인 사용자 - 전송 생략: userId={}, channel={}", userId, channel);
+            return;
+        }
+
+        UserEvent event = new UserEvent(channel, type, payload, unreadCount, Instant.now().toString());
+        try {
+            if (!formatRegistry.hasBinarySessions()) {
+                send(user, null, PayloadFormat.JSON, encode(event, PayloadFormat.JSON));
+                return;
+            }
+
+            // 포맷별로 한 번만 직렬화하고 세션마다 전송
+            Map<PayloadFormat, byte[]> encoded = new EnumMap<>(PayloadFormat.class);
+            for (SimpSession session : simpUser.getSessions()) {
+                PayloadFormat format = formatRegistry.formatOf(session.getId());
+                byte[] body = encoded.get(format);
+                if (body == null) {
+                    body = encode(event, format);
+                    encoded.put(format, body);
+                }
+                send(user, session.getId(), format, body);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[WS-EVENT] 직렬화 실패: userId={}, channel={}, error={}", userId, channel, e.getMessage());
+        }
+    }
+
+    private byte[] encode(UserEvent event, PayloadFormat format) throws JsonProcessingException {
+        return writers.get(format).writeValueAsBytes(event);
+    }
+
+    private void send(String user, String sessionId, PayloadFormat format, byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(format.getContentType());
+        accessor.setNativeHeader(PayloadFormatRegistry.FORMAT_HEADER, format.getHeaderValue());
+        if (sessionId != null) {
+            // 사용자 목적지 해석 시 해당 세션으로만 전달
+            accessor.setSessionId(sessionId);
+        }
+        accessor.setLeaveMutable(true);
+
+        String destination = messagingTemplate.getUserDestinationPrefix() + user + EVENTS_DESTINATION;
+        messagingTemplate.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+}
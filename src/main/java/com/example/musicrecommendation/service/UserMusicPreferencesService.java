@@ -2,6 +2,7 @@ package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.domain.UserBehaviorEvent;
 import com.example.musicrecommendation.domain.UserMusicPreferences;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
 import com.example.musicrecommendation.repository.UserBehaviorEventRepository;
 import com.example.musicrecommendation.repository.UserMusicPreferencesRepository;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -9,8 +10,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +35,7 @@ public class UserMusicPreferencesService {
     private final UserMusicPreferencesRepository preferencesRepository;
     private final UserBehaviorEventRepository behaviorRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 사용자 취향 프로필 조회 (캐시됨)
@@ -50,16 +52,15 @@ public class UserMusicPreferencesService {
      */
     @Async
     @Transactional
-    @CacheEvict(value = {"userMusicPreferences", "musicRecommendations"}, key = "#userId")
     public CompletableFuture<UserMusicPreferences> updateUserPreferencesAsync(Long userId) {
         return CompletableFuture.supplyAsync(() -> updateUserPreferences(userId));
     }
     
     /**
      * 사용자 취향 프로필 동기 업데이트
+     * 저장 후 프로필/추천 캐시 무효화 - 비동기 경로(내부 호출)에서도 적용되도록 어노테이션 대신 이벤트로 처리
      */
     @Transactional
-    @CacheEvict(value = {"userMusicPreferences", "musicRecommendations"}, key = "#userId")
     public UserMusicPreferences updateUserPreferences(Long userId) {
         try {
             log.debug("사용자 {} 취향 프로필 업데이트 시작", userId);
@@ -90,6 +91,7 @@ public class UserMusicPreferencesService {
             preferences.setLastUpdated(LocalDateTime.now());
             
             UserMusicPreferences saved = preferencesRepository.save(preferences);
+            eventPublisher.publishEvent(CacheInvalidationEvent.preferencesUpdated(userId));
             log.debug("사용자 {} 취향 프로필 업데이트 완료", userId);
             
             return saved;
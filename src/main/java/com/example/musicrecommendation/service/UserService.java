@@ -3,12 +3,15 @@ package com.example.musicrecommendation.service;
 import com.example.musicrecommendation.domain.AuthProvider;
 import com.example.musicrecommendation.domain.User;
 import com.example.musicrecommendation.domain.UserRepository;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
 import com.example.musicrecommendation.util.SecurityUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -20,10 +23,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -194,7 +200,11 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
+        String previousName = user.getName();
         user.updateProfile(name, profileImageUrl);
+        if (!Objects.equals(previousName, user.getName())) {
+            eventPublisher.publishEvent(CacheInvalidationEvent.profileUpdated(userId));
+        }
         return userRepository.save(user);
     }
 
@@ -1,6 +1,8 @@
 package com.example.musicrecommendation.service;
 
 import com.example.musicrecommendation.domain.*;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,13 +21,19 @@ public class UserSongLikeService {
     private final UserSongLikeRepository userSongLikeRepository;
     private final UserRepository userRepository;
     private final SongRepository songRepository;
+    private final LikeChartService likeChartService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserSongLikeService(UserSongLikeRepository userSongLikeRepository,
                                UserRepository userRepository,
-                               SongRepository songRepository) {
+                               SongRepository songRepository,
+                               LikeChartService likeChartService,
+                               ApplicationEventPublisher eventPublisher) {
         this.userSongLikeRepository = userSongLikeRepository;
         this.userRepository = userRepository;
         this.songRepository = songRepository;
+        this.likeChartService = likeChartService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -50,12 +58,12 @@ public class UserSongLikeService {
 
         if (existingLike.isPresent()) {
             // 이미 좋아요 → 취소
-            userSongLikeRepository.delete(existingLike.get());
+            removeLike(existingLike.get());
             return false;
         } else {
             // 좋아요 추가
             UserSongLike newLike = new UserSongLike(user, song);
-            userSongLikeRepository.save(newLike);
+            saveLike(newLike);
             return true;
         }
     }
@@ -84,12 +92,12 @@ public class UserSongLikeService {
 
         if (existingLike.isPresent()) {
             // 이미 좋아요 → 취소
-            userSongLikeRepository.delete(existingLike.get());
+            removeLike(existingLike.get());
             return new ToggleResult(false, song.getId());
         } else {
             // 좋아요 추가
             UserSongLike newLike = new UserSongLike(user, song);
-            userSongLikeRepository.save(newLike);
+            saveLike(newLike);
             return new ToggleResult(true, song.getId());
         }
     }
@@ -234,7 +242,7 @@ public class UserSongLikeService {
 
         // 좋아요 추가
         UserSongLike newLike = new UserSongLike(user, song);
-        userSongLikeRepository.save(newLike);
+        saveLike(newLike);
         return true;
     }
 
@@ -262,7 +270,7 @@ public class UserSongLikeService {
         Optional<UserSongLike> existingLike = userSongLikeRepository.findByUserIdAndSongId(userId, song.getId());
         
         if (existingLike.isPresent()) {
-            userSongLikeRepository.delete(existingLike.get());
+            removeLike(existingLike.get());
             return true; // 좋아요 취소됨
         }
 
@@ -286,13 +294,31 @@ public class UserSongLikeService {
         Optional<UserSongLike> existingLike = userSongLikeRepository.findByUserIdAndSongId(userId, songIdAsLong);
         
         if (existingLike.isPresent()) {
-            userSongLikeRepository.delete(existingLike.get());
+            removeLike(existingLike.get());
             return true; // 좋아요 취소됨
         }
 
         return false; // 좋아요 상태가 아니었음 또는 곡이 존재하지 않음
     }
 
+    /**
+     * 좋아요 저장 + 기간 차트 일별 집계 증가 (같은 트랜잭션), 커밋 후 사용자 추천 캐시 무효화
+     */
+    private void saveLike(UserSongLike like) {
+        userSongLikeRepository.save(like);
+        likeChartService.onLiked(like);
+        eventPublisher.publishEvent(CacheInvalidationEvent.likeToggled(like.getUser().getId()));
+    }
+
+    /**
+     * 좋아요 삭제 + 기간 차트 일별 집계 차감 (같은 트랜잭션), 커밋 후 사용자 추천 캐시 무효화
+     */
+    private void removeLike(UserSongLike like) {
+        userSongLikeRepository.delete(like);
+        likeChartService.onUnliked(like);
+        eventPublisher.publishEvent(CacheInvalidationEvent.likeToggled(like.getUser().getId()));
+    }
+
     /**
      * 외부 ID로 Song 찾거나 생성
      */
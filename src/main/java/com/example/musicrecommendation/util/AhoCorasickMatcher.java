@@ -0,0 +1,203 @@
+package com.example.musicrecommendation.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aho–Corasick 다중 키워드 매처 - 키워드 수와 무관하게 본문을 한 번만 훑어 일치 항목을 찾음
+ *
+ * - 생성 후 불변이므로 여러 스레드에서 동시에 사용 가능 (사전 교체는 인스턴스를 통째로 바꿔서 처리)
+ * - 대소문자 구분 없음 (Character.toLowerCase 기준)
+ * - 키워드마다 분류 값(T)을 붙여 어떤 분류가 일치했는지 반환
+ */
+public final class AhoCorasickMatcher<T> {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_STATES = new int[0];
+
+    /** 상태별 전이 (문자 오름차순 정렬 - 이진 탐색) */
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    /** 실패 링크 */
+    private final int[] fail;
+    /** 상태별 일치 분류 (실패 링크를 따라간 접미사 일치까지 합쳐 둠) */
+    private final Object[][] outputs;
+    private final int keywordCount;
+
+    private AhoCorasickMatcher(Map<String, T> keywords) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Set<Object>> out = new ArrayList<>();
+        trie.add(new LinkedHashMap<>());
+        out.add(new LinkedHashSet<>());
+
+        int count = 0;
+        for (Map.Entry<String, T> entry : keywords.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new LinkedHashMap<>());
+                    out.add(new LinkedHashSet<>());
+                }
+                state = next;
+            }
+            out.get(state).add(entry.getValue());
+            count++;
+        }
+        this.keywordCount = count;
+
+        int size = trie.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        for (int s = 0; s < size; s++) {
+            Map<Character, Integer> edges = trie.get(s);
+            if (edges.isEmpty()) {
+                edgeChars[s] = NO_CHARS;
+                edgeTargets[s] = NO_STATES;
+                continue;
+            }
+            char[] chars = new char[edges.size()];
+            int i = 0;
+            for (Character c : edges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] targets = new int[chars.length];
+            for (int j = 0; j < chars.length; j++) {
+                targets[j] = edges.get(chars[j]);
+            }
+            edgeChars[s] = chars;
+            edgeTargets[s] = targets;
+        }
+
+        // BFS로 실패 링크 계산 및 출력 병합
+        this.fail = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0]) {
+            fail[target] = 0;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            char[] chars = edgeChars[state];
+            int[] targets = edgeTargets[state];
+            for (int i = 0; i < chars.length; i++) {
+                int child = targets[i];
+                int f = fail[state];
+                int next;
+                while ((next = transition(f, chars[i])) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 && next != child ? next : 0;
+                out.get(child).addAll(out.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        this.outputs = new Object[size][];
+        for (int s = 0; s < size; s++) {
+            outputs[s] = out.get(s).toArray();
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 본문에 일치하는 분류 집합 (등장 순서, 중복 제거)
+     */
+    @SuppressWarnings("unchecked")
+    public Set<T> matchedCategories(CharSequence text) {
+        if (text == null || keywordCount == 0) {
+            return Collections.emptySet();
+        }
+        Set<T> matched = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            Object[] found = outputs[state];
+            if (found.length > 0) {
+                if (matched == null) {
+                    matched = new LinkedHashSet<>();
+                }
+                for (Object category : found) {
+                    matched.add((T) category);
+                }
+            }
+        }
+        return matched != null ? matched : Collections.emptySet();
+    }
+
+    /**
+     * 키워드가 하나라도 포함되어 있는지 (첫 일치에서 종료)
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || keywordCount == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getKeywordCount() {
+        return keywordCount;
+    }
+
+    private int step(int state, char c) {
+        int next;
+        while ((next = transition(state, c)) < 0 && state != 0) {
+            state = fail[state];
+        }
+        return Math.max(next, 0);
+    }
+
+    private int transition(int state, char c) {
+        int idx = Arrays.binarySearch(edgeChars[state], c);
+        return idx >= 0 ? edgeTargets[state][idx] : -1;
+    }
+
+    public static final class Builder<T> {
+        private final Map<String, T> keywords = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> add(String keyword, T category) {
+            keywords.put(keyword, category);
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<String> words, T category) {
+            for (String word : words) {
+                keywords.put(word, category);
+            }
+            return this;
+        }
+
+        public AhoCorasickMatcher<T> build() {
+            return new AhoCorasickMatcher<>(keywords);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.musicrecommendation.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 로컬 디스크 키-값 저장소 (항목당 파일 1개)
+ *
+ * - 파일명은 키의 SHA-256 - 파일 안에 원래 키를 함께 저장해 충돌 시 없는 것으로 취급
+ * - 임시 파일에 쓴 뒤 원자적 이동으로 교체 - 쓰는 도중 재시작해도 깨진 항목을 읽지 않음
+ * - 저장 시각을 함께 기록 - 신선도 판단과 오래된 항목 정리에 사용
+ *
+ * 값은 호출자가 직렬화한 바이트 그대로 저장한다.
+ */
+public final class DiskCacheStore {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    public DiskCacheStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 디렉터리 생성 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 저장된 항목 - 없거나 읽을 수 없으면 null
+     */
+    public Entry read(String key) {
+        Path file = fileFor(key);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            // 없음(NoSuchFileException) 또는 읽기 실패 - 미스로 취급
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+                return null;
+            }
+            long storedAt = in.readLong();
+            byte[] value = new byte[in.readInt()];
+            in.readFully(value);
+            return new Entry(value, storedAt);
+        } catch (IOException e) {
+            delete(file);
+            return null;
+        }
+    }
+
+    public void write(String key, byte[] value, long storedAt) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(value.length + 64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(key);
+            out.writeLong(storedAt);
+            out.writeInt(value.length);
+            out.write(value);
+        }
+        Path target = fileFor(key);
+        Path temp = Files.createTempFile(directory, "write-", ".tmp");
+        try {
+            Files.write(temp, buffer.toByteArray());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public void remove(String key) {
+        delete(fileFor(key));
+    }
+
+    public void clear() {
+        for (Path file : files()) {
+            delete(file);
+        }
+    }
+
+    /**
+     * 오래된 항목 정리 - {@code expireBefore} 이전에 저장된 항목 삭제 후, 남은 항목이 {@code maxEntries}를 넘으면 오래된 순으로 삭제
+     *
+     * @return 삭제한 항목 수
+     */
+    public int prune(long expireBefore, int maxEntries) {
+        List<Path> files = files();
+        List<Path> kept = new ArrayList<>(files.size());
+        int removed = 0;
+        for (Path file : files) {
+            if (lastModified(file) < expireBefore) {
+                delete(file);
+                removed++;
+            } else {
+                kept.add(file);
+            }
+        }
+        if (kept.size() > maxEntries) {
+            kept.sort(Comparator.comparingLong(DiskCacheStore::lastModified));
+            for (Path file : kept.subList(0, kept.size() - maxEntries)) {
+                delete(file);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return files().size();
+    }
+
+    private Path fileFor(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Path> files() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            // 디렉터리를 읽을 수 없으면 비어 있는 것으로 취급
+        }
+        return files;
+    }
+
+    /** 항목 파일은 매번 새로 만들어 이동하므로 수정 시각 = 저장 시각 */
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 다음 정리에서 다시 시도
+        }
+    }
+
+    /**
+     * @param value    저장한 값 (직렬화된 바이트)
+     * @param storedAt 저장 시각 (epoch ms)
+     */
+    public record Entry(byte[] value, long storedAt) {
+    }
+}
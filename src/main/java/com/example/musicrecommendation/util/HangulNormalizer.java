@@ -0,0 +1,136 @@
+package com.example.musicrecommendation.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 금칙어 매칭용 텍스트 정규화
+ *
+ * - 공백/문장부호 등 글자·숫자가 아닌 문자는 단어 경계(공백 1개)로 통일
+ *   양쪽이 모두 한 글자(음절/자모/문자)일 때만 경계를 없앰 - "바 보", "사.기", "ㅅ ㅏ ㄱ ㅣ" 우회 대응
+ *   여러 글자 단어 사이의 경계는 유지 ("가사 기억"이 "사기"와 일치하지 않도록)
+ * - NFKC 정규화: 전각 문자를 반각으로, 따로 입력한 호환 자모를 음절로 재조합 ("ㅂㅏㅂㅗ" → "바보")
+ *   음절이 되지 않는 자모("ㅅㅂ")는 첫소리 자모로 통일되어 사전의 같은 표기와 일치
+ * - 소문자 변환
+ *
+ * 사전 키워드와 본문에 같은 정규화를 적용해야 한다.
+ *
+ * 자동완성용 자모 분해({@link #toJamo}, {@link #initialConsonants})도 같은 정규화 후 적용한다 (단어 경계는 제외).
+ */
+public final class HangulNormalizer {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int CHOSEONG_BASE = 0x1100;
+    private static final int JUNGSEONG_BASE = 0x1161;
+    private static final int JONGSEONG_BASE = 0x11A8;
+
+    /** 초성/중성/종성 → 호환 자모 (겹모음/겹받침은 입력 순서대로 풀어 씀) */
+    private static final String[] CHOSEONG = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+        "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulNormalizer() {
+    }
+
+    public static String normalize(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.codePointAt(text, i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (word.length() > 0) {
+                words.add(Normalizer.normalize(word, Normalizer.Form.NFKC));
+                word.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (word.length() > 0) {
+            words.add(Normalizer.normalize(word, Normalizer.Form.NFKC));
+        }
+
+        StringBuilder joined = new StringBuilder(text.length());
+        for (int i = 0; i < words.size(); i++) {
+            // 한 글자끼리는 붙임 - 따로 입력한 자모는 합친 뒤 NFKC에서 음절로 재조합
+            if (i > 0 && !(isSingleLetter(words.get(i - 1)) && isSingleLetter(words.get(i)))) {
+                joined.append(' ');
+            }
+            joined.append(words.get(i));
+        }
+        return Normalizer.normalize(joined, Normalizer.Form.NFKC).toLowerCase();
+    }
+
+    /** NFKC 후 한 글자 ("ㅂㅏ"처럼 음절 하나로 재조합되는 자모 묶음 포함) */
+    private static boolean isSingleLetter(String word) {
+        return word.codePointCount(0, word.length()) == 1;
+    }
+
+    /**
+     * 정규화 후 한글을 자모 단위로 분해 (자동완성 키, 단어 경계 제외)
+     *
+     * 입력 중인 음절도 완성된 이름의 접두사가 되도록 겹모음/겹받침까지 풀어 씀
+     * ("앙" → ㅇㅏㅇ 은 "아이유" → ㅇㅏㅇㅣㅇㅠ 의 접두사, "괴" → ㄱㅗㅣ)
+     */
+    public static String toJamo(CharSequence text) {
+        String normalized = normalize(text);
+        StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(CHOSEONG[index / 588])
+                    .append(JUNGSEONG[(index % 588) / 28])
+                    .append(JONGSEONG[index % 28]);
+            } else if (c >= CHOSEONG_BASE && c < CHOSEONG_BASE + CHOSEONG.length) {
+                jamo.append(CHOSEONG[c - CHOSEONG_BASE]);
+            } else if (c >= JUNGSEONG_BASE && c < JUNGSEONG_BASE + JUNGSEONG.length) {
+                jamo.append(JUNGSEONG[c - JUNGSEONG_BASE]);
+            } else if (c >= JONGSEONG_BASE && c < JONGSEONG_BASE + JONGSEONG.length - 1) {
+                jamo.append(JONGSEONG[c - JONGSEONG_BASE + 1]);
+            } else {
+                jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 초성 키 ("아이유" → ㅇㅇㅇ, 한글 외 문자는 그대로) - 한글 음절이 없으면 null
+     */
+    public static String initialConsonants(CharSequence text) {
+        String normalized = normalize(text);
+        StringBuilder initials = new StringBuilder(normalized.length());
+        boolean hasSyllable = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                initials.append(CHOSEONG[(c - SYLLABLE_BASE) / 588]);
+                hasSyllable = true;
+            } else if (c >= CHOSEONG_BASE && c < CHOSEONG_BASE + CHOSEONG.length) {
+                initials.append(CHOSEONG[c - CHOSEONG_BASE]);
+            } else {
+                initials.append(c);
+            }
+        }
+        return hasSyllable ? initials.toString() : null;
+    }
+}
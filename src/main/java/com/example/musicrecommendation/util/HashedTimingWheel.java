@@ -0,0 +1,224 @@
+package com.example.musicrecommendation.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠 (Varghese & Lauck) - 대량의 만료 타이머를 전체 스캔 없이 처리
+ *
+ * - 등록/취소: O(1), 어느 스레드에서나 호출 가능 (대기 큐를 거쳐 휠에 반영)
+ * - 만료 처리: {@link #advance(long, Consumer)} 를 호출하는 단일 스레드에서 tick 단위로 해당 버킷만 순회
+ * - 휠 한 바퀴(tickMillis * wheelSize)보다 긴 지연은 남은 회전 수(rounds)로 표현
+ *
+ * 만료 시각 정밀도는 tick 단위 (최대 tickMillis 만큼 늦게 실행).
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket<T>[] wheel;
+    private final long startMillis;
+
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /** 다음에 처리할 tick 번호 (advance 스레드 전용) */
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize out of range: " + wheelSize);
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * 타이머 등록 - deadline이 이미 지났으면 다음 tick에 만료
+     */
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMillis);
+        pendingTimeouts.add(timeout);
+        pendingCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * 현재 시각까지 지난 tick을 모두 처리하고 만료된 항목을 handler로 전달
+     * (handler는 예외를 던지지 않아야 하며, handler 안에서 재등록한 타이머는 다음 tick부터 반영)
+     *
+     * @return 만료 처리된 항목 수
+     */
+    public synchronized int advance(long nowMillis, Consumer<T> handler) {
+        int fired = 0;
+        while (tickDeadline(tick) <= nowMillis) {
+            transferPendingToBuckets();
+            removeCancelled();
+            fired += wheel[(int) (tick & mask)].expire(tickDeadline(tick), handler);
+            tick++;
+        }
+        return fired;
+    }
+
+    /**
+     * 휠에 등록되어 아직 만료/취소되지 않은 타이머 수
+     */
+    public int size() {
+        return pendingCount.get();
+    }
+
+    private long tickDeadline(long tickNumber) {
+        return startMillis + (tickNumber + 1) * tickMillis;
+    }
+
+    private void transferPendingToBuckets() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() == Timeout.ST_CANCELLED) {
+                continue;
+            }
+            long calculated = Math.max(0, (timeout.deadline - startMillis) / tickMillis);
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 deadline은 현재 tick에 배치해 즉시 만료
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout<T> timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     */
+    public static final class Timeout<T> {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel<T> timingWheel;
+        private final T item;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+        private Bucket<T> bucket;
+
+        private Timeout(HashedTimingWheel<T> timingWheel, T item, long deadline) {
+            this.timingWheel = timingWheel;
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T getItem() { return item; }
+        public long getDeadline() { return deadline; }
+        public boolean isCancelled() { return state.get() == ST_CANCELLED; }
+        public boolean isExpired() { return state.get() == ST_EXPIRED; }
+
+        /**
+         * 취소 - 버킷에서의 실제 제거는 다음 tick에 advance 스레드가 수행
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timingWheel.pendingCount.decrementAndGet();
+            timingWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        private boolean expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            timingWheel.pendingCount.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * 버킷 - 이중 연결 리스트 (advance 스레드에서만 접근)
+     */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        int expire(long deadline, Consumer<T> handler) {
+            int fired = 0;
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        handler.accept(timeout.item);
+                        fired++;
+                    }
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return fired;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout<T> next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.musicrecommendation.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 개별 ID 조회를 짧은 시간 모아 다건 조회 한 번으로 보내는 마이크로 배처
+ *
+ * - 첫 요청 후 {@code window} 동안 들어온 ID를 모아 전송, {@code maxBatchSize}가 차면 즉시 전송
+ * - 같은 ID가 여러 번 요청되면 한 번만 보내고 결과를 모든 호출자에게 전달
+ * - 다건 조회 결과는 요청한 ID 순서의 목록 (없는 ID는 null) - 호출자별로 나눠 완료
+ * - 다건 조회가 실패하면 그 배치의 모든 호출자가 같은 예외로 실패
+ *
+ * @param <T> 조회 결과 타입
+ */
+public final class MicroBatcher<T> {
+
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Function<List<String>, CompletableFuture<List<T>>> fetcher;
+
+    /** 전송 대기 중인 ID → 호출자 (입력 순서 유지, this로 보호) */
+    private Map<String, List<CompletableFuture<T>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param fetcher 요청 ID 목록(중복 없음, 최대 maxBatchSize개)을 받아 같은 순서의 결과 목록을 돌려주는 다건 조회
+     */
+    public MicroBatcher(int maxBatchSize, Duration window, ScheduledExecutorService scheduler,
+                        Function<List<String>, CompletableFuture<List<T>>> fetcher) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.scheduler = scheduler;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * ID 하나 조회 예약
+     */
+    public CompletableFuture<T> load(String id) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Map<String, List<CompletableFuture<T>>> full = null;
+        synchronized (this) {
+            pending.computeIfAbsent(id, key -> new ArrayList<>(1)).add(result);
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 ID 조회 - 결과는 ID → 값 (없는 ID는 제외)
+     */
+    public CompletableFuture<Map<String, T>> loadAll(List<String> ids) {
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (String id : ids) {
+            futures.computeIfAbsent(id, this::load);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                Map<String, T> values = new LinkedHashMap<>();
+                futures.forEach((id, future) -> {
+                    T value = future.join();
+                    if (value != null) {
+                        values.put(id, value);
+                    }
+                });
+                return values;
+            });
+    }
+
+    /**
+     * 대기 중인 ID 즉시 전송
+     */
+    public void flush() {
+        Map<String, List<CompletableFuture<T>>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /** this 잠금 안에서 호출 */
+    private Map<String, List<CompletableFuture<T>>> drain() {
+        Map<String, List<CompletableFuture<T>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<String, List<CompletableFuture<T>>> batch) {
+        List<String> ids = new ArrayList<>(batch.keySet());
+        CompletableFuture<List<T>> fetched;
+        try {
+            fetched = fetcher.apply(ids);
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        fetched.whenComplete((values, error) -> {
+            for (int i = 0; i < ids.size(); i++) {
+                List<CompletableFuture<T>> callers = batch.get(ids.get(i));
+                if (error != null) {
+                    callers.forEach(caller -> caller.completeExceptionally(error));
+                } else {
+                    T value = values != null && i < values.size() ? values.get(i) : null;
+                    callers.forEach(caller -> caller.complete(value));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.musicrecommendation.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 접두사 자동완성 인덱스 (압축 트라이) - 노드마다 가중치 상위 K개를 미리 계산해 둠
+ *
+ * - 조회는 접두사 길이만큼 내려간 뒤 그 노드의 상위 목록을 그대로 반환 (전체 항목 수와 무관)
+ * - 한 값에 여러 키를 붙일 수 있음 (제목, 아티스트, 초성 등) - 결과에서는 값 기준 중복 제거
+ * - 생성 후 불변이므로 여러 스레드에서 동시에 사용 가능 (갱신은 인스턴스를 통째로 바꿔서 처리)
+ * - 키는 호출자가 정규화해서 넣고, 조회 접두사에도 같은 정규화를 적용해야 한다
+ */
+public final class PrefixIndex<T> {
+
+    private static final Node EMPTY = new Node("", new char[0], new Node[0], new Object[0]);
+
+    private final Node root;
+    private final int topK;
+    private final int size;
+
+    private PrefixIndex(List<Entry> entries, int topK) {
+        this.topK = topK;
+        this.size = entries.size();
+        entries.sort(Comparator.comparing(Entry::key)
+            .thenComparing(Comparator.comparingDouble(Entry::weight).reversed()));
+        this.root = entries.isEmpty() ? EMPTY : build("", entries, 0, entries.size(), 0);
+        root.topEntries = null;
+    }
+
+    public static <T> Builder<T> builder(int topK) {
+        return new Builder<>(topK);
+    }
+
+    /**
+     * 접두사로 시작하는 키를 가진 값 (가중치 내림차순, 최대 min(limit, topK)개)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> complete(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || size == 0) {
+            return Collections.emptyList();
+        }
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int idx = Arrays.binarySearch(node.childChars, prefix.charAt(i));
+            if (idx < 0) {
+                return Collections.emptyList();
+            }
+            Node child = node.children[idx];
+            String label = child.label;
+            int remaining = prefix.length() - i;
+            if (remaining < label.length()) {
+                // 접두사가 간선 중간에서 끝남
+                if (!label.startsWith(prefix.substring(i))) {
+                    return Collections.emptyList();
+                }
+            } else if (!prefix.startsWith(label, i)) {
+                return Collections.emptyList();
+            }
+            i += label.length();
+            node = child;
+        }
+        int count = Math.min(limit, node.top.length);
+        List<T> result = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+            result.add((T) node.top[j]);
+        }
+        return result;
+    }
+
+    /** 등록된 (키, 값) 수 */
+    public int size() {
+        return size;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 정렬된 entries[lo, hi) 중 공통 접두사 길이가 depth인 구간으로 노드 생성
+     */
+    private Node build(String label, List<Entry> entries, int lo, int hi, int depth) {
+        List<Entry> candidates = new ArrayList<>();
+        List<Character> chars = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+
+        int i = lo;
+        while (i < hi && entries.get(i).key().length() == depth) {
+            candidates.add(entries.get(i++));
+        }
+        while (i < hi) {
+            char c = entries.get(i).key().charAt(depth);
+            int end = i + 1;
+            while (end < hi && entries.get(end).key().charAt(depth) == c) {
+                end++;
+            }
+            // 정렬되어 있으므로 구간의 처음/마지막 키의 공통 접두사 = 구간 전체의 공통 접두사
+            String first = entries.get(i).key();
+            String last = entries.get(end - 1).key();
+            int split = depth + 1;
+            while (split < first.length() && split < last.length() && first.charAt(split) == last.charAt(split)) {
+                split++;
+            }
+            Node child = build(first.substring(depth, split), entries, i, end, split);
+            chars.add(c);
+            children.add(child);
+            for (Object value : child.top) {
+                candidates.add(child.topEntries.get(value));
+            }
+            child.topEntries = null;
+            i = end;
+        }
+
+        candidates.sort(Comparator.comparingDouble(Entry::weight).reversed());
+        Set<Object> top = new LinkedHashSet<>();
+        Map<Object, Entry> topEntries = new HashMap<>();
+        for (Entry entry : candidates) {
+            if (top.size() >= topK) {
+                break;
+            }
+            if (top.add(entry.value())) {
+                topEntries.put(entry.value(), entry);
+            }
+        }
+
+        char[] childChars = new char[chars.size()];
+        for (int j = 0; j < childChars.length; j++) {
+            childChars[j] = chars.get(j);
+        }
+        Node node = new Node(label, childChars, children.toArray(new Node[0]), top.toArray());
+        node.topEntries = topEntries;
+        return node;
+    }
+
+    private static final class Node {
+        private final String label;
+        /** 자식 간선 첫 글자 (오름차순 - 이진 탐색) */
+        private final char[] childChars;
+        private final Node[] children;
+        /** 이 노드 아래 키를 가진 값 중 가중치 상위 K개 */
+        private final Object[] top;
+        /** 생성 중에만 사용 - 상위 값의 가중치를 부모로 전달 */
+        private Map<Object, Entry> topEntries;
+
+        private Node(String label, char[] childChars, Node[] children, Object[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+
+    private record Entry(String key, Object value, double weight) {
+    }
+
+    public static final class Builder<T> {
+        private final int topK;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Builder(int topK) {
+            this.topK = Math.max(1, topK);
+        }
+
+        /**
+         * @param key    정규화된 키 (비어 있으면 무시)
+         * @param value  완성 결과로 돌려줄 값 (equals/hashCode 기준 중복 제거)
+         * @param weight 순위 가중치 (클수록 앞)
+         */
+        public Builder<T> add(String key, T value, double weight) {
+            if (key != null && !key.isEmpty() && value != null) {
+                entries.add(new Entry(key, value, weight));
+            }
+            return this;
+        }
+
+        public PrefixIndex<T> build() {
+            return new PrefixIndex<>(new ArrayList<>(entries), topK);
+        }
+    }
+}
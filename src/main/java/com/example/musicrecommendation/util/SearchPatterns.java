@@ -0,0 +1,59 @@
+package com.example.musicrecommendation.util;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * 검색어 → SQL 검색 패턴 변환 (V45 트라이그램/전문 검색 인덱스용)
+ *
+ * - {@link #contains}: ILIKE '%검색어%' 패턴 - 사용자 입력의 %, _, \ 는 그대로 찾도록 이스케이프
+ * - {@link #prefixTsQuery}: to_tsquery('simple', ...) 입력 - 단어마다 접두사 일치(:*)를 AND로 연결
+ *   한국어는 어간 분석기가 없으므로 "노래"로 "노래가", "노래를"까지 찾도록 접두사 일치를 사용
+ *
+ * 둘 다 검색어가 비어 있으면 null (호출자가 필터 없이 조회)
+ */
+public final class SearchPatterns {
+
+    /** tsquery에 넣는 최대 단어 수 (긴 문장 검색 시 조건 폭증 방지) */
+    public static final int MAX_QUERY_TERMS = 8;
+
+    private SearchPatterns() {
+    }
+
+    public static String contains(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        String trimmed = term.strip();
+        StringBuilder sb = new StringBuilder(trimmed.length() + 2).append('%');
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+
+    /**
+     * 글자·숫자가 아닌 문자로 단어를 나눔 - tsquery 연산자(&, |, !, :, 괄호, 따옴표)는 남지 않는다
+     */
+    public static String prefixTsQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        StringJoiner query = new StringJoiner(" & ");
+        int terms = 0;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            query.add(word + ":*");
+            if (++terms >= MAX_QUERY_TERMS) {
+                break;
+            }
+        }
+        return terms == 0 ? null : query.toString();
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.musicrecommendation.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는(CAS) 토큰 버킷 Rate Limiter
+ *
+ * - 키마다 단계(tier)별 버킷 상태를 long 하나에 압축: [상위 22비트 토큰(1/1000 단위) | 하위 42비트 마지막 충전 시각(ms)]
+ * - 여러 단계(예: 분당/시간당)를 순서대로 소비하고, 뒤 단계에서 거부되면 앞 단계 토큰을 되돌림
+ * - 키 테이블은 크기 제한 Caffeine 캐시 - 가장 긴 주기 동안 접근이 없으면 제거
+ *   (그 시점이면 버킷이 가득 찬 상태와 같으므로 제거해도 판정이 달라지지 않음)
+ *
+ * 크기 제한을 넘는 키가 몰리면 오래된 키의 버킷이 초기화되어 일시적으로 관대해질 수 있다 (메모리 상한 우선).
+ */
+public final class TokenBucketRateLimiter<K> {
+
+    private static final int TIME_BITS = 42;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long MILLI_PERMITS = 1000L;
+
+    /** 단계별 최대 용량 (22비트에 1/1000 단위로 담을 수 있는 값) */
+    public static final long MAX_CAPACITY = ((1L << (Long.SIZE - TIME_BITS)) - 1) / MILLI_PERMITS;
+
+    private final Tier[] tiers;
+    private final LongSupplier clock;
+    private final long epochMillis;
+    private final Cache<K, AtomicLongArray> buckets;
+
+    private TokenBucketRateLimiter(Builder builder) {
+        this.tiers = builder.tiers.toArray(new Tier[0]);
+        this.clock = builder.clock;
+        this.epochMillis = clock.getAsLong();
+
+        long idleMillis = 0;
+        for (Tier tier : tiers) {
+            idleMillis = Math.max(idleMillis, tier.periodMillis);
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(builder.maximumKeys)
+                .expireAfterAccess(Duration.ofMillis(idleMillis))
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 허용 1건 소비 시도
+     *
+     * @return 모든 단계에 남은 토큰이 있어 소비했으면 true
+     */
+    public boolean tryAcquire(K key) {
+        long now = clock.getAsLong() - epochMillis;
+        AtomicLongArray states = buckets.get(key, k -> newStates(now));
+
+        for (int i = 0; i < tiers.length; i++) {
+            if (!tryConsume(states, i, tiers[i], now)) {
+                for (int j = 0; j < i; j++) {
+                    refund(states, j, tiers[j]);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 키의 특정 단계에 남은 허용 수 (키가 없으면 최대 용량)
+     */
+    public long availablePermits(K key, int tierIndex) {
+        Tier tier = tiers[tierIndex];
+        AtomicLongArray states = buckets.getIfPresent(key);
+        if (states == null) {
+            return tier.capacity;
+        }
+        long state = states.get(tierIndex);
+        long now = clock.getAsLong() - epochMillis;
+        return refilledTokens(tier, state >>> TIME_BITS, state & TIME_MASK, now) / MILLI_PERMITS;
+    }
+
+    /**
+     * 현재 추적 중인 키 수 (근사값)
+     */
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+    private AtomicLongArray newStates(long now) {
+        AtomicLongArray states = new AtomicLongArray(tiers.length);
+        for (int i = 0; i < tiers.length; i++) {
+            states.set(i, pack(tiers[i].capacityMilli, now));
+        }
+        return states;
+    }
+
+    private static boolean tryConsume(AtomicLongArray states, int index, Tier tier, long now) {
+        for (;;) {
+            long state = states.get(index);
+            long tokens = state >>> TIME_BITS;
+            long refilledAt = state & TIME_MASK;
+
+            long elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                long added = elapsed >= tier.periodMillis
+                        ? tier.capacityMilli
+                        : elapsed * tier.capacityMilli / tier.periodMillis;
+                if (tokens + added >= tier.capacityMilli) {
+                    tokens = tier.capacityMilli;
+                    refilledAt = now;
+                } else if (added > 0) {
+                    tokens += added;
+                    // 정수 나눗셈으로 버려진 시간은 다음 충전에 이월
+                    refilledAt += added * tier.periodMillis / tier.capacityMilli;
+                }
+            }
+
+            if (tokens < MILLI_PERMITS) {
+                return false; // 거부 시에는 상태를 쓰지 않음
+            }
+            if (states.compareAndSet(index, state, pack(tokens - MILLI_PERMITS, refilledAt))) {
+                return true;
+            }
+        }
+    }
+
+    private static void refund(AtomicLongArray states, int index, Tier tier) {
+        for (;;) {
+            long state = states.get(index);
+            long tokens = Math.min(tier.capacityMilli, (state >>> TIME_BITS) + MILLI_PERMITS);
+            if (states.compareAndSet(index, state, pack(tokens, state & TIME_MASK))) {
+                return;
+            }
+        }
+    }
+
+    private static long refilledTokens(Tier tier, long tokens, long refilledAt, long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed <= 0) {
+            return tokens;
+        }
+        if (elapsed >= tier.periodMillis) {
+            return tier.capacityMilli;
+        }
+        return Math.min(tier.capacityMilli, tokens + elapsed * tier.capacityMilli / tier.periodMillis);
+    }
+
+    private static long pack(long milliTokens, long refilledAt) {
+        return (milliTokens << TIME_BITS) | (refilledAt & TIME_MASK);
+    }
+
+    /**
+     * 제한 단계 - 주기(period) 동안 capacity 건 (연속 충전)
+     */
+    private static final class Tier {
+        private final long capacity;
+        private final long capacityMilli;
+        private final long periodMillis;
+
+        private Tier(long capacity, Duration period) {
+            this.capacity = capacity;
+            this.capacityMilli = capacity * MILLI_PERMITS;
+            this.periodMillis = period.toMillis();
+        }
+    }
+
+    public static final class Builder {
+        private final List<Tier> tiers = new ArrayList<>();
+        private long maximumKeys = 100_000L;
+        private LongSupplier clock = System::currentTimeMillis;
+
+        private Builder() {
+        }
+
+        /**
+         * 제한 단계 추가 (예: limit(15, Duration.ofMinutes(1)))
+         */
+        public Builder limit(long capacity, Duration period) {
+            if (capacity <= 0 || capacity > MAX_CAPACITY) {
+                throw new IllegalArgumentException("capacity out of range (1.." + MAX_CAPACITY + "): " + capacity);
+            }
+            if (period == null || period.toMillis() <= 0) {
+                throw new IllegalArgumentException("period must be positive: " + period);
+            }
+            tiers.add(new Tier(capacity, period));
+            return this;
+        }
+
+        /**
+         * 추적할 최대 키 수
+         */
+        public Builder maximumKeys(long maximumKeys) {
+            if (maximumKeys <= 0) {
+                throw new IllegalArgumentException("maximumKeys must be positive: " + maximumKeys);
+            }
+            this.maximumKeys = maximumKeys;
+            return this;
+        }
+
+        /**
+         * 시각 공급자 (ms) - 테스트용
+         */
+        public Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public <K> TokenBucketRateLimiter<K> build() {
+            if (tiers.isEmpty()) {
+                throw new IllegalStateException("at least one limit is required");
+            }
+            return new TokenBucketRateLimiter<>(this);
+        }
+    }
+}
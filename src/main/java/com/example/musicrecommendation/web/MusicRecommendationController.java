@@ -4,6 +4,7 @@ import com.example.musicrecommendation.service.MusicRecommendationEngine;
 import com.example.musicrecommendation.service.UserProfileService;
 import com.example.musicrecommendation.service.MusicReviewService;
 import com.example.musicrecommendation.service.SpotifyService;
+import com.example.musicrecommendation.service.SpotifyPriority;
 import com.example.musicrecommendation.service.RecommendationLimitService;
 import com.example.musicrecommendation.service.UserSongLikeService;
 import com.example.musicrecommendation.config.RecommendationProperties;
@@ -75,9 +76,9 @@ public class MusicRecommendationController {
                     ));
             }
             
-            // 추천 생성 (설정 기반 제한값 사용)
-            List<Map<String, Object>> recommendations = generateSpotifyBasedRecommendations(
-                userId, properties.getMaxRecommendationsPerRequest()
+            // 추천 생성 (설정 기반 제한값 사용, Spotify 요청은 추천 우선순위 - 사용자 검색보다 뒤)
+            List<Map<String, Object>> recommendations = SpotifyPriority.RECOMMENDATION.call(() ->
+                generateSpotifyBasedRecommendations(userId, properties.getMaxRecommendationsPerRequest())
             );
             
             // 추천 히스토리 저장 (별도 스레드에서 비동기 처리)
@@ -248,6 +248,7 @@ public class MusicReviewController {
         );
         
         Page<ReviewDto.Response> reviews = reviewService.searchReviews(
+                request.getText(),
                 request.getTag(),
                 request.getMinRating(),
                 request.getMaxRating(),
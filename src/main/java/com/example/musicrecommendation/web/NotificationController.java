@@ -17,26 +17,31 @@ public class NotificationController {
     private final NotificationService notificationService;
     
     /**
-     * 사용자의 알림 목록 조회
+     * 사용자의 알림 목록 조회 (최신순, 커서 기반 페이지)
+     * - 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달
      */
     @GetMapping("/{userId}")
     public ResponseEntity<Map<String, Object>> getUserNotifications(
             @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int limit,
             @RequestParam(defaultValue = "false") boolean unreadOnly) {
         
         try {
-            List<NotificationData> notifications = notificationService.getUserNotifications(userId, limit, unreadOnly);
-            int unreadCount = notificationService.getUnreadCount(userId);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "userId", userId,
-                "notifications", notifications,
-                "unreadCount", unreadCount,
-                "totalCount", notifications.size(),
-                "timestamp", java.time.Instant.now().toString()
-            ));
+            NotificationService.NotificationPage page =
+                notificationService.getUserNotificationPage(userId, cursor, limit, unreadOnly);
+            List<NotificationData> notifications = page.notifications();
+            
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("success", true);
+            body.put("userId", userId);
+            body.put("notifications", notifications);
+            body.put("unreadCount", page.unreadCount());
+            body.put("totalCount", notifications.size());
+            body.put("nextCursor", page.nextCursor());
+            body.put("hasMore", page.nextCursor() != null);
+            body.put("timestamp", java.time.Instant.now().toString());
+            return ResponseEntity.ok(body);
             
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of(
@@ -1,12 +1,16 @@
 package com.example.musicrecommendation.web;
 
+import com.example.musicrecommendation.service.LikeChartService;
 import com.example.musicrecommendation.service.SimpleStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * 간단한 통계 컨트롤러 (에러 없는 버전)
  */
@@ -16,9 +20,11 @@ import org.springframework.web.bind.annotation.*;
 public class SimpleStatsController {
 
     private final SimpleStatsService simpleStatsService;
+    private final LikeChartService likeChartService;
 
-    public SimpleStatsController(SimpleStatsService simpleStatsService) {
+    public SimpleStatsController(SimpleStatsService simpleStatsService, LikeChartService likeChartService) {
         this.simpleStatsService = simpleStatsService;
+        this.likeChartService = likeChartService;
     }
 
     @GetMapping("/overview")
@@ -83,4 +89,38 @@ public class SimpleStatsController {
     public ResponseEntity<?> getMatchingTrends() {
         return ResponseEntity.ok(simpleStatsService.getMatchingTrends());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/charts")
+    @Operation(summary = "🏆 차트 대시보드", description = "일간/주간/월간/급상승 차트")
+    public ResponseEntity<?> getChartsDashboard(
+            @Parameter(description = "차트별 곡 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(likeChartService.getDashboard(limit));
+    }
+
+    @GetMapping("/charts/period")
+    @Operation(summary = "📈 기간 차트", description = "지정 기간(시작일/종료일 포함) 좋아요 차트")
+    public ResponseEntity<?> getPeriodChart(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "조회할 곡 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(likeChartService.getPeriodChart(from, to, limit));
+    }
+
+    @GetMapping("/charts/artists")
+    @Operation(summary = "🎤 기간 아티스트 순위", description = "지정 기간 아티스트별 좋아요 수")
+    public ResponseEntity<?> getPeriodArtists(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "조회할 아티스트 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(likeChartService.getTopArtists(from, to, limit));
+    }
+
+    @GetMapping("/charts/users")
+    @Operation(summary = "👥 기간 활동 사용자", description = "지정 기간 좋아요를 가장 많이 누른 사용자")
+    public ResponseEntity<?> getPeriodActiveUsers(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "조회할 사용자 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(likeChartService.getMostActiveUsers(from, to, limit));
+    }
+}
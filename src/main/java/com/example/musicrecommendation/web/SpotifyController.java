@@ -1,7 +1,9 @@
 // backend/src/main/java/com/example/musicrecommendation/web/SpotifyController.java
 package com.example.musicrecommendation.web;
 
+import com.example.musicrecommendation.service.AutocompleteService;
 import com.example.musicrecommendation.service.SpotifyService;
+import com.example.musicrecommendation.web.dto.AutocompleteResponse;
 import com.example.musicrecommendation.web.dto.spotify.ArtistDto;
 import com.example.musicrecommendation.web.dto.spotify.TrackDto;
 import org.springframework.web.bind.annotation.*;
@@ -15,9 +17,24 @@ import java.util.Map;
 public class SpotifyController {
 
     private final SpotifyService spotifyService;
+    private final AutocompleteService autocompleteService;
 
-    public SpotifyController(SpotifyService spotifyService) {
+    public SpotifyController(SpotifyService spotifyService, AutocompleteService autocompleteService) {
         this.spotifyService = spotifyService;
+        this.autocompleteService = autocompleteService;
+    }
+
+    /**
+     * 검색어 자동완성 (로컬 인덱스 우선, 부족할 때만 Spotify 검색)
+     * 예) GET /api/spotify/autocomplete?q=아이&type=all&limit=5
+     */
+    @GetMapping("/autocomplete")
+    public AutocompleteResponse autocomplete(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "type", defaultValue = "all") String type,
+            @RequestParam(name = "limit", defaultValue = "5") int limit
+    ) {
+        return autocompleteService.suggest(q, type, limit);
     }
 
     /**
@@ -40,8 +57,10 @@ public class SpotifyController {
         // 3) limit 안전 범위 강제 (1~10)
         int safeLimit = Math.max(1, Math.min(limit, 10));
 
-        // 4) 서비스 호출
-        return spotifyService.searchArtists(query, safeLimit);
+        // 4) 서비스 호출 (결과는 자동완성 대상으로 기억)
+        List<ArtistDto> artists = spotifyService.searchArtists(query, safeLimit);
+        autocompleteService.rememberArtists(artists);
+        return artists;
     }
 
     /**
@@ -61,7 +80,9 @@ public class SpotifyController {
 
         int safeLimit = Math.max(1, Math.min(limit, 10));
 
-        return spotifyService.searchTracks(query, safeLimit);
+        List<TrackDto> tracks = spotifyService.searchTracks(query, safeLimit);
+        autocompleteService.rememberTracks(tracks);
+        return tracks;
     }
 
     /**
@@ -248,6 +248,7 @@ public class SystemNotificationController {
         dto.setCreatedAt(notification.getCreatedAt());
         dto.setScheduledAt(notification.getScheduledAt());
         dto.setSentAt(notification.getSentAt());
+        dto.setDeliveredCount(notification.getDeliveredCount());
         
         // 대상 사용자 수 계산
         if (notification.getTargetType() == SystemNotification.TargetType.ALL) {
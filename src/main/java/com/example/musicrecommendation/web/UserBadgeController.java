@@ -533,13 +533,21 @@ public class UserBadgeController {
     }
 
     // 알림 관련 API (배지, 공지사항, 운영자 메시지 등)
+    // 최신순 커서 페이지 - 본문은 기존과 같은 배열, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달
     @GetMapping("/notifications")
     public ResponseEntity<List<BadgeNotificationService.BadgeNotification>> getUserNotifications(
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         
-        var notifications = notificationService.getUserNotifications(userId);
+        var page = notificationService.getUserNotificationPage(userId, cursor, limit);
         
-        return ResponseEntity.ok(notifications);
+        var response = ResponseEntity.ok()
+                .header("X-Unread-Count", String.valueOf(page.unreadCount()));
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.notifications());
     }
     
     @GetMapping("/notifications/unread-count")
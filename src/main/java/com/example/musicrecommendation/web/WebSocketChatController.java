@@ -1,12 +1,16 @@
 package com.example.musicrecommendation.web;
 
 import com.example.musicrecommendation.service.ChatMessageService;
+import com.example.musicrecommendation.service.ChatPresenceService;
 import com.example.musicrecommendation.service.SecureChatRoomService;
 import com.example.musicrecommendation.service.ChatRateLimitService;
 import com.example.musicrecommendation.service.ChatExpiryNotificationService;
+import com.example.musicrecommendation.service.ContentModerationService;
 import com.example.musicrecommendation.config.ChatSecurityConfig;
 import com.example.musicrecommendation.web.dto.ChatMessageCreateRequest;
 import com.example.musicrecommendation.web.dto.ChatMessageResponse;
+import com.example.musicrecommendation.web.dto.ws.ChatRoomMessage;
+import com.example.musicrecommendation.web.dto.ws.ErrorMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -32,6 +36,8 @@ public class WebSocketChatController {
     private final ChatRateLimitService rateLimitService;
     private final ChatExpiryNotificationService expiryNotificationService;
     private final ChatSecurityConfig securityConfig;
+    private final ChatPresenceService presenceService;
+    private final ContentModerationService contentModerationService;
 
     /**
      * 특정 채팅방에 메시지 전송
@@ -53,49 +59,30 @@ public class WebSocketChatController {
             
             // 1. Rate Limiting 검사
             if (!rateLimitService.isMessageAllowed(senderId)) {
-                final String finalRoomId = roomId;
-                final Object rateLimitResponse = new Object() {
-                    public final String id = "-1";
-                    public final String roomId = finalRoomId;
-                    public final int senderId = -1;
-                    public final String senderName = "시스템";
-                    public final String content = "⏰ 메시지를 너무 빠르게 보내고 계시네요! 4초 후에 다시 시도해주세요. (분당 최대 15개)";
-                    public final String timestamp = OffsetDateTime.now(ZoneOffset.UTC).toString();
-                };
-                messagingTemplate.convertAndSend("/topic/room." + roomId, rateLimitResponse);
+                messagingTemplate.convertAndSend("/topic/room." + roomId, ChatRoomMessage.system(roomId,
+                        "⏰ 메시지를 너무 빠르게 보내고 계시네요! 4초 후에 다시 시도해주세요. (분당 최대 15개)", nowUtc()));
                 return;
             }
             
             // 2. 메시지 크기 제한 검사
             if (!rateLimitService.isMessageSizeAllowed(message.content())) {
-                final String finalRoomId = roomId;
-                final Object sizeLimitResponse = new Object() {
-                    public final String id = "-1";
-                    public final String roomId = finalRoomId;
-                    public final int senderId = -1;
-                    public final String senderName = "시스템";
-                    public final String content = "📝 메시지가 너무 길어요! 300자 이내로 작성해주세요. 음악 이야기는 간결하게! 🎵";
-                    public final String timestamp = OffsetDateTime.now(ZoneOffset.UTC).toString();
-                };
-                messagingTemplate.convertAndSend("/topic/room." + roomId, sizeLimitResponse);
+                messagingTemplate.convertAndSend("/topic/room." + roomId, ChatRoomMessage.system(roomId,
+                        "📝 메시지가 너무 길어요! 300자 이내로 작성해주세요. 음악 이야기는 간결하게! 🎵", nowUtc()));
+                return;
+            }
+            
+            // 3. 금칙어 검사 (리뷰와 같은 사전)
+            if (contentModerationService.isBlockedInChat(message.content())) {
+                messagingTemplate.convertAndSend("/topic/room." + roomId, ChatRoomMessage.system(roomId,
+                        "🙅 부적절한 표현이 포함되어 있어 메시지를 보낼 수 없어요. 서로 존중하는 대화 부탁드려요!", nowUtc()));
                 return;
             }
             
             // 보안 검증: 사용자가 해당 채팅방에 접근 권한이 있는지 확인
             if (!secureChatRoomService.hasRoomAccess(roomId, senderId)) {
                 System.err.println("❌ 채팅방 접근 권한 없음 - roomId: " + roomId + ", userId: " + senderId);
-                
-                final String finalRoomId = roomId;
-                final Object errorResponse = new Object() {
-                    public final String id = "-1";
-                    public final String roomId = finalRoomId;
-                    public final int senderId = -1;
-                    public final String senderName = "시스템";
-                    public final String content = "🚫 이 채팅방에 참여할 수 없습니다. 새로운 매칭을 시작해보세요!";
-                    public final String timestamp = OffsetDateTime.now(ZoneOffset.UTC).toString();
-                };
-                
-                messagingTemplate.convertAndSend("/topic/room." + roomId, errorResponse);
+                messagingTemplate.convertAndSend("/topic/room." + roomId, ChatRoomMessage.system(roomId,
+                        "🚫 이 채팅방에 참여할 수 없습니다. 새로운 매칭을 시작해보세요!", nowUtc()));
                 return;
             }
             
@@ -112,6 +99,9 @@ public class WebSocketChatController {
             
             System.out.println("🔥 WebSocketChatController: roomId: " + roomId + ", senderId: " + senderId);
             
+            // 메시지를 보냈으면 타이핑 종료
+            presenceService.stopTyping(roomId, senderId);
+            
             // 메시지 저장
             var savedMessage = chatMessageService.saveText(dbRoomId, senderId, message.content());
             
@@ -123,18 +113,16 @@ public class WebSocketChatController {
             System.out.println("🔥 WebSocketChatController: 사용자 이름: " + userName);
             
             // 프론트엔드 ChatMessage 인터페이스와 일치하는 응답 생성
-            final String finalRoomId = roomId; // UUID 원본 사용
-            final String finalUserName = userName;
-            final Object response = new Object() {
-                public final String id = savedMessage.id().toString();
-                public final String roomId = finalRoomId;
-                public final int senderId = savedMessage.senderId().intValue();
-                public final String senderName = finalUserName;
-                public final String content = savedMessage.content();
-                public final String timestamp = OffsetDateTime.ofInstant(savedMessage.createdAt(), ZoneOffset.UTC).toString();
-                // 프론트엔드 호환을 위해 createdAt도 추가
-                public final String createdAt = OffsetDateTime.ofInstant(savedMessage.createdAt(), ZoneOffset.UTC).toString();
-            };
+            String createdAt = OffsetDateTime.ofInstant(savedMessage.createdAt(), ZoneOffset.UTC).toString();
+            ChatRoomMessage response = new ChatRoomMessage(
+                savedMessage.id().toString(),
+                roomId, // UUID 원본 사용
+                savedMessage.senderId(),
+                userName,
+                savedMessage.content(),
+                createdAt,
+                createdAt // 프론트엔드 호환을 위해 createdAt도 추가
+            );
             
             System.out.println("🔥 WebSocketChatController: 응답 생성 완료, 브로드캐스트 시작");
             
@@ -150,111 +138,45 @@ public class WebSocketChatController {
             e.printStackTrace();
             
             // 에러 메시지 전송
-            final String finalRoomId = roomId;
-            final Object errorResponse = new Object() {
-                public final String id = "-1";
-                public final String roomId = finalRoomId;
-                public final int senderId = -1;
-                public final String senderName = "시스템";
-                public final String content = "메시지 전송 실패: " + e.getMessage();
-                public final String timestamp = OffsetDateTime.now(ZoneOffset.UTC).toString();
-            };
-            
-            messagingTemplate.convertAndSend("/topic/room." + roomId, errorResponse);
+            messagingTemplate.convertAndSend("/topic/room." + roomId,
+                ChatRoomMessage.system(roomId, "메시지 전송 실패: " + e.getMessage(), nowUtc()));
         }
     }
 
     /**
      * 사용자가 채팅방에 입장했을 때
+     * - 입장 알림(SYSTEM 메시지)은 presence 서비스가 방 단위로 모아서 전송
      */
     @MessageMapping("/chat.addUser/{roomId}")
     public void addUser(@DestinationVariable String roomId,
                        @Payload ChatMessageCreateRequest message) {
-        try {
-            Long senderId = message.senderId() != null ? message.senderId() : 1L;
-            String username = message.content() != null ? message.content() : "사용자#" + senderId;
-            
-            ChatMessageResponse response = new ChatMessageResponse(
-                -1L,
-                roomId, // roomId를 직접 사용 (hex string 형식)
-                senderId,
-                username + "님이 채팅방에 입장했습니다.",
-                OffsetDateTime.now(ZoneOffset.UTC),
-                "SYSTEM"
-            );
-            
-            messagingTemplate.convertAndSend("/topic/room." + roomId, response);
-        } catch (Exception e) {
-            ChatMessageResponse errorResponse = new ChatMessageResponse(
-                -1L,
-                "-1",
-                -1L,
-                "사용자 입장 처리 실패",
-                OffsetDateTime.now(ZoneOffset.UTC),
-                "ERROR"
-            );
-            
-            messagingTemplate.convertAndSend("/topic/room." + roomId, errorResponse);
-        }
+        Long senderId = message.senderId() != null ? message.senderId() : 1L;
+        String username = message.content() != null ? message.content() : "사용자#" + senderId;
+        presenceService.join(roomId, senderId, username);
     }
 
     /**
      * 사용자가 채팅방에서 나갔을 때
+     * - 퇴장 알림(SYSTEM 메시지)은 presence 서비스가 방 단위로 모아서 전송
      */
     @MessageMapping("/chat.leaveUser/{roomId}")
     public void leaveUser(@DestinationVariable String roomId,
                          @Payload ChatMessageCreateRequest message) {
-        try {
-            Long senderId = message.senderId() != null ? message.senderId() : 1L;
-            String username = message.content() != null ? message.content() : "사용자#" + senderId;
-            
-            ChatMessageResponse response = new ChatMessageResponse(
-                -1L,
-                roomId, // roomId를 직접 사용 (hex string 형식)
-                senderId,
-                username + "님이 채팅방에서 나갔습니다.",
-                OffsetDateTime.now(ZoneOffset.UTC),
-                "SYSTEM"
-            );
-            
-            messagingTemplate.convertAndSend("/topic/room." + roomId, response);
-        } catch (Exception e) {
-            ChatMessageResponse errorResponse = new ChatMessageResponse(
-                -1L,
-                "-1",
-                -1L,
-                "사용자 퇴장 처리 실패",
-                OffsetDateTime.now(ZoneOffset.UTC),
-                "ERROR"
-            );
-            
-            messagingTemplate.convertAndSend("/topic/room." + roomId, errorResponse);
-        }
+        Long senderId = message.senderId() != null ? message.senderId() : 1L;
+        String username = message.content() != null ? message.content() : "사용자#" + senderId;
+        presenceService.leave(roomId, senderId, username);
     }
 
     /**
      * 실시간 타이핑 상태 전송
+     * - 즉시 브로드캐스트하지 않고 presence 서비스에 기록 → 사용자당 flush 주기마다 최대 1건 (TypingEvent 형식 유지)
      */
     @MessageMapping("/chat.typing/{roomId}")
     public void sendTypingStatus(@DestinationVariable String roomId,
                                @Payload ChatMessageCreateRequest message) {
-        try {
-            Long senderId = message.senderId() != null ? message.senderId() : 1L;
-            String username = message.content() != null ? message.content() : "사용자#" + senderId;
-            
-            // 타이핑 상태를 해당 방의 다른 사용자들에게 전송
-            String finalUsername = username;
-            messagingTemplate.convertAndSend("/topic/room." + roomId + ".typing", 
-                new Object() {
-                    public final String type = "TYPING";
-                    public final Long userId = senderId;
-                    public final String username = finalUsername;
-                    public final String message = finalUsername + "님이 타이핑중...";
-                    public final String timestamp = Instant.now().toString();
-                });
-        } catch (Exception e) {
-            // 타이핑 상태 에러는 무시
-        }
+        Long senderId = message.senderId() != null ? message.senderId() : 1L;
+        String username = message.content() != null ? message.content() : "사용자#" + senderId;
+        presenceService.typing(roomId, senderId, username);
     }
 
     /**
@@ -304,12 +226,12 @@ public class WebSocketChatController {
             messagingTemplate.convertAndSendToUser(
                 message.senderId().toString(),
                 "/queue/errors",
-                new Object() {
-                    public final String error = "개인 메시지 전송 실패: " + e.getMessage();
-                    public final String timestamp = Instant.now().toString();
-                }
+                new ErrorMessage("개인 메시지 전송 실패: " + e.getMessage(), Instant.now().toString())
             );
         }
     }
 
-}
\ No newline at end of file
+    private static String nowUtc() {
+        return OffsetDateTime.now(ZoneOffset.UTC).toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.musicrecommendation.web.dto;
+
+import java.util.List;
+
+/**
+ * 검색 자동완성 응답
+ *
+ * @param source local: 로컬 인덱스만으로 응답, spotify: 로컬 결과가 부족해 Spotify 검색으로 보충
+ */
+public record AutocompleteResponse(
+    String query,
+    String source,
+    List<Suggestion> artists,
+    List<Suggestion> tracks
+) {
+
+    /**
+     * @param type      artist | track
+     * @param spotifyId Spotify ID (없으면 null)
+     * @param songId    로컬 곡 ID (songs에 없는 항목은 null)
+     * @param artist    트랙의 대표 아티스트 (아티스트 항목은 null)
+     */
+    public record Suggestion(
+        String type,
+        String spotifyId,
+        Long songId,
+        String name,
+        String artist,
+        String imageUrl,
+        Integer popularity
+    ) {}
+}
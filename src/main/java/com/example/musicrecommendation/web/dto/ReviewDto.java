@@ -190,6 +190,10 @@ public class ReviewDto {
     @Getter @Setter
     @NoArgsConstructor @AllArgsConstructor @Builder
     public static class SearchRequest {
+        /** 리뷰 본문 검색어 (있으면 관련도 순 정렬) */
+        @Size(max = 100, message = "검색어는 100자 이하여야 합니다")
+        private String text;
+        
         private String tag;
         
         @Min(value = 1, message = "최소 평점은 1점입니다")
@@ -12,9 +12,18 @@ public class SpotifyDto {
         private Tracks tracks;
     }
 
+    /** 페이지 응답 (검색 결과의 tracks, GET /albums/{id}/tracks) - 마지막 페이지면 next가 null */
     @Data
     public static class Tracks {
         private List<Track> items;
+        private String next;
+        private Integer total;
+    }
+
+    /** 아티스트 인기 곡 (GET /artists/{id}/top-tracks) */
+    @Data
+    public static class TopTracksResponse {
+        private List<Track> tracks;
     }
 
     @Data
@@ -28,6 +37,10 @@ public class SpotifyDto {
         private Integer durationMs;           // ← getDurationMs()
 
         private String uri;
+        private Integer popularity;
+
+        @JsonProperty("preview_url")
+        private String previewUrl;
 
         @JsonProperty("external_urls")
         private ExternalUrls externalUrls;
@@ -82,4 +95,11 @@ public class SpotifyDto {
         @JsonProperty("duration_ms")
         private Integer durationMs;           // ← getDurationMs()
     }
+
+    /** 여러 트랙 오디오 특성 (GET /audio-features?ids=) - 요청 ID 순서, 없는 ID는 null */
+    @Data
+    public static class AudioFeaturesResponse {
+        @JsonProperty("audio_features")
+        private List<AudioFeatures> audioFeatures;
+    }
 }
@@ -97,6 +97,9 @@ public class SystemNotificationDto {
         @Schema(description = "실제 발송 시간")
         private OffsetDateTime sentAt;
         
+        @Schema(description = "지금까지 발송된 사용자 수 (대량 발송 진행 상황)")
+        private Integer deliveredCount;
+        
         // Getters and Setters
         public Long getId() { return id; }
         public void setId(Long id) { this.id = id; }
@@ -130,6 +133,9 @@ public class SystemNotificationDto {
         
         public OffsetDateTime getSentAt() { return sentAt; }
         public void setSentAt(OffsetDateTime sentAt) { this.sentAt = sentAt; }
+        
+        public Integer getDeliveredCount() { return deliveredCount; }
+        public void setDeliveredCount(Integer deliveredCount) { this.deliveredCount = deliveredCount; }
     }
     
     /**
@@ -0,0 +1,26 @@
+package com.example.musicrecommendation.web.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 여러 아티스트 조회 응답 (GET /artists?ids=) - 요청 ID 순서, 없는 ID는 null
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SpotifyArtistsResponse {
+
+    @JsonProperty("artists")
+    private List<SpotifyArtist> artists;
+
+    public SpotifyArtistsResponse() {}
+
+    public List<SpotifyArtist> getArtists() {
+        return artists;
+    }
+
+    public void setArtists(List<SpotifyArtist> artists) {
+        this.artists = artists;
+    }
+}
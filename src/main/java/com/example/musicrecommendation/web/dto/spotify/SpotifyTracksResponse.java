@@ -0,0 +1,26 @@
+package com.example.musicrecommendation.web.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 여러 트랙 조회 응답 (GET /tracks?ids=) - 요청 ID 순서, 없는 ID는 null
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SpotifyTracksResponse {
+
+    @JsonProperty("tracks")
+    private List<SpotifyTrack> tracks;
+
+    public SpotifyTracksResponse() {}
+
+    public List<SpotifyTrack> getTracks() {
+        return tracks;
+    }
+
+    public void setTracks(List<SpotifyTrack> tracks) {
+        this.tracks = tracks;
+    }
+}
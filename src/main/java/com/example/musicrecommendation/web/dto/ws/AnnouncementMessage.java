@@ -0,0 +1,12 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+/**
+ * /topic/announcements 브로드캐스트 본문
+ */
+public record AnnouncementMessage(
+        String type,
+        String announcementTitle,
+        String announcementMessage,
+        String timestamp,
+        boolean broadcast
+) {}
@@ -0,0 +1,22 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * /topic/room.{roomId} 로 전송되는 채팅 메시지 (프론트엔드 ChatMessage 인터페이스와 동일한 구조)
+ * - 시스템 메시지는 id "-1", senderId -1, createdAt 생략
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatRoomMessage(
+        String id,
+        String roomId,
+        Long senderId,
+        String senderName,
+        String content,
+        String timestamp,
+        String createdAt
+) {
+    public static ChatRoomMessage system(String roomId, String content, String timestamp) {
+        return new ChatRoomMessage("-1", roomId, -1L, "시스템", content, timestamp, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+/**
+ * 개인 에러 큐(/user/queue/errors) 본문
+ */
+public record ErrorMessage(
+        String error,
+        String timestamp
+) {}
@@ -0,0 +1,16 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자 개인 알림 본문 (매칭 종료 등)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PersonalNotification(
+        String type,
+        String notificationTitle,
+        String notificationMessage,
+        Object notificationData,
+        String timestamp,
+        boolean personal
+) {}
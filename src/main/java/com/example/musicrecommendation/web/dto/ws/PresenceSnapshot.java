@@ -0,0 +1,16 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+import java.util.List;
+
+/**
+ * 채팅방 현재 입장/타이핑 상태 (입장한 사용자에게 개인 채널로 전송)
+ */
+public record PresenceSnapshot(
+        String type,
+        String roomId,
+        List<Member> members,
+        List<Member> typing,
+        String timestamp
+) {
+    public record Member(Long userId, String username) {}
+}
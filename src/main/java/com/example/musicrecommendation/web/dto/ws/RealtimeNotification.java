@@ -0,0 +1,18 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 매칭/추천 실시간 알림 본문
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RealtimeNotification(
+        String type,
+        String title,
+        String message,
+        Object data,
+        String timestamp,
+        boolean success,
+        String status,
+        Object matchingData
+) {}
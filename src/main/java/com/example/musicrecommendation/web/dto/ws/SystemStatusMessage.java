@@ -0,0 +1,13 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+/**
+ * /topic/system-status 브로드캐스트 본문
+ */
+public record SystemStatusMessage(
+        String type,
+        String message,
+        int activeUsers,
+        int totalMatches,
+        String timestamp,
+        boolean online
+) {}
@@ -0,0 +1,12 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+/**
+ * /topic/room.{roomId}.typing 타이핑 상태 본문
+ */
+public record TypingEvent(
+        String type,
+        Long userId,
+        String username,
+        String message,
+        String timestamp
+) {}
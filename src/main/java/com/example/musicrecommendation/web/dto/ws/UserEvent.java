@@ -0,0 +1,23 @@
+package com.example.musicrecommendation.web.dto.ws;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자별 단일 WebSocket 채널(/user/queue/events)로 전송되는 이벤트 봉투
+ * - channel: 클라이언트 라우팅 키 (기존 개별 큐 이름과 동일)
+ * - payload: 실제 알림 본문
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserEvent(
+        String channel,
+        String type,
+        Object payload,
+        Integer unreadCount,
+        String timestamp
+) {
+    public static final String CHANNEL_NOTIFICATIONS = "notifications";
+    public static final String CHANNEL_MATCHING_RESULT = "matching-result";
+    public static final String CHANNEL_RECOMMENDATIONS = "recommendations";
+    public static final String CHANNEL_PERSONAL = "personal";
+    public static final String CHANNEL_PRESENCE = "presence";
+}
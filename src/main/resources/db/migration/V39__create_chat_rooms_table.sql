@@ -0,0 +1,24 @@
+-- V39: Persist secure chat rooms so active rooms survive restarts
+
+CREATE TABLE chat_rooms (
+    room_id VARCHAR(50) PRIMARY KEY,
+    participant1_id BIGINT NOT NULL REFERENCES users(id),
+    participant2_id BIGINT NOT NULL REFERENCES users(id),
+    room_type VARCHAR(30) NOT NULL DEFAULT 'PRIVATE_MATCH',
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_activity_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    closed_at TIMESTAMP,
+
+    CONSTRAINT check_chat_room_distinct_participants CHECK (participant1_id != participant2_id)
+);
+
+-- Participant lookup (active rooms only - partial indexes stay small)
+CREATE INDEX idx_chat_rooms_participant1_active ON chat_rooms(participant1_id) WHERE active;
+CREATE INDEX idx_chat_rooms_participant2_active ON chat_rooms(participant2_id) WHERE active;
+
+-- Startup preload / stale room sweep
+CREATE INDEX idx_chat_rooms_active_last_activity ON chat_rooms(last_activity_at) WHERE active;
+
+COMMENT ON TABLE chat_rooms IS 'Secure 1:1 chat rooms created by matching';
+COMMENT ON COLUMN chat_rooms.last_activity_at IS 'Last message time (persisted at coarse granularity); room expires 1 hour after';
@@ -0,0 +1,3 @@
+-- V40: Composite index for per-user recent review lookups (review spam window fallback)
+
+CREATE INDEX IF NOT EXISTS idx_reviews_user_created_at ON music_reviews(user_id, created_at DESC);
@@ -0,0 +1,49 @@
+-- V41: Persistent notification inbox (replaces in-heap per-user lists)
+-- Range-partitioned by month on created_at so old months can be dropped cheaply.
+
+CREATE SEQUENCE user_notifications_id_seq;
+
+CREATE TABLE user_notifications (
+    id BIGINT NOT NULL DEFAULT nextval('user_notifications_id_seq'),
+    user_id BIGINT NOT NULL,
+    inbox VARCHAR(20) NOT NULL,
+    type VARCHAR(40) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    message TEXT,
+    payload JSONB,
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    read_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE user_notifications_id_seq OWNED BY user_notifications.id;
+
+-- Rows outside the pre-created months land here until the maintenance job creates their partition
+CREATE TABLE user_notifications_default PARTITION OF user_notifications DEFAULT;
+
+-- Current and next month (later months are created by NotificationInboxStore.maintainPartitions)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE)::DATE;
+    i INT;
+BEGIN
+    FOR i IN 0..1 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF user_notifications FOR VALUES FROM (%L) TO (%L)',
+            'user_notifications_' || to_char(month_start + (i || ' month')::INTERVAL, 'YYYYMM'),
+            month_start + (i || ' month')::INTERVAL,
+            month_start + ((i + 1) || ' month')::INTERVAL);
+    END LOOP;
+END $$;
+
+-- Inbox page (cursor = id, newest first)
+CREATE INDEX idx_user_notifications_inbox ON user_notifications(user_id, inbox, id DESC);
+
+-- Unread counter seed / unread-only pages
+CREATE INDEX idx_user_notifications_unread ON user_notifications(user_id, inbox, id DESC) WHERE NOT is_read;
+
+COMMENT ON TABLE user_notifications IS 'Per-user notification inbox, monthly partitions on created_at';
+COMMENT ON COLUMN user_notifications.inbox IS 'GENERAL (NotificationService) or BADGE (BadgeNotificationService / system notices)';
+COMMENT ON COLUMN user_notifications.payload IS 'Type-specific fields (badge info, action url, ...)';
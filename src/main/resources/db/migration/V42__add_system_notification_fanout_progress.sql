@@ -0,0 +1,13 @@
+-- V42: Chunked fan-out progress for system notifications (resume after restart)
+
+ALTER TABLE system_notifications
+    ADD COLUMN fanout_cursor BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN delivered_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN progress_updated_at TIMESTAMPTZ;
+
+-- Stalled fan-out lookup (SENDING rows whose heartbeat stopped)
+CREATE INDEX idx_system_notifications_sending ON system_notifications(progress_updated_at) WHERE status = 'SENDING';
+
+COMMENT ON COLUMN system_notifications.fanout_cursor IS 'Last user id processed by the fan-out (keyset cursor)';
+COMMENT ON COLUMN system_notifications.delivered_count IS 'Inbox rows written so far';
+COMMENT ON COLUMN system_notifications.progress_updated_at IS 'Fan-out heartbeat; a stale SENDING row is resumed from fanout_cursor';
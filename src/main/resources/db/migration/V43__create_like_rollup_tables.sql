@@ -0,0 +1,47 @@
+-- V43: Daily like rollups for period charts (song x day, artist x day, user x day)
+-- Maintained incrementally on like/unlike; period charts sum the daily rows instead of scanning user_song_likes
+
+CREATE TABLE like_rollup_song_daily (
+    day        DATE   NOT NULL,
+    song_id    BIGINT NOT NULL,
+    like_count INTEGER NOT NULL,
+    PRIMARY KEY (day, song_id)
+);
+
+CREATE TABLE like_rollup_artist_daily (
+    day        DATE         NOT NULL,
+    artist     VARCHAR(200) NOT NULL,
+    like_count INTEGER      NOT NULL,
+    PRIMARY KEY (day, artist)
+);
+
+CREATE TABLE like_rollup_user_daily (
+    day        DATE   NOT NULL,
+    user_id    BIGINT NOT NULL,
+    like_count INTEGER NOT NULL,
+    PRIMARY KEY (day, user_id)
+);
+
+-- Backfill from existing likes
+INSERT INTO like_rollup_song_daily (day, song_id, like_count)
+SELECT CAST(l.liked_at AS DATE), l.song_id, COUNT(*)
+FROM user_song_likes l
+WHERE l.liked_at IS NOT NULL
+GROUP BY CAST(l.liked_at AS DATE), l.song_id;
+
+INSERT INTO like_rollup_artist_daily (day, artist, like_count)
+SELECT CAST(l.liked_at AS DATE), s.artist, COUNT(*)
+FROM user_song_likes l
+JOIN songs s ON s.id = l.song_id
+WHERE l.liked_at IS NOT NULL
+GROUP BY CAST(l.liked_at AS DATE), s.artist;
+
+INSERT INTO like_rollup_user_daily (day, user_id, like_count)
+SELECT CAST(l.liked_at AS DATE), l.user_id, COUNT(*)
+FROM user_song_likes l
+WHERE l.liked_at IS NOT NULL
+GROUP BY CAST(l.liked_at AS DATE), l.user_id;
+
+COMMENT ON TABLE like_rollup_song_daily IS 'Likes per song per day (liked_at date)';
+COMMENT ON TABLE like_rollup_artist_daily IS 'Likes per artist per day (liked_at date)';
+COMMENT ON TABLE like_rollup_user_daily IS 'Likes given per user per day (liked_at date)';
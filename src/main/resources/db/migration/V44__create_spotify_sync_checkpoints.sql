@@ -0,0 +1,15 @@
+-- V44: Resumable Spotify catalog sync (one checkpoint row per source: search query / album / artist top tracks)
+-- A page's songs, metadata and the advanced checkpoint are committed together, so a restart resumes at the next page
+
+CREATE TABLE spotify_sync_checkpoints (
+    source       VARCHAR(300) PRIMARY KEY,
+    next_offset  INTEGER      NOT NULL DEFAULT 0,
+    ingested     INTEGER      NOT NULL DEFAULT 0,
+    skipped      INTEGER      NOT NULL DEFAULT 0,
+    completed    BOOLEAN      NOT NULL DEFAULT FALSE,
+    updated_at   TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON COLUMN spotify_sync_checkpoints.source IS 'search:<query> | album:<spotify id> | artist:<spotify id>';
+COMMENT ON COLUMN spotify_sync_checkpoints.next_offset IS 'Paging offset of the next page to fetch';
+COMMENT ON COLUMN spotify_sync_checkpoints.skipped IS 'Tracks skipped as duplicates of existing (title, artist) songs';
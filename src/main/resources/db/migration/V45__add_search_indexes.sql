@@ -0,0 +1,18 @@
+-- V45: Indexed catalog/review search
+-- Trigram GIN indexes let ILIKE '%term%' and similarity() ranking use an index instead of a sequential scan.
+-- Review text gets a generated tsvector column ('simple' config - no Korean stemmer; queries use prefix matching).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_songs_title_trgm ON songs USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_songs_artist_trgm ON songs USING gin (artist gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_music_items_name_trgm ON music_items USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_music_items_artist_name_trgm ON music_items USING gin (artist_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_music_items_album_name_trgm ON music_items USING gin (album_name gin_trgm_ops);
+
+ALTER TABLE music_reviews
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(review_text, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_reviews_search_vector ON music_reviews USING gin (search_vector);
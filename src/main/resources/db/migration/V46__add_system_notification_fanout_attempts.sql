@@ -0,0 +1,11 @@
+-- V46: Retry failed system notification fan-outs (capped)
+
+ALTER TABLE system_notifications
+    ADD COLUMN fanout_attempts INTEGER NOT NULL DEFAULT 0;
+
+-- Stalled fan-out lookup now also covers FAILED rows that are still below the retry cap
+DROP INDEX IF EXISTS idx_system_notifications_sending;
+CREATE INDEX idx_system_notifications_resumable ON system_notifications(progress_updated_at)
+    WHERE status IN ('SENDING', 'FAILED');
+
+COMMENT ON COLUMN system_notifications.fanout_attempts IS 'Failed fan-out runs; a FAILED row is resumed from fanout_cursor until this reaches the retry cap';
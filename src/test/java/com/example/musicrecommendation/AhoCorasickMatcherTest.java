@@ -0,0 +1,44 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.AhoCorasickMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void testOverlappingKeywordsAreAllReported() {
+        // Given: 접미사가 겹치는 고전 예제 (he / she / his / hers)
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add("he", "he")
+                .add("she", "she")
+                .add("his", "his")
+                .add("hers", "hers")
+                .build();
+
+        // When
+        Set<String> matched = matcher.matchedCategories("ushers");
+
+        // Then
+        assertEquals(Set.of("she", "he", "hers"), matched);
+    }
+
+    @Test
+    public void testCategoriesAcrossLinesAndCase() {
+        // Given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .addAll(List.of("광고", "http"), "SPAM")
+                .addAll(List.of("바보"), "PROFANITY")
+                .build();
+
+        // When & Then: 여러 줄 본문과 대소문자 차이도 일치
+        assertEquals(Set.of("SPAM"), matcher.matchedCategories("좋은 노래입니다\n자세한 건 HTTP 링크"));
+        assertEquals(Set.of("SPAM", "PROFANITY"), matcher.matchedCategories("광고하는 바보"));
+        assertTrue(matcher.matchedCategories("잔잔하고 좋은 곡").isEmpty());
+        assertFalse(matcher.containsAny(null));
+    }
+}
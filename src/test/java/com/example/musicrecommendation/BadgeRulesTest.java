@@ -0,0 +1,51 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.domain.UserBadge;
+import com.example.musicrecommendation.service.BadgeRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BadgeRulesTest {
+
+    @Test
+    public void testReviewThresholdsAreEvaluatedInOnePass() {
+        // Given: 리뷰 60개, 보유 배지 없음
+        BadgeRules.UserStats stats = new BadgeRules.UserStats(60, 0);
+
+        // When
+        List<UserBadge.BadgeType> earned = BadgeRules.newlyEarned(stats, Set.of()).stream()
+                .map(BadgeRules.Rule::badgeType)
+                .toList();
+
+        // Then: 첫 리뷰 + 리뷰 마스터만 (평론가는 100개 필요)
+        assertEquals(List.of(UserBadge.BadgeType.FIRST_REVIEW, UserBadge.BadgeType.REVIEW_MASTER), earned);
+    }
+
+    @Test
+    public void testOwnedBadgesAreSkipped() {
+        // Given: 첫 리뷰 배지 이미 보유
+        BadgeRules.UserStats stats = new BadgeRules.UserStats(1, 30);
+        Set<UserBadge.BadgeType> owned = EnumSet.of(UserBadge.BadgeType.FIRST_REVIEW);
+
+        // When
+        List<UserBadge.BadgeType> earned = BadgeRules.newlyEarned(stats, owned).stream()
+                .map(BadgeRules.Rule::badgeType)
+                .toList();
+
+        // Then: 도움됨 수 기준 배지만 새로 획득
+        assertEquals(List.of(UserBadge.BadgeType.HELPFUL_REVIEWER), earned);
+    }
+
+    @Test
+    public void testOwnsAllRuleBadges() {
+        // When & Then: 규칙 배지를 모두 보유하면 통계 조회 생략 가능
+        assertTrue(BadgeRules.ownsAllRuleBadges(EnumSet.copyOf(BadgeRules.RULE_BADGES)));
+        assertFalse(BadgeRules.ownsAllRuleBadges(EnumSet.of(UserBadge.BadgeType.FIRST_REVIEW)));
+        assertTrue(BadgeRules.newlyEarned(BadgeRules.UserStats.EMPTY, Set.of()).isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.UserCacheKeyRegistry;
+import com.example.musicrecommendation.config.UserKeyTrackingCache;
+import com.example.musicrecommendation.event.CacheInvalidationEvent;
+import com.example.musicrecommendation.service.CacheInvalidationService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이벤트 기반 캐시 정밀 무효화 테스트 - 관련 사용자의 항목만 삭제되는지 확인
+ */
+public class CacheInvalidationTest {
+
+    private final UserCacheKeyRegistry registry = new UserCacheKeyRegistry(Map.of(
+            "musicRecommendations", UserCacheKeyRegistry.leadingUserId(),
+            "user-names", UserCacheKeyRegistry.trailingUserId()));
+
+    private Cache recommendations;
+    private Cache reviewResponses;
+    private Cache preferences;
+    private CacheInvalidationService service;
+
+    @BeforeEach
+    public void setUp() {
+        recommendations = new UserKeyTrackingCache("musicRecommendations", Caffeine.newBuilder().build(), true, registry);
+        reviewResponses = new UserKeyTrackingCache("user-names", Caffeine.newBuilder().build(), true, registry);
+        preferences = new CaffeineCache("userMusicPreferences", Caffeine.newBuilder().build());
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(recommendations, reviewResponses, preferences));
+        cacheManager.afterPropertiesSet();
+        service = new CacheInvalidationService(cacheManager, registry);
+    }
+
+    @Test
+    public void testReviewUpdateEvictsOnlyAuthorEntries() {
+        // Given: 사용자 1, 2의 추천(개수별)과 리뷰 응답
+        recommendations.put("1_10", "r1");
+        recommendations.put("1_20", "r1");
+        recommendations.put("2_10", "r2");
+        reviewResponses.put("7_1", "review7");
+        reviewResponses.put("8_2", "review8");
+
+        // When: 사용자 1이 리뷰 7 수정
+        int evicted = service.invalidate(CacheInvalidationEvent.reviewUpdated(1L, 7L));
+
+        // Then: 사용자 1의 추천 전체 + 리뷰 7 응답만 삭제
+        assertEquals(3, evicted);
+        assertNull(recommendations.get("1_10"));
+        assertNull(recommendations.get("1_20"));
+        assertNull(reviewResponses.get("7_1"));
+        assertNotNull(recommendations.get("2_10"));
+        assertNotNull(reviewResponses.get("8_2"));
+    }
+
+    @Test
+    public void testProfileUpdateEvictsAuthoredReviewResponses() {
+        // Given: 사용자 2가 쓴 리뷰 2건, 사용자 1이 쓴 리뷰 1건
+        reviewResponses.put("8_2", "review8");
+        reviewResponses.put("9_2", "review9");
+        reviewResponses.put("7_1", "review7");
+        recommendations.put("2_10", "r2");
+
+        // When: 사용자 2 닉네임 변경
+        service.invalidate(CacheInvalidationEvent.profileUpdated(2L));
+
+        // Then: 사용자 2의 리뷰 응답만 삭제, 추천은 그대로
+        assertNull(reviewResponses.get("8_2"));
+        assertNull(reviewResponses.get("9_2"));
+        assertNotNull(reviewResponses.get("7_1"));
+        assertNotNull(recommendations.get("2_10"));
+    }
+
+    @Test
+    public void testPreferencesUpdateAndRegistryCleanup() {
+        // Given
+        preferences.put(1L, "prefs1");
+        preferences.put(2L, "prefs2");
+        recommendations.put("1_10", "r1");
+        recommendations.put("3_10", "r3");
+        recommendations.evict("3_10");
+
+        // When
+        service.invalidate(CacheInvalidationEvent.preferencesUpdated(1L));
+
+        // Then: 취향 프로필(키 = 사용자 ID)과 추천 삭제, 직접 삭제한 키는 목록에서도 해제
+        assertNull(preferences.get(1L));
+        assertNotNull(preferences.get(2L));
+        assertNull(recommendations.get("1_10"));
+        assertEquals(0, registry.size("musicRecommendations"));
+    }
+}
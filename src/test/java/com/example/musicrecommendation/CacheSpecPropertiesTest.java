@@ -0,0 +1,52 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.CacheSpecProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시별 설정 테스트 - 설정한 키만 덮어쓰고 나머지는 캐시별 기본값 유지
+ */
+public class CacheSpecPropertiesTest {
+
+    private CacheSpecProperties bind(Map<String, String> properties) {
+        CacheSpecProperties cacheSpecProperties = new CacheSpecProperties();
+        new Binder(new MapConfigurationPropertySource(properties))
+                .bind("app.cache", Bindable.ofInstance(cacheSpecProperties));
+        return cacheSpecProperties;
+    }
+
+    @Test
+    public void testPartialOverrideKeepsCacheDefaults() {
+        // When: 최대 크기만 지정
+        Map<String, CacheSpecProperties.Spec> specs = bind(Map.of(
+                "app.cache.specs.userMusicPreferences.maximum-size", "500")).resolveSpecs();
+
+        // Then: TTL은 해당 캐시 기본값(1시간) 유지
+        CacheSpecProperties.Spec spec = specs.get("userMusicPreferences");
+        assertEquals(500L, spec.getMaximumSize());
+        assertEquals(Duration.ofHours(1), spec.getExpireAfterWrite());
+        assertEquals(CacheSpecProperties.Weigher.NONE, spec.getWeigher());
+        assertEquals(0L, spec.getMaximumWeight());
+    }
+
+    @Test
+    public void testNewCacheUsesGenericDefaults() {
+        // When: 기본 목록에 없는 캐시를 TTL만 지정해 추가
+        Map<String, CacheSpecProperties.Spec> specs = bind(Map.of(
+                "app.cache.specs.extraCache.expire-after-write", "10m")).resolveSpecs();
+
+        // Then: 나머지는 공통 기본값, 기존 캐시는 그대로
+        CacheSpecProperties.Spec spec = specs.get("extraCache");
+        assertEquals(3000L, spec.getMaximumSize());
+        assertEquals(Duration.ofMinutes(10), spec.getExpireAfterWrite());
+        assertEquals(10L, specs.get("topSongs").getMaximumSize());
+    }
+}
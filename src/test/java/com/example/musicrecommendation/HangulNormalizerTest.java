@@ -0,0 +1,67 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.AhoCorasickMatcher;
+import com.example.musicrecommendation.util.HangulNormalizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HangulNormalizerTest {
+
+    @Test
+    public void testSeparatorsAndWidthAreRemoved() {
+        // When & Then: 공백/문장부호 제거, 전각 → 반각, 소문자
+        assertEquals("바보", HangulNormalizer.normalize("바 보"));
+        assertEquals("바보", HangulNormalizer.normalize("바.보!"));
+        assertEquals("http", HangulNormalizer.normalize("ＨＴＴＰ"));
+    }
+
+    @Test
+    public void testSeparatedJamoAreRecomposed() {
+        // When & Then: 따로 입력한 자모는 음절로 재조합
+        assertEquals("바보", HangulNormalizer.normalize("ㅂㅏㅂㅗ"));
+        assertEquals(HangulNormalizer.normalize("ㅅㅂ"), HangulNormalizer.normalize("ㅅ ㅂ"));
+    }
+
+    @Test
+    public void testNormalizedDictionaryCatchesEvasion() {
+        // Given: 사전과 본문 모두 같은 정규화 적용
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add(HangulNormalizer.normalize("바보"), "PROFANITY")
+                .add(HangulNormalizer.normalize("www."), "SPAM")
+                .build();
+
+        // When & Then
+        assertTrue(matcher.containsAny(HangulNormalizer.normalize("너 ㅂㅏ ㅂㅗ 같아")));
+        assertTrue(matcher.containsAny(HangulNormalizer.normalize("W W W . example . com")));
+        assertFalse(matcher.containsAny(HangulNormalizer.normalize("좋은 노래 추천해요")));
+    }
+
+    @Test
+    public void testKeywordsDoNotMatchAcrossWords() {
+        // Given: "사기" 금칙어
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add(HangulNormalizer.normalize("사기"), "SPAM")
+                .build();
+
+        // When & Then: 여러 글자 단어 사이 경계는 유지 - 일반 문장은 통과
+        assertEquals("가사 기억", HangulNormalizer.normalize("가사  기억!"));
+        assertFalse(matcher.containsAny(HangulNormalizer.normalize("이 노래 가사 기억나요")));
+        assertFalse(matcher.containsAny(HangulNormalizer.normalize("역사.기록 같은 앨범")));
+
+        // 한 글자씩 끊어 쓴 우회는 여전히 차단
+        assertTrue(matcher.containsAny(HangulNormalizer.normalize("완전 사.기 임")));
+        assertTrue(matcher.containsAny(HangulNormalizer.normalize("ㅅ ㅏ ㄱ ㅣ")));
+    }
+
+    @Test
+    public void testJamoDecompositionForAutocomplete() {
+        // When & Then: 음절/겹모음/겹받침을 입력 순서대로 분해, 따로 입력한 자모와 같은 결과
+        assertEquals("ㅇㅏㅇㅣㅇㅠ", HangulNormalizer.toJamo("아이 유"));
+        assertEquals("ㄱㅗㅏㄹㄱ", HangulNormalizer.toJamo("괅"));
+        assertEquals(HangulNormalizer.toJamo("과"), HangulNormalizer.toJamo("ㄱㅗㅏ"));
+        assertTrue(HangulNormalizer.toJamo("아이유").startsWith(HangulNormalizer.toJamo("앙")));
+        assertEquals("ㅇㅇㅇlove", HangulNormalizer.initialConsonants("아이유 Love"));
+        assertNull(HangulNormalizer.initialConsonants("NewJeans"));
+    }
+}
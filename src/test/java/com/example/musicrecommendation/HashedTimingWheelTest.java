@@ -0,0 +1,75 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.HashedTimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedTimingWheelTest {
+
+    @Test
+    public void testTimeoutsFireInDeadlineOrderAcrossRounds() {
+        // Given: 100ms tick × 8 슬롯 (한 바퀴 800ms) 휠에 여러 바퀴에 걸친 타이머 등록
+        long start = 0L;
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, start);
+        wheel.schedule("short", 250);
+        wheel.schedule("long", 2_050);
+        wheel.schedule("mid", 900);
+
+        List<String> fired = new ArrayList<>();
+
+        // When & Then: 각 시점까지 진행하면 deadline이 지난 타이머만 만료
+        wheel.advance(200, fired::add);
+        assertTrue(fired.isEmpty(), "deadline 이전에는 만료되지 않아야 합니다");
+
+        wheel.advance(300, fired::add);
+        assertEquals(List.of("short"), fired);
+
+        wheel.advance(1_000, fired::add);
+        assertEquals(List.of("short", "mid"), fired);
+
+        wheel.advance(2_100, fired::add);
+        assertEquals(List.of("short", "mid", "long"), fired, "여러 바퀴 뒤의 타이머도 정확히 만료되어야 합니다");
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCancelledTimeoutDoesNotFire() {
+        // Given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0L);
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 150);
+        wheel.schedule("kept", 150);
+
+        // When
+        assertTrue(cancelled.cancel());
+        List<String> fired = new ArrayList<>();
+        wheel.advance(500, fired::add);
+
+        // Then
+        assertEquals(List.of("kept"), fired);
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.cancel(), "이미 취소된 타이머는 다시 취소되지 않아야 합니다");
+    }
+
+    @Test
+    public void testPastDeadlineFiresOnNextTickAndReschedulingInHandler() {
+        // Given: 이미 지난 deadline
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0L);
+        wheel.advance(1_000, item -> { });
+        wheel.schedule("late", 10);
+
+        // When: 핸들러 안에서 재등록
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_100, item -> {
+            fired.add(item);
+            wheel.schedule(item + "-again", 1_300);
+        });
+        wheel.advance(1_400, fired::add);
+
+        // Then
+        assertEquals(List.of("late", "late-again"), fired);
+    }
+}
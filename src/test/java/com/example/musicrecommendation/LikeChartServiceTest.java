@@ -0,0 +1,82 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.service.LikeChartService;
+import com.example.musicrecommendation.service.LikeRollupStore;
+import com.example.musicrecommendation.web.dto.PeriodChartResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LikeChartServiceTest {
+
+    /** 일별 집계 조회 횟수를 세는 저장소 */
+    private static class CountingRollupStore extends LikeRollupStore {
+        final AtomicInteger songQueries = new AtomicInteger();
+
+        CountingRollupStore() {
+            super(null);
+        }
+
+        @Override
+        public List<SongCount> topSongs(LocalDate from, LocalDate to, int limit) {
+            songQueries.incrementAndGet();
+            return List.of(new SongCount(1L, "Song A", "Artist A", 3), new SongCount(2L, "Song B", "Artist B", 1));
+        }
+
+        @Override
+        public long totalLikes(LocalDate from, LocalDate to) {
+            return 4;
+        }
+    }
+
+    @Test
+    public void testPeriodChartIsComposedAndCachedPerBucket() {
+        // Given
+        CountingRollupStore store = new CountingRollupStore();
+        LikeChartService service = new LikeChartService(store, 30_000, 60_000);
+        LocalDate from = LocalDate.now().minusDays(10);
+        LocalDate to = LocalDate.now().minusDays(4);
+
+        // When: 같은 구간 두 번 조회
+        PeriodChartResponse first = service.getPeriodChart(from, to, 10);
+        service.getPeriodChart(from, to, 10);
+
+        // Then: 집계 조회 1회, 순위/점유율 계산
+        assertEquals(1, store.songQueries.get());
+        assertEquals(2, first.getSongs().size());
+        assertEquals(1, first.getSongs().get(0).getRank());
+        assertEquals(75.0, first.getSongs().get(0).getPercentage());
+    }
+
+    @Test
+    public void testUnlikeOfPastDayInvalidatesContainingBuckets() {
+        // Given: 지난 구간 두 개 캐시
+        CountingRollupStore store = new CountingRollupStore();
+        LikeChartService service = new LikeChartService(store, 30_000, 60_000);
+        LocalDate today = LocalDate.now();
+        service.getPeriodChart(today.minusDays(10), today.minusDays(4), 10);
+        service.getPeriodChart(today.minusDays(3), today.minusDays(1), 10);
+
+        // When: 5일 전 집계 변경 (과거 좋아요 취소)
+        service.invalidate(today.minusDays(5));
+        service.getPeriodChart(today.minusDays(10), today.minusDays(4), 10);
+        service.getPeriodChart(today.minusDays(3), today.minusDays(1), 10);
+
+        // Then: 해당 날짜를 포함한 구간만 다시 조회
+        assertEquals(3, store.songQueries.get());
+    }
+
+    @Test
+    public void testInvalidPeriodIsRejected() {
+        // Given
+        LikeChartService service = new LikeChartService(new CountingRollupStore(), 30_000, 60_000);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getPeriodChart(LocalDate.now(), LocalDate.now().minusDays(1), 10));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.MicroBatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MicroBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    /** ID를 대문자로 돌려주는 다건 조회 ("missing"은 없는 ID) */
+    private MicroBatcher<String> batcher(int maxBatchSize, Duration window) {
+        return new MicroBatcher<>(maxBatchSize, window, scheduler, ids -> {
+            batches.add(ids);
+            List<String> values = new ArrayList<>();
+            ids.forEach(id -> values.add(id.equals("missing") ? null : id.toUpperCase()));
+            return CompletableFuture.completedFuture(values);
+        });
+    }
+
+    @Test
+    public void testLookupsWithinWindowAreSentAsOneBatch() {
+        // Given
+        MicroBatcher<String> batcher = batcher(50, Duration.ofMillis(20));
+
+        // When: 대기 시간 안에 단건 조회 3건 (중복 1건 포함)
+        CompletableFuture<String> a = batcher.load("a");
+        CompletableFuture<String> b = batcher.load("b");
+        CompletableFuture<String> a2 = batcher.load("a");
+
+        // Then: 중복 없는 다건 조회 1회, 결과는 호출자별로 분배
+        assertEquals("A", a.join());
+        assertEquals("B", b.join());
+        assertEquals("A", a2.join());
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediatelyAndMissingIdsAreDropped() {
+        // Given: 최대 2개씩, 대기 시간은 길게
+        MicroBatcher<String> batcher = batcher(2, Duration.ofSeconds(30));
+
+        // When
+        CompletableFuture<Map<String, String>> pending = batcher.loadAll(List.of("x", "missing", "y"));
+        batcher.flush();
+        Map<String, String> result = pending.join();
+
+        // Then: 2개가 차면 즉시 전송, 없는 ID는 결과에서 제외
+        assertEquals(Map.of("x", "X", "y", "Y"), result);
+        assertEquals(List.of(List.of("x", "missing"), List.of("y")), batches);
+    }
+
+    @Test
+    public void testBatchFailureFailsEveryCaller() {
+        // Given
+        MicroBatcher<String> batcher = new MicroBatcher<>(50, Duration.ofMillis(5), scheduler,
+                ids -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+
+        // When
+        CompletableFuture<String> first = batcher.load("a");
+        CompletableFuture<String> second = batcher.load("b");
+
+        // Then
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+    }
+}
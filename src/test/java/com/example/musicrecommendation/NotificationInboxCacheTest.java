@@ -0,0 +1,85 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.service.NotificationInboxStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림함 메모리 캐시 테스트 - 커밋된 변경만 반영되고, id 순서와 다르게 커밋된 알림도 빠지지 않는지 확인
+ * (커밋/롤백을 직접 다루므로 테스트 트랜잭션 없이 실행, 만든 행은 끝나고 삭제)
+ */
+@SpringBootTest
+public class NotificationInboxCacheTest {
+
+    private static final Long USER_ID = 9101L;
+
+    @Autowired
+    private NotificationInboxStore inboxStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user_notifications WHERE user_id = ?", USER_ID);
+    }
+
+    @Test
+    public void testRolledBackAppendIsNotCached() {
+        // Given: 알림함 캐시 적재
+        long before = inboxStore.unreadCount(USER_ID, NotificationInboxStore.Inbox.GENERAL);
+
+        // When: 저장 후 롤백
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            append("롤백될 알림");
+            // 트랜잭션 안에서는 자기 변경이 보임
+            assertEquals(before + 1, inboxStore.unreadCount(USER_ID, NotificationInboxStore.Inbox.GENERAL));
+            status.setRollbackOnly();
+        });
+
+        // Then: 캐시에 남지 않음
+        assertEquals(before, inboxStore.unreadCount(USER_ID, NotificationInboxStore.Inbox.GENERAL));
+        assertTrue(firstPage().items().isEmpty());
+    }
+
+    @Test
+    public void testOutOfOrderCommitsAreBothCached() {
+        // Given: 알림함 캐시 적재
+        long before = inboxStore.unreadCount(USER_ID, NotificationInboxStore.Inbox.GENERAL);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When: 먼저 id를 받은 알림이 나중에 커밋됨
+        new TransactionTemplate(transactionManager).executeWithoutResult(outer -> {
+            append("먼저 저장");
+            requiresNew.executeWithoutResult(inner -> append("나중에 저장"));
+        });
+
+        // Then: 두 알림 모두 최신순으로 보이고 안 읽은 개수도 2 증가
+        List<String> titles = firstPage().items().stream().map(NotificationInboxStore.Entry::title).toList();
+        assertEquals(List.of("나중에 저장", "먼저 저장"), titles);
+        assertEquals(before + 2, inboxStore.unreadCount(USER_ID, NotificationInboxStore.Inbox.GENERAL));
+    }
+
+    private void append(String title) {
+        inboxStore.append(USER_ID, NotificationInboxStore.Inbox.GENERAL, "TEST", title, "캐시 테스트", Map.of());
+    }
+
+    private NotificationInboxStore.Page firstPage() {
+        return inboxStore.page(USER_ID, NotificationInboxStore.Inbox.GENERAL, null, 10, false);
+    }
+}
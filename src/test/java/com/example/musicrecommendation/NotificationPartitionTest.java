@@ -0,0 +1,67 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.service.NotificationInboxStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 월 파티션 유지보수 테스트 - 파티션보다 먼저 저장된 행이 default 파티션에 남지 않는지 확인
+ * (DDL도 테스트 트랜잭션과 함께 롤백됨)
+ */
+@SpringBootTest
+@Transactional
+public class NotificationPartitionTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private NotificationInboxStore inboxStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testRowWrittenBeforePartitionIsMovedOutOfDefault() {
+        // Given: 다음 달 파티션이 없는 상태에서 다음 달 알림이 저장되어 default 파티션에 들어감
+        YearMonth next = YearMonth.now(SEOUL).plusMonths(1);
+        String partition = "user_notifications_" + next.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        Long id = jdbcTemplate.queryForObject(
+            "INSERT INTO user_notifications (user_id, inbox, type, title, created_at) " +
+            "VALUES (?, 'GENERAL', 'TEST', '파티션 테스트', ?) RETURNING id",
+            Long.class, 9001L, next.atDay(2).atStartOfDay(SEOUL).toOffsetDateTime());
+        assertEquals("user_notifications_default", partitionOf(id));
+
+        // When
+        inboxStore.maintainPartitions(6);
+
+        // Then: 월 파티션이 생성되고 행이 그 파티션으로 이동 (보존 기간이 지나면 함께 삭제됨)
+        assertEquals(partition, partitionOf(id));
+        Integer leftInDefault = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_notifications_default WHERE id = ?", Integer.class, id);
+        assertEquals(0, leftInDefault);
+    }
+
+    @Test
+    public void testMaintenanceIsIdempotent() {
+        // Given: 이번 달/다음 달 파티션이 이미 있음
+        inboxStore.maintainPartitions(6);
+
+        // When & Then: 다시 실행해도 실패하지 않음
+        assertDoesNotThrow(() -> inboxStore.maintainPartitions(6));
+    }
+
+    private String partitionOf(Long id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM user_notifications WHERE id = ?", String.class, id);
+    }
+}
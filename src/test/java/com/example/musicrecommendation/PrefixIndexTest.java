@@ -0,0 +1,69 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.HangulNormalizer;
+import com.example.musicrecommendation.util.PrefixIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동완성 접두사 인덱스 테스트 (키는 자모 분해 정규화)
+ */
+public class PrefixIndexTest {
+
+    private PrefixIndex<String> index() {
+        PrefixIndex.Builder<String> builder = PrefixIndex.builder(3);
+        add(builder, "아이유", 90);
+        add(builder, "아이브", 95);
+        add(builder, "아이들", 80);
+        add(builder, "악뮤", 70);
+        add(builder, "NewJeans", 85);
+        add(builder, "New Order", 40);
+        builder.add(HangulNormalizer.initialConsonants("아이유"), "아이유", 90);
+        return builder.build();
+    }
+
+    private void add(PrefixIndex.Builder<String> builder, String name, double weight) {
+        builder.add(HangulNormalizer.toJamo(name), name, weight);
+    }
+
+    private List<String> complete(PrefixIndex<String> index, String typed, int limit) {
+        return index.complete(HangulNormalizer.toJamo(typed), limit);
+    }
+
+    @Test
+    public void testCompletionsAreRankedByWeightAndCappedAtTopK() {
+        // Given
+        PrefixIndex<String> index = index();
+
+        // When & Then: 가중치 순, 상위 K(3)개까지
+        assertEquals(List.of("아이브", "아이유", "아이들"), complete(index, "아이", 10));
+        assertEquals(List.of("아이브"), complete(index, "아이", 1));
+        assertEquals(List.of("NewJeans", "New Order"), complete(index, "new", 10));
+    }
+
+    @Test
+    public void testPartiallyTypedSyllablesAndInitialsMatch() {
+        // Given
+        PrefixIndex<String> index = index();
+
+        // When & Then: 받침이 다음 음절 초성이 될 음절("앙" → "아이..."), 첫 자모, 초성 검색
+        assertEquals(List.of("아이브", "아이유", "아이들"), complete(index, "앙", 10));
+        assertEquals(List.of("악뮤"), complete(index, "악", 10));
+        assertEquals(List.of("아이브", "아이유", "아이들"), complete(index, "ㅇ", 10));
+        assertEquals(List.of("아이유"), complete(index, "ㅇㅇㅇ", 10));
+    }
+
+    @Test
+    public void testUnknownPrefixReturnsEmpty() {
+        // Given
+        PrefixIndex<String> index = index();
+
+        // When & Then: 간선 중간에서 어긋나는 접두사, 빈 접두사
+        assertTrue(complete(index, "newx", 10).isEmpty());
+        assertTrue(complete(index, "블랙핑크", 10).isEmpty());
+        assertTrue(index.complete("", 10).isEmpty());
+    }
+}
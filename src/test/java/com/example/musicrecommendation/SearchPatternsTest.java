@@ -0,0 +1,38 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.SearchPatterns;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchPatternsTest {
+
+    @Test
+    public void testContainsPatternEscapesWildcards() {
+        // When & Then: 앞뒤 공백 제거, 사용자 입력의 와일드카드는 글자 그대로 검색
+        assertEquals("%아이유%", SearchPatterns.contains("  아이유 "));
+        assertEquals("%100\\%%", SearchPatterns.contains("100%"));
+        assertEquals("%a\\_b\\\\c%", SearchPatterns.contains("a_b\\c"));
+        assertNull(SearchPatterns.contains("   "));
+    }
+
+    @Test
+    public void testPrefixTsQueryStripsOperators() {
+        // When & Then: 단어별 접두사 일치를 AND로 연결, tsquery 연산자는 제거
+        assertEquals("좋은:* & 노래:*", SearchPatterns.prefixTsQuery("좋은 노래!"));
+        assertEquals("love:* & you:*", SearchPatterns.prefixTsQuery("LOVE & (you):*"));
+        assertNull(SearchPatterns.prefixTsQuery("!!! ' &"));
+    }
+
+    @Test
+    public void testPrefixTsQueryLimitsTerms() {
+        // Given
+        String sentence = "a b c d e f g h i j k";
+
+        // When
+        String query = SearchPatterns.prefixTsQuery(sentence);
+
+        // Then
+        assertEquals(SearchPatterns.MAX_QUERY_TERMS, query.split(" & ").length);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import com.example.musicrecommendation.service.SpotifyApiClient;
+import com.example.musicrecommendation.service.SpotifyApiException;
+import com.example.musicrecommendation.service.SpotifyRequestScheduler;
+import com.example.musicrecommendation.service.TransientSpotifyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer) 대상 SpotifyApiClient 테스트
+ */
+public class SpotifyApiClientTest {
+
+    private HttpServer server;
+    private SpotifyRequestScheduler scheduler;
+    private SpotifyApiClient client;
+
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger searchCalls = new AtomicInteger();
+    private final CountDownLatch releaseSearch = new CountDownLatch(1);
+    private volatile int searchStatus = 200;
+    private volatile boolean rejectFirstSearch = false;
+    private volatile boolean throttleFirstSearch = false;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/token", exchange -> {
+            int call = tokenCalls.incrementAndGet();
+            respond(exchange, 200, "{\"access_token\":\"token-" + call + "\",\"token_type\":\"Bearer\",\"expires_in\":3600}");
+        });
+        server.createContext("/v1/search", exchange -> {
+            int call = searchCalls.incrementAndGet();
+            awaitQuietly(releaseSearch);
+            if (rejectFirstSearch && call == 1) {
+                respond(exchange, 401, "{}");
+                return;
+            }
+            if (throttleFirstSearch && call == 1) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 429, "{}");
+                return;
+            }
+            respond(exchange, searchStatus, "{\"query\":\"" + exchange.getRequestURI().getQuery() + "\"}");
+        });
+        server.start();
+
+        SpotifyConfig config = new SpotifyConfig();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        config.getApi().setBaseUrl(base + "/v1");
+        config.getApi().setAuthUrl(base + "/token");
+        config.getClient().setId("client");
+        config.getClient().setSecret("secret");
+        config.getHttp().setRequestTimeoutMs(5000);
+        config.getScheduler().setMaxThrottleRetries(1);
+        scheduler = new SpotifyRequestScheduler(config, new SimpleMeterRegistry());
+        client = new SpotifyApiClient(config, new ObjectMapper(), scheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseSearch.countDown();
+        client.close();
+        scheduler.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testIdenticalConcurrentRequestsShareOneUpstreamCall() {
+        // Given: 같은 검색 8건을 응답 전에 동시에 요청
+        List<CompletableFuture<Map>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(client.getAsync(client.uri("/search", Map.of("q", "iu", "type", "track")), Map.class));
+        }
+
+        // When
+        releaseSearch.countDown();
+        List<Map> results = futures.stream().map(CompletableFuture::join).toList();
+
+        // Then: 업스트림 호출 1회, 토큰 발급 1회
+        assertEquals(1, searchCalls.get());
+        assertEquals(1, tokenCalls.get());
+        results.forEach(result -> assertEquals("q=iu&type=track", result.get("query")));
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneTokenRefresh() {
+        // Given: 서로 다른 검색 5건 동시 요청 (토큰 없음)
+        List<CompletableFuture<Map>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.getAsync(client.uri("/search", Map.of("q", "song" + i)), Map.class));
+        }
+
+        // When
+        releaseSearch.countDown();
+        futures.forEach(CompletableFuture::join);
+
+        // Then: 토큰은 한 번만 발급, 검색은 각각 호출
+        assertEquals(1, tokenCalls.get());
+        assertEquals(5, searchCalls.get());
+    }
+
+    @Test
+    public void testUnauthorizedResponseRefreshesTokenAndRetriesOnce() {
+        // Given: 첫 검색은 401
+        rejectFirstSearch = true;
+        releaseSearch.countDown();
+
+        // When
+        Map result = client.get(client.uri("/search", Map.of("q", "retry")), Map.class);
+
+        // Then: 토큰 재발급 후 성공
+        assertEquals("q=retry", result.get("query"));
+        assertEquals(2, tokenCalls.get());
+        assertEquals(2, searchCalls.get());
+    }
+
+    @Test
+    public void testThrottledRequestWaitsForRetryAfterAndIsResent() {
+        // Given: 첫 검색은 429 + Retry-After: 1
+        throttleFirstSearch = true;
+        releaseSearch.countDown();
+
+        // When
+        long startedAt = System.nanoTime();
+        Map result = client.get(client.uri("/search", Map.of("q", "throttled")), Map.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then: Retry-After 만큼 멈춘 뒤 재전송해 성공
+        assertEquals("q=throttled", result.get("query"));
+        assertEquals(2, searchCalls.get());
+        assertTrue(elapsedMs >= 900, "Retry-After 전에 재전송됨: " + elapsedMs + "ms");
+    }
+
+    @Test
+    public void testErrorStatusesAreClassified() {
+        releaseSearch.countDown();
+
+        // When & Then: 5xx/재전송 후에도 계속되는 429는 일시적 오류 (재시도 대상)
+        searchStatus = 503;
+        assertThrows(TransientSpotifyException.class,
+                () -> client.get(client.uri("/search", Map.of("q", "a")), Map.class));
+        searchStatus = 429;
+        assertThrows(TransientSpotifyException.class,
+                () -> client.get(client.uri("/search", Map.of("q", "b")), Map.class));
+
+        // When & Then: 그 외 4xx는 즉시 실패
+        searchStatus = 404;
+        SpotifyApiException error = assertThrows(SpotifyApiException.class,
+                () -> client.get(client.uri("/search", Map.of("q", "c")), Map.class));
+        assertEquals(404, error.getStatus());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.service.SpotifyCatalogStore;
+import com.example.musicrecommendation.service.SpotifySyncService;
+import com.example.musicrecommendation.web.dto.spotify.SpotifyDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 카탈로그 동기화 페이지 변환/중복 제거 테스트
+ */
+public class SpotifyCatalogSyncTest {
+
+    private SpotifyDto.Track track(String id, String name, String artist, String imageUrl) {
+        SpotifyDto.Artist a = new SpotifyDto.Artist();
+        a.setName(artist);
+        SpotifyDto.Track t = new SpotifyDto.Track();
+        t.setId(id);
+        t.setName(name);
+        t.setArtists(List.of(a));
+        t.setPopularity(70);
+        if (imageUrl != null) {
+            SpotifyDto.Image image = new SpotifyDto.Image();
+            image.setUrl(imageUrl);
+            SpotifyDto.Album album = new SpotifyDto.Album();
+            album.setImages(List.of(image));
+            t.setAlbum(album);
+        }
+        return t;
+    }
+
+    @Test
+    public void testExistingAndRepeatedTracksAreSkipped() {
+        // Given: DB에 이미 있는 곡 1개
+        Set<String> keys = new HashSet<>(Set.of(SpotifyCatalogStore.songKey("Blueming", "IU")));
+        List<SpotifyDto.Track> page = List.of(
+                track("t1", "Blueming", "IU", "https://img/1"),
+                track("t2", "Celebrity", "IU", "https://img/2"),
+                track("t3", "Celebrity", "IU", "https://img/3"),
+                track("t4", null, "IU", null));
+
+        // When
+        SpotifySyncService.NewTracks result = SpotifySyncService.selectNewTracks(page, null, keys);
+
+        // Then: 기존 곡, 같은 페이지 중복, 이름 없는 트랙은 건너뜀
+        assertEquals(1, result.tracks().size());
+        assertEquals("t2", result.tracks().get(0).spotifyId());
+        assertEquals(3, result.skipped());
+        assertTrue(keys.contains(SpotifyCatalogStore.songKey("Celebrity", "IU")));
+    }
+
+    @Test
+    public void testTracksAreTruncatedAndUseAlbumImageFallback() {
+        // Given: 앨범 트랙 응답처럼 앨범 정보가 없는 트랙, 컬럼보다 긴 제목
+        String longTitle = "가".repeat(SpotifyCatalogStore.MAX_TEXT_LENGTH + 10);
+        List<SpotifyDto.Track> page = List.of(track("t1", longTitle, " IU ", null));
+
+        // When
+        SpotifySyncService.NewTracks result =
+                SpotifySyncService.selectNewTracks(page, "https://img/album", new HashSet<>());
+
+        // Then
+        SpotifyCatalogStore.CatalogTrack saved = result.tracks().get(0);
+        assertEquals(SpotifyCatalogStore.MAX_TEXT_LENGTH, saved.title().length());
+        assertEquals("IU", saved.artist());
+        assertEquals("https://img/album", saved.imageUrl());
+        assertEquals(Integer.valueOf(70), saved.popularity());
+    }
+}
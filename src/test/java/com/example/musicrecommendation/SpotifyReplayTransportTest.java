@@ -0,0 +1,129 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import com.example.musicrecommendation.service.SpotifyApiClient;
+import com.example.musicrecommendation.service.SpotifyApiException;
+import com.example.musicrecommendation.service.SpotifyRequestScheduler;
+import com.example.musicrecommendation.service.TransientSpotifyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Spotify 녹화/재생 전송 테스트 - 로컬 스텁 서버에서 녹화 후 서버 없이 재생
+ */
+public class SpotifyReplayTransportTest {
+
+    @TempDir
+    Path corpusDir;
+
+    private final AtomicInteger searchCalls = new AtomicInteger();
+    private final List<SpotifyRequestScheduler> schedulers = new ArrayList<>();
+    private final List<SpotifyApiClient> clients = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        clients.forEach(SpotifyApiClient::close);
+        schedulers.forEach(SpotifyRequestScheduler::close);
+    }
+
+    private SpotifyApiClient client(String baseUrl, SpotifyConfig.Transport.Mode mode, double errorRate, long latencyMs) {
+        SpotifyConfig config = new SpotifyConfig();
+        config.getApi().setBaseUrl(baseUrl + "/v1");
+        config.getApi().setAuthUrl(baseUrl + "/token");
+        config.getClient().setId("client");
+        config.getClient().setSecret("secret");
+        config.getHttp().setRequestTimeoutMs(5000);
+        config.getScheduler().setMaxThrottleRetries(0);
+        config.getTransport().setMode(mode);
+        config.getTransport().setCorpusDir(corpusDir.toString());
+        config.getTransport().setReplayErrorRate(errorRate);
+        config.getTransport().setReplayLatencyMs(latencyMs);
+        SpotifyRequestScheduler scheduler = new SpotifyRequestScheduler(config, new SimpleMeterRegistry());
+        SpotifyApiClient client = new SpotifyApiClient(config, new ObjectMapper(), scheduler);
+        schedulers.add(scheduler);
+        clients.add(client);
+        return client;
+    }
+
+    private void record(String... queries) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/token", exchange ->
+                respond(exchange, 200, "{\"access_token\":\"live\",\"token_type\":\"Bearer\",\"expires_in\":3600}"));
+        server.createContext("/v1/search", exchange -> {
+            searchCalls.incrementAndGet();
+            respond(exchange, 200, "{\"query\":\"" + exchange.getRequestURI().getQuery() + "\"}");
+        });
+        server.start();
+        try {
+            SpotifyApiClient recorder = client("http://127.0.0.1:" + server.getAddress().getPort(),
+                    SpotifyConfig.Transport.Mode.RECORD, 0.0, 0);
+            for (String query : queries) {
+                recorder.get(recorder.uri("/search", Map.of("q", query, "type", "track")), Map.class);
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testRecordedResponsesAreReplayedWithoutNetwork() throws IOException {
+        // Given: 실제(스텁) 서버에서 2건 녹화 후 서버 종료
+        record("iu", "newjeans");
+
+        // When: 접속할 수 없는 주소로 재생
+        SpotifyApiClient replay = client("http://127.0.0.1:9", SpotifyConfig.Transport.Mode.REPLAY, 0.0, 0);
+        Map result = replay.get(replay.uri("/search", Map.of("type", "track", "q", "iu")), Map.class);
+
+        // Then: 녹화된 응답 그대로, 녹화하지 않은 요청은 404
+        assertEquals("q=iu&type=track", result.get("query"));
+        assertEquals(2, searchCalls.get());
+        SpotifyApiException error = assertThrows(SpotifyApiException.class,
+                () -> replay.get(replay.uri("/search", Map.of("q", "unknown", "type", "track")), Map.class));
+        assertEquals(404, error.getStatus());
+    }
+
+    @Test
+    public void testReplayInjectsLatencyAndErrors() throws IOException {
+        // Given
+        record("iu");
+        SpotifyApiClient slow = client("http://127.0.0.1:9", SpotifyConfig.Transport.Mode.REPLAY, 0.0, 200);
+        SpotifyApiClient failing = client("http://127.0.0.1:9", SpotifyConfig.Transport.Mode.REPLAY, 1.0, 0);
+
+        // When
+        long startedAt = System.nanoTime();
+        slow.get(slow.uri("/search", Map.of("q", "iu", "type", "track")), Map.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then: 설정한 지연만큼 늦게 응답, 오류 비율 1.0이면 항상 일시적 오류(503)
+        assertTrue(elapsedMs >= 200, "지연이 적용되지 않음: " + elapsedMs + "ms");
+        assertThrows(TransientSpotifyException.class,
+                () -> failing.get(failing.uri("/search", Map.of("q", "iu", "type", "track")), Map.class));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.SpotifyConfig;
+import com.example.musicrecommendation.service.SpotifyPriority;
+import com.example.musicrecommendation.service.SpotifyRequestScheduler;
+import com.example.musicrecommendation.service.TransientSpotifyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpotifyRequestSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SpotifyRequestScheduler scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    private SpotifyRequestScheduler scheduler(int maxConcurrency, int maxQueueSize) {
+        SpotifyConfig config = new SpotifyConfig();
+        config.getScheduler().setPermitsPerSecond(1000);
+        config.getScheduler().setMaxConcurrency(maxConcurrency);
+        config.getScheduler().setMaxQueueSize(maxQueueSize);
+        scheduler = new SpotifyRequestScheduler(config, meterRegistry);
+        return scheduler;
+    }
+
+    @Test
+    public void testHigherPriorityLaneIsSentFirst() {
+        // Given: 동시 전송 1개 - 첫 요청이 끝나기 전까지 나머지는 대기
+        SpotifyRequestScheduler scheduler = scheduler(1, 100);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        scheduler.submit(SpotifyPriority.SYNC, () -> blocker);
+        waitUntil(() -> scheduler.inFlight() == 1);
+
+        List<String> sent = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String name = "sync-" + i;
+            results.add(scheduler.submit(SpotifyPriority.SYNC, () -> record(sent, name)));
+        }
+        results.add(scheduler.submit(SpotifyPriority.RECOMMENDATION, () -> record(sent, "recommendation")));
+        results.add(scheduler.submit(SpotifyPriority.INTERACTIVE, () -> record(sent, "interactive")));
+        assertEquals(3, scheduler.depth(SpotifyPriority.SYNC));
+
+        // When
+        blocker.complete("done");
+        results.forEach(CompletableFuture::join);
+
+        // Then: 나중에 들어왔어도 사용자 요청 → 추천 → 동기화 순
+        assertEquals(List.of("interactive", "recommendation", "sync-0", "sync-1", "sync-2"), sent);
+        assertEquals(6, meterRegistry.get("spotify.scheduler.wait").timers().stream()
+                .mapToLong(timer -> timer.count()).sum());
+    }
+
+    @Test
+    public void testPauseHoldsAllLanesUntilRetryAfterElapses() {
+        // Given
+        SpotifyRequestScheduler scheduler = scheduler(4, 100);
+        scheduler.pause(Duration.ofMillis(300));
+
+        // When
+        long startedAt = System.nanoTime();
+        scheduler.submit(SpotifyPriority.INTERACTIVE, () -> CompletableFuture.completedFuture("ok")).join();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertTrue(elapsedMs >= 250, "전송 중지 중에 전송됨: " + elapsedMs + "ms");
+        assertEquals(1.0, meterRegistry.get("spotify.scheduler.throttled").counter().count());
+    }
+
+    @Test
+    public void testFullLaneRejectsImmediately() {
+        // Given: 대기열 1개 - 전송 중 1건 + 대기 1건
+        SpotifyRequestScheduler scheduler = scheduler(1, 1);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        scheduler.submit(SpotifyPriority.SYNC, () -> blocker);
+        waitUntil(() -> scheduler.inFlight() == 1);
+        scheduler.submit(SpotifyPriority.SYNC, () -> CompletableFuture.completedFuture("queued"));
+
+        // When
+        CompletableFuture<String> rejected = scheduler.submit(SpotifyPriority.SYNC,
+                () -> CompletableFuture.completedFuture("rejected"));
+
+        // Then: 다른 대기열은 영향 없음
+        CompletionException error = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(TransientSpotifyException.class, error.getCause());
+        CompletableFuture<String> interactive = scheduler.submit(SpotifyPriority.INTERACTIVE,
+                () -> CompletableFuture.completedFuture("interactive"));
+        blocker.complete("done");
+        assertEquals("interactive", interactive.join());
+    }
+
+    private static CompletableFuture<String> record(List<String> sent, String name) {
+        sent.add(name);
+        return CompletableFuture.completedFuture(name);
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건 대기 시간 초과");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
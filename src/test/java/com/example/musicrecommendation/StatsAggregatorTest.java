@@ -0,0 +1,56 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.domain.Song;
+import com.example.musicrecommendation.domain.User;
+import com.example.musicrecommendation.service.StatsAggregator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatsAggregatorTest {
+
+    @Test
+    public void testCountersFollowCreateAndDeleteEvents() {
+        // Given: DB 재집계 없이 이벤트만 반영
+        StatsAggregator aggregator = new StatsAggregator(null);
+        Song song1 = new Song("노래1", "아티스트");
+        Song song2 = new Song("노래2", "아티스트");
+
+        // When
+        aggregator.onCreated(song1);
+        aggregator.onCreated(song2);
+        aggregator.onDeleted(song1);
+
+        // Then
+        assertEquals(1, aggregator.snapshot().get(StatsAggregator.Counter.SONGS));
+        assertEquals(0, aggregator.snapshot().get(StatsAggregator.Counter.USERS));
+    }
+
+    @Test
+    public void testSignupTodayIsCounted() {
+        // Given: 생성 시각이 아직 없는 신규 사용자 (커밋 직후 = 오늘 가입)
+        StatsAggregator aggregator = new StatsAggregator(null);
+
+        // When
+        aggregator.onCreated(new User("new@example.com", "신규", "hash"));
+
+        // Then
+        StatsAggregator.StatsSnapshot snapshot = aggregator.snapshot();
+        assertEquals(1, snapshot.get(StatsAggregator.Counter.USERS));
+        assertEquals(1, snapshot.newUsersToday());
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+        // Given
+        StatsAggregator aggregator = new StatsAggregator(null);
+        StatsAggregator.StatsSnapshot before = aggregator.snapshot();
+
+        // When
+        aggregator.onCreated(new Song("노래", "아티스트"));
+
+        // Then: 이전 스냅샷은 바뀌지 않음
+        assertEquals(0, before.get(StatsAggregator.Counter.SONGS));
+        assertEquals(1, aggregator.snapshot().get(StatsAggregator.Counter.SONGS));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.domain.SystemNotification;
+import com.example.musicrecommendation.domain.SystemNotificationRepository;
+import com.example.musicrecommendation.domain.User;
+import com.example.musicrecommendation.domain.UserRepository;
+import com.example.musicrecommendation.service.SystemNotificationFanoutService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시스템 알림 대량 발송 테스트 - 완료 시 진행 기록 유지, 실패 건 재개와 재시도 상한 확인
+ * (테스트 트랜잭션 안에서 실행 - 요청 스레드의 open-in-view처럼 엔티티가 영속성 컨텍스트에 남아 있는 상황)
+ */
+@SpringBootTest
+@Transactional
+public class SystemNotificationFanoutTest {
+
+    @Autowired
+    private SystemNotificationFanoutService fanoutService;
+
+    @Autowired
+    private SystemNotificationRepository systemNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testCompletedFanoutKeepsProgress() {
+        // Given: 대상 3명, 발송 전에 엔티티를 읽어 둔 상태
+        List<Long> userIds = createUsers(3);
+        SystemNotification notification = createNotification(userIds);
+
+        // When
+        Integer delivered = fanoutService.run(notification.getId());
+
+        // Then: SENT로 바뀌고 커서/누적 수는 청크가 기록한 값 그대로
+        assertEquals(3, delivered);
+        Map<String, Object> row = progressOf(notification.getId());
+        assertEquals("SENT", row.get("status"));
+        assertEquals(3, ((Number) row.get("delivered_count")).intValue());
+        assertEquals(userIds.get(2), ((Number) row.get("fanout_cursor")).longValue());
+        assertNotNull(row.get("sent_at"));
+    }
+
+    @Test
+    public void testFailedFanoutIsResumedFromCursor() {
+        // Given: 첫 번째 사용자까지 발송한 뒤 실패한 건 (재시도 간격 경과)
+        List<Long> userIds = createUsers(3);
+        SystemNotification notification = createNotification(userIds);
+        markFailed(notification.getId(), userIds.get(0), 1, 1);
+
+        // When
+        List<Long> resumable = systemNotificationRepository.findStalledFanoutIds(
+            OffsetDateTime.now().minusMinutes(2), 5);
+        Integer delivered = fanoutService.run(notification.getId());
+
+        // Then: 재개 대상으로 조회되고, 커서 이후 사용자에게만 이어서 발송
+        assertTrue(resumable.contains(notification.getId()));
+        assertEquals(3, delivered);
+        assertEquals("SENT", progressOf(notification.getId()).get("status"));
+        assertEquals(0, inboxCount(userIds.get(0)));
+        assertEquals(1, inboxCount(userIds.get(1)));
+        assertEquals(1, inboxCount(userIds.get(2)));
+    }
+
+    @Test
+    public void testFailedFanoutStopsAtRetryCap() {
+        // Given: 재시도 상한(5회)만큼 실패한 건
+        List<Long> userIds = createUsers(2);
+        SystemNotification notification = createNotification(userIds);
+        markFailed(notification.getId(), 0L, 0, 5);
+
+        // When
+        List<Long> resumable = systemNotificationRepository.findStalledFanoutIds(
+            OffsetDateTime.now().minusMinutes(2), 5);
+        Integer delivered = fanoutService.run(notification.getId());
+
+        // Then: 선점되지 않고 FAILED 유지
+        assertFalse(resumable.contains(notification.getId()));
+        assertNull(delivered);
+        assertEquals("FAILED", progressOf(notification.getId()).get("status"));
+        assertEquals(0, inboxCount(userIds.get(0)));
+    }
+
+    private List<Long> createUsers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = "fanout-test-" + System.nanoTime() + "-" + i + "@example.com";
+            ids.add(userRepository.save(new User(email, "발송테스트" + i, "hash")).getId());
+        }
+        return ids;
+    }
+
+    private SystemNotification createNotification(List<Long> userIds) {
+        SystemNotification notification = new SystemNotification();
+        notification.setType(SystemNotification.NotificationType.SYSTEM_ANNOUNCEMENT);
+        notification.setTitle("발송 테스트");
+        notification.setMessage("대량 발송 테스트 메시지");
+        notification.setTargetType(SystemNotification.TargetType.SPECIFIC);
+        notification.setTargetUserIds(userIds.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]")));
+        notification.setPriority(SystemNotification.Priority.NORMAL);
+        notification.setStatus(SystemNotification.NotificationStatus.PENDING);
+        return systemNotificationRepository.save(notification);
+    }
+
+    private void markFailed(Long id, long cursor, int delivered, int attempts) {
+        jdbcTemplate.update(
+            "UPDATE system_notifications SET status = 'FAILED', fanout_cursor = ?, delivered_count = ?, " +
+            "fanout_attempts = ?, progress_updated_at = now() - interval '1 hour' WHERE id = ?",
+            cursor, delivered, attempts, id);
+    }
+
+    private Map<String, Object> progressOf(Long id) {
+        return jdbcTemplate.queryForMap(
+            "SELECT status, fanout_cursor, delivered_count, sent_at FROM system_notifications WHERE id = ?", id);
+    }
+
+    private int inboxCount(Long userId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_notifications WHERE user_id = ? AND inbox = 'BADGE'", Integer.class, userId);
+        return count != null ? count : 0;
+    }
+}
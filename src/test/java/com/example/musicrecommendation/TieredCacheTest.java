@@ -0,0 +1,164 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.config.TieredCache;
+import com.example.musicrecommendation.util.DiskCacheStore;
+import com.example.musicrecommendation.web.dto.spotify.TrackDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 메모리 + 디스크 2단계 캐시 테스트 (신선 기간 15분, 최대 보관 1일)
+ */
+public class TieredCacheTest {
+
+    private static final Duration FRESH = Duration.ofMinutes(15);
+    private static final Duration MAX_STALE = Duration.ofDays(1);
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper mapper = JsonMapper.builder().disable(MapperFeature.USE_ANNOTATIONS).build();
+    private final JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, TrackDto.class);
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /** 재시작을 흉내 내기 위해 매번 빈 메모리 계층 + 같은 디스크 디렉터리로 생성 */
+    private TieredCache newCache() {
+        return new TieredCache("trackSearch", Caffeine.newBuilder().build(), new DiskCacheStore(dir),
+                mapper, listType, FRESH, MAX_STALE, refreshTasks::add, now::get);
+    }
+
+    private List<TrackDto> load(String name) {
+        loads.incrementAndGet();
+        TrackDto track = new TrackDto();
+        track.setId("id-" + name);
+        track.setName(name);
+        track.setDurationMs(215000);
+        return List.of(track);
+    }
+
+    @Test
+    public void testDiskTierServesAfterRestartWithNormalizedKey() {
+        // Given: 첫 인스턴스에서 조회 (외부 호출 1회)
+        newCache().get("IU|10", () -> load("v1"));
+
+        // When: 재시작 후 공백/대소문자만 다른 키로 조회
+        List<TrackDto> result = newCache().get("  iu|10 ", () -> load("v2"));
+
+        // Then: 디스크에서 응답, 응답용으로 숨긴 필드까지 복원
+        assertEquals(1, loads.get());
+        assertEquals("v1", result.get(0).getName());
+        assertEquals(215000, result.get(0).getDurationMs());
+    }
+
+    @Test
+    public void testStaleEntryIsServedImmediatelyAndRefreshedInBackground() {
+        // Given: 저장 후 신선 기간이 지나고 재시작
+        newCache().get("iu|10", () -> load("v1"));
+        now.addAndGet(FRESH.toMillis() + 1);
+        TieredCache restarted = newCache();
+
+        // When: 오래된 항목 조회 2회
+        List<TrackDto> first = restarted.get("iu|10", () -> load("v2"));
+        List<TrackDto> second = restarted.get("iu|10", () -> load("v2"));
+
+        // Then: 기존 값을 바로 반환, 갱신은 백그라운드 1건만 예약
+        assertEquals("v1", first.get(0).getName());
+        assertEquals("v1", second.get(0).getName());
+        assertEquals(1, loads.get());
+        assertEquals(1, refreshTasks.size());
+
+        // When: 백그라운드 갱신 실행
+        refreshTasks.get(0).run();
+
+        // Then: 메모리/디스크 모두 새 값
+        assertEquals("v2", restarted.get("iu|10", () -> load("v3")).get(0).getName());
+        assertEquals("v2", newCache().get("iu|10", () -> load("v3")).get(0).getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testEntryOlderThanMaxStaleIsReloaded() {
+        // Given
+        newCache().get("iu|10", () -> load("v1"));
+        now.addAndGet(MAX_STALE.toMillis() + 1);
+
+        // When
+        List<TrackDto> result = newCache().get("iu|10", () -> load("v2"));
+
+        // Then: 너무 오래된 항목은 쓰지 않고 바로 다시 조회
+        assertEquals("v2", result.get(0).getName());
+        assertEquals(2, loads.get());
+        assertTrue(refreshTasks.isEmpty());
+    }
+
+    @Test
+    public void testEmptyResultsAreNotStored() {
+        // Given
+        TieredCache cache = newCache();
+
+        // When: 빈 결과(폴백 등) 2회
+        cache.get("nothing|10", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        cache.get("nothing|10", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // Then: 저장하지 않으므로 매번 다시 조회
+        assertEquals(2, loads.get());
+        assertNull(cache.get("nothing|10"));
+    }
+
+    @Test
+    public void testConcurrentColdMissesCallLoaderOnce() throws Exception {
+        // Given: 첫 요청의 외부 호출이 끝나지 않은 상태
+        TieredCache cache = newCache();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<List<TrackDto>> first = pool.submit(() -> cache.get("iu|10", () -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return load("v1");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // When: 같은 키(정규화 후)로 두 번째 요청
+            Future<List<TrackDto>> second = pool.submit(() -> cache.get("IU|10", () -> load("v2")));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then: 외부 호출은 1회, 두 요청 모두 같은 결과
+            assertEquals("v1", first.get(5, TimeUnit.SECONDS).get(0).getName());
+            assertEquals("v1", second.get(5, TimeUnit.SECONDS).get(0).getName());
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
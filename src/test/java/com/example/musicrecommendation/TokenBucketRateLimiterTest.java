@@ -0,0 +1,96 @@
+package com.example.musicrecommendation;
+
+import com.example.musicrecommendation.util.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    @Test
+    public void testMinuteTierRefillsContinuously() {
+        // Given: 분당 3회
+        AtomicLong now = new AtomicLong(1_000_000L);
+        TokenBucketRateLimiter<Long> limiter = TokenBucketRateLimiter.builder()
+                .limit(3, Duration.ofMinutes(1))
+                .clock(now::get)
+                .build();
+
+        // When & Then: 버스트는 용량까지만 허용
+        assertTrue(limiter.tryAcquire(1L));
+        assertTrue(limiter.tryAcquire(1L));
+        assertTrue(limiter.tryAcquire(1L));
+        assertFalse(limiter.tryAcquire(1L));
+
+        // 20초마다 1회씩 충전
+        now.addAndGet(20_000L);
+        assertTrue(limiter.tryAcquire(1L));
+        assertFalse(limiter.tryAcquire(1L));
+
+        // 다른 키는 독립적으로 제한
+        assertTrue(limiter.tryAcquire(2L));
+    }
+
+    @Test
+    public void testRejectedHourTierRefundsMinuteTier() {
+        // Given: 분당 3회 + 시간당 4회
+        AtomicLong now = new AtomicLong(1_000_000L);
+        TokenBucketRateLimiter<Long> limiter = TokenBucketRateLimiter.builder()
+                .limit(3, Duration.ofMinutes(1))
+                .limit(4, Duration.ofHours(1))
+                .clock(now::get)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(1L));
+        }
+        now.addAndGet(60_000L);
+
+        // When: 분당 단계는 다시 찼지만 시간당 단계는 1회만 남음
+        assertTrue(limiter.tryAcquire(1L));
+        assertFalse(limiter.tryAcquire(1L));
+
+        // Then: 시간당 단계에서 거부된 요청은 분당 토큰을 소비하지 않아야 함
+        assertEquals(2, limiter.availablePermits(1L, 0));
+        assertEquals(0, limiter.availablePermits(1L, 1));
+    }
+
+    @Test
+    public void testConcurrentAcquireNeverExceedsCapacity() throws Exception {
+        // Given: 시간당 100회, 시간은 고정
+        TokenBucketRateLimiter<Long> limiter = TokenBucketRateLimiter.builder()
+                .limit(100, Duration.ofHours(1))
+                .clock(() -> 1_000_000L)
+                .build();
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: 8개 스레드가 동시에 1000회 요청
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 125; i++) {
+                    if (limiter.tryAcquire(1L)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(100, allowed.get());
+    }
+}